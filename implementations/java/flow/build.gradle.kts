@@ -0,0 +1,39 @@
+/*
+ * Reactive streams for the Java implementation of base45.
+ *
+ * The library "lib" targets Java 8, whereas java.util.concurrent.Flow needs Java 11.
+ * Public classes must not exist in a versioned layer of a multi-release JAR only, thus
+ * the processor is shipped by this subproject.
+ */
+
+// section for loading plugins . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+plugins {
+    id("java-library")
+} // end plugins ___________________________________________________________________________________
+
+// set JavaVersion . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+} // end JavaVersion _______________________________________________________________________________
+
+// configure dependencies  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+dependencies {
+    api(project(":lib"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter-api:_")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
+} // end dependencies ______________________________________________________________________________
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+tasks.test {
+    useJUnitPlatform()
+
+    testLogging {
+        events("PASSED", "FAILED", "SKIPPED")
+    }
+}
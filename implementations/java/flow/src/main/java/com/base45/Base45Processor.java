@@ -0,0 +1,389 @@
+package com.base45;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive {@link Flow.Processor} encoding or decoding a stream of {@link ByteBuffer}
+ * according to <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Incoming buffers are of arbitrary size. An octet without partner (encoding) or up
+ * to two characters not forming a complete triple (decoding) are kept until the next
+ * buffer arrives or upstream completes. Thus the concatenation of all outgoing buffers
+ * equals the encoding (decoding) of the concatenation of all incoming buffers.
+ *
+ * <p>Upstream is asked for one buffer at a time and only while downstream has
+ * outstanding demand and all previously transcoded buffers are delivered. Thus memory
+ * consumption is bounded by the size of one incoming buffer.
+ *
+ * <p>Outgoing buffers are taken from a pool. A subscriber which has finished with a
+ * buffer may return it by {@link #release(ByteBuffer)}. Buffers not returned are
+ * garbage collected as usual.
+ *
+ * <p>Invalid input while decoding cancels upstream and signals an
+ * {@link IllegalArgumentException} downstream.
+ *
+ * <p>This class needs Java 11 or later, thus it is shipped by subproject "flow"
+ * rather than by the Java 8 library.
+ */
+public final class Base45Processor
+    implements Flow.Processor<ByteBuffer, ByteBuffer>, Flow.Subscription {
+  /**
+   * Number of octets (encoding) or characters (decoding) transcoded at once, a
+   * multiple of six.
+   */
+  /* package */ static final int STAGE = 3072; // */
+
+  /**
+   * Maximum number of buffers kept in pool.
+   */
+  /* package */ static final int POOL_SIZE = 16; // */
+
+  /**
+   * {@code TRUE} for encoding, {@code FALSE} for decoding.
+   */
+  private final boolean insEncode; // */
+
+  /**
+   * Input received from upstream but not yet transcoded.
+   */
+  private final byte[] insStage = new byte[STAGE]; // */
+
+  /**
+   * Number of valid elements in {@link #insStage}.
+   */
+  private int insCount; // */
+
+  /**
+   * Capacity of outgoing buffers.
+   */
+  private final int insCapacity; // */
+
+  /**
+   * Pool of outgoing buffers.
+   */
+  private final Queue<ByteBuffer> insPool = new ArrayBlockingQueue<>(POOL_SIZE); // */
+
+  /**
+   * Transcoded buffers not yet delivered downstream.
+   */
+  private final Queue<ByteBuffer> insQueue = new ConcurrentLinkedQueue<>(); // */
+
+  /**
+   * Outstanding demand of downstream.
+   */
+  private final AtomicLong insDemand = new AtomicLong(); // */
+
+  /**
+   * Work-in-progress counter serializing {@link #drain()}.
+   */
+  private final AtomicInteger insWip = new AtomicInteger(); // */
+
+  /**
+   * Subscription to upstream.
+   */
+  private volatile Flow.Subscription insUpstream; // */
+
+  /**
+   * Downstream subscriber.
+   */
+  private volatile Flow.Subscriber<? super ByteBuffer> insDownstream; // */
+
+  /**
+   * Flag indicating whether one buffer is requested from upstream but not received.
+   */
+  private volatile boolean insRequested; // */
+
+  /**
+   * Flag indicating whether upstream terminated or input is invalid.
+   */
+  private volatile boolean insDone; // */
+
+  /**
+   * Error to be signaled downstream after all buffers are delivered.
+   */
+  private volatile Throwable insError; // */
+
+  /**
+   * Flag indicating whether downstream cancelled or a terminal signal was sent.
+   */
+  private volatile boolean insCancelled; // */
+
+  /**
+   * Constructor.
+   *
+   * @param encode {@code TRUE} for encoding, {@code FALSE} for decoding
+   */
+  private Base45Processor(
+      final boolean encode
+  ) {
+    insEncode = encode;
+    insCapacity = encode ? Base45.encodedLength(STAGE) : Base45.outputLength(STAGE);
+  } // end constructor */
+
+  /**
+   * Creates a processor encoding octets into ASCII characters.
+   *
+   * @return new processor
+   */
+  public static Base45Processor encoder() {
+    return new Base45Processor(true);
+  } // end method */
+
+  /**
+   * Creates a processor decoding ASCII characters into octets.
+   *
+   * @return new processor
+   */
+  public static Base45Processor decoder() {
+    return new Base45Processor(false);
+  } // end method */
+
+  /**
+   * Returns a buffer previously delivered by this processor to the pool.
+   *
+   * <p>The caller must not use {@code buffer} afterwards.
+   *
+   * @param buffer delivered by {@link Flow.Subscriber#onNext(Object)}
+   */
+  public void release(
+      final ByteBuffer buffer
+  ) {
+    if (buffer.capacity() == insCapacity && buffer.hasArray()) {
+      buffer.clear();
+      insPool.offer(buffer);
+    } // end if
+  } // end method */
+
+  // ===============================================================================
+  // --- upstream side
+  // ===============================================================================
+
+  @Override
+  public void onSubscribe(
+      final Flow.Subscription subscription
+  ) {
+    if (null == insUpstream) {
+      insUpstream = subscription;
+      drain();
+    } else {
+      // ... already subscribed
+      subscription.cancel();
+    } // end else
+  } // end method */
+
+  @Override
+  public void onNext(
+      final ByteBuffer item
+  ) {
+    if (insDone) {
+      return;
+    } // end if
+
+    insRequested = false;
+    try {
+      while (item.hasRemaining()) {
+        final int noCopy = Math.min(item.remaining(), STAGE - insCount);
+        item.get(insStage, insCount, noCopy);
+        insCount += noCopy;
+        if (STAGE == insCount) {
+          emit(STAGE);
+        } // end if
+      } // end while (remaining...)
+
+      // --- transcode complete groups immediately, keep incomplete ones
+      emit(insEncode ? insCount & ~1 : insCount - insCount % 3);
+    } catch (IllegalArgumentException e) {
+      insUpstream.cancel();
+      terminate(e);
+    } // end catch (IllegalArgumentException)
+
+    drain();
+  } // end method */
+
+  @Override
+  public void onError(
+      final Throwable throwable
+  ) {
+    terminate(throwable);
+    drain();
+  } // end method */
+
+  @Override
+  public void onComplete() {
+    if (!insDone) {
+      try {
+        emit(insCount);
+        terminate(null);
+      } catch (IllegalArgumentException e) {
+        terminate(e);
+      } // end catch (IllegalArgumentException)
+    } // end if
+
+    drain();
+  } // end method */
+
+  // ===============================================================================
+  // --- downstream side
+  // ===============================================================================
+
+  @Override
+  public void subscribe(
+      final Flow.Subscriber<? super ByteBuffer> subscriber
+  ) {
+    if (null == insDownstream) {
+      insDownstream = subscriber;
+      subscriber.onSubscribe(this);
+      drain();
+    } else {
+      // ... only one subscriber supported
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+          // intentionally empty
+        } // end method */
+
+        @Override
+        public void cancel() {
+          // intentionally empty
+        } // end method */
+      });
+      subscriber.onError(new IllegalStateException("already subscribed"));
+    } // end else
+  } // end method */
+
+  @Override
+  public void request(
+      final long n
+  ) {
+    if (n <= 0) {
+      cancelUpstream();
+      terminate(new IllegalArgumentException("non-positive request: " + n));
+    } else {
+      insDemand.getAndUpdate(demand -> (demand + n < 0) ? Long.MAX_VALUE : demand + n);
+    } // end else
+
+    drain();
+  } // end method */
+
+  @Override
+  public void cancel() {
+    insCancelled = true;
+    cancelUpstream();
+    insQueue.clear();
+  } // end method */
+
+  // ===============================================================================
+  // --- internal
+  // ===============================================================================
+
+  /**
+   * Transcodes the first elements of {@link #insStage} and queues the result.
+   *
+   * @param length number of elements to be transcoded
+   *
+   * @throws IllegalArgumentException if input is invalid
+   */
+  private void emit(
+      final int length
+  ) {
+    if (0 == length) {
+      return;
+    } // end if
+
+    ByteBuffer buffer = insPool.poll();
+    if (null == buffer) {
+      buffer = ByteBuffer.allocate(insCapacity);
+    } // end if
+
+    final int noOut = insEncode
+        ? Base45.encode(insStage, 0, length, buffer.array(), 0)
+        : Base45.decode(insStage, 0, length, buffer.array(), 0);
+    buffer.limit(noOut);
+    insQueue.offer(buffer);
+
+    insCount -= length;
+    System.arraycopy(insStage, length, insStage, 0, insCount);
+  } // end method */
+
+  /**
+   * Marks upstream as terminated.
+   *
+   * @param error to be signaled downstream, {@code null} for completion
+   */
+  private void terminate(
+      final Throwable error
+  ) {
+    if (!insDone) {
+      insError = error;
+      insDone = true;
+    } // end if
+  } // end method */
+
+  /**
+   * Cancels upstream, if subscribed.
+   */
+  private void cancelUpstream() {
+    final Flow.Subscription upstream = insUpstream;
+    if (null != upstream) {
+      upstream.cancel();
+    } // end if
+  } // end method */
+
+  /**
+   * Delivers queued buffers according to demand and requests more from upstream.
+   *
+   * <p>Concurrent and reentrant calls are serialized, only one thread delivers at a
+   * time.
+   */
+  private void drain() {
+    if (insWip.getAndIncrement() != 0) {
+      // ... another invocation is active
+      //     => it will loop again
+      return;
+    } // end if
+
+    int missed = 1;
+    do {
+      final Flow.Subscriber<? super ByteBuffer> downstream = insDownstream;
+      if ((null != downstream) && !insCancelled) {
+        // --- deliver according to demand
+        while (insDemand.get() > 0) {
+          final ByteBuffer buffer = insQueue.poll();
+          if (null == buffer) {
+            break;
+          } // end if
+
+          insDemand.decrementAndGet();
+          downstream.onNext(buffer);
+        } // end while (demand...)
+
+        if (insQueue.isEmpty()) {
+          if (insDone) {
+            // ... all buffers delivered
+            //     => signal termination
+            insCancelled = true;
+            final Throwable error = insError;
+            if (null == error) {
+              downstream.onComplete();
+            } else {
+              downstream.onError(error);
+            } // end else
+          } else if ((insDemand.get() > 0) && !insRequested && (null != insUpstream)) {
+            // ... demand, but nothing to deliver
+            //     => ask upstream for one more buffer
+            insRequested = true;
+            insUpstream.request(1);
+          } // end else if
+        } // end if
+      } // end if
+
+      missed = insWip.addAndGet(-missed);
+    } while (0 != missed);
+  } // end method */
+} // end class
@@ -0,0 +1,329 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Processor}.
+ */
+final class TestBase45Processor {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Processor#encoder()} and
+   * {@link Base45Processor#decoder()}.
+   */
+  @Test
+  void test_roundTrip() throws Exception { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. random input in random chunks, heap and direct buffers, synchronous
+    // --- b. asynchronous upstream
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(10_000)];
+      RNG.nextBytes(octets);
+      final byte[] encoded = Base45.encode(octets).getBytes(StandardCharsets.US_ASCII);
+
+      assertArrayEquals(encoded, runSync(Base45Processor.encoder(), octets).toByteArray());
+      assertArrayEquals(octets, runSync(Base45Processor.decoder(), encoded).toByteArray());
+    }); // end forEach(i -> ...)
+
+    // --- b. asynchronous upstream
+    final byte[] octets = new byte[100_000];
+    RNG.nextBytes(octets);
+    final Base45Processor encoder = Base45Processor.encoder();
+    final Base45Processor decoder = Base45Processor.decoder();
+    final Collector collector = new Collector(decoder, 1);
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(encoder);
+      encoder.subscribe(decoder);
+      decoder.subscribe(collector);
+      for (int offset = 0; offset < octets.length;) {
+        final int length = Math.min(octets.length - offset, RNG.nextInt(5000));
+        publisher.submit(ByteBuffer.wrap(octets.clone(), offset, length));
+        offset += length;
+      } // end for (offset...)
+    } // end try-with-resources
+    collector.insDone.get(10, TimeUnit.SECONDS);
+    assertNull(collector.insError);
+    assertArrayEquals(octets, collector.insOut.toByteArray());
+  } // end method */
+
+  /**
+   * Test backpressure and buffer pool.
+   */
+  @Test
+  void test_request__long() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. upstream is asked for one buffer at a time, only on demand
+    // --- b. released buffers are reused
+    // --- c. ERROR: non-positive request
+    final Base45Processor dut = Base45Processor.encoder();
+    final Upstream upstream = new Upstream();
+    final Collector collector = new Collector(null, 0);
+    dut.onSubscribe(upstream);
+    dut.subscribe(collector);
+    assertEquals(0, upstream.insRequested);
+
+    // --- a. upstream is asked for one buffer at a time, only on demand
+    collector.insSubscription.request(1);
+    assertEquals(1, upstream.insRequested);
+    dut.onNext(ByteBuffer.wrap(new byte[2 * Base45Processor.STAGE + 1]));
+    assertEquals(1, collector.insBuffers.size());
+    assertEquals(1, upstream.insRequested);
+    collector.insSubscription.request(1);
+    assertEquals(2, collector.insBuffers.size());
+    assertEquals(1, upstream.insRequested);
+    collector.insSubscription.request(1);
+    assertEquals(2, upstream.insRequested);
+
+    // --- b. released buffers are reused
+    // Note: The odd octet carried over from the first buffer completes a pair.
+    final ByteBuffer first = collector.insBuffers.get(0);
+    dut.release(first);
+    dut.onNext(ByteBuffer.wrap(new byte[1]));
+    assertEquals(3, collector.insBuffers.size());
+    assertSame(first, collector.insBuffers.get(2));
+    assertEquals(2, upstream.insRequested);
+    dut.onComplete();
+    assertEquals("000", StandardCharsets.US_ASCII.decode(first).toString());
+    assertTrue(collector.insDone.isDone());
+
+    // --- c. ERROR: non-positive request
+    final Base45Processor other = Base45Processor.decoder();
+    final Upstream otherUp = new Upstream();
+    final Collector otherCollector = new Collector(null, 0);
+    other.onSubscribe(otherUp);
+    other.subscribe(otherCollector);
+    otherCollector.insSubscription.request(0);
+    assertTrue(otherUp.insCancelled);
+    assertTrue(otherCollector.insError instanceof IllegalArgumentException);
+  } // end method */
+
+  /**
+   * Test error handling.
+   */
+  @Test
+  void test_onNext__ByteBuffer() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. ERROR: invalid character cancels upstream, earlier output is delivered
+    // --- b. ERROR: invalid number of characters at end of input
+    // --- c. ERROR: error from upstream
+    // --- d. ERROR: second subscriber
+
+    // --- a. ERROR: invalid character cancels upstream, earlier output is delivered
+    Base45Processor dut = Base45Processor.decoder();
+    Upstream upstream = new Upstream();
+    Collector collector = new Collector(null, Long.MAX_VALUE);
+    dut.onSubscribe(upstream);
+    dut.subscribe(collector);
+    dut.onNext(ByteBuffer.wrap("000".getBytes(StandardCharsets.US_ASCII)));
+    dut.onNext(ByteBuffer.wrap("a00".getBytes(StandardCharsets.US_ASCII)));
+    assertTrue(upstream.insCancelled);
+    assertEquals(1, collector.insBuffers.size());
+    assertEquals("invalid character(s)", collector.insError.getMessage());
+
+    // --- b. ERROR: invalid number of characters at end of input
+    dut = Base45Processor.decoder();
+    upstream = new Upstream();
+    collector = new Collector(null, Long.MAX_VALUE);
+    dut.onSubscribe(upstream);
+    dut.subscribe(collector);
+    dut.onNext(ByteBuffer.wrap("0000".getBytes(StandardCharsets.US_ASCII)));
+    dut.onComplete();
+    assertEquals("invalid number of input character", collector.insError.getMessage());
+
+    // --- c. ERROR: error from upstream
+    dut = Base45Processor.encoder();
+    collector = new Collector(null, Long.MAX_VALUE);
+    dut.onSubscribe(new Upstream());
+    dut.subscribe(collector);
+    final Exception exception = new Exception("upstream");
+    dut.onError(exception);
+    assertSame(exception, collector.insError);
+
+    // --- d. ERROR: second subscriber
+    final Collector second = new Collector(null, 1);
+    dut.subscribe(second);
+    assertTrue(second.insError instanceof IllegalStateException);
+  } // end method */
+
+  /**
+   * Feeds given input in random chunks synchronously through given processor.
+   *
+   * @param dut   processor
+   * @param input fed in chunks
+   *
+   * @return concatenation of all output
+   */
+  private static ByteArrayOutputStream runSync(
+      final Base45Processor dut,
+      final byte[] input
+  ) {
+    final Collector collector = new Collector(dut, 1 + RNG.nextInt(3));
+    final Upstream upstream = new Upstream();
+    dut.onSubscribe(upstream);
+    dut.subscribe(collector);
+
+    for (int offset = 0; offset < input.length;) {
+      final int length = Math.min(input.length - offset, RNG.nextInt(4000));
+      final ByteBuffer chunk = RNG.nextBoolean()
+          ? ByteBuffer.allocateDirect(length)
+          : ByteBuffer.allocate(length);
+      chunk.put(input, offset, length).flip();
+      offset += length;
+
+      assertTrue(upstream.insRequested > 0);
+      dut.onNext(chunk);
+    } // end for (offset...)
+    dut.onComplete();
+
+    assertTrue(collector.insDone.isDone());
+    assertNull(collector.insError);
+
+    return collector.insOut;
+  } // end method */
+
+  /**
+   * Upstream subscription recording requests.
+   */
+  private static final class Upstream implements Flow.Subscription {
+    /**
+     * Total number of requested items.
+     */
+    private long insRequested; // */
+
+    /**
+     * Flag indicating cancellation.
+     */
+    private boolean insCancelled; // */
+
+    @Override
+    public void request(
+        final long n
+    ) {
+      insRequested += n;
+    } // end method */
+
+    @Override
+    public void cancel() {
+      insCancelled = true;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Subscriber collecting all buffers.
+   */
+  private static final class Collector implements Flow.Subscriber<ByteBuffer> {
+    /**
+     * Processor to which buffers are released after copying, {@code null} if buffers
+     * are kept.
+     */
+    private final Base45Processor insRelease; // */
+
+    /**
+     * Number of buffers requested initially and after each buffer, zero for manual
+     * requests.
+     */
+    private final long insBatch; // */
+
+    /**
+     * Concatenation of received buffers.
+     */
+    private final ByteArrayOutputStream insOut = new ByteArrayOutputStream(); // */
+
+    /**
+     * Received buffers, if not released.
+     */
+    private final List<ByteBuffer> insBuffers = new ArrayList<>(); // */
+
+    /**
+     * Completed on termination.
+     */
+    private final CompletableFuture<Void> insDone = new CompletableFuture<>(); // */
+
+    /**
+     * Subscription.
+     */
+    private Flow.Subscription insSubscription; // */
+
+    /**
+     * Received error, if any.
+     */
+    private volatile Throwable insError; // */
+
+    /**
+     * Constructor.
+     *
+     * @param release processor to release buffers to, {@code null} to keep them
+     * @param batch   number of buffers requested at once, zero for manual requests
+     */
+    private Collector(
+        final Base45Processor release,
+        final long batch
+    ) {
+      insRelease = release;
+      insBatch = batch;
+    } // end constructor */
+
+    @Override
+    public void onSubscribe(
+        final Flow.Subscription subscription
+    ) {
+      insSubscription = subscription;
+      if (insBatch > 0) {
+        subscription.request(insBatch);
+      } // end if
+    } // end method */
+
+    @Override
+    public void onNext(
+        final ByteBuffer item
+    ) {
+      final byte[] content = new byte[item.remaining()];
+      item.duplicate().get(content);
+      insOut.write(content, 0, content.length);
+
+      if (null == insRelease) {
+        insBuffers.add(item);
+      } else {
+        insRelease.release(item);
+      } // end else
+
+      if ((insBatch > 0) && (insBatch < Long.MAX_VALUE)) {
+        insSubscription.request(1);
+      } // end if
+    } // end method */
+
+    @Override
+    public void onError(
+        final Throwable throwable
+    ) {
+      insError = throwable;
+      insDone.complete(null);
+    } // end method */
+
+    @Override
+    public void onComplete() {
+      insDone.complete(null);
+    } // end method */
+  } // end inner class
+} // end class
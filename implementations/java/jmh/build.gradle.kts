@@ -0,0 +1,77 @@
+/*
+ * Benchmarks for the Java implementation of base45.
+ *
+ * Benchmarks are run by
+ *     ./gradlew :jmh:jmh
+ * Results are written to "jmh/build/results/jmh/results.json" and "jmh/build/reports/jmh".
+ */
+
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Paths
+import java.util.*
+
+// --- estimate versions from "versions.properties"
+var verJmh = ""
+try {
+    Files.newInputStream(Paths.get("${rootProject.projectDir}/versions.properties")).use { fis ->
+        val prop = Properties()
+        prop.load(fis)
+        verJmh = prop.getProperty("version.org.openjdk.jmh..jmh-core", "unknown")
+    }
+} catch (e: IOException) {
+    e.printStackTrace()
+} // end catch(IOException)
+// ... versions known
+
+// section for loading plugins . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+plugins {
+    id("java")
+    id("me.champeau.jmh")
+} // end plugins ___________________________________________________________________________________
+
+// set JavaVersion . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+// Note: Benchmarks run on Java 17, such that the multi-release layer of "lib" is measured.
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    }
+} // end JavaVersion _______________________________________________________________________________
+
+// configure dependencies  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+dependencies {
+    // Note: At runtime the JAR of "lib" is used, including "META-INF/versions/17".
+    jmhImplementation(project(":lib"))
+} // end dependencies ______________________________________________________________________________
+
+// configure JMH . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+jmh {
+    jmhVersion.set(verJmh)
+
+    // Note 1: Profiler "gc" reports allocation per operation ("gc.alloc.rate.norm"),
+    //         such that allocation regressions are visible across releases.
+    // Note 2: Property "includes" selects benchmarks by regular expression, e.g.
+    //         ./gradlew :jmh:jmh -Pjmh.includes=Engine
+    profilers.add("gc")
+    if (project.hasProperty("jmh.includes")) {
+        includes.add(project.property("jmh.includes").toString())
+    }
+    // Note 3: Benchmarks measure the default configuration. The opt-in vector encoder
+    //         ("-Dcom.base45.vector.encode=true") is measured by separate forks, see
+    //         annotation "@Fork(jvmArgsAppend = ...)" in the benchmark classes.
+    jvmArgs.addAll(listOf(
+            "--add-modules", "jdk.incubator.vector"
+    ))
+    resultFormat.set("JSON")
+} // end jmh _______________________________________________________________________________________
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+tasks.named<Jar>("jmhJar") {
+    // classes from "META-INF/versions/17" of "lib" are used only in a multi-release JAR
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
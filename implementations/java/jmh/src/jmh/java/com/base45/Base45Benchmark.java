@@ -0,0 +1,362 @@
+package com.base45;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the public API of {@link Base45}, with {@link Base64} as baseline.
+ *
+ * <p>Primary results are given in nanoseconds per operation. The auxiliary counter
+ * {@code octets} gives nanoseconds per (decoded) octet. Allocation per operation is
+ * reported by profiler {@code gc}, see "build.gradle.kts".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Base45Benchmark {
+  /**
+   * JVM argument enabling the opt-in vector encoder.
+   */
+  /* package */ static final String VECTOR_ENCODE = "-Dcom.base45.vector.encode=true"; // */
+
+  /**
+   * Number of octets, typical sizes in QR codes and a large payload.
+   */
+  @Param({"16", "512", "2048", "1048576"})
+  public int size; // NOPMD field is not private */
+
+  /**
+   * Random octets.
+   */
+  private byte[] insOctets; // */
+
+  /**
+   * {@link #insOctets} encoded by {@link Base45}.
+   */
+  private String insBase45; // */
+
+  /**
+   * {@link #insBase45} as ASCII characters.
+   */
+  private byte[] insBase45Ascii; // */
+
+  /**
+   * {@link #insBase45} with an invalid last character.
+   */
+  private String insBase45Invalid; // */
+
+  /**
+   * Cache holding {@link #insBase45}.
+   */
+  private Base45DecodeCache insCache; // */
+
+  /**
+   * Message digest SHA-256.
+   */
+  private MessageDigest insSha256; // */
+
+  /**
+   * {@link #insBase45} form-encoded by {@link URLEncoder}.
+   */
+  private String insBase45Form; // */
+
+  /**
+   * {@link #insOctets} encoded by {@link Base64}.
+   */
+  private String insBase64; // */
+
+  /**
+   * {@link #insBase64} with an invalid last character.
+   */
+  private String insBase64Invalid; // */
+
+  /**
+   * Counter of octets processed, reported as time per octet.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Octets {
+    /**
+     * Number of octets processed in current iteration.
+     */
+    public long octets; // NOPMD field is not private */
+
+    /**
+     * Resets counter before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      octets = 0;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Creates test data.
+   *
+   * @throws NoSuchAlgorithmException     if SHA-256 is not available
+   * @throws UnsupportedEncodingException if UTF-8 is not available
+   */
+  @Setup
+  public void setup() throws NoSuchAlgorithmException, UnsupportedEncodingException {
+    insOctets = new byte[size];
+    new Random(size).nextBytes(insOctets);
+    insBase45 = Base45.encode(insOctets);
+    insBase45Ascii = insBase45.getBytes(StandardCharsets.US_ASCII);
+    insBase64 = Base64.getEncoder().encodeToString(insOctets);
+    insCache = new Base45DecodeCache(16, 4L * size);
+    insCache.decode(insBase45);
+    insSha256 = MessageDigest.getInstance("SHA-256");
+    insBase45Form = URLEncoder.encode(insBase45, "UTF-8");
+
+    // Note: The invalid character is placed at the end, such that the whole input is
+    //       processed before the error is detected, which is the worst case.
+    insBase45Invalid = insBase45.substring(0, insBase45.length() - 1) + "a";
+    insBase64Invalid = insBase64.substring(0, insBase64.length() - 4) + "*AAA";
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45#encode(byte[])}.
+   *
+   * @param counter of octets
+   *
+   * @return encoded octets
+   */
+  @Benchmark
+  public String base45Encode(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45.encode(insOctets);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45#encode(byte[])} with the opt-in vector encoder.
+   *
+   * <p>Runs in a separate fork with {@code -Dcom.base45.vector.encode=true}, all other
+   * benchmarks measure the default configuration.
+   *
+   * @param counter of octets
+   *
+   * @return encoded octets
+   */
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR_ENCODE)
+  public String base45EncodeVector(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45.encode(insOctets);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45#decode(CharSequence)}.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   */
+  @Benchmark
+  public byte[] base45Decode(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45.decode(insBase45);
+  } // end method */
+
+  /**
+   * Benchmark for a cache hit in {@link Base45DecodeCache#decode(CharSequence)}.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   */
+  @Benchmark
+  public byte[] base45DecodeCached(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return insCache.decode(insBase45);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45#decode(CharSequence)} followed by hashing.
+   *
+   * @param counter of octets
+   *
+   * @return SHA-256 of decoded octets
+   */
+  @Benchmark
+  public byte[] base45DecodeThenDigest(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return insSha256.digest(Base45.decode(insBase45));
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Digest#digest(CharSequence, MessageDigest)}.
+   *
+   * @param counter of octets
+   *
+   * @return SHA-256 of decoded octets
+   */
+  @Benchmark
+  public byte[] base45Digest(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45Digest.digest(insBase45, insSha256);
+  } // end method */
+
+  /**
+   * Benchmark for {@link URLDecoder} followed by {@link Base45#decode(CharSequence)}.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   *
+   * @throws UnsupportedEncodingException if UTF-8 is not available
+   */
+  @Benchmark
+  public byte[] base45DecodeUrlDecoder(
+      final Octets counter
+  ) throws UnsupportedEncodingException {
+    counter.octets += size;
+
+    return Base45.decode(URLDecoder.decode(insBase45Form, "UTF-8"));
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45UrlDecoder#decode(CharSequence)} in mode
+   * {@link Base45UrlDecoder#FORM}.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   */
+  @Benchmark
+  public byte[] base45DecodeForm(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45UrlDecoder.FORM.decode(insBase45Form);
+  } // end method */
+
+  /**
+   * Benchmark for rejecting invalid input by {@link Base45#decode(CharSequence)}.
+   *
+   * @param counter of octets
+   *
+   * @return exception thrown
+   */
+  @Benchmark
+  public Object base45DecodeInvalid(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    try {
+      return Base45.decode(insBase45Invalid);
+    } catch (IllegalArgumentException e) {
+      return e;
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Baseline {@link Base64.Encoder#encodeToString(byte[])}.
+   *
+   * @param counter of octets
+   *
+   * @return encoded octets
+   */
+  @Benchmark
+  public String base64Encode(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base64.getEncoder().encodeToString(insOctets);
+  } // end method */
+
+  /**
+   * Baseline {@link Base64.Decoder#decode(String)}.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   */
+  @Benchmark
+  public byte[] base64Decode(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base64.getDecoder().decode(insBase64);
+  } // end method */
+
+  /**
+   * Baseline for rejecting invalid input by {@link Base64.Decoder#decode(String)}.
+   *
+   * @param counter of octets
+   *
+   * @return exception thrown
+   */
+  @Benchmark
+  public Object base64DecodeInvalid(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    try {
+      return Base64.getDecoder().decode(insBase64Invalid);
+    } catch (IllegalArgumentException e) {
+      return e;
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45.Decoder#decode(byte[])}, i.e. ASCII input.
+   *
+   * @param counter of octets
+   *
+   * @return decoded octets
+   */
+  @Benchmark
+  public byte[] base45DecodeAscii(
+      final Octets counter
+  ) {
+    counter.octets += size;
+
+    return Base45.getDecoder().decode(insBase45Ascii);
+  } // end method */
+} // end class
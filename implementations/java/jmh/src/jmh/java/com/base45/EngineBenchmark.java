@@ -0,0 +1,192 @@
+package com.base45;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing the implementations behind {@link Base45}.
+ *
+ * <p>Each implementation works on ASCII characters and preallocated buffers, thus
+ * these benchmarks do not allocate. The number of octets is rounded down to a multiple
+ * of {@link Base45Swar#OCTETS_PER_STEP}, such that each implementation processes the
+ * whole input. The results support choosing {@link Base45Table#THRESHOLD} and
+ * {@link Base45Vector#THRESHOLD}.
+ *
+ * <p>{@link Base45Engines#reference()} is the baseline, i.e. the plain scalar loop with
+ * one division and one modulo per character. {@link Base45ConstantTime} is included
+ * for comparison, it trades speed for timing independent of the data.
+ *
+ * <p>Results do not show the memory cost of the table implementation. Its lookup tables
+ * occupy 192 KiB for encoding and 32 KiB for decoding, see {@link Base45Table}. That
+ * exceeds a typical L1 data cache and competes with the application's own data in
+ * L2. These benchmarks run on warm caches, so the table implementation wins here by
+ * more than it would in a cold or cache-contended call.
+ *
+ * <p>The vector implementation is only available on Java 17 or later with module
+ * {@code jdk.incubator.vector}. Otherwise it processes nothing, which shows as an
+ * implausibly fast result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EngineBenchmark {
+  /**
+   * Number of octets, rounded down to a multiple of six.
+   */
+  @Param({"16", "512", "2048", "1048576"})
+  public int size; // NOPMD field is not private */
+
+  /**
+   * Random octets.
+   */
+  private byte[] insOctets; // */
+
+  /**
+   * {@link #insOctets} encoded as ASCII characters.
+   */
+  private byte[] insEncoded; // */
+
+  /**
+   * Buffer receiving decoded octets.
+   */
+  private byte[] insOctetBuffer; // */
+
+  /**
+   * Buffer receiving encoded ASCII characters.
+   */
+  private byte[] insCharBuffer; // */
+
+  /**
+   * Engine with plain scalar code.
+   */
+  private final Base45Engine insReference = Base45Engines.reference(); // */
+
+  /**
+   * Creates test data.
+   */
+  @Setup
+  public void setup() {
+    insOctets = new byte[size - size % Base45Swar.OCTETS_PER_STEP];
+    new Random(size).nextBytes(insOctets);
+    insEncoded = Base45.encode(insOctets).getBytes(StandardCharsets.US_ASCII);
+    insOctetBuffer = new byte[insOctets.length];
+    insCharBuffer = new byte[insEncoded.length];
+  } // end method */
+
+  /**
+   * Benchmark for the reference engine, see {@link Base45Engines#reference()}.
+   *
+   * @return number of characters encoded
+   */
+  @Benchmark
+  public int encodeReference() {
+    return insReference.encode(insOctets, 0, insOctets.length, insCharBuffer, 0);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Table#encode(byte[], int, int, byte[], int)}.
+   *
+   * @return buffer with encoded characters
+   */
+  @Benchmark
+  public byte[] encodeTable() {
+    Base45Table.encode(insOctets, 0, insOctets.length, insCharBuffer, 0);
+
+    return insCharBuffer;
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Swar#encode(byte[], int, int, byte[], int)}.
+   *
+   * @return buffer with encoded characters
+   */
+  @Benchmark
+  public byte[] encodeSwar() {
+    Base45Swar.encode(insOctets, 0, insOctets.length, insCharBuffer, 0);
+
+    return insCharBuffer;
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Vector#encode(byte[], int, int, byte[], int)}.
+   *
+   * <p>Vector encoding is opt-in, thus this benchmark runs in a separate fork with
+   * {@code -Dcom.base45.vector.encode=true}.
+   *
+   * @return number of octets encoded
+   */
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = Base45Benchmark.VECTOR_ENCODE)
+  public int encodeVector() {
+    return Base45Vector.encode(insOctets, 0, insOctets.length, insCharBuffer, 0);
+  } // end method */
+
+  /**
+   * Benchmark for the reference engine, see {@link Base45Engines#reference()}.
+   *
+   * @return number of octets decoded
+   */
+  @Benchmark
+  public int decodeReference() {
+    return insReference.decode(insEncoded, 0, insEncoded.length, insOctetBuffer, 0);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Table#decode(byte[], int, int, byte[], int)}.
+   *
+   * @return buffer with decoded octets
+   */
+  @Benchmark
+  public byte[] decodeTable() {
+    Base45Table.decode(insEncoded, 0, insEncoded.length, insOctetBuffer, 0);
+
+    return insOctetBuffer;
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Swar#decode(byte[], int, int, byte[], int)}.
+   *
+   * @return buffer with decoded octets
+   */
+  @Benchmark
+  public byte[] decodeSwar() {
+    Base45Swar.decode(insEncoded, 0, insEncoded.length, insOctetBuffer, 0);
+
+    return insOctetBuffer;
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45Vector#decode(byte[], int, int, byte[], int)}.
+   *
+   * @return number of characters decoded
+   */
+  @Benchmark
+  public int decodeVector() {
+    return Base45Vector.decode(insEncoded, 0, insEncoded.length, insOctetBuffer, 0);
+  } // end method */
+
+  /**
+   * Benchmark for {@link Base45ConstantTime#decode(byte[], int, int, byte[], int)}.
+   *
+   * @return number of octets decoded
+   */
+  @Benchmark
+  public int decodeConstantTime() {
+    return Base45ConstantTime.decode(insEncoded, 0, insEncoded.length, insOctetBuffer, 0);
+  } // end method */
+} // end class
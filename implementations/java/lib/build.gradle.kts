@@ -58,6 +58,59 @@ java {
     targetCompatibility = JavaVersion.VERSION_1_8
 } // end JavaVersion _______________________________________________________________________________
 
+// multi-release JAR  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+// Note 1: Classes in source set "java17" replace classes with the same name from source set
+//         "main" when running on Java 17 or later, see "META-INF/versions/17" in the JAR.
+// Note 2: Module "jdk.incubator.vector" is not resolved by default. Applications enable the
+//         vector implementation with JVM option "--add-modules jdk.incubator.vector".
+// Note 3: Classes in source set "java11" replace classes with the same name from source set
+//         "main" when running on Java 11 or later, e.g. Flight Recorder events, see
+//         "META-INF/versions/11" in the JAR. Versioned classes must not add public API, thus
+//         public classes needing a later Java version live in subprojects, e.g. "flow".
+val java11: SourceSet by sourceSets.creating {
+    java {
+        srcDir("src/main/java11")
+    }
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    })
+    options.release.set(11)
+}
+
+val java17: SourceSet by sourceSets.creating {
+    java {
+        srcDir("src/main/java17")
+    }
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    })
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
+    into("META-INF/versions/17") {
+        from(java17.output)
+    }
+    manifest {
+        attributes(
+                "Multi-Release" to "true",
+                "Main-Class" to "com.base45.Base45Cli"
+        )
+    }
+} // end multi-release JAR _________________________________________________________________________
+
 gradle.taskGraph.whenReady { //  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
     // set flag indicating whether a release is build
     val flagRelease = hasTask(":release") || hasTask(":" + project.name + ":release")
@@ -169,10 +222,32 @@ tasks {
     check { dependsOn("jacocoTestCoverageVerification") }
 } // end   task ____________________________________________________________________________________
 
+// tests for source set "java11"  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+val test11: SourceSet by sourceSets.creating {
+    java {
+        srcDir("src/test/java11")
+    }
+    compileClasspath += java11.output + sourceSets.main.get().output +
+            sourceSets.test.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(test11.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    })
+    options.release.set(11)
+} // end tests for source set "java11" ____________________________________________________________
+
 // section configuring test tasks  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+// Note: Task "test" runs on Java 8 against source set "main" with default properties, i.e. the
+//       baseline every JAR falls back to.
 tasks.test {
     useJUnitPlatform()
 
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    })
+
     testLogging {
         events("PASSED", "FAILED", "SKIPPED")
     }
@@ -180,3 +255,39 @@ tasks.test {
     // ensures that a report is generated immediately after test-task completes
     finalizedBy("jacocoTestReport")
 } // end test tasks ________________________________________________________________________________
+
+// tests for multi-release layers  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+// Note 1: These tasks run all tests on Java 17 against the multi-release layers, i.e. with
+//         source sets "java17" and "java11" taking precedence over "main", see "tasks.jar".
+// Note 2: Task "test17" uses default properties, thus vector instructions are used for
+//         decoding only. Task "test17VectorEncode" also enables them for encoding.
+fun registerTest17(name: String, vararg properties: Pair<String, String>) =
+    tasks.register<Test>(name) {
+        description = "Runs the tests on Java 17 against the multi-release layers."
+        group = "verification"
+        useJUnitPlatform()
+
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(17))
+        })
+        testClassesDirs = sourceSets.test.get().output.classesDirs + test11.output.classesDirs
+        classpath = files(java17.output, java11.output, test11.output) +
+                sourceSets.test.get().runtimeClasspath
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+        systemProperties(properties.toMap())
+
+        testLogging {
+            events("PASSED", "FAILED", "SKIPPED")
+        }
+
+        shouldRunAfter(tasks.test)
+    }
+
+val test17 = registerTest17("test17")
+val test17VectorEncode = registerTest17(
+        "test17VectorEncode", "com.base45.vector.encode" to "true"
+)
+
+tasks.check {
+    dependsOn(test17, test17VectorEncode)
+} // end tests for multi-release layers ___________________________________________________________
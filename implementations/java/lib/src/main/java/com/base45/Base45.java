@@ -1,8 +1,12 @@
 package com.base45;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.BufferUnderflowException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * This class provides functionality to encode and decode octet strings according
@@ -14,6 +18,27 @@ public final class Base45 { // NOPMD utility class
    */
   public static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:"; // */
 
+  /**
+   * Result of {@link #validate(CharSequence)} for valid input.
+   */
+  public static final long VALID = 0; // */
+
+  /**
+   * Kind of error: A character is not in {@link #ALPHABET}.
+   */
+  public static final int ERROR_CHARACTER = 1; // */
+
+  /**
+   * Kind of error: The number of characters is neither {@code 3*i} nor {@code 3*i + 2}.
+   */
+  public static final int ERROR_LENGTH = 2; // */
+
+  /**
+   * Kind of error: The value of a character-triple exceeds 65535 or the value of a
+   * final character-pair exceeds 255.
+   */
+  public static final int ERROR_CODE = 3; // */
+
   /**
    * Characters used for encoding octet strings.
    *
@@ -79,6 +104,26 @@ public final class Base45 { // NOPMD utility class
    */
   /* package */ static final int MODUL = CHARS.length; // */
 
+  /**
+   * Reverse lookup table, mapping a character to its value.
+   *
+   * <p>The table is indexed by the (ASCII) code of a character. Entries for characters
+   * in {@link #ALPHABET} contain the corresponding integer value, see {@link #CHARS}.
+   * All other entries contain {@code -1}. Characters with a code outside the range
+   * of this table are not in {@link #ALPHABET} either.
+   */
+  /* package */ static final byte[] VALUES = new byte[128]; // */
+
+  /*
+   * Static initializer filling the reverse lookup table.
+   */
+  static {
+    Arrays.fill(VALUES, (byte) -1);
+    for (int i = MODUL; i-- > 0;) { // NOPMD assignment in operand
+      VALUES[CHARS[i]] = (byte) i;
+    } // end for (i...)
+  } // end static */
+
   /**
    * Default constructor.
    */
@@ -86,6 +131,24 @@ public final class Base45 { // NOPMD utility class
     // intentionally empty
   } // end method */
 
+  /**
+   * Returns a {@link Decoder} for ASCII encoded input.
+   *
+   * @return decoder, the same instance on each call
+   */
+  public static Decoder getDecoder() {
+    return Decoder.INSTANCE;
+  } // end method */
+
+  /**
+   * Returns an {@link Encoder} producing ASCII encoded output.
+   *
+   * @return encoder, the same instance on each call
+   */
+  public static Encoder getEncoder() {
+    return Encoder.INSTANCE;
+  } // end method */
+
   /**
    * Decode given characters according to
    * <a href="https://github.com/patrikhson/base45">base 45</a>.
@@ -108,55 +171,300 @@ public final class Base45 { // NOPMD utility class
    *                                  </ol>
    *
    */
-  public static byte[] decode(// NOPMD high complexity
+  public static byte[] decode(
       final CharSequence chars
   ) {
-    final ByteArrayOutputStream result = new ByteArrayOutputStream();
-
-    char charC;
-    char charD;
-    char charE;
-    int index = 0;
-    while (true) {
-      // --- try to read another character, which would be the first of a new triple
-      // Note 1: This will fail in case there are no more triples.
-      try {
-        charC = chars.charAt(index++);
-      } catch (IndexOutOfBoundsException e) {
-        // ... number of characters in input is a multiply of three, that is okay
-        //     => stop endless loop
-
-        return result.toByteArray();
-      } // end catch (IndexOutOfBoundsException)
-
-      // --- try to read another character, which would be the second of a new triple
-      // Note 2: This will fail in case the number of characters is wrong.
-      try {
-        charD = chars.charAt(index++);
-      } catch (IndexOutOfBoundsException e) {
-        // ... number of characters in input is neither 3*i nor (3*i + 2)
-        //     => number of characters in input is wrong, throw appropriate exception
-        throw new IllegalArgumentException("invalid number of input character", e);
-      } // end catch (IndexOutOfBoundsException)
-
-      // --- try to read another character, which would be the third of a new triple
-      // Note 3: This will fail in case the number of octets in output is odd.
-      try {
-        charE = chars.charAt(index++);
-      } catch (IndexOutOfBoundsException e) {
-        // ... number of characters in input is (3*i + 2)
-        //     => odd number of octets in output
-        final int decoded = decode(charC, charD, '0');
-        result.write(decoded);
-
-        return result.toByteArray();
-      } // end catch (IndexOutOfBoundsException)
-      // ... three additional characters read from input char-sequence
+    // Note: The number of octets in the output is known beforehand. Thus the output
+    //       is allocated exactly once with the appropriate size.
+    final int noChars = chars.length();
+    final byte[] result = new byte[outputLength(noChars)];
+    decode(chars, 0, noChars, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decode given characters in parallel.
+   *
+   * <p>The characters are split on triple boundaries into ranges, which are decoded by
+   * tasks in {@link java.util.concurrent.ForkJoinPool#commonPool()} into disjoint
+   * ranges of one output buffer. Input with at most as many characters as given by
+   * system property {@code com.base45.parallel.threshold} (default 65536) is decoded
+   * sequentially.
+   *
+   * <p>The result and the conditions for exceptions are the same as for
+   * {@link #decode(CharSequence)}. If input contains several errors, the one reported
+   * is the one sequential decoding reports.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return octet string
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link #decode(CharSequence)}
+   */
+  public static byte[] decodeParallel(
+      final CharSequence chars
+  ) {
+    return Base45Parallel.decode(chars, Base45Parallel.THRESHOLD);
+  } // end method */
+
+  /**
+   * Decode a batch of items.
+   *
+   * <p>The decoded octets of all items are packed into one buffer, see
+   * {@link Base45Batch}. An item which cannot be decoded does not abort the batch,
+   * instead its error is reported by {@link Base45Batch#getError(int)}.
+   *
+   * @param items to be decoded
+   *
+   * @return batch with decoded octets
+   *
+   * @throws IllegalArgumentException if the total number of octets exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  public static Base45Batch decodeAll(
+      final List<? extends CharSequence> items
+  ) {
+    return Base45Batch.decode(items, false);
+  } // end method */
+
+  /**
+   * Decode a batch of items in parallel.
+   *
+   * <p>The batch is split into ranges of items, which are decoded by tasks in
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Otherwise this method
+   * works like {@link #decodeAll(List)}.
+   *
+   * @param items to be decoded
+   *
+   * @return batch with decoded octets
+   *
+   * @throws IllegalArgumentException if the total number of octets exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  public static Base45Batch decodeAllParallel(
+      final List<? extends CharSequence> items
+  ) {
+    return Base45Batch.decode(items, true);
+  } // end method */
+
+  /**
+   * Decode a range of given characters into a caller-supplied buffer.
+   *
+   * <p>This is the inverse function of {@link #encode(byte[], int, int, char[], int)}.
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #decode(CharSequence)} is met
+   *                                   </ol>
+   */
+  public static int decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeChars(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(CharSequence, int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  /* package */ static int decodeChars(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    // Note: In case the number of characters in input is wrong, that error is
+    //       detected after all complete character-triples are decoded. Thus an
+    //       invalid character in one of those triples takes precedence.
+    checkRange(src.length(), off, len);
+    final int noOctets = outputLength(len);
+    checkOutput(dst.length, dstOff, noOctets);
+
+    if (len >= Base45Table.THRESHOLD) {
+      Base45Table.decode(src, off, len, dst, dstOff);
+
+      return noOctets;
+    } // end if
+
+    // --- decode the bulk of input nine characters at a time
+    final int noBulk = len - len % Base45Swar.CHARS_PER_STEP;
+    Base45Swar.decode(src, off, noBulk, dst, dstOff);
+
+    // --- decode remaining characters
+    int index = off + noBulk;
+    int outIndex = dstOff + noBulk / 3 * 2;
+    for (int i = (len - noBulk) / 3; i-- > 0;) { // NOPMD assignment in operand
+      // ... three additional characters available in input
       //     => convert those characters and add them to the output
-      final int decoded = decode(charC, charD, charE);
-      result.write(decoded >> 8);
-      result.write(decoded);
-    } // end while (true)
+      final int decoded = decode(
+          src.charAt(index),
+          src.charAt(index + 1),
+          src.charAt(index + 2)
+      );
+      index += 3;
+      dst[outIndex++] = (byte) (decoded >> 8);
+      dst[outIndex++] = (byte) decoded;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      // ... number of characters in input is neither 3*i nor (3*i + 2)
+      //     => number of characters in input is wrong, throw appropriate exception
+      throw invalidLength(len);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      // ... number of characters in input is (3*i + 2)
+      //     => odd number of octets in output
+      dst[outIndex] = (byte) decode(src.charAt(index), src.charAt(index + 1), '0');
+    } // end else if
+
+    return noOctets;
+  } // end method */
+
+  /**
+   * Decode a range of given ASCII characters into a caller-supplied buffer.
+   *
+   * <p>This is the inverse function of {@link #encode(byte[], int, int, byte[], int)}.
+   * Each octet in {@code src} is treated as one (ASCII) character.
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #decode(CharSequence)} is met
+   *                                   </ol>
+   */
+  public static int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeAscii(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(byte[], int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  /* package */ static int decodeAscii(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    checkRange(src.length, off, len);
+    final int noOctets = outputLength(len);
+    checkOutput(dst.length, dstOff, noOctets);
+
+    // --- decode a prefix of input by vector instructions, if available
+    final int noVector = Base45Vector.decode(src, off, len, dst, dstOff);
+    final int start = off + noVector;
+    final int rest = len - noVector;
+    final int outStart = dstOff + noVector / 3 * 2;
+
+    if (rest >= Base45Table.THRESHOLD) {
+      Base45Table.decode(src, start, rest, dst, outStart);
+
+      return noOctets;
+    } // end if
+
+    // --- decode the bulk of input nine characters at a time
+    final int noBulk = rest - rest % Base45Swar.CHARS_PER_STEP;
+    Base45Swar.decode(src, start, noBulk, dst, outStart);
+
+    // --- decode remaining characters
+    int index = start + noBulk;
+    int outIndex = outStart + noBulk / 3 * 2;
+    for (int i = (rest - noBulk) / 3; i-- > 0;) { // NOPMD assignment in operand
+      final int decoded = decode(
+          (char) (src[index] & 0xff),
+          (char) (src[index + 1] & 0xff),
+          (char) (src[index + 2] & 0xff)
+      );
+      index += 3;
+      dst[outIndex++] = (byte) (decoded >> 8);
+      dst[outIndex++] = (byte) decoded;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      throw invalidLength(len);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      dst[outIndex] = (byte) decode(
+          (char) (src[index] & 0xff),
+          (char) (src[index + 1] & 0xff),
+          '0'
+      );
+    } // end else if
+
+    return noOctets;
   } // end method */
 
   /**
@@ -183,13 +491,13 @@ public final class Base45 { // NOPMD utility class
       final char charD,
       final char charE
   ) {
-    final int intC = ALPHABET.indexOf(charC);
-    final int intD = ALPHABET.indexOf(charD);
-    final int intE = ALPHABET.indexOf(charE);
+    final int intC = value(charC);
+    final int intD = value(charD);
+    final int intE = value(charE);
 
     if ((intC < 0) || (intD < 0) || (intE < 0)) {
       // ... at least one of the characters is not element of ALPHABET
-      throw new IllegalArgumentException("invalid character(s)");
+      throw Base45Metrics.inputError(ERROR_CHARACTER);
     } // end if
 
     // Note: Each of the integers c, d and e are in range [0, 44]. Thus the following
@@ -199,12 +507,330 @@ public final class Base45 { // NOPMD utility class
     final int result = intC + MODUL * (intD + MODUL * intE);
 
     if (result > 0xffff) { // NOPMD literal in conditional statement
-      throw new IllegalArgumentException("invalid code");
+      throw Base45Metrics.inputError(ERROR_CODE);
     } // end if
 
     return result;
   } // end method */
 
+  /**
+   * Returns number of octets resulting from decoding the given number of characters.
+   *
+   * <p>This is the inverse function of {@link #encodedLength(int)}.
+   *
+   * @param noChars number of characters to be decoded
+   *
+   * @return number of octets after decoding
+   *
+   * @throws IllegalArgumentException if {@code noChars} is neither {@code 3*i} nor
+   *                                  {@code 3*i + 2} with {@code i} as a non negative
+   *                                  integer
+   */
+  public static int decodedLength(
+      final int noChars
+  ) {
+    if ((noChars < 0) || (1 == noChars % 3)) { // NOPMD literal in conditional statement
+      throw invalidLength(noChars);
+    } // end if
+
+    return outputLength(noChars);
+  } // end method */
+
+  /**
+   * Extracts the kind of error from the result of {@link #validate(CharSequence)}.
+   *
+   * @param status result of {@link #validate(CharSequence, int, int)}
+   *
+   * @return one of {@link #ERROR_CHARACTER}, {@link #ERROR_LENGTH}, {@link #ERROR_CODE},
+   *         or zero if {@code status} is {@link #VALID}
+   */
+  public static int errorKind(
+      final long status
+  ) {
+    return (int) (status & 3);
+  } // end method */
+
+  /**
+   * Extracts the position of an error from the result of {@link #validate(CharSequence)}.
+   *
+   * @param status result of {@link #validate(CharSequence, int, int)}
+   *
+   * @return index of the first invalid character, of the first character of an invalid
+   *         group, or for {@link #ERROR_LENGTH} the index after the last character,
+   *         zero if {@code status} is {@link #VALID}
+   */
+  public static int errorOffset(
+      final long status
+  ) {
+    return (int) (status >>> 2);
+  } // end method */
+
+  /**
+   * Checks whether given characters are a valid encoding.
+   *
+   * <p>In contrast to {@link #decode(CharSequence)} a final character-pair with a
+   * value exceeding 255 is invalid here.
+   *
+   * @param chars characters to be checked
+   *
+   * @return {@code TRUE} if {@code chars} are valid, {@code FALSE} otherwise
+   */
+  public static boolean isValid(
+      final CharSequence chars
+  ) {
+    return VALID == validate(chars, 0, chars.length());
+  } // end method */
+
+  /**
+   * Decode a range of given characters without throwing for invalid input.
+   *
+   * <p>The input is checked by {@link #validate(CharSequence, int, int)} before
+   * anything is written to {@code dst}. Thus for invalid input neither an exception
+   * is created nor is {@code dst} modified.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst} if input is valid, otherwise the
+   *         negative kind of the first error, i.e. {@code -ERROR_CHARACTER},
+   *         {@code -ERROR_LENGTH} or {@code -ERROR_CODE}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if input is valid but {@code dst} is too small
+   *                                   for all octets
+   */
+  public static int tryDecode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    final long status = validate(src, off, len);
+    if (VALID != status) {
+      // ... invalid input
+      //     => count the error, nothing is decoded
+      final int kind = errorKind(status);
+      if (Base45Metrics.ENABLED) {
+        Base45Metrics.record(Base45Metrics.DECODE, len, event, kind);
+      } // end if
+
+      return -kind;
+    } // end if
+
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeChars(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Checks given characters without allocating any objects.
+   *
+   * @param chars characters to be checked
+   *
+   * @return {@link #VALID} or position and kind of the first error, see
+   *         {@link #validate(CharSequence, int, int)}
+   */
+  public static long validate(
+      final CharSequence chars
+  ) {
+    return validate(chars, 0, chars.length());
+  } // end method */
+
+  /**
+   * Checks a range of given characters without allocating any objects.
+   *
+   * <p>Errors are searched in the same order as {@link #decode(CharSequence)} does,
+   * i.e. an error in a character-triple takes precedence over an invalid number of
+   * characters. In contrast to {@link #decode(CharSequence)} a final character-pair
+   * with a value exceeding 255 is an error of kind {@link #ERROR_CODE}.
+   *
+   * @param chars characters to be checked
+   * @param off   index of first character in {@code chars} to be checked
+   * @param len   number of characters to be checked
+   *
+   * @return {@link #VALID} if the characters are a valid encoding, otherwise the first
+   *         error, use {@link #errorKind(long)} and {@link #errorOffset(long)} to
+   *         extract its kind and position
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code chars}
+   */
+  public static long validate(
+      final CharSequence chars,
+      final int off,
+      final int len
+  ) {
+    checkRange(chars.length(), off, len);
+
+    return check(chars, off, len, true);
+  } // end method */
+
+  /**
+   * Searches the first error in a range of given characters.
+   *
+   * <p>This is the single place defining which errors exist and in which order they
+   * take precedence, see {@link #validate(CharSequence, int, int)}. It is shared by
+   * all methods reporting errors by status.
+   *
+   * @param chars  characters to be checked
+   * @param off    index of first character in {@code chars} to be checked
+   * @param len    number of characters to be checked
+   * @param strict whether a final character-pair with a value exceeding 255 is an
+   *               error, as for {@link #validate(CharSequence, int, int)}, or not, as
+   *               for {@link #decode(CharSequence)}
+   *
+   * @return {@link #VALID} or position and kind of the first error
+   */
+  private static long check(
+      final CharSequence chars,
+      final int off,
+      final int len,
+      final boolean strict
+  ) {
+    int index = off;
+    for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+      final int intC = value(chars.charAt(index));
+      final int intD = value(chars.charAt(index + 1));
+      final int intE = value(chars.charAt(index + 2));
+
+      if ((intC | intD | intE) < 0) {
+        // ... at least one of the characters is not element of ALPHABET
+        final int position = (intC < 0) ? index : ((intD < 0) ? index + 1 : index + 2);
+
+        return status(position, ERROR_CHARACTER);
+      } else if (intC + MODUL * (intD + MODUL * intE) > 0xffff) {
+        return status(index, ERROR_CODE);
+      } // end else if
+
+      index += 3;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      return status(off + len, ERROR_LENGTH);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      final int intC = value(chars.charAt(index));
+      final int intD = value(chars.charAt(index + 1));
+
+      if ((intC | intD) < 0) {
+        return status((intC < 0) ? index : index + 1, ERROR_CHARACTER);
+      } else if (strict && (intC + MODUL * intD > 0xff)) {
+        return status(index, ERROR_CODE);
+      } // end else if
+    } // end else if
+
+    return VALID;
+  } // end method */
+
+  /**
+   * Combines position and kind of an error.
+   *
+   * @param position of error
+   * @param kind     of error
+   *
+   * @return result of {@link #validate(CharSequence, int, int)}
+   */
+  private static long status(
+      final int position,
+      final int kind
+  ) {
+    return ((long) position << 2) | kind;
+  } // end method */
+
+  /**
+   * Decode a range of given characters without throwing for invalid input.
+   *
+   * <p>In contrast to {@link #tryDecode(CharSequence, int, int, byte[], int)} input is
+   * accepted under the same conditions as by {@link #decode(CharSequence)}, i.e. a
+   * final character-pair with a value exceeding 255 is not an error here. Metrics are
+   * not recorded.
+   *
+   * <p>The bulk of input is decoded by {@link Base45Swar#decodeValid}, which stops at
+   * the first step containing an error. From there on the characters are checked by
+   * the same code as in {@link #validate(CharSequence, int, int)}, thus errors are
+   * reported at the same position and with the same precedence. The remaining
+   * characters are decoded only if they are valid.
+   *
+   * <p>This method does not check its parameters. It is the responsibility of the
+   * caller to provide a valid range and an output buffer of sufficient size. In case
+   * of an error some octets are possibly already written to {@code dst}.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return {@link #VALID} or position and kind of the first error, see
+   *         {@link #validate(CharSequence, int, int)}
+   */
+  /* package */ static long decodeStatus(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int noBulk = len - len % Base45Swar.CHARS_PER_STEP;
+    final int noDecoded = Base45Swar.decodeValid(src, off, noBulk, dst, dstOff);
+
+    // Note: If the bulk contains an error, then the check below finds it within the
+    //       step at which decoding stopped, before looking at any further characters.
+    final int index = off + noDecoded;
+    final long result = check(src, index, len - noDecoded, false);
+    if (VALID == result) {
+      // ... fewer than nine valid characters remaining
+      //     => decode them
+      decodeChars(src, index, len - noDecoded, dst, dstOff + noDecoded / 3 * 2);
+    } // end if
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns number of octets resulting from decoding the given number of characters.
+   *
+   * <p>In contrast to {@link #decodedLength(int)} this method does not check whether
+   * {@code noChars} is a valid number of characters. For {@code 3*i + 1} characters
+   * the result corresponds to {@code 3*i} characters.
+   *
+   * @param noChars non negative number of characters to be decoded
+   *
+   * @return number of octets after decoding
+   */
+  /* package */ static int outputLength(
+      final int noChars
+  ) {
+    final int noTriples = noChars / 3;
+
+    return 2 * noTriples + ((noChars - 3 * noTriples) >> 1);
+  } // end method */
+
+  /**
+   * Converts given character into its value.
+   *
+   * @param character to be converted
+   *
+   * @return value of {@code character} in range [0, 44], or {@code -1} if
+   *         {@code character} is not in {@link #ALPHABET}
+   */
+  /* package */ static int value(
+      final char character
+  ) {
+    return (character < VALUES.length) ? VALUES[character] : -1;
+  } // end method */
+
   /**
    * Encode given octet string according to
    * <a href="https://github.com/patrikhson/base45">base 45</a>.
@@ -218,38 +844,255 @@ public final class Base45 { // NOPMD utility class
   public static String encode(
       final byte[] octets
   ) {
-    // Note 1: This implementation converts the input to a buffer and reads from that buffer.
-    // Note 2: Typically the input "octets" contain many bytes. Thus the underlying method
-    //         encode(char, ...) will be called many times. Instead of creating a new int[]
-    //         each time that method is called, such an array is allocated once and then
-    //         passed into that method as an additional parameter.
-    // Note 3: Intentionally an "endless-loop" is used hereafter. Thus this implementation
-    //         relies on the JRE and its ability to check for BufferUnderflow. Such a check
-    //         is there anyway, so there seems to be no need to do an extra check here.
-    final StringBuilder result = new StringBuilder();
-    final int[] cde = new int[3];
-    final ByteBuffer byteBuffer = ByteBuffer.wrap(octets);
+    final char[] result = new char[encodedLength(octets.length)];
+    encode(octets, 0, octets.length, result, 0);
+
+    return new String(result);
+  } // end method */
+
+  /**
+   * Encode given octet string in parallel.
+   *
+   * <p>The octets are split on pair boundaries into ranges, which are encoded by tasks
+   * in {@link java.util.concurrent.ForkJoinPool#commonPool()} into disjoint ranges of
+   * one output buffer. Input with at most as many octets as given by system property
+   * {@code com.base45.parallel.threshold} (default 65536) is encoded sequentially.
+   *
+   * <p>The result is the same as for {@link #encode(byte[])}.
+   *
+   * @param octets to be encoded
+   *
+   * @return <a href="https://github.com/patrikhson/base45">base 45</a> encoded octets
+   */
+  public static String encodeParallel(
+      final byte[] octets
+  ) {
+    return Base45Parallel.encode(octets, Base45Parallel.THRESHOLD);
+  } // end method */
+
+  /**
+   * Encode a batch of items.
+   *
+   * <p>The ASCII characters of all items are packed into one buffer, see
+   * {@link Base45Batch}.
+   *
+   * @param items octet strings to be encoded
+   *
+   * @return batch with encoded ASCII characters
+   *
+   * @throws IllegalArgumentException if the total number of characters exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  public static Base45Batch encodeAll(
+      final byte[][] items
+  ) {
+    return Base45Batch.encode(items, false);
+  } // end method */
+
+  /**
+   * Encode a batch of items in parallel.
+   *
+   * <p>The batch is split into ranges of items, which are encoded by tasks in
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Otherwise this method
+   * works like {@link #encodeAll(byte[][])}.
+   *
+   * @param items octet strings to be encoded
+   *
+   * @return batch with encoded ASCII characters
+   *
+   * @throws IllegalArgumentException if the total number of characters exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  public static Base45Batch encodeAllParallel(
+      final byte[][] items
+  ) {
+    return Base45Batch.encode(items, true);
+  } // end method */
+
+  /**
+   * Encode a range of given octets into a caller-supplied buffer.
+   *
+   * <p>This is the inverse function of
+   * {@link #decode(CharSequence, int, int, byte[], int)}.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded
+   * @param dst    buffer receiving the characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if {@code dst} is too small for all characters
+   */
+  public static int encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final char[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
     try {
-      while (true) {
-        encode(cde, byteBuffer.getChar());
-        result
-            .append(CHARS[cde[0]])
-            .append(CHARS[cde[1]])
-            .append(CHARS[cde[2]]);
-      } // end while (true)
-    } catch (BufferUnderflowException e) {
-      // ... all char read from buffer
-      if (1 == (octets.length & 1)) { // NOPMD literal in conditional statement
-        // ... number of octet is odd
-        //     => take care of the last octet
-        encode(cde, (char) (octets[octets.length - 1] & 0xff));
-        result
-            .append(CHARS[cde[0]])
-            .append(CHARS[cde[1]]);
-      } // end if
-    } // end catch (BufferUnderflowException)
+      return Base45Metrics.success(
+          Base45Metrics.ENCODE, len, event, encodeChars(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.ENCODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
 
-    return result.toString();
+  /**
+   * Implements {@link #encode(byte[], int, int, char[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  /* package */ static int encodeChars(
+      final byte[] src,
+      final int off,
+      final int len,
+      final char[] dst,
+      final int dstOff
+  ) {
+    checkRange(src.length, off, len);
+    final int noChars = encodedLength(len);
+    checkOutput(dst.length, dstOff, noChars);
+
+    if (len >= Base45Table.THRESHOLD) {
+      Base45Table.encode(src, off, len, dst, dstOff);
+
+      return noChars;
+    } // end if
+
+    // --- encode the bulk of input six octets at a time
+    final int noBulk = len - len % Base45Swar.OCTETS_PER_STEP;
+    Base45Swar.encode(src, off, noBulk, dst, dstOff);
+
+    // --- encode remaining octets
+    int index = off + noBulk;
+    int outIndex = dstOff + noBulk / 2 * 3;
+    for (int i = (len - noBulk) >> 1; i-- > 0;) { // NOPMD assignment in operand
+      int word = ((src[index] & 0xff) << 8) | (src[index + 1] & 0xff);
+      index += 2;
+      dst[outIndex++] = CHARS[word % MODUL];
+      word /= MODUL;
+      dst[outIndex++] = CHARS[word % MODUL];
+      dst[outIndex++] = CHARS[word / MODUL];
+    } // end for (i...)
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      // ... number of octet is odd
+      //     => take care of the last octet
+      final int word = src[index] & 0xff;
+      dst[outIndex++] = CHARS[word % MODUL];
+      dst[outIndex] = CHARS[word / MODUL];
+    } // end if
+
+    return noChars;
+  } // end method */
+
+  /**
+   * Encode a range of given octets into a caller-supplied buffer of ASCII characters.
+   *
+   * <p>This is the inverse function of {@link #decode(byte[], int, int, byte[], int)}.
+   * Each character written to {@code dst} occupies one octet.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if {@code dst} is too small for all characters
+   */
+  public static int encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.ENCODE, len, event, encodeAscii(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.ENCODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #encode(byte[], int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  /* package */ static int encodeAscii(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    checkRange(src.length, off, len);
+    final int noChars = encodedLength(len);
+    checkOutput(dst.length, dstOff, noChars);
+
+    // --- encode a prefix of input by vector instructions, if available
+    final int noVector = Base45Vector.encode(src, off, len, dst, dstOff);
+    final int start = off + noVector;
+    final int rest = len - noVector;
+    final int outStart = dstOff + noVector / 2 * 3;
+
+    if (rest >= Base45Table.THRESHOLD) {
+      Base45Table.encode(src, start, rest, dst, outStart);
+
+      return noChars;
+    } // end if
+
+    // --- encode the bulk of input six octets at a time
+    final int noBulk = rest - rest % Base45Swar.OCTETS_PER_STEP;
+    Base45Swar.encode(src, start, noBulk, dst, outStart);
+
+    // --- encode remaining octets
+    int index = start + noBulk;
+    int outIndex = outStart + noBulk / 2 * 3;
+    for (int i = (rest - noBulk) >> 1; i-- > 0;) { // NOPMD assignment in operand
+      int word = ((src[index] & 0xff) << 8) | (src[index + 1] & 0xff);
+      index += 2;
+      dst[outIndex++] = (byte) CHARS[word % MODUL];
+      word /= MODUL;
+      dst[outIndex++] = (byte) CHARS[word % MODUL];
+      dst[outIndex++] = (byte) CHARS[word / MODUL];
+    } // end for (i...)
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      final int word = src[index] & 0xff;
+      dst[outIndex++] = (byte) CHARS[word % MODUL];
+      dst[outIndex] = (byte) CHARS[word / MODUL];
+    } // end if
+
+    return noChars;
   } // end method */
 
   /**
@@ -272,4 +1115,555 @@ public final class Base45 { // NOPMD utility class
 
     result[2] = tmp;
   } // end method */
+
+  /**
+   * Returns number of characters resulting from encoding the given number of octets.
+   *
+   * <p>This is the inverse function of {@link #decodedLength(int)}.
+   *
+   * @param noOctets number of octets to be encoded
+   *
+   * @return number of characters after encoding
+   *
+   * @throws IllegalArgumentException if {@code noOctets} is negative or the number of
+   *                                  characters exceeds {@link Integer#MAX_VALUE}
+   */
+  public static int encodedLength(
+      final int noOctets
+  ) {
+    // Note: Each pair of octets is encoded into three characters, a single (last)
+    //       octet is encoded into two characters.
+    final long result = 3L * (noOctets >> 1) + 2L * (noOctets & 1);
+
+    if ((noOctets < 0) || (result > Integer.MAX_VALUE)) {
+      throw new IllegalArgumentException("invalid number of octets: " + noOctets);
+    } // end if
+
+    return (int) result;
+  } // end method */
+
+  /**
+   * Checks whether {@code off} and {@code len} denote a range within an array.
+   *
+   * @param length of the array
+   * @param off    index of first element in range
+   * @param len    number of elements in range
+   *
+   * @throws IndexOutOfBoundsException if the range is not within the array
+   */
+  /* package */ static void checkRange(
+      final int length,
+      final int off,
+      final int len
+  ) {
+    if ((off < 0) || (len < 0) || (len > length - off)) {
+      throw new IndexOutOfBoundsException(
+          "off=" + off + ", len=" + len + ", length=" + length
+      );
+    } // end if
+  } // end method */
+
+  /**
+   * Checks whether an output buffer provides enough space.
+   *
+   * @param length   of the output buffer
+   * @param off      index of first element to be written
+   * @param required number of elements to be written
+   *
+   * @throws IndexOutOfBoundsException if {@code off} is not within the output buffer
+   * @throws IllegalArgumentException  if there is not enough space for
+   *                                   {@code required} elements
+   */
+  /* package */ static void checkOutput(
+      final int length,
+      final int off,
+      final int required
+  ) {
+    if ((off < 0) || (off > length)) {
+      throw new IndexOutOfBoundsException("off=" + off + ", length=" + length);
+    } // end if
+
+    if (required > length - off) {
+      throw new IllegalArgumentException("output buffer too small");
+    } // end if
+  } // end method */
+
+  /**
+   * Creates exception indicating an invalid number of input characters.
+   *
+   * @param noChars number of input characters
+   *
+   * @return appropriate exception
+   */
+  /* package */ static IllegalArgumentException invalidLength(
+      final int noChars
+  ) {
+    // Note: For compatibility with earlier versions the exception carries a cause
+    //       indicating where the next character was expected.
+    return Base45Metrics.inputError(
+        ERROR_LENGTH,
+        new IndexOutOfBoundsException("index " + noChars + ", length " + noChars)
+    );
+  } // end method */
+
+  /**
+   * Returns the message {@link #decode(CharSequence)} throws for a kind of error.
+   *
+   * @param kind {@link #ERROR_CHARACTER}, {@link #ERROR_LENGTH} or {@link #ERROR_CODE}
+   *
+   * @return message of exception
+   */
+  /* package */ static String errorMessage(
+      final int kind
+  ) {
+    switch (kind) {
+      case ERROR_CHARACTER:
+        return "invalid character(s)";
+
+      case ERROR_LENGTH:
+        return "invalid number of input character";
+
+      default:
+        return "invalid code";
+    } // end switch
+  } // end method */
+
+  /**
+   * Decoder for <a href="https://github.com/patrikhson/base45">base 45</a> encoded
+   * ASCII characters.
+   *
+   * <p>In contrast to the static methods of {@link Base45} this class works on octets
+   * on both sides, i.e. each encoded character occupies one octet. This is useful for
+   * input from network or file channels, where no intermediate {@link String} or
+   * {@code char[]} is necessary.
+   *
+   * <p>Instances of this class are immutable and thread-safe.
+   */
+  public static final class Decoder {
+    /**
+     * The one and only instance.
+     */
+    /* package */ static final Decoder INSTANCE = new Decoder(); // */
+
+    /**
+     * Default constructor.
+     */
+    private Decoder() {
+      // intentionally empty
+    } // end constructor */
+
+    /**
+     * Decode given ASCII characters.
+     *
+     * @param src ASCII characters to be decoded
+     *
+     * @return octet string
+     *
+     * @throws IllegalArgumentException if any of the conditions mentioned in
+     *                                  {@link Base45#decode(CharSequence)} is met
+     */
+    public byte[] decode(
+        final byte[] src
+    ) {
+      final byte[] result = new byte[outputLength(src.length)];
+      Base45.decode(src, 0, src.length, result, 0);
+
+      return result;
+    } // end method */
+
+    /**
+     * Decode given characters.
+     *
+     * @param src characters to be decoded
+     *
+     * @return octet string
+     *
+     * @throws IllegalArgumentException if any of the conditions mentioned in
+     *                                  {@link Base45#decode(CharSequence)} is met
+     */
+    public byte[] decode(
+        final String src
+    ) {
+      return Base45.decode(src);
+    } // end method */
+
+    /**
+     * Decode given ASCII characters into given buffer.
+     *
+     * @param src ASCII characters to be decoded
+     * @param dst buffer receiving the decoded octets starting at index zero
+     *
+     * @return number of octets written to {@code dst}
+     *
+     * @throws IllegalArgumentException if
+     *                                  <ol>
+     *                                    <li>{@code dst} is too small for all octets
+     *                                    <li>any of the conditions mentioned in
+     *                                        {@link Base45#decode(CharSequence)} is met
+     *                                  </ol>
+     */
+    public int decode(
+        final byte[] src,
+        final byte[] dst
+    ) {
+      return Base45.decode(src, 0, src.length, dst, 0);
+    } // end method */
+
+    /**
+     * Decode all remaining ASCII characters from given buffer into a new buffer.
+     *
+     * <p>Upon return the position of {@code src} is updated to its limit. The returned
+     * buffer has position zero and its limit set to the number of decoded octets.
+     * In case of an exception the position of {@code src} is not updated.
+     *
+     * @param src buffer with ASCII characters to be decoded
+     *
+     * @return newly allocated buffer with decoded octets
+     *
+     * @throws IllegalArgumentException if any of the conditions mentioned in
+     *                                  {@link Base45#decode(CharSequence)} is met
+     */
+    public ByteBuffer decode(
+        final ByteBuffer src
+    ) {
+      final ByteBuffer result = ByteBuffer.allocate(outputLength(src.remaining()));
+      decode(src, result);
+      result.flip();
+
+      return result;
+    } // end method */
+
+    /**
+     * Decode all remaining ASCII characters from {@code src} into {@code dst}.
+     *
+     * <p>Upon return the position of {@code src} is updated to its limit and the
+     * position of {@code dst} is advanced by the number of decoded octets. In case of
+     * an exception the positions are not updated, but the content of {@code dst} after
+     * its position is possibly changed.
+     *
+     * <p>Both buffers may be direct or heap buffers.
+     *
+     * @param src buffer with ASCII characters to be decoded
+     * @param dst buffer receiving the decoded octets
+     *
+     * @return number of octets written to {@code dst}
+     *
+     * @throws IllegalArgumentException         if
+     *                                          <ol>
+     *                                            <li>{@code dst} is too small for all
+     *                                                octets
+     *                                            <li>any of the conditions mentioned in
+     *                                                {@link Base45#decode(CharSequence)}
+     *                                                is met
+     *                                          </ol>
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public int decode(
+        final ByteBuffer src,
+        final ByteBuffer dst
+    ) {
+      final int srcPos = src.position();
+      final int len = src.remaining();
+      final int dstPos = dst.position();
+      final int noOctets = outputLength(len);
+      checkOutput(dst.limit(), dstPos, noOctets);
+
+      if (src.hasArray() && dst.hasArray()) {
+        // ... heap buffers (not read-only) on both sides
+        //     => use the fast array based implementation
+        Base45.decode(
+            src.array(), src.arrayOffset() + srcPos, len,
+            dst.array(), dst.arrayOffset() + dstPos
+        );
+      } else {
+        // ... at least one buffer is direct or read-only
+        //     => use absolute get- and put-methods, instrumented like the range methods
+        final Object event = Base45Metrics.begin();
+        try {
+          decodeAbsolute(src, srcPos, len, dst, dstPos);
+        } catch (IllegalArgumentException e) {
+          throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+        } // end catch (IllegalArgumentException)
+        Base45Metrics.success(Base45Metrics.DECODE, len, event, noOctets);
+      } // end else
+
+      src.position(srcPos + len);
+      dst.position(dstPos + noOctets);
+
+      return noOctets;
+    } // end method */
+
+    /**
+     * Decode ASCII characters by absolute get- and put-methods.
+     *
+     * @param src    buffer with ASCII characters to be decoded
+     * @param srcPos index of first character in {@code src}
+     * @param len    number of characters to be decoded
+     * @param dst    buffer receiving the decoded octets
+     * @param dstPos index of first octet in {@code dst} to be written
+     *
+     * @throws IllegalArgumentException if any of the conditions mentioned in
+     *                                  {@link Base45#decode(CharSequence)} is met
+     */
+    private static void decodeAbsolute(
+        final ByteBuffer src,
+        final int srcPos,
+        final int len,
+        final ByteBuffer dst,
+        final int dstPos
+    ) {
+      int index = srcPos;
+      int outIndex = dstPos;
+      for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+        final int decoded = Base45.decode(
+            (char) (src.get(index) & 0xff),
+            (char) (src.get(index + 1) & 0xff),
+            (char) (src.get(index + 2) & 0xff)
+        );
+        index += 3;
+        dst.put(outIndex++, (byte) (decoded >> 8));
+        dst.put(outIndex++, (byte) decoded);
+      } // end for (i...)
+
+      final int remainder = len % 3;
+      if (1 == remainder) { // NOPMD literal in conditional statement
+        throw invalidLength(len);
+      } else if (2 == remainder) { // NOPMD literal in conditional statement
+        dst.put(outIndex, (byte) Base45.decode(
+            (char) (src.get(index) & 0xff),
+            (char) (src.get(index + 1) & 0xff),
+            '0'
+        ));
+      } // end else if
+    } // end method */
+
+    /**
+     * Wraps an input stream of ASCII characters for decoding.
+     *
+     * <p>Octets read from the returned stream are decoded in chunks, so memory
+     * consumption is constant regardless of the length of the input. Closing the
+     * returned stream closes {@code in}.
+     *
+     * @param in source of ASCII characters
+     *
+     * @return input stream providing decoded octets, signaling invalid input by an
+     *         {@link java.io.IOException}
+     */
+    public InputStream wrap(
+        final InputStream in
+    ) {
+      return new Base45InputStream.Ascii(in);
+    } // end method */
+
+    /**
+     * Wraps a reader of characters for decoding.
+     *
+     * <p>Octets read from the returned stream are decoded in chunks, so memory
+     * consumption is constant regardless of the length of the input. Closing the
+     * returned stream closes {@code reader}.
+     *
+     * @param reader source of characters
+     *
+     * @return input stream providing decoded octets, signaling invalid input by an
+     *         {@link java.io.IOException}
+     */
+    public InputStream wrap(
+        final Reader reader
+    ) {
+      return new Base45InputStream.Chars(reader);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Encoder producing <a href="https://github.com/patrikhson/base45">base 45</a>
+   * encoded ASCII characters.
+   *
+   * <p>In contrast to the static methods of {@link Base45} this class works on octets
+   * on both sides, i.e. each encoded character occupies one octet. This is useful for
+   * output to network or file channels, where no intermediate {@link String} or
+   * {@code char[]} is necessary.
+   *
+   * <p>Instances of this class are immutable and thread-safe.
+   */
+  public static final class Encoder {
+    /**
+     * The one and only instance.
+     */
+    /* package */ static final Encoder INSTANCE = new Encoder(); // */
+
+    /**
+     * Default constructor.
+     */
+    private Encoder() {
+      // intentionally empty
+    } // end constructor */
+
+    /**
+     * Encode given octets into ASCII characters.
+     *
+     * @param src octets to be encoded
+     *
+     * @return ASCII characters
+     */
+    public byte[] encode(
+        final byte[] src
+    ) {
+      final byte[] result = new byte[encodedLength(src.length)];
+      Base45.encode(src, 0, src.length, result, 0);
+
+      return result;
+    } // end method */
+
+    /**
+     * Encode given octets into given buffer.
+     *
+     * @param src octets to be encoded
+     * @param dst buffer receiving the ASCII characters starting at index zero
+     *
+     * @return number of characters written to {@code dst}
+     *
+     * @throws IllegalArgumentException if {@code dst} is too small for all characters
+     */
+    public int encode(
+        final byte[] src,
+        final byte[] dst
+    ) {
+      return Base45.encode(src, 0, src.length, dst, 0);
+    } // end method */
+
+    /**
+     * Encode given octets into a {@link String}.
+     *
+     * @param src octets to be encoded
+     *
+     * @return encoded characters
+     */
+    public String encodeToString(
+        final byte[] src
+    ) {
+      return Base45.encode(src);
+    } // end method */
+
+    /**
+     * Encode all remaining octets from given buffer into a new buffer.
+     *
+     * <p>Upon return the position of {@code src} is updated to its limit. The returned
+     * buffer has position zero and its limit set to the number of ASCII characters.
+     *
+     * @param src buffer with octets to be encoded
+     *
+     * @return newly allocated buffer with ASCII characters
+     */
+    public ByteBuffer encode(
+        final ByteBuffer src
+    ) {
+      final ByteBuffer result = ByteBuffer.allocate(encodedLength(src.remaining()));
+      encode(src, result);
+      result.flip();
+
+      return result;
+    } // end method */
+
+    /**
+     * Encode all remaining octets from {@code src} into {@code dst}.
+     *
+     * <p>Upon return the position of {@code src} is updated to its limit and the
+     * position of {@code dst} is advanced by the number of ASCII characters written.
+     * In case of an exception the positions are not updated.
+     *
+     * <p>Both buffers may be direct or heap buffers.
+     *
+     * @param src buffer with octets to be encoded
+     * @param dst buffer receiving the ASCII characters
+     *
+     * @return number of characters written to {@code dst}
+     *
+     * @throws IllegalArgumentException         if {@code dst} is too small for all
+     *                                          characters
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public int encode(
+        final ByteBuffer src,
+        final ByteBuffer dst
+    ) {
+      final int srcPos = src.position();
+      final int len = src.remaining();
+      final int dstPos = dst.position();
+      final int noChars = encodedLength(len);
+      checkOutput(dst.limit(), dstPos, noChars);
+
+      if (src.hasArray() && dst.hasArray()) {
+        // ... heap buffers (not read-only) on both sides
+        //     => use the fast array based implementation
+        Base45.encode(
+            src.array(), src.arrayOffset() + srcPos, len,
+            dst.array(), dst.arrayOffset() + dstPos
+        );
+      } else {
+        // ... at least one buffer is direct or read-only
+        //     => use absolute get- and put-methods, instrumented like the range methods
+        final Object event = Base45Metrics.begin();
+        int index = srcPos;
+        int outIndex = dstPos;
+        for (int i = len >> 1; i-- > 0;) { // NOPMD assignment in operand
+          int word = ((src.get(index) & 0xff) << 8) | (src.get(index + 1) & 0xff);
+          index += 2;
+          dst.put(outIndex++, (byte) CHARS[word % MODUL]);
+          word /= MODUL;
+          dst.put(outIndex++, (byte) CHARS[word % MODUL]);
+          dst.put(outIndex++, (byte) CHARS[word / MODUL]);
+        } // end for (i...)
+
+        if (1 == (len & 1)) { // NOPMD literal in conditional statement
+          final int word = src.get(index) & 0xff;
+          dst.put(outIndex++, (byte) CHARS[word % MODUL]);
+          dst.put(outIndex, (byte) CHARS[word / MODUL]);
+        } // end if
+        Base45Metrics.success(Base45Metrics.ENCODE, len, event, noChars);
+      } // end else
+
+      src.position(srcPos + len);
+      dst.position(dstPos + noChars);
+
+      return noChars;
+    } // end method */
+
+    /**
+     * Wraps an output stream for encoding.
+     *
+     * <p>Octets written to the returned stream are encoded in chunks and written as
+     * ASCII characters to {@code out}, so memory consumption is constant regardless of
+     * the length of the output. Closing the returned stream encodes a possibly pending
+     * last octet and closes {@code out}. Thus the returned stream has to be closed
+     * after use.
+     *
+     * @param out sink for ASCII characters
+     *
+     * @return output stream accepting octets to be encoded
+     */
+    public OutputStream wrap(
+        final OutputStream out
+    ) {
+      return new Base45OutputStream.Ascii(out);
+    } // end method */
+
+    /**
+     * Wraps a writer for encoding.
+     *
+     * <p>Octets written to the returned stream are encoded in chunks and written as
+     * characters to {@code writer}, so memory consumption is constant regardless of the
+     * length of the output. Closing the returned stream encodes a possibly pending last
+     * octet and closes {@code writer}. Thus the returned stream has to be closed after
+     * use.
+     *
+     * @param writer sink for characters
+     *
+     * @return output stream accepting octets to be encoded
+     */
+    public OutputStream wrap(
+        final Writer writer
+    ) {
+      return new Base45OutputStream.Chars(writer);
+    } // end method */
+  } // end inner class
 } // end class
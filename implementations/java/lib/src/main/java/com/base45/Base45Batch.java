@@ -0,0 +1,542 @@
+package com.base45;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Result of encoding or decoding a batch of items.
+ *
+ * <p>The results of all items are packed into one contiguous buffer. Item {@code i}
+ * occupies the range from {@code getOffset(i)} (inclusive) to {@code getOffset(i + 1)}
+ * (exclusive). Thus a batch allocates a constant number of objects, regardless of the
+ * number of items.
+ *
+ * <p>Errors are reported per item rather than thrown. An item which could not be
+ * decoded occupies an empty range, {@link #getErrorKind(int)} returns the kind of
+ * error and {@link #getError(int)} the message {@link Base45#decode(CharSequence)}
+ * would have thrown for it. No exception is created for invalid items.
+ *
+ * <p>Instances of this class are immutable, unless the arrays returned by
+ * {@link #getBuffer()} or {@link #getOffsets()} are modified.
+ *
+ * @see Base45#decodeAll(List)
+ * @see Base45#encodeAll(byte[][])
+ */
+public final class Base45Batch {
+  /**
+   * Packed results of all items, octets after decoding, ASCII characters after encoding.
+   */
+  private final byte[] insBuffer; // */
+
+  /**
+   * Offsets of items in {@link #insBuffer}, one more than the number of items.
+   */
+  private final int[] insOffsets; // */
+
+  /**
+   * Kinds of error, see {@link Base45#ERROR_CHARACTER} etc., zero for items processed
+   * successfully.
+   */
+  private final int[] insErrorKinds; // */
+
+  /**
+   * Number of items with an error.
+   */
+  private final int insErrorCount; // */
+
+  /**
+   * Constructor.
+   *
+   * @param buffer     packed results
+   * @param offsets    offsets of items in {@code buffer}
+   * @param errorKinds kinds of error
+   * @param errorCount number of non-zero entries in {@code errorKinds}
+   */
+  private Base45Batch(
+      final byte[] buffer,
+      final int[] offsets,
+      final int[] errorKinds,
+      final int errorCount
+  ) {
+    insBuffer = buffer; // NOPMD array is stored directly
+    insOffsets = offsets; // NOPMD array is stored directly
+    insErrorKinds = errorKinds; // NOPMD array is stored directly
+    insErrorCount = errorCount;
+  } // end constructor */
+
+  /**
+   * Decode a batch of items.
+   *
+   * @param items    to be decoded
+   * @param parallel whether items are decoded by tasks in
+   *                 {@link ForkJoinPool#commonPool()}
+   *
+   * @return batch with decoded octets
+   *
+   * @throws IllegalArgumentException if the total number of octets exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  /* package */ static Base45Batch decode(
+      final List<? extends CharSequence> items,
+      final boolean parallel
+  ) {
+    // --- a. reserve space for each item
+    // Note: Reserving space before decoding allows tasks to write into disjoint ranges.
+    final CharSequence[] src = items.toArray(new CharSequence[0]);
+    final int[] offsets = new int[src.length + 1];
+    long total = 0;
+    for (int i = 0; i < src.length; i++) {
+      total += Base45.outputLength(src[i].length());
+      offsets[i + 1] = checkTotal(total);
+    } // end for (i...)
+
+    // --- b. decode
+    final byte[] buffer = new byte[offsets[src.length]];
+    final int[] errorKinds = new int[src.length];
+    run(new DecodeTask(src, offsets, buffer, errorKinds, 0, src.length), parallel);
+
+    // --- c. remove ranges reserved for items with an error
+    int removed = 0;
+    int errorCount = 0;
+    int start = 0;
+    for (int i = 0; i < src.length; i++) {
+      final int end = offsets[i + 1];
+      if (0 == errorKinds[i]) {
+        if (removed > 0) {
+          System.arraycopy(buffer, start, buffer, start - removed, end - start);
+        } // end if
+      } else {
+        errorCount++;
+        removed += end - start;
+      } // end else
+      offsets[i + 1] = end - removed;
+      start = end;
+    } // end for (i...)
+
+    return new Base45Batch(
+        (0 == removed) ? buffer : Arrays.copyOf(buffer, offsets[src.length]),
+        offsets,
+        errorKinds,
+        errorCount
+    );
+  } // end method */
+
+  /**
+   * Encode a batch of items.
+   *
+   * @param items    to be encoded
+   * @param parallel whether items are encoded by tasks in
+   *                 {@link ForkJoinPool#commonPool()}
+   *
+   * @return batch with encoded ASCII characters
+   *
+   * @throws IllegalArgumentException if the total number of characters exceeds
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  /* package */ static Base45Batch encode(
+      final byte[][] items,
+      final boolean parallel
+  ) {
+    final int[] offsets = new int[items.length + 1];
+    long total = 0;
+    for (int i = 0; i < items.length; i++) {
+      total += Base45.encodedLength(items[i].length);
+      offsets[i + 1] = checkTotal(total);
+    } // end for (i...)
+
+    final byte[] buffer = new byte[offsets[items.length]];
+    run(new EncodeTask(items, offsets, buffer, 0, items.length), parallel);
+
+    return new Base45Batch(buffer, offsets, new int[items.length], 0);
+  } // end method */
+
+  /**
+   * Checks whether the total size of a batch fits into an array.
+   *
+   * @param total size of all items so far
+   *
+   * @return {@code total} as an integer
+   *
+   * @throws IllegalArgumentException if {@code total} exceeds {@link Integer#MAX_VALUE}
+   */
+  private static int checkTotal(
+      final long total
+  ) {
+    if (total > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("batch too large");
+    } // end if
+
+    return (int) total;
+  } // end method */
+
+  /**
+   * Runs given task.
+   *
+   * @param task     to be run
+   * @param parallel whether the task is run in {@link ForkJoinPool#commonPool()} or
+   *                 sequentially in the calling thread
+   */
+  private static void run(
+      final BatchTask task,
+      final boolean parallel
+  ) {
+    if (parallel) {
+      ForkJoinPool.commonPool().invoke(task);
+    } else {
+      task.process();
+    } // end else
+  } // end method */
+
+  /**
+   * Returns number of items.
+   *
+   * @return number of items in this batch
+   */
+  public int size() {
+    return insErrorKinds.length;
+  } // end method */
+
+  /**
+   * Returns the buffer containing the packed results of all items.
+   *
+   * <p>The buffer is returned without copying, thus items are accessible without
+   * further allocation.
+   *
+   * @return octets after decoding, ASCII characters after encoding
+   */
+  public byte[] getBuffer() {
+    return insBuffer; // NOPMD returns internal array
+  } // end method */
+
+  /**
+   * Returns the offsets of all items in {@link #getBuffer()}.
+   *
+   * <p>The array is returned without copying. It contains {@code size() + 1} elements,
+   * the last one is the total length of all items.
+   *
+   * @return offsets of items
+   */
+  public int[] getOffsets() {
+    return insOffsets; // NOPMD returns internal array
+  } // end method */
+
+  /**
+   * Returns offset of given item in {@link #getBuffer()}.
+   *
+   * @param index of item in range [0, {@link #size()}]
+   *
+   * @return offset of item {@code index}, for {@code index == size()} the total length
+   *         of all items
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int getOffset(
+      final int index
+  ) {
+    return insOffsets[index];
+  } // end method */
+
+  /**
+   * Returns length of given item.
+   *
+   * @param index of item in range [0, {@link #size()})
+   *
+   * @return number of elements of item {@code index} in {@link #getBuffer()},
+   *         zero for items with an error
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int getLength(
+      final int index
+  ) {
+    return insOffsets[index + 1] - insOffsets[index];
+  } // end method */
+
+  /**
+   * Returns a copy of given item.
+   *
+   * @param index of item in range [0, {@link #size()})
+   *
+   * @return copy of item {@code index}
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public byte[] get(
+      final int index
+  ) {
+    return Arrays.copyOfRange(insBuffer, insOffsets[index], insOffsets[index + 1]);
+  } // end method */
+
+  /**
+   * Returns given item as a string.
+   *
+   * <p>This is useful for batches returned by {@link Base45#encodeAll(byte[][])}.
+   *
+   * @param index of item in range [0, {@link #size()})
+   *
+   * @return item {@code index} interpreted as ASCII characters
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public String getString(
+      final int index
+  ) {
+    return new String(
+        insBuffer,
+        insOffsets[index],
+        getLength(index),
+        StandardCharsets.US_ASCII
+    );
+  } // end method */
+
+  /**
+   * Returns error of given item.
+   *
+   * <p>The message is created on demand from {@link #getErrorKind(int)}.
+   *
+   * @param index of item in range [0, {@link #size()})
+   *
+   * @return message of error, {@code null} if item {@code index} was processed
+   *         successfully
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public String getError(
+      final int index
+  ) {
+    final int kind = insErrorKinds[index];
+
+    return (0 == kind) ? null : Base45.errorMessage(kind);
+  } // end method */
+
+  /**
+   * Returns kind of error of given item.
+   *
+   * @param index of item in range [0, {@link #size()})
+   *
+   * @return {@link Base45#ERROR_CHARACTER}, {@link Base45#ERROR_LENGTH},
+   *         {@link Base45#ERROR_CODE}, or zero if item {@code index} was processed
+   *         successfully
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int getErrorKind(
+      final int index
+  ) {
+    return insErrorKinds[index];
+  } // end method */
+
+  /**
+   * Returns number of items with an error.
+   *
+   * @return number of items which could not be processed
+   */
+  public int getErrorCount() {
+    return insErrorCount;
+  } // end method */
+
+  /**
+   * Task processing a range of items.
+   */
+  private abstract static class BatchTask extends RecursiveAction {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Offsets of items in output buffer.
+     */
+    /* package */ final int[] insOffsets; // */
+
+    /**
+     * Index of first item to be processed.
+     */
+    /* package */ final int insFrom; // */
+
+    /**
+     * Index of first item not to be processed.
+     */
+    /* package */ final int insTo; // */
+
+    /**
+     * Constructor.
+     *
+     * @param offsets offsets of items in output buffer
+     * @param from    index of first item
+     * @param to      index after last item
+     */
+    /* package */ BatchTask(
+        final int[] offsets,
+        final int from,
+        final int to
+    ) {
+      super();
+      insOffsets = offsets; // NOPMD array is stored directly
+      insFrom = from;
+      insTo = to;
+    } // end constructor */
+
+    /**
+     * Processes items sequentially.
+     */
+    /* package */ abstract void process();
+
+    /**
+     * Creates a task for a part of the items.
+     *
+     * @param from index of first item
+     * @param to   index after last item
+     *
+     * @return task processing items in range [from, to)
+     */
+    /* package */ abstract BatchTask split(int from, int to);
+
+    @Override
+    protected void compute() {
+      if ((insTo - insFrom <= 1)
+          || (insOffsets[insTo] - insOffsets[insFrom] <= Base45Parallel.THRESHOLD)) {
+        process();
+      } else {
+        final int middle = (insFrom + insTo) >>> 1;
+        invokeAll(split(insFrom, middle), split(middle, insTo));
+      } // end else
+    } // end method */
+  } // end inner class
+
+  /**
+   * Task decoding a range of items.
+   */
+  private static final class DecodeTask extends BatchTask {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Items to be decoded.
+     */
+    private final CharSequence[] insSrc; // */
+
+    /**
+     * Buffer receiving the decoded octets.
+     */
+    private final byte[] insDst; // */
+
+    /**
+     * Kinds of error.
+     */
+    private final int[] insErrorKinds; // */
+
+    /**
+     * Constructor.
+     *
+     * @param src     items to be decoded
+     * @param offsets offsets of items in {@code dst}
+     * @param dst     buffer receiving the decoded octets
+     * @param errors  receiving kinds of error
+     * @param from    index of first item
+     * @param to      index after last item
+     */
+    private DecodeTask(
+        final CharSequence[] src,
+        final int[] offsets,
+        final byte[] dst,
+        final int[] errors,
+        final int from,
+        final int to
+    ) {
+      super(offsets, from, to);
+      insSrc = src;
+      insDst = dst;
+      insErrorKinds = errors;
+    } // end constructor */
+
+    @Override
+    /* package */ void process() {
+      // Note: Invalid items are expected in a batch. Thus errors are reported by
+      //       status rather than by exception, which avoids a stack trace per item.
+      for (int i = insFrom; i < insTo; i++) {
+        final CharSequence item = insSrc[i];
+        final int len = item.length();
+        final Object event = Base45Metrics.begin();
+        final int kind = Base45.errorKind(
+            Base45.decodeStatus(item, 0, len, insDst, insOffsets[i])
+        );
+        insErrorKinds[i] = kind;
+
+        if (Base45Metrics.ENABLED) {
+          Base45Metrics.record(Base45Metrics.DECODE, len, event, (0 == kind) ? -1 : kind);
+        } // end if
+      } // end for (i...)
+    } // end method */
+
+    @Override
+    /* package */ BatchTask split(
+        final int from,
+        final int to
+    ) {
+      return new DecodeTask(insSrc, insOffsets, insDst, insErrorKinds, from, to);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Task encoding a range of items.
+   */
+  private static final class EncodeTask extends BatchTask {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Items to be encoded.
+     */
+    private final byte[][] insSrc; // */
+
+    /**
+     * Buffer receiving the ASCII characters.
+     */
+    private final byte[] insDst; // */
+
+    /**
+     * Constructor.
+     *
+     * @param src     items to be encoded
+     * @param offsets offsets of items in {@code dst}
+     * @param dst     buffer receiving the ASCII characters
+     * @param from    index of first item
+     * @param to      index after last item
+     */
+    private EncodeTask(
+        final byte[][] src,
+        final int[] offsets,
+        final byte[] dst,
+        final int from,
+        final int to
+    ) {
+      super(offsets, from, to);
+      insSrc = src;
+      insDst = dst;
+    } // end constructor */
+
+    @Override
+    /* package */ void process() {
+      for (int i = insFrom; i < insTo; i++) {
+        final byte[] item = insSrc[i];
+        Base45.encode(item, 0, item.length, insDst, insOffsets[i]);
+      } // end for (i...)
+    } // end method */
+
+    @Override
+    /* package */ BatchTask split(
+        final int from,
+        final int to
+    ) {
+      return new EncodeTask(insSrc, insOffsets, insDst, from, to);
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,438 @@
+package com.base45;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command line tool encoding or decoding files according to
+ * <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Usage:
+ * <pre>
+ *   java -jar base45.jar (-e | -d) [-t threads] input output
+ * </pre>
+ *
+ * <p>The input file is read in chunks of {@link #CHUNK} octets. Because {@link #CHUNK}
+ * is a multiple of two and three, each chunk is encoded (decoded) independently of all
+ * other chunks, possibly by several threads (option {@code -t}). Results are written
+ * to a temporary file, which replaces the output file on success. Throughput and
+ * timing are printed after completion.
+ *
+ * <p>Each file is one operation for {@link Base45Metrics}.
+ *
+ * <p>Files are not mapped into memory. Each worker reads a chunk by a positional
+ * {@link FileChannel#read(ByteBuffer, long)} into an array allocated once, converts
+ * it by the array methods of {@link Base45} and writes the result by a positional
+ * {@link FileChannel#write(ByteBuffer, long)} to its final offset. Thus each chunk is
+ * copied once from and once to the operating system, and no mapping outlives its
+ * chunk.
+ */
+public final class Base45Cli { // NOPMD utility class
+  /**
+   * Number of input octets or characters processed at once, a multiple of six.
+   */
+  /* package */ static final int CHUNK = 6 << 20; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Cli() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Entry point.
+   *
+   * @param args command line arguments, see class description
+   */
+  public static void main(
+      final String... args
+  ) {
+    System.exit(run(System.out, System.err, args)); // NOPMD call to System.exit()
+  } // end method */
+
+  /**
+   * Runs the tool.
+   *
+   * @param out  receiving timing information
+   * @param err  receiving usage and error messages
+   * @param args command line arguments, see class description
+   *
+   * @return exit status, zero on success
+   */
+  /* package */ static int run(
+      final PrintStream out,
+      final PrintStream err,
+      final String... args
+  ) {
+    // --- parse command line
+    Boolean encode = null; // NOPMD redundant initializer
+    int noThreads = 1;
+    final List<String> files = new ArrayList<>();
+    try {
+      for (int i = 0; i < args.length; i++) {
+        final String arg = args[i];
+        if ("-e".equals(arg)) {
+          encode = Boolean.TRUE;
+        } else if ("-d".equals(arg)) {
+          encode = Boolean.FALSE;
+        } else if ("-t".equals(arg)) {
+          noThreads = Integer.parseInt(args[++i]); // NOPMD assignment in operand
+        } else {
+          files.add(arg);
+        } // end else
+      } // end for (i...)
+    } catch (IndexOutOfBoundsException | NumberFormatException e) {
+      encode = null; // NOPMD assigning null
+    } // end catch (...)
+
+    if ((null == encode) || (noThreads < 1) || (2 != files.size())) {
+      err.println("usage: (-e | -d) [-t threads] input output");
+
+      return 2;
+    } // end if
+
+    // --- process
+    try {
+      final long start = System.nanoTime();
+      final long[] sizes = process(
+          encode, noThreads, Paths.get(files.get(0)), Paths.get(files.get(1))
+      );
+      final double seconds = (System.nanoTime() - start) * 1e-9;
+
+      out.printf(
+          Locale.ROOT,
+          "%s %d %s into %d %s in %.3f s, %.1f MB/s%n",
+          encode ? "encoded" : "decoded",
+          sizes[0],
+          encode ? "octets" : "characters",
+          sizes[1],
+          encode ? "characters" : "octets",
+          seconds,
+          sizes[0] / seconds * 1e-6
+      );
+
+      return 0;
+    } catch (IOException | IllegalArgumentException e) {
+      err.println("error: " + e.getMessage());
+
+      return 1;
+    } // end catch (...)
+  } // end method */
+
+  /**
+   * Encodes or decodes a file.
+   *
+   * <p>The size of the output is checked before any file is written. Results are
+   * written to a temporary file in the directory of {@code output}, which replaces
+   * {@code output} only on success. Thus in case of an error an existing output file
+   * is left untouched and no partial output remains.
+   *
+   * @param encode    {@code TRUE} for encoding, {@code FALSE} for decoding
+   * @param noThreads number of threads
+   * @param input     file to be read
+   * @param output    file to be written, created or replaced
+   *
+   * @return size of input and output file
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input cannot be decoded
+   */
+  /* package */ static long[] process(
+      final boolean encode,
+      final int noThreads,
+      final Path input,
+      final Path output
+  ) throws IOException {
+    try (FileChannel src = FileChannel.open(input, StandardOpenOption.READ)) {
+      final int operation = encode ? Base45Metrics.ENCODE : Base45Metrics.DECODE;
+      final long inSize = src.size();
+      final Object event = Base45Metrics.begin();
+      try {
+        final long outSize = process(encode, noThreads, src, inSize, output);
+        Base45Metrics.success(operation, inSize, event, 0);
+
+        return new long[]{inSize, outSize};
+      } catch (IllegalArgumentException e) {
+        throw Base45Metrics.failure(operation, inSize, event, e);
+      } // end catch (IllegalArgumentException)
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Implements {@link #process(boolean, int, Path, Path)} without metrics.
+   *
+   * @param encode    see public method
+   * @param noThreads see public method
+   * @param src       input file
+   * @param inSize    size of input file
+   * @param output    see public method
+   *
+   * @return size of output file
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input cannot be decoded
+   */
+  private static long process(
+      final boolean encode,
+      final int noThreads,
+      final FileChannel src,
+      final long inSize,
+      final Path output
+  ) throws IOException {
+    // Note: The output size is computed, i.e. the input length is checked, before
+    //       any file is created.
+    final long outSize = encode ? encodedSize(inSize) : decodedSize(inSize);
+
+    final Path directory = output.toAbsolutePath().getParent();
+    final Path temporary = Files.createTempFile(
+        directory, String.valueOf(output.getFileName()), ".tmp"
+    );
+    try {
+      try (FileChannel dst = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        process(encode, noThreads, src, dst, (inSize + CHUNK - 1) / CHUNK);
+      } // end try-with-resources
+
+      Files.move(
+          temporary,
+          output,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE
+      );
+    } finally {
+      Files.deleteIfExists(temporary);
+    } // end finally
+
+    return outSize;
+  } // end method */
+
+  /**
+   * Distributes chunks of a file to workers.
+   *
+   * @param encode    {@code TRUE} for encoding, {@code FALSE} for decoding
+   * @param noThreads number of threads
+   * @param src       file to be read
+   * @param dst       file to be written
+   * @param noChunks  total number of chunks
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input cannot be decoded
+   */
+  private static void process(
+      final boolean encode,
+      final int noThreads,
+      final FileChannel src,
+      final FileChannel dst,
+      final long noChunks
+  ) throws IOException {
+    if (1 == noThreads) {
+      new Worker(encode, src, dst, 0, 1, noChunks).call();
+
+      return;
+    } // end if
+
+    final ExecutorService executor = Executors.newFixedThreadPool(noThreads);
+    try {
+      final List<Worker> workers = new ArrayList<>();
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < noThreads; i++) {
+        final Worker worker = new Worker(encode, src, dst, i, noThreads, noChunks);
+        workers.add(worker);
+        futures.add(executor.submit(worker));
+      } // end for (i...)
+
+      for (int i = 0; i < noThreads; i++) {
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          final Throwable cause = e.getCause();
+          if (cause instanceof IOException) {
+            throw (IOException) cause;
+          } else if (cause instanceof IllegalArgumentException) {
+            // ... error occurred in another thread
+            //     => pass its kind to Base45Metrics for this thread
+            throw Base45Metrics.remember(
+                workers.get(i).insErrorKind, (IllegalArgumentException) cause
+            );
+          } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          } // end else if
+
+          throw new IOException(cause);
+        } // end catch (ExecutionException)
+      } // end for (i...)
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
+    } // end finally
+  } // end method */
+
+  /**
+   * Returns number of characters resulting from encoding the given number of octets.
+   *
+   * @param noOctets number of octets
+   *
+   * @return number of characters
+   */
+  /* package */ static long encodedSize(
+      final long noOctets
+  ) {
+    return 3 * (noOctets >> 1) + 2 * (noOctets & 1);
+  } // end method */
+
+  /**
+   * Returns number of octets resulting from decoding the given number of characters.
+   *
+   * @param noChars number of characters
+   *
+   * @return number of octets
+   *
+   * @throws IllegalArgumentException if {@code noChars} is neither {@code 3*i} nor
+   *                                  {@code 3*i + 2}
+   */
+  /* package */ static long decodedSize(
+      final long noChars
+  ) {
+    final long remainder = noChars % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      throw Base45Metrics.inputError(Base45.ERROR_LENGTH);
+    } // end if
+
+    return noChars / 3 * 2 + (remainder >> 1);
+  } // end method */
+
+  /**
+   * Processes every {@code step}-th chunk of a file.
+   */
+  private static final class Worker implements Callable<Void> {
+    /**
+     * {@code TRUE} for encoding, {@code FALSE} for decoding.
+     */
+    private final boolean insEncode; // */
+
+    /**
+     * Input file.
+     */
+    private final FileChannel insSrc; // */
+
+    /**
+     * Output file.
+     */
+    private final FileChannel insDst; // */
+
+    /**
+     * Index of first chunk processed by this worker.
+     */
+    private final long insFirst; // */
+
+    /**
+     * Distance between chunks processed by this worker.
+     */
+    private final int insStep; // */
+
+    /**
+     * Total number of chunks.
+     */
+    private final long insNoChunks; // */
+
+    /**
+     * Kind of decoding error for {@link Base45Metrics}, read after this worker failed.
+     */
+    private int insErrorKind; // */
+
+    /**
+     * Constructor.
+     *
+     * @param encode   {@code TRUE} for encoding, {@code FALSE} for decoding
+     * @param src      input file
+     * @param dst      output file
+     * @param first    index of first chunk
+     * @param step     distance between chunks
+     * @param noChunks total number of chunks
+     */
+    private Worker(
+        final boolean encode,
+        final FileChannel src,
+        final FileChannel dst,
+        final long first,
+        final int step,
+        final long noChunks
+    ) {
+      insEncode = encode;
+      insSrc = src;
+      insDst = dst;
+      insFirst = first;
+      insStep = step;
+      insNoChunks = noChunks;
+    } // end constructor */
+
+    @Override
+    public Void call() throws IOException {
+      final byte[] input = new byte[CHUNK];
+      final byte[] output = new byte[insEncode
+          ? Base45.encodedLength(CHUNK)
+          : Base45.outputLength(CHUNK)];
+      final ByteBuffer inBuffer = ByteBuffer.wrap(input);
+      final ByteBuffer outBuffer = ByteBuffer.wrap(output);
+      final long inSize = insSrc.size();
+
+      for (long chunk = insFirst; chunk < insNoChunks; chunk += insStep) {
+        final long position = chunk * CHUNK;
+        final int length = (int) Math.min(CHUNK, inSize - position);
+        inBuffer.clear().limit(length);
+        while (inBuffer.hasRemaining()) {
+          if (insSrc.read(inBuffer, position + inBuffer.position()) < 0) {
+            throw new EOFException("input truncated at " + (position + inBuffer.position()));
+          } // end if
+        } // end while (...)
+
+        final int noOut;
+        final long outPosition;
+        if (insEncode) {
+          noOut = Base45.encodeAscii(input, 0, length, output, 0);
+          outPosition = position / 2 * 3;
+        } else {
+          try {
+            noOut = Base45.decodeAscii(input, 0, length, output, 0);
+          } catch (IllegalArgumentException e) {
+            insErrorKind = Base45Metrics.errorKind(e);
+
+            throw Base45Metrics.remember(
+                insErrorKind,
+                new IllegalArgumentException( // NOPMD preserve stack trace
+                    e.getMessage() + " in chunk starting at " + position, e
+                )
+            );
+          } // end catch (IllegalArgumentException)
+          outPosition = position / 3 * 2;
+        } // end else
+
+        outBuffer.clear().limit(noOut);
+        while (outBuffer.hasRemaining()) {
+          insDst.write(outBuffer, outPosition + outBuffer.position());
+        } // end while (...)
+      } // end for (chunk...)
+
+      return null;
+    } // end method */
+  } // end inner class
+} // end class
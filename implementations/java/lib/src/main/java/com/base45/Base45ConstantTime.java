@@ -0,0 +1,361 @@
+package com.base45;
+
+import java.util.Arrays;
+
+/**
+ * Decoder for <a href="https://github.com/patrikhson/base45">base 45</a> without
+ * data-dependent branches or table lookups.
+ *
+ * <p>The reference implementation and the other engines look up each character in a
+ * table and branch on the result. Thus their timing and memory access pattern depend
+ * on the data, which is a side channel when the encoded data contain secrets, e.g.
+ * key material. This class
+ * <ol>
+ *   <li>maps characters to values arithmetically by range masks, see
+ *       {@link #value(int)},
+ *   <li>accumulates all checks of characters and triples in one flag,
+ *   <li>checks that flag once after all input is processed.
+ * </ol>
+ * Thus for valid input the sequence of executed instructions and memory accesses
+ * depends on the number of characters only. In case of an error the output is erased
+ * and an exception is thrown.
+ *
+ * <p><i><b>Note:</b> The Java language does not guarantee constant-time execution.
+ * The code avoids constructs which typically compile to data-dependent branches, but
+ * a JIT-compiler is free to do otherwise.</i>
+ *
+ * <p>On random input this decoder also avoids branch mispredictions. For valid input
+ * it decodes exactly as {@link Base45#decode(CharSequence)}.
+ */
+public final class Base45ConstantTime { // NOPMD utility class
+  /**
+   * Flag indicating an invalid character.
+   */
+  private static final int FLAG_CHARACTER = 1; // */
+
+  /**
+   * Flag indicating a triple with a value greater than {@code 0xffff}.
+   */
+  private static final int FLAG_CODE = 2; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45ConstantTime() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decode given characters in constant time.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return octet string
+   *
+   * @throws IllegalArgumentException under the same conditions as
+   *                                  {@link Base45#decode(CharSequence)}, if input
+   *                                  contains invalid characters and invalid codes the
+   *                                  invalid characters are reported
+   */
+  public static byte[] decode(
+      final CharSequence chars
+  ) {
+    final int noChars = chars.length();
+    final byte[] result = new byte[Base45.outputLength(noChars)];
+    decode(chars, 0, noChars, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decode a range of given characters in constant time into a caller-supplied buffer.
+   *
+   * <p>In case of an error the octets written to {@code dst} are set to zero.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #decode(CharSequence)} is met
+   *                                   </ol>
+   */
+  public static int decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeChars(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(CharSequence, int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  private static int decodeChars(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    Base45.checkRange(src.length(), off, len);
+    final int noOctets = Base45.outputLength(len);
+    Base45.checkOutput(dst.length, dstOff, noOctets);
+
+    int flags = 0;
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+      final int v0 = value(src.charAt(index));
+      final int v1 = value(src.charAt(index + 1));
+      final int v2 = value(src.charAt(index + 2));
+      final int word = v0 + Base45.MODUL * (v1 + Base45.MODUL * v2);
+      flags |= check(v0 | v1 | v2, word);
+      index += 3;
+      dst[outIndex++] = (byte) (word >> 8);
+      dst[outIndex++] = (byte) word;
+    } // end for (i...)
+
+    if (2 == len % 3) { // NOPMD literal in conditional statement
+      final int v0 = value(src.charAt(index));
+      final int v1 = value(src.charAt(index + 1));
+      flags |= check(v0 | v1, 0);
+      dst[outIndex] = (byte) (v0 + Base45.MODUL * v1);
+    } // end if
+
+    return finish(flags, len, dst, dstOff, noOctets);
+  } // end method */
+
+  /**
+   * Decode a range of given ASCII characters in constant time into a caller-supplied
+   * buffer.
+   *
+   * <p>Each octet in {@code src} is treated as one (ASCII) character. In case of an
+   * error the octets written to {@code dst} are set to zero.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #decode(CharSequence)} is met
+   *                                   </ol>
+   */
+  public static int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeAscii(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(byte[], int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  private static int decodeAscii(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final int noOctets = Base45.outputLength(len);
+    Base45.checkOutput(dst.length, dstOff, noOctets);
+
+    int flags = 0;
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+      final int v0 = value(src[index] & 0xff);
+      final int v1 = value(src[index + 1] & 0xff);
+      final int v2 = value(src[index + 2] & 0xff);
+      final int word = v0 + Base45.MODUL * (v1 + Base45.MODUL * v2);
+      flags |= check(v0 | v1 | v2, word);
+      index += 3;
+      dst[outIndex++] = (byte) (word >> 8);
+      dst[outIndex++] = (byte) word;
+    } // end for (i...)
+
+    if (2 == len % 3) { // NOPMD literal in conditional statement
+      final int v0 = value(src[index] & 0xff);
+      final int v1 = value(src[index + 1] & 0xff);
+      flags |= check(v0 | v1, 0);
+      dst[outIndex] = (byte) (v0 + Base45.MODUL * v1);
+    } // end if
+
+    return finish(flags, len, dst, dstOff, noOctets);
+  } // end method */
+
+  /**
+   * Maps a character to its value without branches and table lookups.
+   *
+   * <p>For each range of consecutive characters in {@link Base45#ALPHABET} a mask is
+   * computed, which is all ones if {@code character} is in that range and zero
+   * otherwise. The value is the combination of all masked offsets.
+   *
+   * @param character to be mapped, in range [0, 0xffff]
+   *
+   * @return value of {@code character} in range [0, 44] or {@code -1} if
+   *         {@code character} is not in {@link Base45#ALPHABET}
+   */
+  /* package */ static int value(
+      final int character
+  ) {
+    // Note: ALPHABET consists of the following ranges:
+    //       ' '       = 32      =>  36
+    //       '$' - '%' = 36 - 37 =>  37 - 38
+    //       '*' - '+' = 42 - 43 =>  39 - 40
+    //       '-' - '/' = 45 - 47 =>  41 - 43
+    //       '0' - '9' = 48 - 57 =>   0 -  9
+    //       ':'       = 58      =>  44
+    //       'A' - 'Z' = 65 - 90 =>  10 - 35
+    final int space = in(character, ' ', ' ');
+    final int dollar = in(character, '$', '%');
+    final int star = in(character, '*', '+');
+    final int minus = in(character, '-', '/');
+    final int digit = in(character, '0', '9');
+    final int colon = in(character, ':', ':');
+    final int upper = in(character, 'A', 'Z');
+
+    final int valid = space | dollar | star | minus | digit | colon | upper;
+
+    return (space & 36)
+        | (dollar & (character + 1))
+        | (star & (character - 3))
+        | (minus & (character - 4))
+        | (digit & (character - '0'))
+        | (colon & 44)
+        | (upper & (character - 'A' + 10))
+        | ~valid;
+  } // end method */
+
+  /**
+   * Returns a mask indicating whether a character is within a range.
+   *
+   * @param character in range [0, 0xffff]
+   * @param low       lower bound, inclusive
+   * @param high      upper bound, inclusive
+   *
+   * @return {@code -1} if {@code character} is in range [low, high], zero otherwise
+   */
+  private static int in(
+      final int character,
+      final int low,
+      final int high
+  ) {
+    // Note: Both differences are non-negative iff character is in range, thus the
+    //       sign bit of their combination is clear iff character is in range.
+    return ~(((character - low) | (high - character)) >> 31);
+  } // end method */
+
+  /**
+   * Computes flags for one group of characters.
+   *
+   * @param values combination of all values of the group
+   * @param word   value of the group
+   *
+   * @return combination of {@link #FLAG_CHARACTER} and {@link #FLAG_CODE}
+   */
+  private static int check(
+      final int values,
+      final int word
+  ) {
+    // Note: Invalid characters have value -1, thus the sign bit of values is set.
+    //       Valid words are in range [0, 0xffff], greater values have bit 16 set.
+    return (values >>> 31) | (((word >>> 16) & 1) << 1);
+  } // end method */
+
+  /**
+   * Checks the accumulated flags once after decoding.
+   *
+   * @param flags    accumulated flags
+   * @param len      number of characters
+   * @param dst      buffer with decoded octets
+   * @param dstOff   index of first decoded octet in {@code dst}
+   * @param noOctets number of decoded octets
+   *
+   * @return {@code noOctets}
+   *
+   * @throws IllegalArgumentException if {@code flags} indicate an error or the number
+   *                                  of characters is invalid
+   */
+  private static int finish(
+      final int flags,
+      final int len,
+      final byte[] dst,
+      final int dstOff,
+      final int noOctets
+  ) {
+    final boolean invalidLength = 1 == len % 3;
+    if ((0 != flags) || invalidLength) {
+      // ... invalid input
+      //     => erase output
+      Arrays.fill(dst, dstOff, dstOff + noOctets, (byte) 0);
+
+      if (0 != (flags & FLAG_CHARACTER)) {
+        throw Base45Metrics.inputError(Base45.ERROR_CHARACTER);
+      } else if (0 != (flags & FLAG_CODE)) {
+        throw Base45Metrics.inputError(Base45.ERROR_CODE);
+      } // end else if
+
+      throw Base45.invalidLength(len);
+    } // end if
+
+    return noOctets;
+  } // end method */
+} // end class
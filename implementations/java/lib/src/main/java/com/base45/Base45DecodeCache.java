@@ -0,0 +1,337 @@
+package com.base45;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of decoded payloads, keyed by their encoding.
+ *
+ * <p>Useful if the same codes are decoded over and over again, e.g. a QR code scanned
+ * repeatedly. Repeated calls of {@link #decode(CharSequence)} with equal input skip
+ * decoding entirely.
+ *
+ * <p>The cache is bounded by number of entries and by weight. The weight of an entry
+ * is the number of characters of its key plus the number of decoded octets. If a
+ * bound is exceeded the least recently used entries are evicted.
+ *
+ * <p>Instances are thread-safe. In order to avoid a global lock the cache is split
+ * into up to {@link #MAX_STRIPES} stripes, each with its own lock and an equal share
+ * of both bounds. A key always maps to the same stripe. Thus least recently used is
+ * exact within a stripe and approximate across the whole cache. Decoding of cache
+ * misses happens outside any lock.
+ *
+ * <p>Cached octets are never handed out. Callers get either a copy or a read-only
+ * view, see {@link #decode(CharSequence)} and {@link #decodeReadOnly(CharSequence)}.
+ * Invalid input is not cached.
+ */
+public final class Base45DecodeCache {
+  /**
+   * Maximum number of stripes.
+   */
+  public static final int MAX_STRIPES = 16; // */
+
+  /**
+   * Minimum number of entries per stripe, unless the cache is smaller.
+   */
+  /* package */ static final int MIN_STRIPE_ENTRIES = 16; // */
+
+  /**
+   * Stripes, number is a power of two.
+   */
+  private final Stripe[] insStripes; // */
+
+  /**
+   * Number of cache hits.
+   */
+  private final LongAdder insHits = new LongAdder(); // */
+
+  /**
+   * Number of cache misses, including invalid input.
+   */
+  private final LongAdder insMisses = new LongAdder(); // */
+
+  /**
+   * Number of evicted entries.
+   */
+  private final LongAdder insEvictions = new LongAdder(); // */
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param maxEntries maximum number of entries
+   * @param maxWeight  maximum total weight, i.e. characters of keys plus decoded octets
+   *
+   * @throws IllegalArgumentException if {@code maxEntries} or {@code maxWeight} is not
+   *                                  positive
+   */
+  public Base45DecodeCache(
+      final int maxEntries,
+      final long maxWeight
+  ) {
+    this(maxEntries, maxWeight, noStripes(maxEntries));
+  } // end constructor */
+
+  /**
+   * Creates an empty cache with given number of stripes.
+   *
+   * @param maxEntries maximum number of entries
+   * @param maxWeight  maximum total weight
+   * @param noStripes  number of stripes, a power of two
+   *
+   * @throws IllegalArgumentException if {@code maxEntries} or {@code maxWeight} is not
+   *                                  positive
+   */
+  /* package */ Base45DecodeCache(
+      final int maxEntries,
+      final long maxWeight,
+      final int noStripes
+  ) {
+    if ((maxEntries <= 0) || (maxWeight <= 0)) {
+      throw new IllegalArgumentException(
+          "invalid bounds: " + maxEntries + " entries, weight " + maxWeight
+      );
+    } // end if
+
+    insStripes = new Stripe[noStripes];
+    for (int i = noStripes; i-- > 0;) { // NOPMD assignment in operand
+      insStripes[i] = new Stripe(maxEntries / noStripes, maxWeight / noStripes);
+    } // end for (i...)
+  } // end constructor */
+
+  /**
+   * Returns number of stripes for given bound of entries.
+   *
+   * @param maxEntries maximum number of entries
+   *
+   * @return power of two in range [1, {@link #MAX_STRIPES}], such that each stripe
+   *         holds at least {@link #MIN_STRIPE_ENTRIES} entries, if possible
+   */
+  /* package */ static int noStripes(
+      final int maxEntries
+  ) {
+    return Math.min(
+        MAX_STRIPES,
+        Integer.highestOneBit(Math.max(1, maxEntries / MIN_STRIPE_ENTRIES))
+    );
+  } // end method */
+
+  /**
+   * Decodes given characters, using the cache if possible.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return decoded octets, a fresh copy which the caller may modify
+   *
+   * @throws IllegalArgumentException if characters are invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public byte[] decode(
+      final CharSequence chars
+  ) {
+    return lookup(chars).clone();
+  } // end method */
+
+  /**
+   * Decodes given characters, using the cache if possible.
+   *
+   * <p>In contrast to {@link #decode(CharSequence)} no octets are copied.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return read-only view of decoded octets
+   *
+   * @throws IllegalArgumentException if characters are invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public ByteBuffer decodeReadOnly(
+      final CharSequence chars
+  ) {
+    return ByteBuffer.wrap(lookup(chars)).asReadOnlyBuffer();
+  } // end method */
+
+  /**
+   * Returns cached octets for given characters, decoding them on a miss.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return cached octets, never to be modified
+   *
+   * @throws IllegalArgumentException if characters are invalid
+   */
+  private byte[] lookup(
+      final CharSequence chars
+  ) {
+    final String key = chars.toString();
+    final Stripe stripe = stripe(key);
+
+    byte[] result;
+    synchronized (stripe) {
+      result = stripe.get(key);
+    } // end synchronized
+
+    if (null != result) {
+      insHits.increment();
+
+      return result;
+    } // end if
+
+    // --- cache miss
+    // Note: Decoding happens outside the lock. Concurrent misses on the same key
+    //       possibly decode twice, the later one replaces the former.
+    insMisses.increment();
+    result = Base45.decode(key);
+    final long weight = (long) key.length() + result.length;
+    if (weight <= stripe.insMaxWeight) {
+      int evicted = 0;
+      synchronized (stripe) {
+        if (null == stripe.put(key, result)) {
+          // ... key not yet present, e.g. due to a concurrent miss
+          //     => account for the new entry
+          stripe.insWeight += weight;
+        } // end if
+
+        final Iterator<Map.Entry<String, byte[]>> iterator = stripe.entrySet().iterator();
+        while ((stripe.size() > stripe.insMaxEntries)
+            || (stripe.insWeight > stripe.insMaxWeight)) {
+          final Map.Entry<String, byte[]> eldest = iterator.next();
+          stripe.insWeight -= (long) eldest.getKey().length() + eldest.getValue().length;
+          iterator.remove();
+          evicted++;
+        } // end while (...)
+      } // end synchronized
+
+      insEvictions.add(evicted);
+    } // end if
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns stripe responsible for given key.
+   *
+   * @param key encoded characters
+   *
+   * @return stripe
+   */
+  private Stripe stripe(
+      final String key
+  ) {
+    final int hash = key.hashCode();
+
+    return insStripes[(hash ^ (hash >>> 16)) & (insStripes.length - 1)];
+  } // end method */
+
+  /**
+   * Returns number of lookups answered from the cache.
+   *
+   * @return number of hits
+   */
+  public long getHits() {
+    return insHits.sum();
+  } // end method */
+
+  /**
+   * Returns number of lookups which required decoding.
+   *
+   * @return number of misses, including invalid input
+   */
+  public long getMisses() {
+    return insMisses.sum();
+  } // end method */
+
+  /**
+   * Returns number of entries evicted because a bound was exceeded.
+   *
+   * @return number of evictions
+   */
+  public long getEvictions() {
+    return insEvictions.sum();
+  } // end method */
+
+  /**
+   * Returns number of cached entries.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    int result = 0;
+    for (final Stripe stripe : insStripes) {
+      synchronized (stripe) {
+        result += stripe.size();
+      } // end synchronized
+    } // end for (stripe...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns total weight of cached entries.
+   *
+   * @return characters of keys plus decoded octets
+   */
+  public long getWeight() {
+    long result = 0;
+    for (final Stripe stripe : insStripes) {
+      synchronized (stripe) {
+        result += stripe.insWeight;
+      } // end synchronized
+    } // end for (stripe...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Removes all entries, statistics are kept.
+   */
+  public void clear() {
+    for (final Stripe stripe : insStripes) {
+      synchronized (stripe) {
+        stripe.clear();
+        stripe.insWeight = 0;
+      } // end synchronized
+    } // end for (stripe...)
+  } // end method */
+
+  /**
+   * Part of the cache guarded by its own monitor, iterating in access order.
+   */
+  private static final class Stripe extends LinkedHashMap<String, byte[]> {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Maximum number of entries in this stripe.
+     */
+    private final int insMaxEntries; // */
+
+    /**
+     * Maximum weight of this stripe.
+     */
+    private final long insMaxWeight; // */
+
+    /**
+     * Current weight of this stripe.
+     */
+    private long insWeight; // */
+
+    /**
+     * Creates an empty stripe.
+     *
+     * @param maxEntries maximum number of entries, at least one
+     * @param maxWeight  maximum weight
+     */
+    private Stripe(
+        final int maxEntries,
+        final long maxWeight
+    ) {
+      super(16, 0.75f, true);
+      insMaxEntries = Math.max(1, maxEntries);
+      insMaxWeight = maxWeight;
+    } // end constructor */
+  } // end inner class
+} // end class
@@ -0,0 +1,226 @@
+package com.base45;
+
+import java.security.MessageDigest;
+
+/**
+ * This class fuses <a href="https://github.com/patrikhson/base45">base 45</a> decoding
+ * with hashing, e.g. for revocation lists or deduplication.
+ *
+ * <p>Characters are decoded in chunks of {@link #CHUNK} characters. The octets of each
+ * chunk are passed to a {@link MessageDigest} (or any other {@link Sink}) while they
+ * are still in the first level cache, instead of hashing the payload in a second pass.
+ * The {@code digest(...)} methods never allocate the payload at all, they decode all
+ * chunks into one scratch buffer of at most 2 KiB.
+ *
+ * <p>Errors are reported as by {@link Base45#decode(CharSequence)}. An invalid number
+ * of characters affects only the last chunk. In case of an error some octets are
+ * possibly already passed to the sink.
+ */
+public final class Base45Digest { // NOPMD utility class
+  /**
+   * Number of characters decoded at once, a multiple of three.
+   */
+  /* package */ static final int CHUNK = 3072; // */
+
+  /**
+   * Receiver of decoded octets.
+   */
+  @FunctionalInterface
+  public interface Sink {
+    /**
+     * Receives a range of decoded octets.
+     *
+     * <p>The buffer is possibly reused after this method returns, thus implementations
+     * must not keep a reference to it.
+     *
+     * @param buffer containing decoded octets
+     * @param off    index of first octet in {@code buffer}
+     * @param len    number of octets
+     */
+    void accept(
+        byte[] buffer,
+        int off,
+        int len
+    );
+  } // end interface
+
+  /**
+   * Default constructor.
+   */
+  private Base45Digest() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decodes given characters and returns the digest of the decoded octets.
+   *
+   * <p>The decoded octets are not kept. {@code md} is reset beforehand and afterwards,
+   * see {@link MessageDigest#digest()}.
+   *
+   * @param chars characters to be decoded
+   * @param md    message digest, e.g. SHA-256
+   *
+   * @return digest of decoded octets
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  public static byte[] digest(
+      final CharSequence chars,
+      final MessageDigest md
+  ) {
+    md.reset();
+    decode(chars, 0, chars.length(), md::update);
+
+    return md.digest();
+  } // end method */
+
+  /**
+   * Decodes given ASCII characters and returns the digest of the decoded octets.
+   *
+   * <p>The decoded octets are not kept. {@code md} is reset beforehand and afterwards,
+   * see {@link MessageDigest#digest()}.
+   *
+   * @param src ASCII characters to be decoded
+   * @param off index of first character in {@code src} to be decoded
+   * @param len number of characters to be decoded
+   * @param md  message digest, e.g. SHA-256
+   *
+   * @return digest of decoded octets
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  under the same conditions and with the same
+   *                                   messages as {@link Base45#decode(CharSequence)}
+   */
+  public static byte[] digest(
+      final byte[] src,
+      final int off,
+      final int len,
+      final MessageDigest md
+  ) {
+    md.reset();
+    decode(src, off, len, md::update);
+
+    return md.digest();
+  } // end method */
+
+  /**
+   * Decodes given characters and updates a message digest with the decoded octets.
+   *
+   * <p>Each chunk is decoded into the result and hashed right away. {@code md} is
+   * neither reset nor completed, thus the caller calls {@link MessageDigest#digest()}
+   * afterwards.
+   *
+   * @param chars characters to be decoded
+   * @param md    message digest updated with decoded octets
+   *
+   * @return decoded octets
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  public static byte[] decode(
+      final CharSequence chars,
+      final MessageDigest md
+  ) {
+    final int len = chars.length();
+    final byte[] result = new byte[Base45.outputLength(len)];
+    final Object event = Base45Metrics.begin();
+    try {
+      int outIndex = 0;
+      for (int index = 0; index < len; index += CHUNK) {
+        final int length = Base45.decodeChars(
+            chars, index, Math.min(len - index, CHUNK), result, outIndex
+        );
+        md.update(result, outIndex, length);
+        outIndex += length;
+      } // end for (index...)
+      Base45Metrics.success(Base45Metrics.DECODE, len, event, outIndex);
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes a range of given characters chunk by chunk into a sink.
+   *
+   * @param src  characters to be decoded
+   * @param off  index of first character in {@code src} to be decoded
+   * @param len  number of characters to be decoded
+   * @param sink receiving decoded octets
+   *
+   * @return number of octets passed to {@code sink}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  under the same conditions and with the same
+   *                                   messages as {@link Base45#decode(CharSequence)}
+   */
+  public static int decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final Sink sink
+  ) {
+    Base45.checkRange(src.length(), off, len);
+    final byte[] buffer = new byte[Base45.outputLength(Math.min(len, CHUNK))];
+    final Object event = Base45Metrics.begin();
+    try {
+      int result = 0;
+      for (int index = 0; index < len; index += CHUNK) {
+        final int length = Base45.decodeChars(
+            src, off + index, Math.min(len - index, CHUNK), buffer, 0
+        );
+        sink.accept(buffer, 0, length);
+        result += length;
+      } // end for (index...)
+
+      return Base45Metrics.success(Base45Metrics.DECODE, len, event, result);
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Decodes a range of given ASCII characters chunk by chunk into a sink.
+   *
+   * @param src  ASCII characters to be decoded
+   * @param off  index of first character in {@code src} to be decoded
+   * @param len  number of characters to be decoded
+   * @param sink receiving decoded octets
+   *
+   * @return number of octets passed to {@code sink}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  under the same conditions and with the same
+   *                                   messages as {@link Base45#decode(CharSequence)}
+   */
+  public static int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final Sink sink
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final byte[] buffer = new byte[Base45.outputLength(Math.min(len, CHUNK))];
+    final Object event = Base45Metrics.begin();
+    try {
+      int result = 0;
+      for (int index = 0; index < len; index += CHUNK) {
+        final int length = Base45.decodeAscii(
+            src, off + index, Math.min(len - index, CHUNK), buffer, 0
+        );
+        sink.accept(buffer, 0, length);
+        result += length;
+      } // end for (index...)
+
+      return Base45Metrics.success(Base45Metrics.DECODE, len, event, result);
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+} // end class
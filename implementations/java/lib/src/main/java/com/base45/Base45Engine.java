@@ -0,0 +1,72 @@
+package com.base45;
+
+/**
+ * Service provider interface for implementations of
+ * <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Engines work on ASCII characters, i.e. each encoded character occupies one
+ * octet. Besides the built-in engines, additional engines are discovered by
+ * {@link java.util.ServiceLoader}, i.e. by listing their fully qualified class name in
+ * {@code META-INF/services/com.base45.Base45Engine}. {@link Base45Engines} selects one
+ * of them and verifies it against the reference implementation beforehand.
+ *
+ * <p>Implementations have to be thread-safe.
+ */
+public interface Base45Engine {
+  /**
+   * Returns the name of this engine, used in system property
+   * {@link Base45Engines#PROPERTY}.
+   *
+   * @return name, unique among all engines
+   */
+  String name();
+
+  /**
+   * Encode a range of given octets into a caller-supplied buffer of ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException under the same conditions as
+   *                                   {@link Base45#encode(byte[], int, int, byte[], int)}
+   * @throws IllegalArgumentException  under the same conditions as
+   *                                   {@link Base45#encode(byte[], int, int, byte[], int)}
+   */
+  int encode(
+      byte[] src,
+      int off,
+      int len,
+      byte[] dst,
+      int dstOff
+  );
+
+  /**
+   * Decode a range of given ASCII characters into a caller-supplied buffer.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException under the same conditions as
+   *                                   {@link Base45#decode(byte[], int, int, byte[], int)}
+   * @throws IllegalArgumentException  under the same conditions and with the same
+   *                                   messages as
+   *                                   {@link Base45#decode(byte[], int, int, byte[], int)}
+   */
+  int decode(
+      byte[] src,
+      int off,
+      int len,
+      byte[] dst,
+      int dstOff
+  );
+} // end interface
@@ -0,0 +1,729 @@
+package com.base45;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Facade selecting a {@link Base45Engine}.
+ *
+ * <p>Candidates are the built-in engines
+ * <ol>
+ *   <li>{@code reference}: plain scalar code, one triple of characters at a time,
+ *   <li>{@code swar}: {@link Base45Swar} for the bulk of input, scalar code for the
+ *       rest,
+ *   <li>{@code table}: the table driven implementation for all input lengths,
+ *   <li>{@code vector}: {@link Base45Vector} for a prefix of input, otherwise like
+ *       {@code swar}, only if vector instructions are available,
+ *   <li>{@code constant-time}: decoding by {@link Base45ConstantTime},
+ * </ol>
+ * followed by all engines found by {@link ServiceLoader}.
+ *
+ * <p>When {@link #get()} is called for the first time, an engine is selected:
+ * <ol>
+ *   <li>If system property {@link #PROPERTY} is set, the engine with that name is
+ *       selected.
+ *   <li>Otherwise each candidate encodes and decodes a few kilobytes and the fastest
+ *       one is selected. {@code constant-time} is not a candidate here, because it
+ *       trades speed for timing independent of the data. It is selected by name only.
+ * </ol>
+ * In both cases an engine is only used if it passes {@link #verify(Base45Engine)},
+ * i.e. it produces the same results as the reference engine. Otherwise the
+ * reference engine is used. {@link #getSelection()} reports how the engine
+ * was chosen.
+ *
+ * <p>The reference engine deliberately avoids the optimized kernels which the static
+ * methods of {@link Base45} dispatch to. Thus the differential check compares each
+ * kernel against independent code.
+ */
+public final class Base45Engines { // NOPMD utility class
+  /**
+   * Name of system property selecting an engine by name.
+   */
+  public static final String PROPERTY = "com.base45.engine"; // */
+
+  /**
+   * Number of octets encoded and decoded per input size and calibration round.
+   */
+  /* package */ static final int CALIBRATION_OCTETS = 3072; // */
+
+  /**
+   * Input sizes in octets used for calibration, each a divisor of
+   * {@link #CALIBRATION_OCTETS} and a multiple of six.
+   *
+   * <p>With default thresholds the encodings (144, 576 and 4608 characters) are
+   * shorter than {@link Base45Vector#THRESHOLD}, in between, and longer than
+   * {@link Base45Table#THRESHOLD}. Thus each kernel is measured where it applies.
+   */
+  private static final int[] CALIBRATION_SIZES = {96, 384, 3072}; // */
+
+  /**
+   * Number of calibration rounds per engine, the fastest round counts.
+   */
+  /* package */ static final int CALIBRATION_ROUNDS = 30; // */
+
+  /**
+   * Reference engine.
+   */
+  private static final Base45Engine REFERENCE = new Reference(); // */
+
+  /**
+   * Constant-time engine, excluded from calibration.
+   */
+  private static final Base45Engine CONSTANT_TIME = new ConstantTime(); // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Engines() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns the reference engine, i.e. plain scalar code.
+   *
+   * @return reference engine
+   */
+  public static Base45Engine reference() {
+    return REFERENCE;
+  } // end method */
+
+  /**
+   * Returns the selected engine.
+   *
+   * @return engine selected when this method was called for the first time
+   */
+  public static Base45Engine get() {
+    return Holder.SELECTION.insEngine;
+  } // end method */
+
+  /**
+   * Returns a description of the selected engine and how it was chosen.
+   *
+   * @return e.g. {@code "table (calibrated: reference=1200 ns, table=900 ns)"}
+   */
+  public static String getSelection() {
+    return Holder.SELECTION.insDescription;
+  } // end method */
+
+  /**
+   * Returns all candidate engines.
+   *
+   * <p>Engines provided by {@link ServiceLoader} which fail to load or duplicate the
+   * name of an earlier engine are ignored.
+   *
+   * @return built-in engines followed by engines found by {@link ServiceLoader}
+   */
+  public static List<Base45Engine> available() {
+    final List<Base45Engine> result = new ArrayList<>(Arrays.asList(
+        REFERENCE, new Swar(), new Table()
+    ));
+    if (Base45Vector.isAvailable()) {
+      result.add(new Vector());
+    } // end if
+    result.add(CONSTANT_TIME);
+
+    final Iterator<Base45Engine> iterator = ServiceLoader.load(
+        Base45Engine.class, Base45Engines.class.getClassLoader()
+    ).iterator();
+    while (true) { // NOPMD loop exited by break
+      final Base45Engine engine;
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        } // end if
+        engine = iterator.next();
+      } catch (ServiceConfigurationError e) { // NOPMD avoid catching errors
+        // ... provider not loadable
+        //     => ignore it
+        continue;
+      } // end catch (ServiceConfigurationError)
+
+      if (null == find(result, engine.name())) {
+        result.add(engine);
+      } // end if
+    } // end while (true)
+
+    return Collections.unmodifiableList(result);
+  } // end method */
+
+  /**
+   * Checks whether an engine produces the same results as the reference engine.
+   *
+   * <p>This differential check compares encoding and decoding of pseudo-random
+   * octets of various lengths at various offsets, and the exception messages for
+   * invalid input containing one error.
+   *
+   * @param engine to be checked
+   *
+   * @return {@code TRUE} if {@code engine} behaves like the reference engine
+   */
+  public static boolean verify(
+      final Base45Engine engine
+  ) {
+    final Random random = new Random(45);
+    try {
+      for (int len = 0; len < 2 * Base45Table.THRESHOLD + 10; len += 1 + (len >> 3)) {
+        final byte[] octets = new byte[len + 2];
+        random.nextBytes(octets);
+        final int noChars = Base45.encodedLength(len);
+
+        // --- encode
+        final byte[] expected = new byte[noChars + 1];
+        final byte[] present = new byte[noChars + 1];
+        REFERENCE.encode(octets, 1, len, expected, 1);
+        if ((noChars != engine.encode(octets, 1, len, present, 1))
+            || !Arrays.equals(expected, present)) {
+          return false;
+        } // end if
+
+        // --- decode
+        final byte[] decoded = new byte[len + 2];
+        if ((len != engine.decode(expected, 1, noChars, decoded, 1))
+            || !Arrays.equals(
+                Arrays.copyOfRange(octets, 1, len + 1),
+                Arrays.copyOfRange(decoded, 1, len + 1)
+            )) {
+          return false;
+        } // end if
+
+        // --- decode invalid input
+        if (noChars > 0) {
+          final byte[] invalid = expected.clone();
+          invalid[1 + random.nextInt(noChars)] = (byte) (random.nextBoolean() ? 'a' : ':');
+          if (!message(REFERENCE, invalid).equals(message(engine, invalid))) {
+            return false;
+          } // end if
+        } // end if
+      } // end for (len...)
+
+      final byte[] invalidLength = {'0', '0', '0', '0'};
+
+      return message(REFERENCE, invalidLength).equals(message(engine, invalidLength));
+    } catch (RuntimeException e) {
+      // ... unexpected exception
+      return false;
+    } // end catch (RuntimeException)
+  } // end method */
+
+  /**
+   * Selects an engine.
+   *
+   * @param name       name of engine, {@code null} for calibration
+   * @param candidates engines to choose from, the first one is the fallback
+   *
+   * @return selected engine and description
+   */
+  /* package */ static Selection select(
+      final String name,
+      final List<Base45Engine> candidates
+  ) {
+    final Base45Engine fallback = candidates.get(0);
+
+    if (null != name) {
+      // --- select by name
+      final Base45Engine engine = find(candidates, name);
+      if (null == engine) {
+        return new Selection(fallback, fallback.name() + " (engine '" + name + "' not found)");
+      } else if (!verify(engine)) {
+        return new Selection(
+            fallback, fallback.name() + " (engine '" + name + "' failed differential check)"
+        );
+      } // end else if
+
+      return new Selection(engine, engine.name() + " (system property " + PROPERTY + ")");
+    } // end if
+
+    // --- select by calibration
+    // Note 1: Rounds are interleaved, such that all engines profit equally from
+    //         warm-up and just-in-time compilation.
+    // Note 2: Each input size contributes the same number of octets, such that long
+    //         input does not dominate the result.
+    final List<Base45Engine> verified = new ArrayList<>();
+    final StringBuilder timing = new StringBuilder();
+    for (final Base45Engine engine : candidates) {
+      if (CONSTANT_TIME == engine) { // NOPMD compare objects with equals
+        // ... selected by name only
+        //     => not a candidate for calibration
+        continue;
+      } // end if
+
+      if (verify(engine)) {
+        verified.add(engine);
+      } else {
+        timing.append(", ").append(engine.name()).append("=failed");
+      } // end else
+    } // end for (engine...)
+
+    final byte[] octets = new byte[CALIBRATION_OCTETS];
+    new Random(CALIBRATION_OCTETS).nextBytes(octets);
+    final byte[] chars = new byte[Base45.encodedLength(CALIBRATION_OCTETS)];
+    final byte[] decoded = new byte[CALIBRATION_OCTETS];
+    final long[] times = new long[verified.size()];
+    Arrays.fill(times, Long.MAX_VALUE);
+    for (int round = CALIBRATION_ROUNDS; round-- > 0;) { // NOPMD assignment in operand
+      for (int i = 0; i < times.length; i++) {
+        final Base45Engine engine = verified.get(i);
+        final long start = System.nanoTime();
+        for (final int size : CALIBRATION_SIZES) {
+          final int noChars = Base45.encodedLength(size);
+          for (int off = 0; off < CALIBRATION_OCTETS; off += size) {
+            engine.encode(octets, off, size, chars, 0);
+            engine.decode(chars, 0, noChars, decoded, off);
+          } // end for (off...)
+        } // end for (size...)
+        times[i] = Math.min(times[i], System.nanoTime() - start);
+      } // end for (i...)
+    } // end for (round...)
+
+    Base45Engine best = fallback;
+    long bestTime = Long.MAX_VALUE;
+    for (int i = 0; i < times.length; i++) {
+      final Base45Engine engine = verified.get(i);
+      timing.append(", ").append(engine.name()).append('=').append(times[i]).append(" ns");
+      if (times[i] < bestTime) {
+        best = engine;
+        bestTime = times[i];
+      } // end if
+    } // end for (i...)
+
+    return new Selection(best, best.name() + " (calibrated: " + timing.substring(2) + ")");
+  } // end method */
+
+  /**
+   * Returns the message of an exception thrown while decoding.
+   *
+   * @param engine decoding
+   * @param input  invalid ASCII characters
+   *
+   * @return message of {@link IllegalArgumentException}, or an empty string if no
+   *         exception is thrown
+   */
+  private static String message(
+      final Base45Engine engine,
+      final byte[] input
+  ) {
+    try {
+      engine.decode(input, 0, input.length, new byte[input.length], 0);
+
+      return "";
+    } catch (IllegalArgumentException e) {
+      return String.valueOf(e.getMessage());
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Finds an engine by name.
+   *
+   * @param engines to be searched
+   * @param name    of engine, case-insensitive
+   *
+   * @return engine with given name or {@code null}
+   */
+  private static Base45Engine find(
+      final List<Base45Engine> engines,
+      final String name
+  ) {
+    final String key = name.toLowerCase(Locale.ROOT);
+    for (final Base45Engine engine : engines) {
+      if (engine.name().toLowerCase(Locale.ROOT).equals(key)) {
+        return engine;
+      } // end if
+    } // end for (engine...)
+
+    return null;
+  } // end method */
+
+  /**
+   * Encodes the rest of a range of octets by scalar code, two octets at a time.
+   *
+   * <p>Parameters are not checked, see {@link Reference}.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet of the range
+   * @param len    number of octets in the range
+   * @param start  index of first octet not yet encoded, {@code start - off} is even
+   * @param dst    buffer receiving the ASCII characters of the whole range
+   * @param dstOff index in {@code dst} of first character of the range
+   */
+  private static void encodeScalar(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int start,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final char[] chars = Base45.CHARS;
+    int index = start;
+    int outIndex = dstOff + (start - off) / 2 * 3;
+    for (int i = (off + len - start) >> 1; i-- > 0;) { // NOPMD assignment in operand
+      int word = ((src[index] & 0xff) << 8) | (src[index + 1] & 0xff);
+      index += 2;
+      dst[outIndex++] = (byte) chars[word % Base45.MODUL];
+      word /= Base45.MODUL;
+      dst[outIndex++] = (byte) chars[word % Base45.MODUL];
+      dst[outIndex++] = (byte) chars[word / Base45.MODUL];
+    } // end for (i...)
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      final int word = src[index] & 0xff;
+      dst[outIndex++] = (byte) chars[word % Base45.MODUL];
+      dst[outIndex] = (byte) chars[word / Base45.MODUL];
+    } // end if
+  } // end method */
+
+  /**
+   * Decodes the rest of a range of ASCII characters by scalar code, one triple at a
+   * time.
+   *
+   * <p>Parameters are not checked, see {@link Reference}.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character of the range
+   * @param len    number of characters in the range
+   * @param start  index of first character not yet decoded, {@code start - off} is a
+   *               multiple of three
+   * @param dst    buffer receiving the octets of the whole range
+   * @param dstOff index in {@code dst} of first octet of the range
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  private static void decodeScalar(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int start,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    int index = start;
+    int outIndex = dstOff + (start - off) / 3 * 2;
+    for (int i = (off + len - start) / 3; i-- > 0;) { // NOPMD assignment in operand
+      final int decoded = Base45.decode(
+          (char) (src[index] & 0xff),
+          (char) (src[index + 1] & 0xff),
+          (char) (src[index + 2] & 0xff)
+      );
+      index += 3;
+      dst[outIndex++] = (byte) (decoded >> 8);
+      dst[outIndex++] = (byte) decoded;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      throw Base45.invalidLength(len);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      dst[outIndex] = (byte) Base45.decode(
+          (char) (src[index] & 0xff),
+          (char) (src[index + 1] & 0xff),
+          '0'
+      );
+    } // end else if
+  } // end method */
+
+  /**
+   * Encodes the rest of a range of octets by {@link Base45Swar} and scalar code.
+   *
+   * @param src    see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   * @param off    see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   * @param len    see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   * @param start  see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   * @param dst    see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   * @param dstOff see {@link #encodeScalar(byte[], int, int, int, byte[], int)}
+   */
+  private static void encodeSwar(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int start,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int rest = off + len - start;
+    final int noBulk = rest - rest % Base45Swar.OCTETS_PER_STEP;
+    Base45Swar.encode(src, start, noBulk, dst, dstOff + (start - off) / 2 * 3);
+    encodeScalar(src, off, len, start + noBulk, dst, dstOff);
+  } // end method */
+
+  /**
+   * Decodes the rest of a range of ASCII characters by {@link Base45Swar} and scalar
+   * code.
+   *
+   * @param src    see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   * @param off    see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   * @param len    see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   * @param start  see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   * @param dst    see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   * @param dstOff see {@link #decodeScalar(byte[], int, int, int, byte[], int)}
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  private static void decodeSwar(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int start,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int rest = off + len - start;
+    final int noBulk = rest - rest % Base45Swar.CHARS_PER_STEP;
+    Base45Swar.decode(src, start, noBulk, dst, dstOff + (start - off) / 3 * 2);
+    decodeScalar(src, off, len, start + noBulk, dst, dstOff);
+  } // end method */
+
+  /**
+   * Result of a selection.
+   */
+  /* package */ static final class Selection {
+    /**
+     * Selected engine.
+     */
+    /* package */ final Base45Engine insEngine; // NOPMD field is not private */
+
+    /**
+     * Description of selection.
+     */
+    /* package */ final String insDescription; // NOPMD field is not private */
+
+    /**
+     * Constructor.
+     *
+     * @param engine      selected engine
+     * @param description of selection
+     */
+    private Selection(
+        final Base45Engine engine,
+        final String description
+    ) {
+      insEngine = engine;
+      insDescription = description;
+    } // end constructor */
+  } // end inner class
+
+  /**
+   * Lazy holder of the selected engine, initialized on first use.
+   */
+  private static final class Holder {
+    /**
+     * The selection.
+     */
+    private static final Selection SELECTION = select(
+        System.getProperty(PROPERTY), available()
+    ); // */
+  } // end inner class
+
+  /**
+   * Engine with plain scalar code, independent of the optimized kernels.
+   */
+  private static final class Reference implements Base45Engine {
+    @Override
+    public String name() {
+      return "reference";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noChars = Base45.encodedLength(len);
+      Base45.checkOutput(dst.length, dstOff, noChars);
+      encodeScalar(src, off, len, off, dst, dstOff);
+
+      return noChars;
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noOctets = Base45.outputLength(len);
+      Base45.checkOutput(dst.length, dstOff, noOctets);
+      decodeScalar(src, off, len, off, dst, dstOff);
+
+      return noOctets;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Engine using {@link Base45Swar} regardless of the input length.
+   */
+  private static final class Swar implements Base45Engine {
+    @Override
+    public String name() {
+      return "swar";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noChars = Base45.encodedLength(len);
+      Base45.checkOutput(dst.length, dstOff, noChars);
+      encodeSwar(src, off, len, off, dst, dstOff);
+
+      return noChars;
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noOctets = Base45.outputLength(len);
+      Base45.checkOutput(dst.length, dstOff, noOctets);
+      decodeSwar(src, off, len, off, dst, dstOff);
+
+      return noOctets;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Engine using {@link Base45Table} regardless of the input length.
+   */
+  private static final class Table implements Base45Engine {
+    @Override
+    public String name() {
+      return "table";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noChars = Base45.encodedLength(len);
+      Base45.checkOutput(dst.length, dstOff, noChars);
+      Base45Table.encode(src, off, len, dst, dstOff);
+
+      return noChars;
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noOctets = Base45.outputLength(len);
+      Base45.checkOutput(dst.length, dstOff, noOctets);
+      Base45Table.decode(src, off, len, dst, dstOff);
+
+      return noOctets;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Engine using {@link Base45Vector} regardless of {@link Base45Table#THRESHOLD}.
+   *
+   * <p>Vector instructions encode only if enabled, see {@link Base45Vector}. Input
+   * not processed by them is processed like by {@link Swar}.
+   */
+  private static final class Vector implements Base45Engine {
+    @Override
+    public String name() {
+      return "vector";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noChars = Base45.encodedLength(len);
+      Base45.checkOutput(dst.length, dstOff, noChars);
+      final int noVector = Base45Vector.encode(src, off, len, dst, dstOff);
+      encodeSwar(src, off, len, off + noVector, dst, dstOff);
+
+      return noChars;
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      Base45.checkRange(src.length, off, len);
+      final int noOctets = Base45.outputLength(len);
+      Base45.checkOutput(dst.length, dstOff, noOctets);
+      final int noVector = Base45Vector.decode(src, off, len, dst, dstOff);
+      decodeSwar(src, off, len, off + noVector, dst, dstOff);
+
+      return noOctets;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Engine decoding by {@link Base45ConstantTime}, encoding by {@link Base45}.
+   */
+  private static final class ConstantTime implements Base45Engine {
+    @Override
+    public String name() {
+      return "constant-time";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      return Base45.encode(src, off, len, dst, dstOff);
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      return Base45ConstantTime.decode(src, off, len, dst, dstOff);
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,43 @@
+package com.base45;
+
+/**
+ * Emitter of JDK Flight Recorder events for {@link Base45Metrics}.
+ *
+ * <p>This is the baseline of a class in a multi-release JAR. On Java 8 there is no
+ * public Flight Recorder API, thus this implementation does nothing. On Java 11 and
+ * later the variant in {@code META-INF/versions/11} is used instead.
+ */
+/* package */ final class Base45Events { // NOPMD utility class
+  /**
+   * Default constructor.
+   */
+  private Base45Events() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Starts timing an operation.
+   *
+   * @return event, here always {@code null}
+   */
+  /* package */ static Object begin() {
+    return null;
+  } // end method */
+
+  /**
+   * Ends timing an operation and commits the event, if it is recorded.
+   *
+   * @param event     from {@link #begin()}, possibly {@code null}
+   * @param operation {@link Base45Metrics#ENCODE} or {@link Base45Metrics#DECODE}
+   * @param size      of input
+   * @param errorKind negative for success, otherwise kind of error
+   */
+  /* package */ static void commit(
+      final Object event,
+      final int operation,
+      final long size,
+      final int errorKind
+  ) {
+    // intentionally empty
+  } // end method */
+} // end class
@@ -0,0 +1,370 @@
+package com.base45;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Stateful decoder for <a href="https://github.com/patrikhson/base45">base 45</a>
+ * characters arriving in pieces, modelled on {@link javax.crypto.Cipher}.
+ *
+ * <p>Each {@code update(...)} method decodes all complete character-triples available
+ * so far, i.e. octets are produced as soon as possible. At most two characters not
+ * yet forming a triple are kept internally until more characters arrive.
+ * {@link #finish()} decodes a final character-pair and resets this decoder, such that
+ * it is ready for the next input. Thus
+ * <pre>
+ *   update(a) || update(b) || ... || finish()  ==  Base45.decode(a + b + ...)
+ * </pre>
+ *
+ * <p>Invalid characters are detected as soon as their triple is complete. In case of
+ * an {@link IllegalArgumentException} this decoder is reset, unless the output buffer
+ * is too small. In the latter case nothing is consumed and the call may be repeated
+ * with a larger buffer.
+ *
+ * <p>Instances of this class are not thread-safe.
+ */
+public final class Base45IncrementalDecoder {
+  /**
+   * Number of pending characters, in range [0, 2].
+   */
+  private int insPending; // */
+
+  /**
+   * First pending character, if any.
+   */
+  private char insChar0; // */
+
+  /**
+   * Second pending character, if any.
+   */
+  private char insChar1; // */
+
+  /**
+   * Number of characters received since last reset, used for error messages.
+   */
+  private long insTotal; // */
+
+  /**
+   * Returns number of characters kept internally.
+   *
+   * @return number of pending characters, in range [0, 2]
+   */
+  public int getPendingCount() {
+    return insPending;
+  } // end method */
+
+  /**
+   * Returns number of octets produced by an update with given number of characters.
+   *
+   * @param len number of additional characters
+   *
+   * @return number of octets produced by {@code update(...)}, {@link #finish()}
+   *         produces at most one more octet
+   */
+  public int getUpdateSize(
+      final int len
+  ) {
+    return (insPending + len) / 3 * 2;
+  } // end method */
+
+  /**
+   * Decodes given characters as far as possible.
+   *
+   * @param src characters to be decoded
+   *
+   * @return octets decodable so far, possibly empty
+   *
+   * @throws IllegalArgumentException if characters are invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public byte[] update(
+      final CharSequence src
+  ) {
+    final int len = src.length();
+    final byte[] result = new byte[getUpdateSize(len)];
+    update(src, 0, len, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes a range of given characters as far as possible.
+   *
+   * @param src characters to be decoded
+   * @param off index of first character in {@code src} to be decoded
+   * @param len number of characters to be decoded
+   *
+   * @return octets decodable so far, possibly empty
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  if characters are invalid, see
+   *                                   {@link Base45#decode(CharSequence)}
+   */
+  public byte[] update(
+      final char[] src,
+      final int off,
+      final int len
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final byte[] result = new byte[getUpdateSize(len)];
+    update(CharBuffer.wrap(src), off, len, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes a range of given characters as far as possible into a caller-supplied
+   * buffer.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}, i.e. {@link #getUpdateSize(int)}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>characters are invalid, see
+   *                                         {@link Base45#decode(CharSequence)}
+   *                                   </ol>
+   */
+  public int update(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    Base45.checkRange(src.length(), off, len);
+    final int noOctets = getUpdateSize(len);
+    Base45.checkOutput(dst.length, dstOff, noOctets);
+
+    try {
+      final int end = off + len;
+      int index = off;
+      int outIndex = dstOff;
+      insTotal += len;
+
+      // --- complete pending triple
+      while ((insPending > 0) && (index < end)) {
+        outIndex = pend(src.charAt(index++), dst, outIndex);
+      } // end while (pending...)
+
+      // --- decode the bulk of input by the fast implementation
+      final int rest = end - index;
+      final int noBulk = rest - rest % 3;
+      Base45.decode(src, index, noBulk, dst, outIndex);
+      index += noBulk;
+
+      // --- keep remaining characters
+      while (index < end) {
+        pend(src.charAt(index++), dst, outIndex);
+      } // end while (index...)
+
+      return noOctets;
+    } catch (IllegalArgumentException e) {
+      reset();
+
+      throw e;
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Decodes all remaining ASCII characters from {@code src} as far as possible into
+   * {@code dst}.
+   *
+   * <p>Upon return the position of {@code src} is updated to its limit and the
+   * position of {@code dst} is advanced by the number of decoded octets. Both buffers
+   * may be direct or heap buffers.
+   *
+   * @param src buffer with ASCII characters to be decoded
+   * @param dst buffer receiving the decoded octets
+   *
+   * @return number of octets written to {@code dst}, i.e. {@link #getUpdateSize(int)}
+   *
+   * @throws IllegalArgumentException         if
+   *                                          <ol>
+   *                                            <li>{@code dst} is too small for all
+   *                                                octets
+   *                                            <li>characters are invalid, see
+   *                                                {@link Base45#decode(CharSequence)}
+   *                                          </ol>
+   * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+   */
+  public int update(
+      final ByteBuffer src,
+      final ByteBuffer dst
+  ) {
+    final int len = src.remaining();
+    final int noOctets = getUpdateSize(len);
+    Base45.checkOutput(dst.limit(), dst.position(), noOctets);
+
+    try {
+      final int end = src.limit();
+      insTotal += len;
+
+      // --- complete pending triple
+      while ((insPending > 0) && src.hasRemaining()) {
+        dst.position(pend((char) (src.get() & 0xff), dst, dst.position()));
+      } // end while (pending...)
+
+      // --- decode the bulk of input by the fast implementation
+      final int rest = src.remaining();
+      src.limit(end - rest % 3);
+      try {
+        Base45.getDecoder().decode(src, dst);
+      } finally {
+        src.limit(end);
+      } // end finally
+
+      // --- keep remaining characters
+      while (src.hasRemaining()) {
+        pend((char) (src.get() & 0xff), dst, dst.position());
+      } // end while (remaining...)
+
+      return noOctets;
+    } catch (IllegalArgumentException e) {
+      reset();
+
+      throw e;
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Decodes pending characters and resets this decoder.
+   *
+   * @return the final octet or an empty array
+   *
+   * @throws IllegalArgumentException if
+   *                                  <ol>
+   *                                    <li>the total number of characters is neither
+   *                                        {@code 3*i} nor {@code 3*i + 2}
+   *                                    <li>pending characters are not in
+   *                                        {@link Base45#ALPHABET}
+   *                                  </ol>
+   */
+  public byte[] finish() {
+    final byte[] result = new byte[insPending >> 1];
+    finish(result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes pending characters into a caller-supplied buffer and resets this decoder.
+   *
+   * @param dst    buffer receiving the final octet, if any
+   * @param dstOff index of octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}, either zero or one
+   *
+   * @throws IndexOutOfBoundsException if {@code dstOff} is not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #finish()} is met
+   *                                   </ol>
+   */
+  public int finish(
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int noOctets = insPending >> 1;
+    Base45.checkOutput(dst.length, dstOff, noOctets);
+
+    try {
+      if (1 == insPending) { // NOPMD literal in conditional statement
+        // ... number of characters is neither 3*i nor (3*i + 2)
+        throw Base45.invalidLength((int) Math.min(insTotal, Integer.MAX_VALUE));
+      } else if (2 == insPending) { // NOPMD literal in conditional statement
+        dst[dstOff] = (byte) Base45.decode(insChar0, insChar1, '0');
+      } // end else if
+
+      return noOctets;
+    } finally {
+      reset();
+    } // end finally
+  } // end method */
+
+  /**
+   * Discards pending characters, such that this decoder is ready for new input.
+   */
+  public void reset() {
+    insPending = 0;
+    insTotal = 0;
+  } // end method */
+
+  /**
+   * Adds a character to the pending ones and decodes a completed triple.
+   *
+   * @param character to be added
+   * @param dst       buffer receiving the decoded octets
+   * @param outIndex  index of first octet in {@code dst} to be written
+   *
+   * @return index of next octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException if a completed triple is invalid
+   */
+  private int pend(
+      final char character,
+      final byte[] dst,
+      final int outIndex
+  ) {
+    if (2 == insPending) { // NOPMD literal in conditional statement
+      final int decoded = Base45.decode(insChar0, insChar1, character);
+      insPending = 0;
+      dst[outIndex] = (byte) (decoded >> 8);
+      dst[outIndex + 1] = (byte) decoded;
+
+      return outIndex + 2;
+    } else if (1 == insPending) { // NOPMD literal in conditional statement
+      insChar1 = character;
+    } else {
+      insChar0 = character;
+    } // end else
+    insPending++;
+
+    return outIndex;
+  } // end method */
+
+  /**
+   * Adds a character to the pending ones and decodes a completed triple.
+   *
+   * @param character to be added
+   * @param dst       buffer receiving the decoded octets
+   * @param outIndex  index of first octet in {@code dst} to be written
+   *
+   * @return index of next octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException if a completed triple is invalid
+   */
+  private int pend(
+      final char character,
+      final ByteBuffer dst,
+      final int outIndex
+  ) {
+    if (2 == insPending) { // NOPMD literal in conditional statement
+      final int decoded = Base45.decode(insChar0, insChar1, character);
+      insPending = 0;
+      dst.put(outIndex, (byte) (decoded >> 8));
+      dst.put(outIndex + 1, (byte) decoded);
+
+      return outIndex + 2;
+    } else if (1 == insPending) { // NOPMD literal in conditional statement
+      insChar1 = character;
+    } else {
+      insChar0 = character;
+    } // end else
+    insPending++;
+
+    return outIndex;
+  } // end method */
+} // end class
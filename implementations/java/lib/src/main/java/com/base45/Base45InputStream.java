@@ -0,0 +1,361 @@
+package com.base45;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Input stream decoding characters read from an underlying source according to
+ * <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Characters are decoded in chunks, thus memory consumption is constant, regardless
+ * of the total number of characters read. Up to two characters not forming a complete
+ * triple are kept until either more characters are available or the end of the
+ * underlying source is reached.
+ *
+ * <p>Invalid input is signaled by an {@link IOException} with an
+ * {@link IllegalArgumentException} as its cause.
+ *
+ * <p>For {@link Base45Metrics} a stream is one decode operation. It is recorded once,
+ * when the end of the underlying source is reached, input is invalid or this stream
+ * is closed, whichever comes first.
+ *
+ * <p>Instances of this class are not thread-safe.
+ *
+ * @see Base45.Decoder#wrap(InputStream)
+ * @see Base45.Decoder#wrap(Reader)
+ */
+/* package */ abstract class Base45InputStream extends InputStream {
+  /**
+   * Maximum number of characters decoded at once, a multiple of three.
+   */
+  /* package */ static final int CHUNK = 3072; // */
+
+  /**
+   * ASCII characters read from underlying source but not yet decoded.
+   */
+  private final byte[] insEncoded = new byte[CHUNK]; // */
+
+  /**
+   * Number of valid characters in {@link #insEncoded}.
+   */
+  private int insEncCount; // */
+
+  /**
+   * Decoded octets not yet read from this stream.
+   */
+  private final byte[] insDecoded = new byte[Base45.outputLength(CHUNK)]; // */
+
+  /**
+   * Index of next octet in {@link #insDecoded} to be read.
+   */
+  private int insDecPosition; // */
+
+  /**
+   * Number of valid octets in {@link #insDecoded}.
+   */
+  private int insDecLimit; // */
+
+  /**
+   * Flag indicating whether end of underlying source is reached.
+   */
+  private boolean insEof; // */
+
+  /**
+   * Flag indicating whether this stream is closed.
+   */
+  private boolean insClosed; // */
+
+  /**
+   * Event for {@link Base45Metrics}, started when this stream is created.
+   */
+  private final Object insEvent = Base45Metrics.begin(); // */
+
+  /**
+   * Number of characters passed to the decoder so far.
+   */
+  private long insNoChars; // */
+
+  /**
+   * Flag indicating whether this stream is already recorded by {@link Base45Metrics}.
+   */
+  private boolean insRecorded; // */
+
+  /**
+   * Reads ASCII characters from underlying source.
+   *
+   * <p>Characters not representable by one octet are converted into an octet not in
+   * {@link Base45#ALPHABET}.
+   *
+   * @param dst buffer receiving the characters
+   * @param off index of first character to be written
+   * @param len maximum number of characters to be read, always greater than zero
+   *
+   * @return number of characters read, or {@code -1} if end of source is reached
+   *
+   * @throws IOException if underlying source throws
+   */
+  /* package */ abstract int fill(
+      byte[] dst,
+      int off,
+      int len
+  ) throws IOException;
+
+  /**
+   * Closes the underlying source.
+   *
+   * @throws IOException if underlying source throws
+   */
+  /* package */ abstract void closeSource() throws IOException;
+
+  /**
+   * Reads one octet.
+   *
+   * @return next octet in range [0, 255], or {@code -1} if end of stream is reached
+   *
+   * @throws IOException if this stream is closed, underlying source throws or
+   *                     input is invalid
+   */
+  @Override
+  public int read() throws IOException {
+    ensureOpen();
+
+    return (insDecPosition < insDecLimit || refill())
+        ? insDecoded[insDecPosition++] & 0xff
+        : -1;
+  } // end method */
+
+  /**
+   * Reads up to {@code len} octets.
+   *
+   * @param dst buffer receiving the octets
+   * @param off index of first octet to be written
+   * @param len maximum number of octets to be read
+   *
+   * @return number of octets read, or {@code -1} if end of stream is reached
+   *
+   * @throws IOException if this stream is closed, underlying source throws or
+   *                     input is invalid
+   */
+  @Override
+  public int read(
+      final byte[] dst,
+      final int off,
+      final int len
+  ) throws IOException {
+    Base45.checkRange(dst.length, off, len);
+    ensureOpen();
+
+    if (0 == len) {
+      return 0;
+    } // end if
+
+    if ((insDecPosition == insDecLimit) && !refill()) {
+      return -1;
+    } // end if
+
+    final int result = Math.min(len, insDecLimit - insDecPosition);
+    System.arraycopy(insDecoded, insDecPosition, dst, off, result);
+    insDecPosition += result;
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns number of octets which can be read without blocking.
+   *
+   * @return number of already decoded octets
+   *
+   * @throws IOException if this stream is closed
+   */
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+
+    return insDecLimit - insDecPosition;
+  } // end method */
+
+  /**
+   * Closes this stream and the underlying source.
+   *
+   * <p>Closing an already closed stream has no effect.
+   *
+   * @throws IOException if underlying source throws
+   */
+  @Override
+  public void close() throws IOException {
+    if (!insClosed) {
+      insClosed = true;
+      record(null);
+      closeSource();
+    } // end if
+  } // end method */
+
+  /**
+   * Decodes the next chunk of characters.
+   *
+   * @return {@code TRUE} if at least one octet is available,
+   *         {@code FALSE} if end of stream is reached
+   *
+   * @throws IOException if underlying source throws or input is invalid
+   */
+  private boolean refill() throws IOException {
+    insDecPosition = 0;
+    insDecLimit = 0;
+
+    while (0 == insDecLimit) {
+      // --- read as many characters as possible
+      while (!insEof && (insEncCount < CHUNK)) {
+        final int noRead = fill(insEncoded, insEncCount, CHUNK - insEncCount);
+        if (noRead < 0) {
+          insEof = true;
+        } else {
+          insEncCount += noRead;
+
+          if (insEncCount >= 3) { // NOPMD literal in conditional statement
+            // ... at least one triple available
+            //     => decode what is there instead of blocking for more input
+            break;
+          } // end if
+        } // end else
+      } // end while (not EOF...)
+
+      // --- decode complete triples, at end of source also the final group
+      // Note: Characters not forming a complete triple are moved to the beginning
+      //       of the buffer, so that they are decoded together with further input.
+      final int noDecode = insEof ? insEncCount : (insEncCount - insEncCount % 3);
+      insNoChars += noDecode;
+      try {
+        insDecLimit = Base45.decodeAscii(insEncoded, 0, noDecode, insDecoded, 0);
+      } catch (IllegalArgumentException e) {
+        record(e);
+
+        throw new IOException(e.getMessage(), e);
+      } // end catch (IllegalArgumentException)
+      System.arraycopy(insEncoded, noDecode, insEncoded, 0, insEncCount - noDecode);
+      insEncCount -= noDecode;
+
+      if (insEof) {
+        record(null);
+
+        return insDecLimit > 0;
+      } // end if
+    } // end while (no octets decoded)
+
+    return true;
+  } // end method */
+
+  /**
+   * Records this stream as one decode operation, unless already recorded.
+   *
+   * @param error {@code null} if all input so far is valid, otherwise the error
+   */
+  private void record(
+      final IllegalArgumentException error
+  ) {
+    if (!insRecorded) {
+      insRecorded = true;
+      if (null == error) {
+        Base45Metrics.success(Base45Metrics.DECODE, insNoChars, insEvent, 0);
+      } else {
+        Base45Metrics.failure(Base45Metrics.DECODE, insNoChars, insEvent, error);
+      } // end else
+    } // end if
+  } // end method */
+
+  /**
+   * Checks whether this stream is open.
+   *
+   * @throws IOException if this stream is closed
+   */
+  private void ensureOpen() throws IOException {
+    if (insClosed) {
+      throw new IOException("stream is closed");
+    } // end if
+  } // end method */
+
+  /**
+   * Input stream reading ASCII characters from an underlying {@link InputStream}.
+   */
+  /* package */ static final class Ascii extends Base45InputStream {
+    /**
+     * Underlying source.
+     */
+    private final InputStream insIn; // */
+
+    /**
+     * Constructor.
+     *
+     * @param in underlying source
+     */
+    /* package */ Ascii(
+        final InputStream in
+    ) {
+      super();
+      insIn = in;
+    } // end constructor */
+
+    @Override
+    /* package */ int fill(
+        final byte[] dst,
+        final int off,
+        final int len
+    ) throws IOException {
+      return insIn.read(dst, off, len);
+    } // end method */
+
+    @Override
+    /* package */ void closeSource() throws IOException {
+      insIn.close();
+    } // end method */
+  } // end inner class
+
+  /**
+   * Input stream reading characters from an underlying {@link Reader}.
+   */
+  /* package */ static final class Chars extends Base45InputStream {
+    /**
+     * Underlying source.
+     */
+    private final Reader insReader; // */
+
+    /**
+     * Buffer for characters read from {@link #insReader}.
+     */
+    private final char[] insChars = new char[CHUNK]; // */
+
+    /**
+     * Constructor.
+     *
+     * @param reader underlying source
+     */
+    /* package */ Chars(
+        final Reader reader
+    ) {
+      super();
+      insReader = reader;
+    } // end constructor */
+
+    @Override
+    /* package */ int fill(
+        final byte[] dst,
+        final int off,
+        final int len
+    ) throws IOException {
+      final int result = insReader.read(insChars, 0, len);
+
+      for (int i = result; i-- > 0;) { // NOPMD assignment in operand
+        final char character = insChars[i];
+        // Note: 0xff is not in ALPHABET.
+        dst[off + i] = (character < Base45.VALUES.length) ? (byte) character : (byte) 0xff;
+      } // end for (i...)
+
+      return result;
+    } // end method */
+
+    @Override
+    /* package */ void closeSource() throws IOException {
+      insReader.close();
+    } // end method */
+  } // end inner class
+} // end class
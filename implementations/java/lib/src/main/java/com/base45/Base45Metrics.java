@@ -0,0 +1,376 @@
+package com.base45;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in telemetry for encoding and decoding.
+ *
+ * <p>Instrumentation is enabled by system property {@code com.base45.metrics=true}.
+ * Each call of a public method is one operation, regardless of how many chunks it
+ * processes internally. Covered are
+ * <ol>
+ *   <li>the range methods of {@link Base45}, i.e.
+ *       {@link Base45#encode(byte[], int, int, char[], int)},
+ *       {@link Base45#encode(byte[], int, int, byte[], int)},
+ *       {@link Base45#decode(CharSequence, int, int, byte[], int)} and
+ *       {@link Base45#decode(byte[], int, int, byte[], int)}, which the other methods
+ *       of {@link Base45} and {@link Base45DecodeCache} use,
+ *   <li>{@link Base45#encodeParallel(byte[])} and
+ *       {@link Base45#decodeParallel(CharSequence)},
+ *   <li>{@link Base45.Decoder#decode(java.nio.ByteBuffer, java.nio.ByteBuffer)} and
+ *       {@link Base45.Encoder#encode(java.nio.ByteBuffer, java.nio.ByteBuffer)} for
+ *       direct or read-only buffers,
+ *   <li>each item of {@link Base45#decodeAll(java.util.List)} and invalid input
+ *       rejected by {@link Base45#tryDecode(CharSequence, int, int, byte[], int)},
+ *   <li>the public methods of {@link Base45Digest} and {@link Base45Zlib},
+ *   <li>streams created by {@code wrap(...)}, each stream as a whole,
+ *   <li>each file processed by {@link Base45Cli},
+ *   <li>the range methods of {@link Base45ConstantTime}, {@link Base45UrlDecoder} and
+ *       {@link Base45Qr}.
+ * </ol>
+ * Methods processing input in chunks use the methods of {@link Base45} without
+ * metrics, e.g. {@link Base45#decodeAscii(byte[], int, int, byte[], int)}, and
+ * record once per call. Not covered are
+ * <ol>
+ *   <li>{@link Base45Transcoder}, whose input is Base64 rather than octets or base 45
+ *       characters,
+ *   <li>triples of {@link Base45IncrementalDecoder} which span two updates, the bulk of
+ *       each update is counted,
+ *   <li>engines of {@link Base45Engines}, which also run during calibration; they are
+ *       counted only where they delegate to one of the methods above.
+ * </ol>
+ * Subprojects {@code flow}, {@code server} and {@code segments} use only the public
+ * API of this library. Thus they count one operation per chunk they pass to it.
+ *
+ * <p>If enabled
+ * <ol>
+ *   <li>counters of operations, input size and errors are updated, see getters in
+ *       this class,
+ *   <li>on Java 11 or later a JDK Flight Recorder event {@code com.base45.Operation}
+ *       with operation, input size, outcome and error kind is emitted for each call
+ *       taking at least 1 ms (adjustable by the threshold setting of a recording).
+ * </ol>
+ *
+ * <p>Errors are classified by the kind passed where they are thrown, see
+ * {@link #inputError(int)}, not by their message. Callers see a plain
+ * {@link IllegalArgumentException}. The kind is kept per thread next to the
+ * exception until the instrumented method which caught it reads it.
+ *
+ * <p>Counters are {@link LongAdder}s, which stripe updates from different threads
+ * into separate cells. Thus concurrent updates do not contend on one memory location.
+ *
+ * <p>The property is read once when this class is initialized. If it is not set, the
+ * instrumentation reduces to a test of a {@code static final} flag, which the
+ * just-in-time compiler removes entirely.
+ */
+public final class Base45Metrics { // NOPMD utility class
+  /**
+   * Operation code for encoding.
+   */
+  /* package */ static final int ENCODE = 0; // */
+
+  /**
+   * Operation code for decoding.
+   */
+  /* package */ static final int DECODE = 1; // */
+
+  /**
+   * Flag indicating whether instrumentation is enabled.
+   */
+  /* package */ static final boolean ENABLED = Boolean.getBoolean("com.base45.metrics"); // */
+
+  /**
+   * Number of operations, indexed by operation code.
+   */
+  private static final LongAdder[] OPERATIONS = {new LongAdder(), new LongAdder()}; // */
+
+  /**
+   * Number of input octets (encoding) or characters (decoding), indexed by operation
+   * code.
+   */
+  private static final LongAdder[] UNITS = {new LongAdder(), new LongAdder()}; // */
+
+  /**
+   * Number of errors, indexed by error kind, see {@link Base45#ERROR_CHARACTER} etc.
+   *
+   * <p>Errors not caused by input, e.g. an output buffer which is too small, are
+   * counted at index zero.
+   */
+  private static final LongAdder[] ERRORS = {
+      new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder()
+  }; // */
+
+  /**
+   * Most recent input error created by the current thread, and its kind.
+   */
+  private static final ThreadLocal<LastError> LAST_ERROR = ThreadLocal.withInitial(
+      LastError::new
+  ); // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Metrics() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns whether instrumentation is enabled.
+   *
+   * @return {@code TRUE} if system property {@code com.base45.metrics} was
+   *         {@code true} when this class was initialized
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  } // end method */
+
+  /**
+   * Returns number of encode operations.
+   *
+   * @return number of calls of the encoding range methods
+   */
+  public static long getEncodeOperations() {
+    return OPERATIONS[ENCODE].sum();
+  } // end method */
+
+  /**
+   * Returns number of octets passed to encode operations.
+   *
+   * @return total input size of encode operations
+   */
+  public static long getEncodedOctets() {
+    return UNITS[ENCODE].sum();
+  } // end method */
+
+  /**
+   * Returns number of decode operations.
+   *
+   * @return number of calls of the decoding range methods
+   */
+  public static long getDecodeOperations() {
+    return OPERATIONS[DECODE].sum();
+  } // end method */
+
+  /**
+   * Returns number of characters passed to decode operations.
+   *
+   * @return total input size of decode operations
+   */
+  public static long getDecodedCharacters() {
+    return UNITS[DECODE].sum();
+  } // end method */
+
+  /**
+   * Returns number of failed operations.
+   *
+   * @return number of operations which threw an {@link IllegalArgumentException}
+   */
+  public static long getErrors() {
+    long result = 0;
+    for (final LongAdder adder : ERRORS) {
+      result += adder.sum();
+    } // end for (adder...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns number of failed operations of a certain kind.
+   *
+   * @param kind {@link Base45#ERROR_CHARACTER}, {@link Base45#ERROR_LENGTH},
+   *             {@link Base45#ERROR_CODE} or zero for other errors
+   *
+   * @return number of errors of given kind
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code kind} is not in range [0, 3]
+   */
+  public static long getErrors(
+      final int kind
+  ) {
+    return ERRORS[kind].sum();
+  } // end method */
+
+  /**
+   * Resets all counters to zero.
+   *
+   * <p>Updates concurrent to this method are possibly lost.
+   */
+  public static void reset() {
+    for (final LongAdder[] adders : new LongAdder[][]{OPERATIONS, UNITS, ERRORS}) {
+      for (final LongAdder adder : adders) {
+        adder.reset();
+      } // end for (adder...)
+    } // end for (adders...)
+  } // end method */
+
+  /**
+   * Called at the beginning of an operation.
+   *
+   * @return event to be passed to {@link #success(int, long, Object, int)} or
+   *         {@link #failure(int, long, Object, IllegalArgumentException)}, {@code null}
+   *         if instrumentation is disabled
+   */
+  /* package */ static Object begin() {
+    return ENABLED ? Base45Events.begin() : null;
+  } // end method */
+
+  /**
+   * Called at the end of a successful operation.
+   *
+   * @param operation {@link #ENCODE} or {@link #DECODE}
+   * @param size      of input
+   * @param event     from {@link #begin()}
+   * @param result    of operation
+   *
+   * @return {@code result}
+   */
+  /* package */ static int success(
+      final int operation,
+      final long size,
+      final Object event,
+      final int result
+  ) {
+    if (ENABLED) {
+      record(operation, size, event, -1);
+    } // end if
+
+    return result;
+  } // end method */
+
+  /**
+   * Called at the end of a failed operation.
+   *
+   * @param operation {@link #ENCODE} or {@link #DECODE}
+   * @param size      of input
+   * @param event     from {@link #begin()}
+   * @param exception thrown by operation
+   *
+   * @return {@code exception}
+   */
+  /* package */ static IllegalArgumentException failure(
+      final int operation,
+      final long size,
+      final Object event,
+      final IllegalArgumentException exception
+  ) {
+    if (ENABLED) {
+      record(operation, size, event, errorKind(exception));
+    } // end if
+
+    return exception;
+  } // end method */
+
+  /**
+   * Updates counters and emits an event, regardless of {@link #ENABLED}.
+   *
+   * @param operation {@link #ENCODE} or {@link #DECODE}
+   * @param size      of input
+   * @param event     from {@link #begin()}, possibly {@code null}
+   * @param errorKind negative for success, otherwise kind of error
+   */
+  /* package */ static void record(
+      final int operation,
+      final long size,
+      final Object event,
+      final int errorKind
+  ) {
+    OPERATIONS[operation].increment();
+    UNITS[operation].add(size);
+    if (errorKind >= 0) {
+      ERRORS[errorKind].increment();
+    } // end if
+
+    Base45Events.commit(event, operation, size, errorKind);
+  } // end method */
+
+  /**
+   * Creates an exception indicating invalid input.
+   *
+   * <p>The kind is remembered for the current thread, such that
+   * {@link #failure(int, long, Object, IllegalArgumentException)} classifies the
+   * exception. This costs a thread-local lookup on the error path only.
+   *
+   * @param kind {@link Base45#ERROR_CHARACTER}, {@link Base45#ERROR_LENGTH} or
+   *             {@link Base45#ERROR_CODE}
+   *
+   * @return exception with message {@link Base45#errorMessage(int)}
+   */
+  /* package */ static IllegalArgumentException inputError(
+      final int kind
+  ) {
+    return remember(kind, new IllegalArgumentException(Base45.errorMessage(kind)));
+  } // end method */
+
+  /**
+   * Creates an exception indicating invalid input, with a cause.
+   *
+   * @param kind  see {@link #inputError(int)}
+   * @param cause of exception
+   *
+   * @return exception with message {@link Base45#errorMessage(int)} and given cause
+   */
+  /* package */ static IllegalArgumentException inputError(
+      final int kind,
+      final Throwable cause
+  ) {
+    return remember(kind, new IllegalArgumentException(Base45.errorMessage(kind), cause));
+  } // end method */
+
+  /**
+   * Remembers the kind of an input error for the current thread.
+   *
+   * <p>Besides the throw sites, callers use this method for an error passed from
+   * another thread, or for an error wrapping another one, with the kind returned by
+   * {@link #errorKind(IllegalArgumentException)} for the original error.
+   *
+   * @param kind      of error
+   * @param exception indicating the error
+   *
+   * @return {@code exception}
+   */
+  /* package */ static IllegalArgumentException remember(
+      final int kind,
+      final IllegalArgumentException exception
+  ) {
+    final LastError last = LAST_ERROR.get();
+    last.insException = exception;
+    last.insKind = kind;
+
+    return exception;
+  } // end method */
+
+  /**
+   * Classifies an exception by the kind passed where it was thrown.
+   *
+   * <p>The remembered error is forgotten afterwards.
+   *
+   * @param exception thrown by an operation
+   *
+   * @return {@link Base45#ERROR_CHARACTER}, {@link Base45#ERROR_LENGTH},
+   *         {@link Base45#ERROR_CODE} or zero for other errors
+   */
+  /* package */ static int errorKind(
+      final IllegalArgumentException exception
+  ) {
+    final LastError last = LAST_ERROR.get();
+    final int result = (exception == last.insException) ? last.insKind : 0; // NOPMD ==
+    last.insException = null; // NOPMD assigning null
+
+    return result;
+  } // end method */
+
+  /**
+   * Input error created by a thread, see {@link #inputError(int)}.
+   */
+  private static final class LastError {
+    /**
+     * Exception, {@code null} if none or already classified.
+     */
+    private IllegalArgumentException insException; // */
+
+    /**
+     * Kind of error of {@link #insException}.
+     */
+    private int insKind; // */
+  } // end inner class
+} // end class
@@ -0,0 +1,305 @@
+package com.base45;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Output stream encoding all octets written to it according to
+ * <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Octets are encoded in chunks, thus memory consumption is constant, regardless of
+ * the total number of octets written. An octet without a partner is kept until either
+ * more octets are written or this stream is closed.
+ *
+ * <p>For {@link Base45Metrics} a stream is one encode operation, recorded when this
+ * stream is closed.
+ *
+ * <p>Instances of this class are not thread-safe.
+ *
+ * @see Base45.Encoder#wrap(OutputStream)
+ * @see Base45.Encoder#wrap(Writer)
+ */
+/* package */ abstract class Base45OutputStream extends OutputStream {
+  /**
+   * Maximum number of octets encoded at once, an even number.
+   */
+  /* package */ static final int CHUNK = 2048; // */
+
+  /**
+   * Octets written to this stream but not yet encoded.
+   */
+  private final byte[] insOctets = new byte[CHUNK]; // */
+
+  /**
+   * Number of valid octets in {@link #insOctets}.
+   */
+  private int insCount; // */
+
+  /**
+   * Flag indicating whether this stream is closed.
+   */
+  private boolean insClosed; // */
+
+  /**
+   * Event for {@link Base45Metrics}, started when this stream is created.
+   */
+  private final Object insEvent = Base45Metrics.begin(); // */
+
+  /**
+   * Number of octets written to this stream so far.
+   */
+  private long insNoOctets; // */
+
+  /**
+   * Encode given octets and pass the result to the underlying sink.
+   *
+   * @param src octets to be encoded
+   * @param off index of first octet in {@code src}
+   * @param len number of octets to be encoded, at most {@link #CHUNK}, an odd number
+   *            only for the last octets before closing
+   *
+   * @throws IOException if underlying sink throws
+   */
+  /* package */ abstract void emit(
+      byte[] src,
+      int off,
+      int len
+  ) throws IOException;
+
+  /**
+   * Flushes the underlying sink.
+   *
+   * @throws IOException if underlying sink throws
+   */
+  /* package */ abstract void flushSink() throws IOException;
+
+  /**
+   * Closes the underlying sink.
+   *
+   * @throws IOException if underlying sink throws
+   */
+  /* package */ abstract void closeSink() throws IOException;
+
+  /**
+   * Writes given octet.
+   *
+   * @param octet to be written, only the eight least significant bits are used
+   *
+   * @throws IOException if this stream is closed or underlying sink throws
+   */
+  @Override
+  public void write(
+      final int octet
+  ) throws IOException {
+    ensureOpen();
+    insNoOctets++;
+    insOctets[insCount++] = (byte) octet;
+
+    if (CHUNK == insCount) {
+      emit(insOctets, 0, CHUNK);
+      insCount = 0;
+    } // end if
+  } // end method */
+
+  /**
+   * Writes a range of given octets.
+   *
+   * @param src octets to be written
+   * @param off index of first octet to be written
+   * @param len number of octets to be written
+   *
+   * @throws IOException if this stream is closed or underlying sink throws
+   */
+  @Override
+  public void write(
+      final byte[] src,
+      final int off,
+      final int len
+  ) throws IOException {
+    Base45.checkRange(src.length, off, len);
+    ensureOpen();
+    insNoOctets += len;
+
+    int index = off;
+    int remaining = len;
+    if (insCount > 0) {
+      // ... octets pending from previous write
+      //     => fill up internal buffer first
+      final int noCopy = Math.min(remaining, CHUNK - insCount);
+      System.arraycopy(src, index, insOctets, insCount, noCopy);
+      insCount += noCopy;
+      index += noCopy;
+      remaining -= noCopy;
+
+      if (CHUNK == insCount) {
+        emit(insOctets, 0, CHUNK);
+        insCount = 0;
+      } else {
+        // ... all octets from src consumed
+        return;
+      } // end else
+    } // end if
+    // ... internal buffer is empty
+
+    // --- encode pairs of octets directly from src
+    while (remaining >= 2) { // NOPMD literal in conditional statement
+      final int noEncode = Math.min(remaining & ~1, CHUNK);
+      emit(src, index, noEncode);
+      index += noEncode;
+      remaining -= noEncode;
+    } // end while (remaining...)
+
+    // --- keep last octet without partner, if any
+    if (1 == remaining) { // NOPMD literal in conditional statement
+      insOctets[insCount++] = src[index];
+    } // end if
+  } // end method */
+
+  /**
+   * Encodes all pending pairs of octets and flushes the underlying sink.
+   *
+   * <p>An octet without partner is kept, because encoding it now would produce a
+   * different result than encoding it together with the next octet written.
+   *
+   * @throws IOException if this stream is closed or underlying sink throws
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    final int noEncode = insCount & ~1;
+    if (noEncode > 0) {
+      emit(insOctets, 0, noEncode);
+      insCount -= noEncode;
+      insOctets[0] = insOctets[noEncode];
+    } // end if
+
+    flushSink();
+  } // end method */
+
+  /**
+   * Encodes all pending octets and closes the underlying sink.
+   *
+   * <p>Closing an already closed stream has no effect.
+   *
+   * @throws IOException if underlying sink throws
+   */
+  @Override
+  public void close() throws IOException {
+    if (!insClosed) {
+      insClosed = true;
+      try {
+        if (insCount > 0) {
+          emit(insOctets, 0, insCount);
+          insCount = 0;
+        } // end if
+      } finally {
+        Base45Metrics.success(Base45Metrics.ENCODE, insNoOctets, insEvent, 0);
+        closeSink();
+      } // end finally
+    } // end if
+  } // end method */
+
+  /**
+   * Checks whether this stream is open.
+   *
+   * @throws IOException if this stream is closed
+   */
+  private void ensureOpen() throws IOException {
+    if (insClosed) {
+      throw new IOException("stream is closed");
+    } // end if
+  } // end method */
+
+  /**
+   * Output stream writing ASCII characters to an underlying {@link OutputStream}.
+   */
+  /* package */ static final class Ascii extends Base45OutputStream {
+    /**
+     * Underlying sink.
+     */
+    private final OutputStream insOut; // */
+
+    /**
+     * Buffer for encoded characters.
+     */
+    private final byte[] insEncoded = new byte[Base45.encodedLength(CHUNK)]; // */
+
+    /**
+     * Constructor.
+     *
+     * @param out underlying sink
+     */
+    /* package */ Ascii(
+        final OutputStream out
+    ) {
+      super();
+      insOut = out;
+    } // end constructor */
+
+    @Override
+    /* package */ void emit(
+        final byte[] src,
+        final int off,
+        final int len
+    ) throws IOException {
+      insOut.write(insEncoded, 0, Base45.encodeAscii(src, off, len, insEncoded, 0));
+    } // end method */
+
+    @Override
+    /* package */ void flushSink() throws IOException {
+      insOut.flush();
+    } // end method */
+
+    @Override
+    /* package */ void closeSink() throws IOException {
+      insOut.close();
+    } // end method */
+  } // end inner class
+
+  /**
+   * Output stream writing characters to an underlying {@link Writer}.
+   */
+  /* package */ static final class Chars extends Base45OutputStream {
+    /**
+     * Underlying sink.
+     */
+    private final Writer insWriter; // */
+
+    /**
+     * Buffer for encoded characters.
+     */
+    private final char[] insEncoded = new char[Base45.encodedLength(CHUNK)]; // */
+
+    /**
+     * Constructor.
+     *
+     * @param writer underlying sink
+     */
+    /* package */ Chars(
+        final Writer writer
+    ) {
+      super();
+      insWriter = writer;
+    } // end constructor */
+
+    @Override
+    /* package */ void emit(
+        final byte[] src,
+        final int off,
+        final int len
+    ) throws IOException {
+      insWriter.write(insEncoded, 0, Base45.encodeChars(src, off, len, insEncoded, 0));
+    } // end method */
+
+    @Override
+    /* package */ void flushSink() throws IOException {
+      insWriter.flush();
+    } // end method */
+
+    @Override
+    /* package */ void closeSink() throws IOException {
+      insWriter.close();
+    } // end method */
+  } // end inner class
+} // end class
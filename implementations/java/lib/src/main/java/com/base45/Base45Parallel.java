@@ -0,0 +1,328 @@
+package com.base45;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel encoding and decoding by means of {@link ForkJoinPool#commonPool()}.
+ *
+ * <p>Each pair of octets is encoded independently of all other octets, and each
+ * triple of characters is decoded independently of all other characters. Thus the
+ * input is split on such boundaries into ranges, each of which is processed by a
+ * separate task writing into a disjoint range of one preallocated output.
+ *
+ * <p>Ranges are split until they are not longer than {@link #THRESHOLD}. Input not
+ * longer than that is processed sequentially in the calling thread. Either way each
+ * call is one operation for {@link Base45Metrics}.
+ */
+/* package */ final class Base45Parallel { // NOPMD utility class
+  /**
+   * Maximum number of octets or characters processed sequentially.
+   *
+   * <p>The value is taken from system property {@code com.base45.parallel.threshold},
+   * default is 65536.
+   */
+  /* package */ static final int THRESHOLD = Integer.getInteger(
+      "com.base45.parallel.threshold", 0x1_0000
+  ); // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Parallel() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decode given characters in parallel.
+   *
+   * @param chars     characters to be decoded
+   * @param threshold maximum number of characters decoded by one task
+   *
+   * @return octet string
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static byte[] decode(
+      final CharSequence chars,
+      final int threshold
+  ) {
+    final int noChars = chars.length();
+    final byte[] result = new byte[Base45.outputLength(noChars)];
+    final Object event = Base45Metrics.begin();
+    try {
+      if (noChars <= threshold) {
+        Base45.decodeChars(chars, 0, noChars, result, 0);
+      } else {
+        // Note: The task containing the end of input detects an invalid number of
+        //       characters. That task covers the highest positions. Thus an invalid
+        //       character anywhere takes precedence, as it does in sequential decoding.
+        final Failure failure = new Failure();
+        ForkJoinPool.commonPool().invoke(
+            new DecodeTask(chars, 0, noChars, result, Math.max(3, threshold), failure)
+        );
+        failure.rethrow();
+      } // end else
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, noChars, event, e);
+    } // end catch (IllegalArgumentException)
+    Base45Metrics.success(Base45Metrics.DECODE, noChars, event, result.length);
+
+    return result;
+  } // end method */
+
+  /**
+   * Encode given octets in parallel.
+   *
+   * @param octets    to be encoded
+   * @param threshold maximum number of octets encoded by one task
+   *
+   * @return encoded characters
+   */
+  /* package */ static String encode(
+      final byte[] octets,
+      final int threshold
+  ) {
+    final char[] result = new char[Base45.encodedLength(octets.length)];
+    final Object event = Base45Metrics.begin();
+
+    if (octets.length <= threshold) {
+      Base45.encodeChars(octets, 0, octets.length, result, 0);
+    } else {
+      ForkJoinPool.commonPool().invoke(
+          new EncodeTask(octets, 0, octets.length, result, Math.max(2, threshold))
+      );
+    } // end else
+    Base45Metrics.success(Base45Metrics.ENCODE, octets.length, event, result.length);
+
+    return new String(result);
+  } // end method */
+
+  /**
+   * Collects the error at the lowest position in input.
+   */
+  private static final class Failure {
+    /**
+     * Position of first character of the range in which {@link #insError} occurred.
+     */
+    private int insPosition = Integer.MAX_VALUE; // */
+
+    /**
+     * Error with lowest position so far, {@code null} if no error occurred.
+     */
+    private IllegalArgumentException insError; // */
+
+    /**
+     * Kind of {@link #insError} for {@link Base45Metrics}.
+     */
+    private int insKind; // */
+
+    /**
+     * Returns position of error recorded so far.
+     *
+     * @return position of first character of the range in which the error occurred,
+     *         {@link Integer#MAX_VALUE} if no error occurred
+     */
+    private synchronized int getPosition() {
+      return insPosition;
+    } // end method */
+
+    /**
+     * Records given error, if its position is lower than the position recorded so far.
+     *
+     * @param position of first character of the range in which {@code error} occurred
+     * @param error    to be recorded
+     * @param kind     of {@code error}, see {@link Base45Metrics#errorKind}
+     */
+    private synchronized void record(
+        final int position,
+        final IllegalArgumentException error,
+        final int kind
+    ) {
+      if (position < insPosition) {
+        insPosition = position;
+        insError = error;
+        insKind = kind;
+      } // end if
+    } // end method */
+
+    /**
+     * Throws the recorded error, if any.
+     *
+     * <p>The error possibly occurred in another thread, thus its kind is passed to
+     * {@link Base45Metrics} for the calling thread.
+     *
+     * @throws IllegalArgumentException if an error was recorded
+     */
+    private synchronized void rethrow() {
+      if (null != insError) {
+        throw Base45Metrics.remember(insKind, insError);
+      } // end if
+    } // end method */
+  } // end inner class
+
+  /**
+   * Task decoding a range of characters.
+   */
+  private static final class DecodeTask extends RecursiveAction {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Characters to be decoded.
+     */
+    private final transient CharSequence insSrc; // */
+
+    /**
+     * Index of first character to be decoded.
+     */
+    private final int insOff; // */
+
+    /**
+     * Number of characters to be decoded.
+     */
+    private final int insLen; // */
+
+    /**
+     * Buffer receiving the decoded octets at the corresponding position.
+     */
+    private final byte[] insDst; // */
+
+    /**
+     * Maximum number of characters decoded without splitting.
+     */
+    private final int insThreshold; // */
+
+    /**
+     * Collector of errors.
+     */
+    private final transient Failure insFailure; // */
+
+    /**
+     * Constructor.
+     *
+     * @param src       characters to be decoded
+     * @param off       index of first character, a multiple of three
+     * @param len       number of characters
+     * @param dst       buffer receiving the decoded octets
+     * @param threshold maximum number of characters decoded without splitting
+     * @param failure   collector of errors
+     */
+    private DecodeTask(
+        final CharSequence src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int threshold,
+        final Failure failure
+    ) {
+      super();
+      insSrc = src;
+      insOff = off;
+      insLen = len;
+      insDst = dst;
+      insThreshold = threshold;
+      insFailure = failure;
+    } // end constructor */
+
+    @Override
+    protected void compute() {
+      if (insFailure.getPosition() < insOff) {
+        // ... error at lower position already found
+        //     => no need to decode this range
+        return;
+      } // end if
+
+      if (insLen <= insThreshold) {
+        try {
+          Base45.decodeChars(insSrc, insOff, insLen, insDst, insOff / 3 * 2);
+        } catch (IllegalArgumentException e) {
+          insFailure.record(insOff, e, Base45Metrics.errorKind(e));
+        } // end catch (IllegalArgumentException)
+      } else {
+        final int half = Math.max(1, insLen / 6) * 3;
+        invokeAll(
+            new DecodeTask(insSrc, insOff, half, insDst, insThreshold, insFailure),
+            new DecodeTask(
+                insSrc, insOff + half, insLen - half, insDst, insThreshold, insFailure
+            )
+        );
+      } // end else
+    } // end method */
+  } // end inner class
+
+  /**
+   * Task encoding a range of octets.
+   */
+  private static final class EncodeTask extends RecursiveAction {
+    /**
+     * Serial number.
+     */
+    private static final long serialVersionUID = 1L; // */
+
+    /**
+     * Octets to be encoded.
+     */
+    private final byte[] insSrc; // */
+
+    /**
+     * Index of first octet to be encoded.
+     */
+    private final int insOff; // */
+
+    /**
+     * Number of octets to be encoded.
+     */
+    private final int insLen; // */
+
+    /**
+     * Buffer receiving the characters at the corresponding position.
+     */
+    private final char[] insDst; // */
+
+    /**
+     * Maximum number of octets encoded without splitting.
+     */
+    private final int insThreshold; // */
+
+    /**
+     * Constructor.
+     *
+     * @param src       octets to be encoded
+     * @param off       index of first octet, an even number
+     * @param len       number of octets
+     * @param dst       buffer receiving the characters
+     * @param threshold maximum number of octets encoded without splitting
+     */
+    private EncodeTask(
+        final byte[] src,
+        final int off,
+        final int len,
+        final char[] dst,
+        final int threshold
+    ) {
+      super();
+      insSrc = src;
+      insOff = off;
+      insLen = len;
+      insDst = dst;
+      insThreshold = threshold;
+    } // end constructor */
+
+    @Override
+    protected void compute() {
+      if (insLen <= insThreshold) {
+        Base45.encodeChars(insSrc, insOff, insLen, insDst, insOff / 2 * 3);
+      } else {
+        final int half = Math.max(1, insLen / 4) * 2;
+        invokeAll(
+            new EncodeTask(insSrc, insOff, half, insDst, insThreshold),
+            new EncodeTask(insSrc, insOff + half, insLen - half, insDst, insThreshold)
+        );
+      } // end else
+    } // end method */
+  } // end inner class
+} // end class
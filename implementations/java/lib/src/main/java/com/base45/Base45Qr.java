@@ -0,0 +1,627 @@
+package com.base45;
+
+/**
+ * This class encodes octets directly into a QR code alphanumeric segment and decodes
+ * such a segment back into octets.
+ *
+ * <p>The characters of {@link Base45#ALPHABET} are exactly those of the QR code
+ * alphanumeric mode, with the same values, see {@link Base45#CHARS}. Such a segment
+ * (ISO/IEC 18004, clause 7.4.4) consists of
+ * <ol>
+ *   <li>mode indicator {@link #MODE_ALPHANUMERIC} in four bits,
+ *   <li>number of characters, with a bit length depending on the QR code version, see
+ *       {@link #countBits(int)},
+ *   <li>values of character pairs {@code 45 * first + second} in eleven bits each,
+ *   <li>value of a final single character in six bits.
+ * </ol>
+ *
+ * <p>The methods in this class go from octets to that bit stream (and back) without
+ * materializing any intermediate characters. Bits are stored most significant bit
+ * first, as required for QR codes.
+ */
+public final class Base45Qr { // NOPMD utility class
+  /**
+   * Mode indicator of alphanumeric segments.
+   */
+  public static final int MODE_ALPHANUMERIC = 0b0010; // */
+
+  /**
+   * Number of bits of a mode indicator.
+   */
+  /* package */ static final int MODE_BITS = 4; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Qr() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns number of bits of the character count indicator.
+   *
+   * @param version of QR code, in range [1, 40]
+   *
+   * @return number of bits of character count indicator
+   *
+   * @throws IllegalArgumentException if {@code version} is not in range [1, 40]
+   */
+  public static int countBits(
+      final int version
+  ) {
+    if ((version < 1) || (version > 40)) { // NOPMD literal in conditional statement
+      throw new IllegalArgumentException("invalid version: " + version);
+    } // end if
+
+    return (version < 10) ? 9 : ((version < 27) ? 11 : 13);
+  } // end method */
+
+  /**
+   * Returns number of bits of an alphanumeric segment.
+   *
+   * @param noChars number of characters in segment, e.g.
+   *                {@link Base45#encodedLength(int)}
+   * @param version of QR code, in range [1, 40]
+   *
+   * @return number of bits including mode and character count indicator
+   *
+   * @throws IllegalArgumentException if {@code version} is not in range [1, 40]
+   */
+  public static int segmentBits(
+      final int noChars,
+      final int version
+  ) {
+    return MODE_BITS + countBits(version) + 11 * (noChars >> 1) + 6 * (noChars & 1);
+  } // end method */
+
+  /**
+   * Encodes given octets into an alphanumeric segment.
+   *
+   * @param src     octets to be encoded
+   * @param version of QR code, in range [1, 40]
+   *
+   * @return segment, bits after the end of the segment in the last octet are zero
+   *
+   * @throws IllegalArgumentException if
+   *                                  <ol>
+   *                                    <li>{@code version} is not in range [1, 40]
+   *                                    <li>the number of characters exceeds the
+   *                                        capacity of the character count indicator
+   *                                  </ol>
+   */
+  public static byte[] encode(
+      final byte[] src,
+      final int version
+  ) {
+    final int noBits = segmentBits(Base45.encodedLength(src.length), version);
+    final byte[] result = new byte[(noBits + 7) >> 3];
+    encode(src, 0, src.length, version, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Encodes a range of given octets into an alphanumeric segment in a caller-supplied
+   * bit buffer.
+   *
+   * <p>Bits before {@code bitOff} in the octet containing it are kept. Bits after the
+   * end of the segment in its last octet are set to zero. Thus segments are
+   * concatenated by calling this method with the return value of a previous call.
+   *
+   * @param src     octets to be encoded
+   * @param off     index of first octet in {@code src} to be encoded
+   * @param len     number of octets to be encoded
+   * @param version of QR code, in range [1, 40]
+   * @param dst     bit buffer receiving the segment
+   * @param bitOff  index of first bit in {@code dst} to be written, bit zero is the
+   *                most significant bit of {@code dst[0]}
+   *
+   * @return index of the bit after the segment
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code bitOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for the segment
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #encode(byte[], int)} is met
+   *                                   </ol>
+   */
+  public static int encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int version,
+      final byte[] dst,
+      final int bitOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.ENCODE, len, event, encodeSegment(src, off, len, version, dst, bitOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.ENCODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #encode(byte[], int, int, int, byte[], int)} without metrics.
+   *
+   * @param src     see public method
+   * @param off     see public method
+   * @param len     see public method
+   * @param version see public method
+   * @param dst     see public method
+   * @param bitOff  see public method
+   *
+   * @return see public method
+   */
+  private static int encodeSegment(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int version,
+      final byte[] dst,
+      final int bitOff
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final int noChars = Base45.encodedLength(len);
+    final int countBits = countBits(version);
+    if (noChars >= 1 << countBits) {
+      throw new IllegalArgumentException("too many characters for version " + version);
+    } // end if
+
+    final long end = (long) bitOff + segmentBits(noChars, version);
+    Base45.checkOutput(dst.length, bitOff >> 3, (int) (((end + 7) >> 3) - (bitOff >> 3)));
+
+    final BitWriter writer = new BitWriter(dst, bitOff);
+    writer.put(MODE_ALPHANUMERIC, MODE_BITS);
+    writer.put(noChars, countBits);
+
+    // --- encode the bulk of input four octets at a time
+    // Note: Four octets give six characters, i.e. three complete pairs.
+    final int[] digits = new int[6];
+    int index = off;
+    for (int i = len >> 2; i-- > 0;) { // NOPMD assignment in operand
+      digits(src, index, digits);
+      index += 4;
+      writer.put(digits[0] * Base45.MODUL + digits[1], 11);
+      writer.put(digits[2] * Base45.MODUL + digits[3], 11);
+      writer.put(digits[4] * Base45.MODUL + digits[5], 11);
+    } // end for (i...)
+
+    // --- encode remaining octets
+    // Note: Up to three octets remain, giving 0, 2, 3 or 5 characters.
+    final int[] triple = new int[3];
+    int noDigits = 0;
+    if ((len & 3) >= 2) { // NOPMD literal in conditional statement
+      Base45.encode(triple, (char) (((src[index] & 0xff) << 8) | (src[index + 1] & 0xff)));
+      index += 2;
+      System.arraycopy(triple, 0, digits, 0, 3);
+      noDigits = 3;
+    } // end if
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      Base45.encode(triple, (char) (src[index] & 0xff));
+      digits[noDigits++] = triple[0];
+      digits[noDigits++] = triple[1];
+    } // end if
+
+    for (int i = 0; i + 1 < noDigits; i += 2) {
+      writer.put(digits[i] * Base45.MODUL + digits[i + 1], 11);
+    } // end for (i...)
+
+    if (1 == (noDigits & 1)) { // NOPMD literal in conditional statement
+      writer.put(digits[noDigits - 1], 6);
+    } // end if
+
+    writer.flush();
+
+    return (int) end;
+  } // end method */
+
+  /**
+   * Decodes an alphanumeric segment.
+   *
+   * <p>This is the inverse function of {@link #encode(byte[], int)}. The segment ends
+   * at bit {@code bitOff + segmentBits(Base45.encodedLength(result.length), version)}.
+   *
+   * @param src     bit buffer containing the segment
+   * @param bitOff  index of first bit of the segment in {@code src}
+   * @param version of QR code, in range [1, 40]
+   *
+   * @return decoded octets
+   *
+   * @throws IndexOutOfBoundsException if {@code bitOff} is negative
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code version} is not in range [1, 40]
+   *                                     <li>the segment is not alphanumeric or is
+   *                                         truncated
+   *                                     <li>a value is not a valid character (pair)
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link Base45#decode(CharSequence)} is met
+   *                                   </ol>
+   */
+  public static byte[] decode(
+      final byte[] src,
+      final int bitOff,
+      final int version
+  ) {
+    final byte[] result = new byte[Base45.decodedLength(readCount(src, bitOff, version))];
+    decode(src, bitOff, version, result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes an alphanumeric segment into a caller-supplied buffer.
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src     bit buffer containing the segment
+   * @param bitOff  index of first bit of the segment in {@code src}
+   * @param version of QR code, in range [1, 40]
+   * @param dst     buffer receiving the decoded octets
+   * @param dstOff  index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code bitOff} is negative or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link #decode(byte[], int, int)} is met
+   *                                   </ol>
+   */
+  public static int decode(
+      final byte[] src,
+      final int bitOff,
+      final int version,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    // Note: The input size is known after the segment header is read, errors in the
+    //       header are counted with size zero.
+    final Object event = Base45Metrics.begin();
+    int noChars = 0;
+    try {
+      noChars = readCount(src, bitOff, version);
+
+      return Base45Metrics.success(
+          Base45Metrics.DECODE,
+          noChars,
+          event,
+          decodeSegment(src, bitOff, version, noChars, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, noChars, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(byte[], int, int, byte[], int)} without metrics.
+   *
+   * @param src     see public method
+   * @param bitOff  see public method
+   * @param version see public method
+   * @param noChars number of characters in the segment
+   * @param dst     see public method
+   * @param dstOff  see public method
+   *
+   * @return see public method
+   */
+  private static int decodeSegment(
+      final byte[] src,
+      final int bitOff,
+      final int version,
+      final int noChars,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int noOctets = Base45.decodedLength(noChars);
+    Base45.checkOutput(dst.length, dstOff, noOctets);
+
+    final BitReader reader = new BitReader(src, bitOff + MODE_BITS + countBits(version));
+    int outIndex = dstOff;
+
+    // --- decode the bulk of input three pairs (i.e. two triples) at a time
+    for (int i = noChars / 6; i-- > 0;) { // NOPMD assignment in operand
+      final int pair0 = pair(reader.get(11));
+      final int pair1 = pair(reader.get(11));
+      final int pair2 = pair(reader.get(11));
+      outIndex = put(
+          Base45.decode(
+              Base45.CHARS[pair0 / Base45.MODUL],
+              Base45.CHARS[pair0 % Base45.MODUL],
+              Base45.CHARS[pair1 / Base45.MODUL]
+          ),
+          dst,
+          outIndex
+      );
+      outIndex = put(
+          Base45.decode(
+              Base45.CHARS[pair1 % Base45.MODUL],
+              Base45.CHARS[pair2 / Base45.MODUL],
+              Base45.CHARS[pair2 % Base45.MODUL]
+          ),
+          dst,
+          outIndex
+      );
+    } // end for (i...)
+
+    // --- decode remaining characters
+    // Note: Zero, two, three or five characters remain.
+    final int rest = noChars % 6;
+    final char[] chars = new char[5];
+    for (int i = 0; i + 1 < rest; i += 2) {
+      final int pair = pair(reader.get(11));
+      chars[i] = Base45.CHARS[pair / Base45.MODUL];
+      chars[i + 1] = Base45.CHARS[pair % Base45.MODUL];
+    } // end for (i...)
+
+    if (1 == (rest & 1)) { // NOPMD literal in conditional statement
+      final int value = reader.get(6);
+      if (value >= Base45.MODUL) {
+        throw Base45Metrics.inputError(Base45.ERROR_CHARACTER);
+      } // end if
+      chars[rest - 1] = Base45.CHARS[value];
+    } // end if
+
+    int index = 0;
+    if (rest >= 3) { // NOPMD literal in conditional statement
+      outIndex = put(Base45.decode(chars[0], chars[1], chars[2]), dst, outIndex);
+      index = 3;
+    } // end if
+
+    if (rest - index == 2) { // NOPMD literal in conditional statement
+      dst[outIndex] = (byte) Base45.decode(chars[index], chars[index + 1], '0');
+    } // end if
+
+    return noOctets;
+  } // end method */
+
+  /**
+   * Checks mode indicator and returns character count of a segment.
+   *
+   * @param src     bit buffer containing the segment
+   * @param bitOff  index of first bit of the segment in {@code src}
+   * @param version of QR code, in range [1, 40]
+   *
+   * @return number of characters
+   *
+   * @throws IndexOutOfBoundsException if {@code bitOff} is negative
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code version} is not in range [1, 40]
+   *                                     <li>the segment is not alphanumeric or is
+   *                                         truncated
+   *                                   </ol>
+   */
+  private static int readCount(
+      final byte[] src,
+      final int bitOff,
+      final int version
+  ) {
+    if (bitOff < 0) {
+      throw new IndexOutOfBoundsException("bitOff=" + bitOff);
+    } // end if
+
+    final int countBits = countBits(version);
+    final long available = 8L * src.length - bitOff;
+    if (available < MODE_BITS + countBits) {
+      throw new IllegalArgumentException("truncated segment");
+    } // end if
+
+    final BitReader reader = new BitReader(src, bitOff);
+    if (MODE_ALPHANUMERIC != reader.get(MODE_BITS)) {
+      throw new IllegalArgumentException("invalid mode indicator");
+    } // end if
+
+    final int noChars = reader.get(countBits);
+    if (available < segmentBits(noChars, version)) {
+      throw new IllegalArgumentException("truncated segment");
+    } // end if
+
+    return noChars;
+  } // end method */
+
+  /**
+   * Computes the six base 45 "digits" of four octets.
+   *
+   * @param src    octets
+   * @param index  index of first octet in {@code src}
+   * @param digits receiving the six digits
+   */
+  private static void digits(
+      final byte[] src,
+      final int index,
+      final int[] digits
+  ) {
+    int word = ((src[index] & 0xff) << 8) | (src[index + 1] & 0xff);
+    digits[0] = word % Base45.MODUL;
+    word /= Base45.MODUL;
+    digits[1] = word % Base45.MODUL;
+    digits[2] = word / Base45.MODUL;
+
+    word = ((src[index + 2] & 0xff) << 8) | (src[index + 3] & 0xff);
+    digits[3] = word % Base45.MODUL;
+    word /= Base45.MODUL;
+    digits[4] = word % Base45.MODUL;
+    digits[5] = word / Base45.MODUL;
+  } // end method */
+
+  /**
+   * Checks the value of a character pair.
+   *
+   * @param value read from eleven bits
+   *
+   * @return {@code value}
+   *
+   * @throws IllegalArgumentException if {@code value} does not denote two characters
+   */
+  private static int pair(
+      final int value
+  ) {
+    if (value >= Base45.MODUL * Base45.MODUL) {
+      throw Base45Metrics.inputError(Base45.ERROR_CHARACTER);
+    } // end if
+
+    return value;
+  } // end method */
+
+  /**
+   * Stores two octets.
+   *
+   * @param word     two octets
+   * @param dst      receiving octets
+   * @param outIndex index of first octet in {@code dst} to be written
+   *
+   * @return index of next octet in {@code dst} to be written
+   */
+  private static int put(
+      final int word,
+      final byte[] dst,
+      final int outIndex
+  ) {
+    dst[outIndex] = (byte) (word >> 8);
+    dst[outIndex + 1] = (byte) word;
+
+    return outIndex + 2;
+  } // end method */
+
+  /**
+   * Writes bit fields most significant bit first.
+   */
+  private static final class BitWriter {
+    /**
+     * Buffer receiving bits.
+     */
+    private final byte[] insDst; // */
+
+    /**
+     * Index of next octet in {@link #insDst} to be written.
+     */
+    private int insIndex; // */
+
+    /**
+     * Accumulator with bits not yet written, right aligned.
+     */
+    private long insAcc; // */
+
+    /**
+     * Number of valid bits in {@link #insAcc}, in range [0, 7] between calls.
+     */
+    private int insNoBits; // */
+
+    /**
+     * Constructor.
+     *
+     * @param dst    buffer receiving bits
+     * @param bitOff index of first bit to be written
+     */
+    private BitWriter(
+        final byte[] dst,
+        final int bitOff
+    ) {
+      insDst = dst;
+      insIndex = bitOff >> 3;
+      insNoBits = bitOff & 7;
+      insAcc = (0 == insNoBits) ? 0 : (dst[insIndex] & 0xff) >> (8 - insNoBits);
+    } // end constructor */
+
+    /**
+     * Appends a bit field.
+     *
+     * @param value  bit field, right aligned
+     * @param noBits number of bits, at most 32
+     */
+    private void put(
+        final int value,
+        final int noBits
+    ) {
+      insAcc = (insAcc << noBits) | value;
+      insNoBits += noBits;
+      while (insNoBits >= 8) { // NOPMD literal in conditional statement
+        insNoBits -= 8;
+        insDst[insIndex++] = (byte) (insAcc >> insNoBits);
+      } // end while (noBits...)
+    } // end method */
+
+    /**
+     * Writes remaining bits, padded with zero bits.
+     */
+    private void flush() {
+      if (insNoBits > 0) {
+        insDst[insIndex] = (byte) (insAcc << (8 - insNoBits));
+      } // end if
+    } // end method */
+  } // end inner class
+
+  /**
+   * Reads bit fields most significant bit first.
+   */
+  private static final class BitReader {
+    /**
+     * Buffer with bits.
+     */
+    private final byte[] insSrc; // */
+
+    /**
+     * Index of next octet in {@link #insSrc} to be read.
+     */
+    private int insIndex; // */
+
+    /**
+     * Accumulator with bits not yet consumed, right aligned.
+     */
+    private long insAcc; // */
+
+    /**
+     * Number of valid bits in {@link #insAcc}.
+     */
+    private int insNoBits; // */
+
+    /**
+     * Constructor.
+     *
+     * @param src    buffer with bits
+     * @param bitOff index of first bit to be read
+     */
+    private BitReader(
+        final byte[] src,
+        final int bitOff
+    ) {
+      insSrc = src;
+      insIndex = bitOff >> 3;
+      if (0 != (bitOff & 7)) {
+        insNoBits = 8 - (bitOff & 7);
+        insAcc = src[insIndex++] & (0xff >> (bitOff & 7));
+      } // end if
+    } // end constructor */
+
+    /**
+     * Reads a bit field.
+     *
+     * @param noBits number of bits, at most 32
+     *
+     * @return bit field, right aligned
+     */
+    private int get(
+        final int noBits
+    ) {
+      while (insNoBits < noBits) {
+        insAcc = (insAcc << 8) | (insSrc[insIndex++] & 0xff);
+        insNoBits += 8;
+      } // end while (noBits...)
+      insNoBits -= noBits;
+
+      return (int) (insAcc >> insNoBits) & ((1 << noBits) - 1);
+    } // end method */
+  } // end inner class
+} // end class
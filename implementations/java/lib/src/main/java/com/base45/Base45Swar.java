@@ -0,0 +1,375 @@
+package com.base45;
+
+/**
+ * Word-at-a-time implementation of <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Each step of the encoder loads six octets into one {@code long}, splits them into
+ * three 16-bit words and emits nine characters. The divisions by 45 are replaced by
+ * multiplications and shifts, see {@link #DIV_MULTIPLIER}. The three words are
+ * independent of each other, thus their computations overlap in the pipeline of the
+ * CPU.
+ *
+ * <p>Each step of the decoder takes nine characters, i.e. three triples. Instead of
+ * checking each character, each value and each triple separately, all checks are
+ * accumulated in one word which is tested once per step. Only if that test fails, the
+ * triples are decoded again by {@link Base45#decode(char, char, char)} in order to throw
+ * the same exception as the reference implementation.
+ *
+ * <p>Methods in this class process complete steps only, i.e. the number of octets to
+ * be encoded has to be a multiple of six and the number of characters to be decoded
+ * a multiple of nine. Remaining input is left to the caller. Methods in this class do
+ * not check their parameters. It is the responsibility of the caller to provide valid
+ * ranges and output buffers of sufficient size.
+ */
+/* package */ final class Base45Swar { // NOPMD utility class
+  /**
+   * Number of octets encoded per step.
+   */
+  /* package */ static final int OCTETS_PER_STEP = 6; // */
+
+  /**
+   * Number of characters decoded per step.
+   */
+  /* package */ static final int CHARS_PER_STEP = 9; // */
+
+  /**
+   * Multiplier replacing a division by 45.
+   *
+   * <p>For all {@code x} in range [0, 65535] it is
+   * {@code x / 45 == (x * DIV_MULTIPLIER) >>> DIV_SHIFT}, because
+   * {@code DIV_MULTIPLIER / 2^DIV_SHIFT} exceeds {@code 1 / 45} by less than
+   * {@code 1 / (45 * 65536)}.
+   */
+  /* package */ static final long DIV_MULTIPLIER = 93_207; // */
+
+  /**
+   * Shift distance belonging to {@link #DIV_MULTIPLIER}.
+   */
+  /* package */ static final int DIV_SHIFT = 22; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Swar() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decode a range of characters.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded, a multiple of
+   *               {@link #CHARS_PER_STEP}
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static void decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int index = off + decodeValid(src, off, len, dst, dstOff);
+
+    if (index < off + len) {
+      // ... invalid input in step starting at index
+      //     => let the reference implementation throw an appropriate exception
+      for (int i = index; i < index + CHARS_PER_STEP; i += 3) {
+        Base45.decode(src.charAt(i), src.charAt(i + 1), src.charAt(i + 2));
+      } // end for (i...)
+    } // end if
+  } // end method */
+
+  /**
+   * Decode a range of characters up to the first step containing invalid input.
+   *
+   * <p>In contrast to {@link #decode(CharSequence, int, int, byte[], int)} this method
+   * does not throw for invalid input. Instead it stops before the first step with an
+   * error, leaving it to the caller to locate and report that error.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded, a multiple of
+   *               {@link #CHARS_PER_STEP}
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of characters decoded, i.e. {@code len} if all characters are valid,
+   *         otherwise the offset of the first invalid step relative to {@code off}
+   */
+  /* package */ static int decodeValid(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    // Note: The loop runs on the index into src rather than on a step counter. That
+    //       way the JIT eliminates more range checks of src.charAt(...).
+    final byte[] values = Base45.VALUES;
+    final int end = off + len;
+    int outIndex = dstOff;
+    for (int index = off; index < end; index += CHARS_PER_STEP) {
+      final char c0 = src.charAt(index);
+      final char c1 = src.charAt(index + 1);
+      final char c2 = src.charAt(index + 2);
+      final char c3 = src.charAt(index + 3);
+      final char c4 = src.charAt(index + 4);
+      final char c5 = src.charAt(index + 5);
+      final char c6 = src.charAt(index + 6);
+      final char c7 = src.charAt(index + 7);
+      final char c8 = src.charAt(index + 8);
+
+      // Note 1: Masking the index keeps table access in range for non-ASCII characters.
+      //         Such characters are detected by the check below.
+      final int v0 = values[c0 & 0x7f];
+      final int v1 = values[c1 & 0x7f];
+      final int v2 = values[c2 & 0x7f];
+      final int v3 = values[c3 & 0x7f];
+      final int v4 = values[c4 & 0x7f];
+      final int v5 = values[c5 & 0x7f];
+      final int v6 = values[c6 & 0x7f];
+      final int v7 = values[c7 & 0x7f];
+      final int v8 = values[c8 & 0x7f];
+
+      final int word0 = v0 + Base45.MODUL * (v1 + Base45.MODUL * v2);
+      final int word1 = v3 + Base45.MODUL * (v4 + Base45.MODUL * v5);
+      final int word2 = v6 + Base45.MODUL * (v7 + Base45.MODUL * v8);
+
+      // Note 2: The accumulated check is zero iff
+      //         a. all characters are ASCII,
+      //         b. all characters are in ALPHABET, i.e. no value is negative, and
+      //         c. all words are in range [0, 0xffff].
+      final int check = ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7 | c8) >>> 7)
+          | ((v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7 | v8) >> 31)
+          | ((word0 | word1 | word2) >>> 16);
+
+      if (0 != check) {
+        // ... invalid input
+        //     => stop before this step
+        return index - off;
+      } // end if
+
+      dst[outIndex] = (byte) (word0 >> 8);
+      dst[outIndex + 1] = (byte) word0;
+      dst[outIndex + 2] = (byte) (word1 >> 8);
+      dst[outIndex + 3] = (byte) word1;
+      dst[outIndex + 4] = (byte) (word2 >> 8);
+      dst[outIndex + 5] = (byte) word2;
+
+      outIndex += OCTETS_PER_STEP;
+    } // end for (index...)
+
+    return len;
+  } // end method */
+
+  /**
+   * Decode a range of ASCII characters.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded, a multiple of
+   *               {@link #CHARS_PER_STEP}
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static void decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final byte[] values = Base45.VALUES;
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / CHARS_PER_STEP; i-- > 0;) { // NOPMD assignment in operand
+      // Note 1: Octets are sign-extended, thus non-ASCII characters are negative.
+      final int c0 = src[index];
+      final int c1 = src[index + 1];
+      final int c2 = src[index + 2];
+      final int c3 = src[index + 3];
+      final int c4 = src[index + 4];
+      final int c5 = src[index + 5];
+      final int c6 = src[index + 6];
+      final int c7 = src[index + 7];
+      final int c8 = src[index + 8];
+
+      final int v0 = values[c0 & 0x7f];
+      final int v1 = values[c1 & 0x7f];
+      final int v2 = values[c2 & 0x7f];
+      final int v3 = values[c3 & 0x7f];
+      final int v4 = values[c4 & 0x7f];
+      final int v5 = values[c5 & 0x7f];
+      final int v6 = values[c6 & 0x7f];
+      final int v7 = values[c7 & 0x7f];
+      final int v8 = values[c8 & 0x7f];
+
+      final int word0 = v0 + Base45.MODUL * (v1 + Base45.MODUL * v2);
+      final int word1 = v3 + Base45.MODUL * (v4 + Base45.MODUL * v5);
+      final int word2 = v6 + Base45.MODUL * (v7 + Base45.MODUL * v8);
+
+      // Note 2: The accumulated check is zero iff all characters are ASCII and in
+      //         ALPHABET and all words are in range [0, 0xffff].
+      final int check = ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7 | c8
+          | v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7 | v8) >> 31)
+          | ((word0 | word1 | word2) >>> 16);
+
+      if (0 != check) {
+        // ... invalid input
+        //     => let the reference implementation throw an appropriate exception
+        Base45.decode((char) (c0 & 0xff), (char) (c1 & 0xff), (char) (c2 & 0xff));
+        Base45.decode((char) (c3 & 0xff), (char) (c4 & 0xff), (char) (c5 & 0xff));
+        Base45.decode((char) (c6 & 0xff), (char) (c7 & 0xff), (char) (c8 & 0xff));
+      } // end if
+
+      dst[outIndex] = (byte) (word0 >> 8);
+      dst[outIndex + 1] = (byte) word0;
+      dst[outIndex + 2] = (byte) (word1 >> 8);
+      dst[outIndex + 3] = (byte) word1;
+      dst[outIndex + 4] = (byte) (word2 >> 8);
+      dst[outIndex + 5] = (byte) word2;
+
+      index += CHARS_PER_STEP;
+      outIndex += OCTETS_PER_STEP;
+    } // end for (i...)
+  } // end method */
+
+  /**
+   * Encode a range of octets into characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded, a multiple of {@link #OCTETS_PER_STEP}
+   * @param dst    buffer receiving the characters
+   * @param dstOff index of first character in {@code dst} to be written
+   */
+  /* package */ static void encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final char[] dst,
+      final int dstOff
+  ) {
+    final char[] chars = Base45.CHARS;
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / OCTETS_PER_STEP; i-- > 0;) { // NOPMD assignment in operand
+      final long bits = load(src, index);
+
+      final int word0 = (int) (bits >>> 32) & 0xffff;
+      final int word1 = (int) (bits >>> 16) & 0xffff;
+      final int word2 = (int) bits & 0xffff;
+
+      final int q0 = div45(word0);
+      final int q1 = div45(word1);
+      final int q2 = div45(word2);
+      final int e0 = div45(q0);
+      final int e1 = div45(q1);
+      final int e2 = div45(q2);
+
+      dst[outIndex] = chars[word0 - Base45.MODUL * q0];
+      dst[outIndex + 1] = chars[q0 - Base45.MODUL * e0];
+      dst[outIndex + 2] = chars[e0];
+      dst[outIndex + 3] = chars[word1 - Base45.MODUL * q1];
+      dst[outIndex + 4] = chars[q1 - Base45.MODUL * e1];
+      dst[outIndex + 5] = chars[e1];
+      dst[outIndex + 6] = chars[word2 - Base45.MODUL * q2];
+      dst[outIndex + 7] = chars[q2 - Base45.MODUL * e2];
+      dst[outIndex + 8] = chars[e2];
+
+      index += OCTETS_PER_STEP;
+      outIndex += CHARS_PER_STEP;
+    } // end for (i...)
+  } // end method */
+
+  /**
+   * Encode a range of octets into ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded, a multiple of {@link #OCTETS_PER_STEP}
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   */
+  /* package */ static void encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final char[] chars = Base45.CHARS;
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / OCTETS_PER_STEP; i-- > 0;) { // NOPMD assignment in operand
+      final long bits = load(src, index);
+
+      final int word0 = (int) (bits >>> 32) & 0xffff;
+      final int word1 = (int) (bits >>> 16) & 0xffff;
+      final int word2 = (int) bits & 0xffff;
+
+      final int q0 = div45(word0);
+      final int q1 = div45(word1);
+      final int q2 = div45(word2);
+      final int e0 = div45(q0);
+      final int e1 = div45(q1);
+      final int e2 = div45(q2);
+
+      dst[outIndex] = (byte) chars[word0 - Base45.MODUL * q0];
+      dst[outIndex + 1] = (byte) chars[q0 - Base45.MODUL * e0];
+      dst[outIndex + 2] = (byte) chars[e0];
+      dst[outIndex + 3] = (byte) chars[word1 - Base45.MODUL * q1];
+      dst[outIndex + 4] = (byte) chars[q1 - Base45.MODUL * e1];
+      dst[outIndex + 5] = (byte) chars[e1];
+      dst[outIndex + 6] = (byte) chars[word2 - Base45.MODUL * q2];
+      dst[outIndex + 7] = (byte) chars[q2 - Base45.MODUL * e2];
+      dst[outIndex + 8] = (byte) chars[e2];
+
+      index += OCTETS_PER_STEP;
+      outIndex += CHARS_PER_STEP;
+    } // end for (i...)
+  } // end method */
+
+  /**
+   * Divides by 45 without a division instruction.
+   *
+   * @param value dividend in range [0, 65535]
+   *
+   * @return {@code value / 45}
+   */
+  /* package */ static int div45(
+      final int value
+  ) {
+    return (int) ((value * DIV_MULTIPLIER) >>> DIV_SHIFT);
+  } // end method */
+
+  /**
+   * Loads six octets in big-endian order.
+   *
+   * @param src   octets
+   * @param index of first octet to be loaded
+   *
+   * @return octets {@code src[index]} to {@code src[index + 5]} in the 48 least
+   *         significant bits
+   */
+  private static long load(
+      final byte[] src,
+      final int index
+  ) {
+    return ((src[index] & 0xffL) << 40)
+        | ((src[index + 1] & 0xffL) << 32)
+        | ((src[index + 2] & 0xffL) << 24)
+        | ((src[index + 3] & 0xffL) << 16)
+        | ((src[index + 4] & 0xffL) << 8)
+        | (src[index + 5] & 0xffL);
+  } // end method */
+} // end class
@@ -0,0 +1,259 @@
+package com.base45;
+
+import java.util.Arrays;
+
+/**
+ * Table driven implementation of <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Encoding looks up each 16-bit word in a precomputed table containing the three
+ * corresponding ASCII characters. Thus no division is necessary. Decoding looks up the
+ * first two characters of each triple in a table indexed by both (ASCII) codes, which
+ * combines validation and the first multiply-add.
+ *
+ * <p>The tables occupy 192 KiB (encoding) and 32 KiB (decoding). They are computed
+ * when this class is used for the first time. For short input the cost of cache misses
+ * in these tables outweighs the savings, thus {@link Base45} uses this class only for
+ * input with at least {@link #THRESHOLD} octets or characters.
+ *
+ * <p>Methods in this class do not check their parameters. It is the responsibility
+ * of the caller to provide valid ranges and output buffers of sufficient size.
+ */
+/* package */ final class Base45Table { // NOPMD utility class
+  /**
+   * Minimum input length for which {@link Base45} uses this class.
+   *
+   * <p>The value is taken from system property {@code com.base45.table.threshold},
+   * default is 1024. A value of {@link Integer#MAX_VALUE} disables this class.
+   */
+  /* package */ static final int THRESHOLD = Integer.getInteger(
+      "com.base45.table.threshold", 1024
+  ); // */
+
+  /**
+   * Encoding table, three ASCII characters for each 16-bit word.
+   *
+   * <p>The characters for word {@code w} are located at indices {@code 3w},
+   * {@code 3w + 1} and {@code 3w + 2}.
+   */
+  /* package */ static final byte[] TRIPLES = new byte[3 * 0x1_0000]; // */
+
+  /**
+   * Decoding table, value of the first two characters of a triple.
+   *
+   * <p>The table is indexed by {@code (c << 7) | d} with {@code c} and {@code d} being
+   * the (ASCII) codes of the first and second character. An entry contains
+   * {@code value(c) + 45 * value(d)} if both characters are in {@link Base45#ALPHABET},
+   * otherwise {@code -1}.
+   */
+  /* package */ static final short[] PAIRS = new short[128 * 128]; // */
+
+  /*
+   * Static initializer filling the tables.
+   */
+  static {
+    for (int word = 0, index = 0; word < 0x1_0000; word++) {
+      TRIPLES[index++] = (byte) Base45.CHARS[word % Base45.MODUL];
+      TRIPLES[index++] = (byte) Base45.CHARS[(word / Base45.MODUL) % Base45.MODUL];
+      TRIPLES[index++] = (byte) Base45.CHARS[word / (Base45.MODUL * Base45.MODUL)];
+    } // end for (word...)
+
+    Arrays.fill(PAIRS, (short) -1);
+    for (int c = Base45.MODUL; c-- > 0;) { // NOPMD assignment in operand
+      for (int d = Base45.MODUL; d-- > 0;) { // NOPMD assignment in operand
+        PAIRS[(Base45.CHARS[c] << 7) | Base45.CHARS[d]] = (short) (c + Base45.MODUL * d);
+      } // end for (d...)
+    } // end for (c...)
+  } // end static */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Table() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decode a range of characters.
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static void decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+      final char charC = src.charAt(index);
+      final char charD = src.charAt(index + 1);
+      final char charE = src.charAt(index + 2);
+      index += 3;
+
+      final int decoded = decode(charC, charD, charE);
+      dst[outIndex++] = (byte) (decoded >> 8);
+      dst[outIndex++] = (byte) decoded;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      throw Base45.invalidLength(len);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      dst[outIndex] = (byte) decode(src.charAt(index), src.charAt(index + 1), '0');
+    } // end else if
+  } // end method */
+
+  /**
+   * Decode a range of ASCII characters.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static void decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len / 3; i-- > 0;) { // NOPMD assignment in operand
+      final char charC = (char) (src[index] & 0xff);
+      final char charD = (char) (src[index + 1] & 0xff);
+      final char charE = (char) (src[index + 2] & 0xff);
+      index += 3;
+
+      final int decoded = decode(charC, charD, charE);
+      dst[outIndex++] = (byte) (decoded >> 8);
+      dst[outIndex++] = (byte) decoded;
+    } // end for (i...)
+
+    final int remainder = len % 3;
+    if (1 == remainder) { // NOPMD literal in conditional statement
+      throw Base45.invalidLength(len);
+    } else if (2 == remainder) { // NOPMD literal in conditional statement
+      dst[outIndex] = (byte) decode(
+          (char) (src[index] & 0xff),
+          (char) (src[index + 1] & 0xff),
+          '0'
+      );
+    } // end else if
+  } // end method */
+
+  /**
+   * Decode a character-triple.
+   *
+   * @param charC first character
+   * @param charD second character
+   * @param charE third character
+   *
+   * @return corresponding decoded value, always in range [0, 65535]
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(char, char, char)}
+   */
+  /* package */ static int decode(
+      final char charC,
+      final char charD,
+      final char charE
+  ) {
+    // Note 1: Index into PAIRS is out of range if charC or charD is not ASCII, i.e.
+    //         at least one of the bits 7 to 15 is set. The same applies to VALUES.
+    // Note 2: Each of the checks below is not taken for valid input, thus branch
+    //         prediction works well.
+    final int pair = ((charC | charD) < 0x80) ? PAIRS[(charC << 7) | charD] : -1;
+    final int intE = (charE < 0x80) ? Base45.VALUES[charE] : -1;
+    final int result = pair + Base45.MODUL * Base45.MODUL * intE;
+
+    if (((pair | intE) < 0) || (result > 0xffff)) {
+      // ... invalid input
+      //     => let the reference implementation throw an appropriate exception
+      return Base45.decode(charC, charD, charE);
+    } // end if
+
+    return result;
+  } // end method */
+
+  /**
+   * Encode a range of octets into characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded
+   * @param dst    buffer receiving the characters
+   * @param dstOff index of first character in {@code dst} to be written
+   */
+  /* package */ static void encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final char[] dst,
+      final int dstOff
+  ) {
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len >> 1; i-- > 0;) { // NOPMD assignment in operand
+      final int tableIndex = 3 * (((src[index] & 0xff) << 8) | (src[index + 1] & 0xff));
+      index += 2;
+      dst[outIndex++] = (char) TRIPLES[tableIndex];
+      dst[outIndex++] = (char) TRIPLES[tableIndex + 1];
+      dst[outIndex++] = (char) TRIPLES[tableIndex + 2];
+    } // end for (i...)
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      // Note: For a word in range [0, 255] the third character is '0' and omitted.
+      final int tableIndex = 3 * (src[index] & 0xff);
+      dst[outIndex++] = (char) TRIPLES[tableIndex];
+      dst[outIndex] = (char) TRIPLES[tableIndex + 1];
+    } // end if
+  } // end method */
+
+  /**
+   * Encode a range of octets into ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets to be encoded
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   */
+  /* package */ static void encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = len >> 1; i-- > 0;) { // NOPMD assignment in operand
+      final int tableIndex = 3 * (((src[index] & 0xff) << 8) | (src[index + 1] & 0xff));
+      index += 2;
+      dst[outIndex++] = TRIPLES[tableIndex];
+      dst[outIndex++] = TRIPLES[tableIndex + 1];
+      dst[outIndex++] = TRIPLES[tableIndex + 2];
+    } // end for (i...)
+
+    if (1 == (len & 1)) { // NOPMD literal in conditional statement
+      final int tableIndex = 3 * (src[index] & 0xff);
+      dst[outIndex++] = TRIPLES[tableIndex];
+      dst[outIndex] = TRIPLES[tableIndex + 1];
+    } // end if
+  } // end method */
+} // end class
@@ -0,0 +1,664 @@
+package com.base45;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Fused transcoder between Base64 (RFC 4648, standard or URL-safe alphabet) and
+ * <a href="https://github.com/patrikhson/base45">base 45</a>.
+ *
+ * <p>Eight Base64 characters and nine base 45 characters both represent six octets.
+ * Thus input is transcoded block by block, without materializing the octets between
+ * both formats:
+ * <pre>
+ *   8 Base64 characters  =>  48 bit  =>  3 words of 16 bit  =>  9 base 45 characters
+ *   9 base 45 characters =>  3 words of 16 bit  =>  48 bit  =>  8 Base64 characters
+ * </pre>
+ * Only the last (possibly incomplete) block is transcoded via a few octets. Strings
+ * and streams are read through a rolling buffer of {@link #CHUNK} characters.
+ *
+ * <p>Base64 input is accepted with or without padding, Base64 output is padded. Errors
+ * in base 45 input are reported with the same messages as by
+ * {@link Base45#decode(CharSequence)}. Errors in Base64 input are reported as
+ * "invalid base64 character(s)" or "invalid base64 length".
+ */
+public final class Base45Transcoder { // NOPMD utility class
+  /**
+   * Number of characters read at once from strings and streams, a multiple of 72.
+   */
+  /* package */ static final int CHUNK = 72 << 6; // */
+
+  /**
+   * Standard Base64 alphabet.
+   */
+  private static final byte[] BASE64 = (
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+  ).getBytes(StandardCharsets.US_ASCII); // */
+
+  /**
+   * URL-safe Base64 alphabet.
+   */
+  private static final byte[] BASE64_URL = (
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+  ).getBytes(StandardCharsets.US_ASCII); // */
+
+  /**
+   * Values of standard Base64 characters, -1 for other octets.
+   */
+  private static final int[] VALUES = values(BASE64); // */
+
+  /**
+   * Values of URL-safe Base64 characters, -1 for other octets.
+   */
+  private static final int[] VALUES_URL = values(BASE64_URL); // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Transcoder() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Transcodes Base64 into base 45.
+   *
+   * @param base64  Base64 characters
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return base 45 characters
+   *
+   * @throws IllegalArgumentException if {@code base64} is invalid
+   */
+  public static String fromBase64(
+      final CharSequence base64,
+      final boolean urlSafe
+  ) {
+    final int len = base64.length();
+    int noPadding = 0;
+    while ((noPadding < Math.min(2, len)) && ('=' == base64.charAt(len - 1 - noPadding))) {
+      noPadding++;
+    } // end while (...)
+
+    final byte[] result = new byte[base45Length(len - noPadding)];
+    transcode(new FromBase64(urlSafe), base64, result);
+
+    return new String(result, StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Transcodes base 45 into Base64.
+   *
+   * @param base45  base 45 characters
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return Base64 characters, padded
+   *
+   * @throws IllegalArgumentException if {@code base45} is invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public static String toBase64(
+      final CharSequence base45,
+      final boolean urlSafe
+  ) {
+    final byte[] result = new byte[base64Length(base45.length())];
+    transcode(new ToBase64(urlSafe), base45, result);
+
+    return new String(result, StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Transcodes a range of Base64 ASCII characters into base 45 ASCII characters.
+   *
+   * @param src     Base64 characters
+   * @param off     index of first character in {@code src}
+   * @param len     number of characters
+   * @param dst     buffer receiving base 45 characters
+   * @param dstOff  index of first character in {@code dst} to be written
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if {@code dst} is too small or {@code src} is
+   *                                   invalid
+   */
+  public static int fromBase64(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff,
+      final boolean urlSafe
+  ) {
+    Base45.checkRange(src.length, off, len);
+    int noPadding = 0;
+    while ((noPadding < Math.min(2, len)) && ('=' == src[off + len - 1 - noPadding])) {
+      noPadding++;
+    } // end while (...)
+
+    final int result = base45Length(len - noPadding);
+    Base45.checkOutput(dst.length, dstOff, result);
+    transcode(new FromBase64(urlSafe), src, off, len, dst, dstOff);
+
+    return result;
+  } // end method */
+
+  /**
+   * Transcodes a range of base 45 ASCII characters into Base64 ASCII characters.
+   *
+   * @param src     base 45 characters
+   * @param off     index of first character in {@code src}
+   * @param len     number of characters
+   * @param dst     buffer receiving Base64 characters
+   * @param dstOff  index of first character in {@code dst} to be written
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if {@code dst} is too small or {@code src} is
+   *                                   invalid, see {@link Base45#decode(CharSequence)}
+   */
+  public static int toBase64(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff,
+      final boolean urlSafe
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final int result = base64Length(len);
+    Base45.checkOutput(dst.length, dstOff, result);
+    transcode(new ToBase64(urlSafe), src, off, len, dst, dstOff);
+
+    return result;
+  } // end method */
+
+  /**
+   * Transcodes a stream of Base64 ASCII characters into base 45 ASCII characters.
+   *
+   * <p>Neither stream is closed.
+   *
+   * @param in      Base64 characters, read until end of stream
+   * @param out     receiving base 45 characters
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return number of characters written to {@code out}
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input is invalid
+   */
+  public static long fromBase64(
+      final InputStream in,
+      final OutputStream out,
+      final boolean urlSafe
+  ) throws IOException {
+    return transcode(new FromBase64(urlSafe), in, out);
+  } // end method */
+
+  /**
+   * Transcodes a stream of base 45 ASCII characters into Base64 ASCII characters.
+   *
+   * <p>Neither stream is closed.
+   *
+   * @param in      base 45 characters, read until end of stream
+   * @param out     receiving Base64 characters
+   * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+   *
+   * @return number of characters written to {@code out}
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input is invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public static long toBase64(
+      final InputStream in,
+      final OutputStream out,
+      final boolean urlSafe
+  ) throws IOException {
+    return transcode(new ToBase64(urlSafe), in, out);
+  } // end method */
+
+  /**
+   * Returns number of base 45 characters for given Base64 input.
+   *
+   * @param noChars number of Base64 characters without padding
+   *
+   * @return number of base 45 characters, if the Base64 characters are valid
+   */
+  private static int base45Length(
+      final int noChars
+  ) {
+    final long noOctets = noChars / 4 * 3L + Math.max(0, noChars % 4 - 1);
+
+    return Base45.encodedLength((int) Math.min(noOctets, Integer.MAX_VALUE));
+  } // end method */
+
+  /**
+   * Returns number of Base64 characters for given base 45 input.
+   *
+   * @param len number of base 45 characters
+   *
+   * @return number of Base64 characters including padding
+   */
+  private static int base64Length(
+      final int len
+  ) {
+    final long noOctets = Base45.outputLength(len);
+
+    return (int) Math.min((noOctets + 2) / 3 * 4, Integer.MAX_VALUE);
+  } // end method */
+
+  /**
+   * Transcodes characters into a buffer of exact size.
+   *
+   * @param engine transcoding blocks
+   * @param src    input characters
+   * @param dst    output buffer of exact size
+   */
+  private static void transcode(
+      final Engine engine,
+      final CharSequence src,
+      final byte[] dst
+  ) {
+    final int len = src.length();
+    final byte[] chunk = new byte[Math.min(len, CHUNK)];
+    int outIndex = 0;
+    for (int index = 0; index < len; index += chunk.length) {
+      final int length = Math.min(len - index, chunk.length);
+      for (int i = length; i-- > 0;) { // NOPMD assignment in operand
+        final char character = src.charAt(index + i);
+
+        // Note: Characters beyond ASCII are invalid in both formats.
+        chunk[i] = (byte) ((character < 0x80) ? character : 0xff);
+      } // end for (i...)
+
+      outIndex += engine.update(chunk, 0, length, dst, outIndex);
+    } // end for (index...)
+
+    engine.finish(dst, outIndex);
+  } // end method */
+
+  /**
+   * Transcodes a range of ASCII characters.
+   *
+   * @param engine transcoding blocks
+   * @param src    input characters
+   * @param off    index of first character in {@code src}
+   * @param len    number of characters
+   * @param dst    output buffer, large enough
+   * @param dstOff index of first character in {@code dst}
+   */
+  private static void transcode(
+      final Engine engine,
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int written = engine.update(src, off, len, dst, dstOff);
+    engine.finish(dst, dstOff + written);
+  } // end method */
+
+  /**
+   * Transcodes a stream.
+   *
+   * @param engine transcoding blocks
+   * @param in     input characters
+   * @param out    output characters
+   *
+   * @return number of characters written
+   *
+   * @throws IOException if reading or writing fails
+   */
+  private static long transcode(
+      final Engine engine,
+      final InputStream in,
+      final OutputStream out
+  ) throws IOException {
+    final byte[] input = new byte[CHUNK];
+    final byte[] output = new byte[CHUNK / 8 * 9 + 18];
+    long result = 0;
+    for (int length = in.read(input); length >= 0; length = in.read(input)) {
+      final int written = engine.update(input, 0, length, output, 0);
+      out.write(output, 0, written);
+      result += written;
+    } // end for (length...)
+
+    final int written = engine.finish(output, 0);
+    out.write(output, 0, written);
+
+    return result + written;
+  } // end method */
+
+  /**
+   * Creates table of Base64 values.
+   *
+   * @param alphabet Base64 alphabet
+   *
+   * @return values indexed by octet, -1 for octets not in {@code alphabet}
+   */
+  private static int[] values(
+      final byte[] alphabet
+  ) {
+    final int[] result = new int[256];
+    Arrays.fill(result, -1);
+    for (int i = alphabet.length; i-- > 0;) { // NOPMD assignment in operand
+      result[alphabet[i]] = i;
+    } // end for (i...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Transcoder of blocks with a rolling buffer for incomplete blocks.
+   *
+   * <p>The last block of input is always kept pending until {@link #finish(byte[], int)},
+   * because it possibly contains padding or is incomplete.
+   */
+  private abstract static class Engine {
+    /**
+     * Number of input characters per block.
+     */
+    private final int insBlock; // */
+
+    /**
+     * Pending input characters, less than or exactly one block.
+     */
+    private final byte[] insPending; // */
+
+    /**
+     * Number of pending characters.
+     */
+    private int insNoPending; // */
+
+    /**
+     * Constructor.
+     *
+     * @param block number of input characters per block
+     */
+    /* package */ Engine(
+        final int block
+    ) {
+      insBlock = block;
+      insPending = new byte[block];
+    } // end constructor */
+
+    /**
+     * Transcodes all complete blocks except the last one.
+     *
+     * @param src    input characters
+     * @param off    index of first character in {@code src}
+     * @param len    number of characters
+     * @param dst    output buffer, large enough
+     * @param dstOff index of first character in {@code dst}
+     *
+     * @return number of characters written to {@code dst}
+     */
+    /* package */ final int update(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      final int end = off + len;
+      int index = off;
+      int outIndex = dstOff;
+
+      // --- complete a pending block
+      if (insNoPending > 0) {
+        final int length = Math.min(insBlock - insNoPending, len);
+        System.arraycopy(src, index, insPending, insNoPending, length);
+        insNoPending += length;
+        index += length;
+        if (index == end) {
+          // ... no more input, pending block is possibly the last one
+          return 0;
+        } // end if
+
+        outIndex += block(insPending, 0, dst, outIndex);
+        insNoPending = 0;
+      } // end if
+
+      // --- transcode complete blocks, keep at least one character pending
+      for (; end - index > insBlock; index += insBlock) {
+        outIndex += block(src, index, dst, outIndex);
+      } // end for (...)
+
+      insNoPending = end - index;
+      System.arraycopy(src, index, insPending, 0, insNoPending);
+
+      return outIndex - dstOff;
+    } // end method */
+
+    /**
+     * Transcodes pending characters.
+     *
+     * @param dst    output buffer, large enough
+     * @param dstOff index of first character in {@code dst}
+     *
+     * @return number of characters written to {@code dst}
+     */
+    /* package */ final int finish(
+        final byte[] dst,
+        final int dstOff
+    ) {
+      final int length = insNoPending;
+      insNoPending = 0;
+
+      return (0 == length) ? 0 : last(insPending, length, dst, dstOff);
+    } // end method */
+
+    /**
+     * Transcodes one complete block which is not the last one.
+     *
+     * @param src    input characters
+     * @param off    index of block in {@code src}
+     * @param dst    output buffer
+     * @param dstOff index of first character in {@code dst}
+     *
+     * @return number of characters written to {@code dst}
+     */
+    /* package */ abstract int block(
+        byte[] src,
+        int off,
+        byte[] dst,
+        int dstOff
+    );
+
+    /**
+     * Transcodes the last block.
+     *
+     * @param src    pending characters
+     * @param len    number of pending characters, in range [1, block]
+     * @param dst    output buffer
+     * @param dstOff index of first character in {@code dst}
+     *
+     * @return number of characters written to {@code dst}
+     */
+    /* package */ abstract int last(
+        byte[] src,
+        int len,
+        byte[] dst,
+        int dstOff
+    );
+  } // end inner class
+
+  /**
+   * Transcoder from Base64 to base 45, blocks of eight characters.
+   */
+  private static final class FromBase64 extends Engine {
+    /**
+     * Values of Base64 characters.
+     */
+    private final int[] insValues; // */
+
+    /**
+     * Constructor.
+     *
+     * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+     */
+    /* package */ FromBase64(
+        final boolean urlSafe
+    ) {
+      super(8);
+      insValues = urlSafe ? VALUES_URL : VALUES;
+    } // end constructor */
+
+    @Override
+    /* package */ int block(
+        final byte[] src,
+        final int off,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      long bits = 0;
+      int check = 0;
+      for (int i = 0; i < 8; i++) {
+        final int value = insValues[src[off + i] & 0xff];
+        check |= value;
+        bits = (bits << 6) | value;
+      } // end for (i...)
+
+      if (check < 0) {
+        throw new IllegalArgumentException("invalid base64 character(s)");
+      } // end if
+
+      int outIndex = dstOff;
+      for (int shift = 32; shift >= 0; shift -= 16) {
+        int word = (int) (bits >>> shift) & 0xffff;
+        dst[outIndex++] = (byte) Base45.CHARS[word % Base45.MODUL];
+        word /= Base45.MODUL;
+        dst[outIndex++] = (byte) Base45.CHARS[word % Base45.MODUL];
+        dst[outIndex++] = (byte) Base45.CHARS[word / Base45.MODUL];
+      } // end for (shift...)
+
+      return 9;
+    } // end method */
+
+    @Override
+    /* package */ int last(
+        final byte[] src,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      // --- remove padding
+      int noChars = len;
+      while ((noChars > 0) && ('=' == src[noChars - 1]) && (len - noChars < 2)) {
+        noChars--;
+      } // end while (...)
+
+      if ((1 == noChars % 4) || ((noChars < len) && (0 != len % 4))) {
+        throw new IllegalArgumentException("invalid base64 length");
+      } // end if
+
+      // --- decode into at most six octets, then encode
+      final byte[] octets = new byte[6];
+      int noOctets = 0;
+      for (int index = 0; index < noChars; index += 4) {
+        final int length = Math.min(4, noChars - index);
+        int bits = 0;
+        int check = 0;
+        for (int i = 0; i < 4; i++) {
+          final int value = (i < length) ? insValues[src[index + i] & 0xff] : 0;
+          check |= value;
+          bits = (bits << 6) | value;
+        } // end for (i...)
+
+        if (check < 0) {
+          throw new IllegalArgumentException("invalid base64 character(s)");
+        } // end if
+
+        for (int i = 0; i < length - 1; i++) {
+          octets[noOctets++] = (byte) (bits >> (16 - 8 * i));
+        } // end for (i...)
+      } // end for (index...)
+
+      return Base45.encodeAscii(octets, 0, noOctets, dst, dstOff);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Transcoder from base 45 to Base64, blocks of nine characters.
+   */
+  private static final class ToBase64 extends Engine {
+    /**
+     * Base64 alphabet.
+     */
+    private final byte[] insAlphabet; // */
+
+    /**
+     * Constructor.
+     *
+     * @param urlSafe {@code TRUE} for the URL-safe alphabet, {@code FALSE} otherwise
+     */
+    /* package */ ToBase64(
+        final boolean urlSafe
+    ) {
+      super(9);
+      insAlphabet = urlSafe ? BASE64_URL : BASE64;
+    } // end constructor */
+
+    @Override
+    /* package */ int block(
+        final byte[] src,
+        final int off,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      long bits = 0;
+      for (int index = off; index < off + 9; index += 3) {
+        bits = (bits << 16) | Base45.decode(
+            (char) (src[index] & 0xff),
+            (char) (src[index + 1] & 0xff),
+            (char) (src[index + 2] & 0xff)
+        );
+      } // end for (index...)
+
+      for (int i = 0; i < 8; i++) {
+        dst[dstOff + i] = insAlphabet[(int) (bits >>> (42 - 6 * i)) & 0x3f];
+      } // end for (i...)
+
+      return 8;
+    } // end method */
+
+    @Override
+    /* package */ int last(
+        final byte[] src,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      // --- decode into at most six octets, then encode
+      final byte[] octets = new byte[6];
+      final int noOctets = Base45.decodeAscii(src, 0, len, octets, 0);
+      int outIndex = dstOff;
+      for (int index = 0; index < noOctets; index += 3) {
+        final int length = Math.min(3, noOctets - index);
+        int bits = 0;
+        for (int i = 0; i < 3; i++) {
+          bits = (bits << 8) | ((i < length) ? (octets[index + i] & 0xff) : 0);
+        } // end for (i...)
+
+        for (int i = 0; i < 4; i++) {
+          dst[outIndex++] = (i <= length)
+              ? insAlphabet[(bits >> (18 - 6 * i)) & 0x3f]
+              : (byte) '=';
+        } // end for (i...)
+      } // end for (index...)
+
+      return outIndex - dstOff;
+    } // end method */
+  } // end inner class
+} // end class
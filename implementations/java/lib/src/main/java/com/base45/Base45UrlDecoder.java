@@ -0,0 +1,389 @@
+package com.base45;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decoder for <a href="https://github.com/patrikhson/base45">base 45</a> characters
+ * which passed through URLs, query strings or forms.
+ *
+ * <p>The base 45 alphabet contains {@code ' '}, {@code '%'}, {@code '+'},
+ * {@code '/'} and {@code ':'}, thus payloads arrive e.g. with {@code %20} or
+ * {@code +} instead of a space. Instead of un-escaping into a new {@link String}
+ * first, the decoders in this class un-escape while decoding, i.e. in a single pass
+ * without intermediate characters:
+ * <ol>
+ *   <li>{@link #PERCENT}: {@code %XX} with two hexadecimal digits (either case) is
+ *       replaced by the character with code {@code XX}, everything else is taken
+ *       literally, see RFC 3986,
+ *   <li>{@link #FORM}: as {@link #PERCENT}, additionally {@code '+'} is replaced by
+ *       {@code ' '}, see {@code application/x-www-form-urlencoded},
+ *   <li>{@link #LENIENT}: as {@link #FORM}, additionally lowercase letters are
+ *       accepted as their uppercase counterparts and tabs, line feeds, carriage returns
+ *       and form feeds (escaped or not) are ignored.
+ * </ol>
+ *
+ * <p>Each decoder classifies characters by two lookup tables computed once, one for
+ * characters as they appear and one for characters resulting from an escape sequence.
+ * Note that a space is part of the alphabet, so it is never ignored.
+ *
+ * <p>Errors are reported as by {@link Base45#decode(CharSequence)}. A {@code '%'}
+ * not followed by two hexadecimal digits is reported as an invalid character. The
+ * number of characters refers to characters after un-escaping. As for
+ * {@link Base45#decode(CharSequence)} a single character left over after all
+ * character-triples is an invalid number of characters, even if that character is
+ * invalid itself.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ */
+public final class Base45UrlDecoder {
+  /**
+   * Decoder for percent-encoding.
+   */
+  public static final Base45UrlDecoder PERCENT = new Base45UrlDecoder(false, false); // */
+
+  /**
+   * Decoder for form-encoding, i.e. percent-encoding and {@code '+'} for space.
+   */
+  public static final Base45UrlDecoder FORM = new Base45UrlDecoder(true, false); // */
+
+  /**
+   * Decoder for form-encoding, accepting lowercase letters and ignoring line breaks.
+   */
+  public static final Base45UrlDecoder LENIENT = new Base45UrlDecoder(true, true); // */
+
+  /**
+   * Table entry for characters not allowed.
+   */
+  private static final byte INVALID = -1; // */
+
+  /**
+   * Table entry for characters ignored.
+   */
+  private static final byte SKIP = -2; // */
+
+  /**
+   * Table entry for the start of an escape sequence.
+   */
+  private static final byte ESCAPE = -3; // */
+
+  /**
+   * Lookup table for characters as they appear, indexed by character code.
+   */
+  private final byte[] insRaw = new byte[256]; // */
+
+  /**
+   * Lookup table for characters resulting from an escape sequence.
+   */
+  private final byte[] insEscaped = new byte[256]; // */
+
+  /**
+   * Constructor computing the lookup tables.
+   *
+   * @param form    {@code TRUE} if {@code '+'} stands for a space
+   * @param lenient {@code TRUE} if lowercase letters are accepted and line breaks are
+   *                ignored
+   */
+  private Base45UrlDecoder(
+      final boolean form,
+      final boolean lenient
+  ) {
+    Arrays.fill(insEscaped, INVALID);
+    System.arraycopy(Base45.VALUES, 0, insEscaped, 0, Base45.VALUES.length);
+    if (lenient) {
+      for (int i = 'a'; i <= 'z'; i++) {
+        insEscaped[i] = insEscaped[i - 'a' + 'A'];
+      } // end for (i...)
+      for (final char character : new char[]{'\t', '\n', '\f', '\r'}) {
+        insEscaped[character] = SKIP;
+      } // end for (character...)
+    } // end if
+
+    System.arraycopy(insEscaped, 0, insRaw, 0, insRaw.length);
+    insRaw['%'] = ESCAPE;
+    if (form) {
+      insRaw['+'] = insEscaped[' '];
+    } // end if
+  } // end constructor */
+
+  /**
+   * Decode given characters.
+   *
+   * @param chars characters to be decoded
+   *
+   * @return octet string
+   *
+   * @throws IllegalArgumentException if characters are invalid, see class comment
+   */
+  public byte[] decode(
+      final CharSequence chars
+  ) {
+    final int len = chars.length();
+    final byte[] buffer = new byte[Base45.outputLength(len)];
+    final int noOctets = decode(chars, 0, len, buffer, 0);
+
+    return (noOctets == buffer.length) ? buffer : Arrays.copyOf(buffer, noOctets);
+  } // end method */
+
+  /**
+   * Decode a range of given ASCII characters.
+   *
+   * <p>Each octet in {@code src} is treated as one (ASCII) character.
+   *
+   * @param src ASCII characters to be decoded
+   * @param off index of first character in {@code src} to be decoded
+   * @param len number of characters to be decoded
+   *
+   * @return octet string
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  if characters are invalid, see class comment
+   */
+  public byte[] decode(
+      final byte[] src,
+      final int off,
+      final int len
+  ) {
+    Base45.checkRange(src.length, off, len);
+    final byte[] buffer = new byte[Base45.outputLength(len)];
+    final int noOctets = decode(src, off, len, buffer, 0);
+
+    return (noOctets == buffer.length) ? buffer : Arrays.copyOf(buffer, noOctets);
+  } // end method */
+
+  /**
+   * Decode a range of given ASCII characters into a caller-supplied buffer.
+   *
+   * <p>Each octet in {@code src} is treated as one (ASCII) character.
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>characters are invalid, see class comment
+   *                                   </ol>
+   */
+  public int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    Base45.checkRange(src.length, off, len);
+
+    return decode(new Ascii(src), off, len, dst, dstOff);
+  } // end method */
+
+  /**
+   * Decode a range of given characters into a caller-supplied buffer.
+   *
+   * <p>Because un-escaping shortens the input, {@code dst} only needs to be large
+   * enough for the octets actually decoded.
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src    characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters to be decoded
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an index of {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>characters are invalid, see class comment
+   *                                   </ol>
+   */
+  public int decode(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE, len, event, decodeEscaped(src, off, len, dst, dstOff)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, len, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #decode(CharSequence, int, int, byte[], int)} without metrics.
+   *
+   * @param src    see public method
+   * @param off    see public method
+   * @param len    see public method
+   * @param dst    see public method
+   * @param dstOff see public method
+   *
+   * @return see public method
+   */
+  private int decodeEscaped(
+      final CharSequence src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    Base45.checkRange(src.length(), off, len);
+    Base45.checkOutput(dst.length, dstOff, 0);
+
+    // Note: Values of a character-triple are accumulated in "code", "factor" is the
+    //       weight of the next value, i.e. 1, 45 or 45^2.
+    // Note: An invalid character starting a group is reported only if another
+    //       character follows. Otherwise it is the single character left over, which
+    //       is reported as an invalid number of characters, see Base45.decodeChars.
+    final int end = off + len;
+    int outIndex = dstOff;
+    int code = 0;
+    int factor = 1;
+    int index = off;
+    boolean invalid = false;
+    while (index < end) {
+      final char character = src.charAt(index++);
+      int value = (character < 0x100) ? insRaw[character] : INVALID;
+
+      if (ESCAPE == value) {
+        // ... start of an escape sequence
+        //     => replace it by the character it stands for
+        final int high = (index < end) ? hex(src.charAt(index)) : -1;
+        final int low = (index + 1 < end) ? hex(src.charAt(index + 1)) : -1;
+        index += 2;
+        value = ((high < 0) || (low < 0)) ? INVALID : insEscaped[(high << 4) | low];
+      } // end if
+
+      if (SKIP == value) {
+        continue;
+      } else if (invalid || ((value < 0) && (factor > 1))) {
+        throw Base45Metrics.inputError(Base45.ERROR_CHARACTER);
+      } else if (value < 0) {
+        // ... invalid character starting a group
+        //     => report it when another character follows
+        invalid = true;
+        continue;
+      } // end else if
+
+      code += factor * value;
+      if (factor < Base45.MODUL * Base45.MODUL) {
+        factor *= Base45.MODUL;
+      } else {
+        // ... character-triple complete
+        //     => write two octets
+        if (code > 0xffff) { // NOPMD literal in conditional statement
+          throw Base45Metrics.inputError(Base45.ERROR_CODE);
+        } // end if
+
+        if (dst.length - outIndex < 2) { // NOPMD literal in conditional statement
+          throw new IllegalArgumentException("output buffer too small");
+        } // end if
+
+        dst[outIndex++] = (byte) (code >> 8);
+        dst[outIndex++] = (byte) code;
+        code = 0;
+        factor = 1;
+      } // end else
+    } // end while (...)
+
+    if (invalid || (Base45.MODUL == factor)) {
+      // ... one character left over
+      //     => number of un-escaped characters is wrong
+      throw Base45.invalidLength((outIndex - dstOff) / 2 * 3 + 1);
+    } else if (factor > 1) {
+      // ... character-pair left over
+      //     => one more octet
+      if (dst.length == outIndex) {
+        throw new IllegalArgumentException("output buffer too small");
+      } // end if
+
+      dst[outIndex++] = (byte) code;
+    } // end else if
+
+    return outIndex - dstOff;
+  } // end method */
+
+  /**
+   * Converts a hexadecimal digit into its value.
+   *
+   * @param character hexadecimal digit, either case
+   *
+   * @return value in range [0, 15], or {@code -1} if {@code character} is not a
+   *         hexadecimal digit
+   */
+  private static int hex(
+      final char character
+  ) {
+    if ((character >= '0') && (character <= '9')) {
+      return character - '0';
+    } // end if
+
+    final int lower = character | 0x20;
+
+    return ((lower >= 'a') && (lower <= 'f')) ? lower - 'a' + 10 : -1;
+  } // end method */
+
+  /**
+   * View of an array of ASCII characters as {@link CharSequence}.
+   */
+  private static final class Ascii implements CharSequence {
+    /**
+     * ASCII characters.
+     */
+    private final byte[] insChars; // */
+
+    /**
+     * Constructor.
+     *
+     * @param chars ASCII characters, not copied
+     */
+    /* package */ Ascii(
+        final byte[] chars
+    ) {
+      insChars = chars;
+    } // end constructor */
+
+    @Override
+    public int length() {
+      return insChars.length;
+    } // end method */
+
+    @Override
+    public char charAt(
+        final int index
+    ) {
+      return (char) (insChars[index] & 0xff);
+    } // end method */
+
+    @Override
+    public CharSequence subSequence(
+        final int start,
+        final int end
+    ) {
+      return new String(insChars, start, end - start, StandardCharsets.ISO_8859_1);
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,77 @@
+package com.base45;
+
+/**
+ * Bulk encoding and decoding by vector instructions.
+ *
+ * <p>This is the baseline of a class in a multi-release JAR. On Java 8 there is no
+ * Vector API, thus this implementation processes nothing and leaves all input to the
+ * caller. On Java 17 and later the variant in {@code META-INF/versions/17} is used
+ * instead, which utilizes module {@code jdk.incubator.vector} if available at runtime.
+ *
+ * <p>Methods in this class do not check their parameters. It is the responsibility
+ * of the caller to provide valid ranges and output buffers of sufficient size.
+ */
+/* package */ final class Base45Vector { // NOPMD utility class
+  /**
+   * Minimum input length for which vector instructions are used.
+   */
+  /* package */ static final int THRESHOLD = 256; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Vector() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns whether vector instructions are used.
+   *
+   * @return always {@code FALSE} in this variant
+   */
+  /* package */ static boolean isAvailable() {
+    return false;
+  } // end method */
+
+  /**
+   * Decode a prefix of a range of ASCII characters.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters available for decoding
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of characters decoded, always a multiple of three, here always zero
+   */
+  /* package */ static int decode( // NOPMD unused formal parameter
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    return 0;
+  } // end method */
+
+  /**
+   * Encode a prefix of a range of octets into ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets available for encoding
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of octets encoded, always a multiple of two, here always zero
+   */
+  /* package */ static int encode( // NOPMD unused formal parameter
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    return 0;
+  } // end method */
+} // end class
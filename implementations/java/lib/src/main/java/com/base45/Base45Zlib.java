@@ -0,0 +1,278 @@
+package com.base45;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This class combines <a href="https://github.com/patrikhson/base45">base 45</a> with
+ * zlib compression, as used e.g. for health certificates in QR codes.
+ *
+ * <p>Such payloads consist of a prefix (e.g. {@link #HC1}) followed by characters
+ * which are the base 45 encoding of zlib-compressed data. The methods in this class
+ * decode (encode) characters in chunks, which are passed to an {@link Inflater}
+ * (received from a {@link Deflater}) directly. Thus the compressed octets are never
+ * materialized in full.
+ */
+public final class Base45Zlib { // NOPMD utility class
+  /**
+   * Prefix of health certificates.
+   */
+  public static final String HC1 = "HC1:"; // */
+
+  /**
+   * Number of characters decoded at once, a multiple of three.
+   */
+  /* package */ static final int CHUNK = 3072; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Zlib() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Strips prefix, decodes and inflates given characters into a caller-supplied buffer.
+   *
+   * <p>At most {@code maxLen} octets are written to {@code dst}. If the inflated data
+   * are longer, an exception is thrown. Thus {@code maxLen} protects against
+   * compressed data expanding to an excessive size ("zip bomb").
+   *
+   * <p><i><b>Note:</b> In case of an error some octets are possibly already written
+   * to {@code dst}.</i>
+   *
+   * @param src    prefix followed by base 45 encoded zlib data
+   * @param prefix expected at the beginning of {@code src}, e.g. {@link #HC1}, an empty
+   *               string if {@code src} has no prefix
+   * @param dst    buffer receiving the inflated octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   * @param maxLen maximum number of octets to be written
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code dstOff} and {@code maxLen} do not
+   *                                   denote a range within {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code src} does not start with
+   *                                         {@code prefix}
+   *                                     <li>any of the conditions mentioned in
+   *                                         {@link Base45#decode(CharSequence)} is met
+   *                                     <li>the decoded octets are not valid zlib data
+   *                                         or are followed by further characters
+   *                                     <li>the inflated data exceed {@code maxLen}
+   *                                   </ol>
+   */
+  public static int inflate(
+      final CharSequence src,
+      final String prefix,
+      final byte[] dst,
+      final int dstOff,
+      final int maxLen
+  ) {
+    Base45.checkRange(dst.length, dstOff, maxLen);
+    checkPrefix(src, prefix);
+
+    final int noChars = src.length() - prefix.length();
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.DECODE,
+          noChars,
+          event,
+          inflateChunks(src, prefix.length(), dst, dstOff, maxLen)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.DECODE, noChars, event, e);
+    } // end catch (IllegalArgumentException)
+  } // end method */
+
+  /**
+   * Implements {@link #inflate(CharSequence, String, byte[], int, int)} without
+   * metrics, decoding chunk by chunk.
+   *
+   * @param src    see public method
+   * @param start  index of first character after the prefix
+   * @param dst    see public method
+   * @param dstOff see public method
+   * @param maxLen see public method
+   *
+   * @return see public method
+   */
+  private static int inflateChunks(
+      final CharSequence src,
+      final int start,
+      final byte[] dst,
+      final int dstOff,
+      final int maxLen
+  ) {
+    final byte[] decoded = new byte[Base45.outputLength(CHUNK)];
+    final Inflater inflater = new Inflater();
+    try {
+      final int end = src.length();
+      int index = start;
+      int written = 0;
+      while (!inflater.finished()) {
+        if (inflater.needsInput()) {
+          if (index == end) {
+            throw new IllegalArgumentException("truncated zlib data");
+          } // end if
+
+          // --- decode next chunk
+          // Note: A chunk contains a multiple of three characters, except for the
+          //       last chunk. Thus chunks are decoded independently of each other.
+          final int noChars = Math.min(CHUNK, end - index);
+          inflater.setInput(decoded, 0, Base45.decodeChars(src, index, noChars, decoded, 0));
+          index += noChars;
+        } else if (inflater.needsDictionary()) {
+          throw new IllegalArgumentException("zlib data require a dictionary");
+        } // end else if
+
+        if (written == maxLen) {
+          // ... output is full, but inflater is not finished
+          //     => check whether there is more output
+          if (inflater.inflate(new byte[1]) > 0) {
+            throw new IllegalArgumentException("inflated data exceed limit");
+          } // end if
+        } else {
+          written += inflater.inflate(dst, dstOff + written, maxLen - written);
+        } // end else
+      } // end while (not finished)
+
+      if ((inflater.getRemaining() > 0) || (index < end)) {
+        throw new IllegalArgumentException("trailing data after zlib data");
+      } // end if
+
+      return written;
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("invalid zlib data", e);
+    } finally {
+      inflater.end();
+    } // end finally
+  } // end method */
+
+  /**
+   * Deflates and encodes given octets, prefixed by given prefix.
+   *
+   * <p>Octets are compressed with {@link Deflater#BEST_COMPRESSION}.
+   *
+   * @param src    octets to be compressed and encoded
+   * @param prefix put in front of the encoded characters, e.g. {@link #HC1}
+   *
+   * @return {@code prefix} followed by base 45 encoded zlib data
+   */
+  public static String deflate(
+      final byte[] src,
+      final String prefix
+  ) {
+    final StringBuilder result = new StringBuilder(prefix);
+    deflate(src, 0, src.length, Deflater.BEST_COMPRESSION, result);
+
+    return result.toString();
+  } // end method */
+
+  /**
+   * Deflates and encodes a range of given octets, appending the result to given
+   * builder.
+   *
+   * @param src   octets to be compressed and encoded
+   * @param off   index of first octet in {@code src}
+   * @param len   number of octets
+   * @param level compression level in range [0, 9], see {@link Deflater}
+   * @param dst   receiving the base 45 encoded zlib data
+   *
+   * @return number of characters appended to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}
+   * @throws IllegalArgumentException  if {@code level} is invalid
+   */
+  public static int deflate(
+      final byte[] src,
+      final int off,
+      final int len,
+      final int level,
+      final StringBuilder dst
+  ) {
+    Base45.checkRange(src.length, off, len);
+
+    final Deflater deflater = new Deflater(level);
+    final Object event = Base45Metrics.begin();
+    try {
+      return Base45Metrics.success(
+          Base45Metrics.ENCODE, len, event, deflateChunks(deflater, src, off, len, dst)
+      );
+    } catch (IllegalArgumentException e) {
+      throw Base45Metrics.failure(Base45Metrics.ENCODE, len, event, e);
+    } finally {
+      deflater.end();
+    } // end finally
+  } // end method */
+
+  /**
+   * Implements {@link #deflate(byte[], int, int, int, StringBuilder)} without metrics,
+   * encoding chunk by chunk.
+   *
+   * @param deflater compressing the octets
+   * @param src      see public method
+   * @param off      see public method
+   * @param len      see public method
+   * @param dst      see public method
+   *
+   * @return see public method
+   */
+  private static int deflateChunks(
+      final Deflater deflater,
+      final byte[] src,
+      final int off,
+      final int len,
+      final StringBuilder dst
+  ) {
+    // Note: The buffer for compressed octets has an even size. It is encoded only when
+    //       it is full or the deflater is finished. Thus pairs of octets are never
+    //       split between chunks.
+    final byte[] compressed = new byte[Base45.outputLength(CHUNK)];
+    final char[] encoded = new char[CHUNK];
+    deflater.setInput(src, off, len);
+    deflater.finish();
+
+    int result = 0;
+    int count = 0;
+    while (!deflater.finished()) {
+      count += deflater.deflate(compressed, count, compressed.length - count);
+
+      if ((compressed.length == count) || deflater.finished()) {
+        final int noChars = Base45.encodeChars(compressed, 0, count, encoded, 0);
+        dst.append(encoded, 0, noChars);
+        result += noChars;
+        count = 0;
+      } // end if
+    } // end while (not finished)
+
+    return result;
+  } // end method */
+
+  /**
+   * Checks whether given characters start with given prefix.
+   *
+   * @param src    characters to be checked
+   * @param prefix expected at the beginning of {@code src}
+   *
+   * @throws IllegalArgumentException if {@code src} does not start with {@code prefix}
+   */
+  private static void checkPrefix(
+      final CharSequence src,
+      final String prefix
+  ) {
+    final int length = prefix.length();
+    boolean match = src.length() >= length;
+    for (int i = length; match && (i-- > 0);) { // NOPMD assignment in operand
+      match = src.charAt(i) == prefix.charAt(i);
+    } // end for (i...)
+
+    if (!match) {
+      throw new IllegalArgumentException("missing prefix");
+    } // end if
+  } // end method */
+} // end class
@@ -0,0 +1,99 @@
+package com.base45;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitter of JDK Flight Recorder events for {@link Base45Metrics}.
+ *
+ * <p>This is the Java 11 variant of a class in a multi-release JAR. Each instrumented
+ * operation creates an {@link OperationEvent}. The event is committed only if a
+ * recording has it enabled and the operation took at least the configured threshold,
+ * by default 1 ms. Thus fast operations are timed, but never written.
+ */
+/* package */ final class Base45Events { // NOPMD utility class
+  /**
+   * Default constructor.
+   */
+  private Base45Events() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Starts timing an operation.
+   *
+   * @return event
+   */
+  /* package */ static Object begin() {
+    final OperationEvent result = new OperationEvent();
+    result.begin();
+
+    return result;
+  } // end method */
+
+  /**
+   * Ends timing an operation and commits the event, if it is recorded.
+   *
+   * @param event     from {@link #begin()}, possibly {@code null}
+   * @param operation {@link Base45Metrics#ENCODE} or {@link Base45Metrics#DECODE}
+   * @param size      of input
+   * @param errorKind negative for success, otherwise kind of error
+   */
+  /* package */ static void commit(
+      final Object event,
+      final int operation,
+      final long size,
+      final int errorKind
+  ) {
+    if (event instanceof OperationEvent) {
+      final OperationEvent operationEvent = (OperationEvent) event;
+      operationEvent.end();
+      if (operationEvent.shouldCommit()) {
+        operationEvent.operation = (Base45Metrics.ENCODE == operation) ? "encode" : "decode";
+        operationEvent.size = size;
+        operationEvent.success = errorKind < 0;
+        operationEvent.errorKind = Math.max(errorKind, 0);
+        operationEvent.commit();
+      } // end if
+    } // end if
+  } // end method */
+
+  /**
+   * Flight Recorder event for one encode or decode operation.
+   */
+  @Name("com.base45.Operation")
+  @Label("Base45 Operation")
+  @Category("Base45")
+  @Description("Encoding or decoding of a range of input")
+  @Threshold("1 ms")
+  /* package */ static final class OperationEvent extends Event {
+    /**
+     * Kind of operation, either "encode" or "decode".
+     */
+    @Label("Operation")
+    /* package */ String operation; // NOPMD field is not private */
+
+    /**
+     * Number of input octets (encoding) or characters (decoding).
+     */
+    @Label("Size")
+    /* package */ long size; // NOPMD field is not private */
+
+    /**
+     * Outcome of operation.
+     */
+    @Label("Success")
+    /* package */ boolean success; // NOPMD field is not private */
+
+    /**
+     * Kind of error, see {@link Base45#ERROR_CHARACTER} etc., zero for success or
+     * other errors.
+     */
+    @Label("Error Kind")
+    /* package */ int errorKind; // NOPMD field is not private */
+  } // end inner class
+} // end class
@@ -0,0 +1,110 @@
+package com.base45;
+
+/**
+ * Bulk encoding and decoding by vector instructions.
+ *
+ * <p>This is the Java 17 variant of a class in a multi-release JAR. It delegates to
+ * {@link Base45VectorKernel} if module {@code jdk.incubator.vector} is available at
+ * runtime, e.g. because the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}. Otherwise it processes nothing and leaves
+ * all input to the caller, i.e. to the scalar implementations.
+ *
+ * <p>Vector instructions are used only for input with at least {@link #THRESHOLD}
+ * octets or characters. They are disabled by system property
+ * {@code com.base45.vector=false}.
+ *
+ * <p>For encoding the lane-wise arithmetic is cheap, but interleaving the three
+ * digits of each word into the output is not. On the hardware measured so far the
+ * table driven encoder in {@link Base45Table} is faster. Thus vector instructions are
+ * used for encoding only if enabled by system property
+ * {@code com.base45.vector.encode=true}.
+ *
+ * <p>Methods in this class do not check their parameters. It is the responsibility
+ * of the caller to provide valid ranges and output buffers of sufficient size.
+ */
+/* package */ final class Base45Vector { // NOPMD utility class
+  /**
+   * Flag indicating whether vector instructions are used.
+   */
+  private static final boolean AVAILABLE = Boolean.parseBoolean(
+      System.getProperty("com.base45.vector", "true")
+  ) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(); // */
+
+  /**
+   * Flag indicating whether vector instructions are used for encoding.
+   */
+  private static final boolean ENCODE = AVAILABLE && Boolean.getBoolean(
+      "com.base45.vector.encode"
+  ); // */
+
+  /**
+   * Minimum input length for which vector instructions are used.
+   */
+  /* package */ static final int THRESHOLD = 256; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Vector() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns whether vector instructions are used.
+   *
+   * @return {@code TRUE} if module {@code jdk.incubator.vector} is available and
+   *         vector instructions are not disabled, {@code FALSE} otherwise
+   */
+  /* package */ static boolean isAvailable() {
+    return AVAILABLE;
+  } // end method */
+
+  /**
+   * Decode a prefix of a range of ASCII characters.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters available for decoding
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of characters decoded, always a multiple of three
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    return (AVAILABLE && (len >= THRESHOLD))
+        ? Base45VectorKernel.decode(src, off, len, dst, dstOff)
+        : 0;
+  } // end method */
+
+  /**
+   * Encode a prefix of a range of octets into ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets available for encoding
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of octets encoded, always a multiple of two
+   */
+  /* package */ static int encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    return (ENCODE && (len >= THRESHOLD))
+        ? Base45VectorKernel.encode(src, off, len, dst, dstOff)
+        : 0;
+  } // end method */
+} // end class
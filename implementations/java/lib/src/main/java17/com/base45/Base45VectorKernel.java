@@ -0,0 +1,258 @@
+package com.base45;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Encoding and decoding by means of module {@code jdk.incubator.vector}.
+ *
+ * <p>This class is loaded only if that module is available at runtime, see
+ * {@link Base45Vector}.
+ *
+ * <p>Encoding converts the octets of one step into 16-bit words in the lanes of an
+ * {@link IntVector}. The divisions by 45 are performed lane-wise by multiplications and
+ * shifts. The resulting digits are interleaved into their final order and mapped to
+ * ASCII characters by table lookup.
+ *
+ * <p>Decoding maps three {@link ByteVector}s of ASCII characters lane-wise to their
+ * values and validates all of them with one test per step. The values are then combined
+ * into 16-bit words.
+ *
+ * <p>Both directions spill vectors into a scratch buffer per thread, thus they do not
+ * allocate.
+ *
+ * <p>Methods in this class do not check their parameters. It is the responsibility
+ * of the caller to provide valid ranges and output buffers of sufficient size.
+ */
+/* package */ final class Base45VectorKernel { // NOPMD utility class
+  /**
+   * Species for 16-bit words during encoding.
+   */
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED; // */
+
+  /**
+   * Species for octets during encoding, two octets for each lane in {@link #INTS}.
+   */
+  private static final VectorSpecies<Byte> OCTETS = VectorSpecies.of(
+      byte.class,
+      VectorShape.forBitSize(INTS.vectorBitSize() / 2)
+  ); // */
+
+  /**
+   * Species for characters during decoding.
+   */
+  private static final VectorSpecies<Byte> CHARS = ByteVector.SPECIES_PREFERRED; // */
+
+  /**
+   * Multiplier replacing a division by 45.
+   *
+   * <p>For all {@code x} in range [0, 65535] it is
+   * {@code x / 45 == (x * DIV_MULTIPLIER) >>> DIV_SHIFT} with the multiplication
+   * performed unsigned 32-bit, because {@code 45 * DIV_MULTIPLIER - 2^DIV_SHIFT = 28}
+   * and {@code 28 * 65535 < 2^DIV_SHIFT}.
+   */
+  /* package */ static final int DIV_MULTIPLIER = 46_604; // */
+
+  /**
+   * Shift distance belonging to {@link #DIV_MULTIPLIER}.
+   */
+  /* package */ static final int DIV_SHIFT = 21; // */
+
+  /**
+   * Scratch buffer per thread for the values of one decoding step.
+   *
+   * <p>Vectors are spilled here to combine the values of each character-triple.
+   * Reusing the buffer keeps decoding free of allocation.
+   */
+  private static final ThreadLocal<byte[]> DECODE_SCRATCH = ThreadLocal.withInitial(
+      () -> new byte[3 * CHARS.length()]
+  ); // */
+
+  /**
+   * Scratch buffer per thread for the digits of one encoding step.
+   */
+  private static final ThreadLocal<int[]> ENCODE_SCRATCH = ThreadLocal.withInitial(
+      () -> new int[3 * INTS.length()]
+  ); // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45VectorKernel() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Decode a prefix of a range of ASCII characters.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    index of first character in {@code src} to be decoded
+   * @param len    number of characters available for decoding
+   * @param dst    buffer receiving the decoded octets
+   * @param dstOff index of first octet in {@code dst} to be written
+   *
+   * @return number of characters decoded, always a multiple of three
+   *
+   * @throws IllegalArgumentException under the same conditions and with the same
+   *                                  messages as {@link Base45#decode(CharSequence)}
+   */
+  /* package */ static int decode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int lanes = CHARS.length();
+    final int charsPerStep = 3 * lanes;
+    final int noSteps = len / charsPerStep;
+    final byte[] values = DECODE_SCRATCH.get();
+
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = noSteps; i-- > 0;) { // NOPMD assignment in operand
+      final ByteVector value0 = values(ByteVector.fromArray(CHARS, src, index));
+      final ByteVector value1 = values(ByteVector.fromArray(CHARS, src, index + lanes));
+      final ByteVector value2 = values(ByteVector.fromArray(CHARS, src, index + 2 * lanes));
+      value0.intoArray(values, 0);
+      value1.intoArray(values, lanes);
+      value2.intoArray(values, 2 * lanes);
+
+      // Note 1: Invalid characters are mapped to negative values.
+      int check = value0.or(value1).or(value2).compare(VectorOperators.LT, 0).anyTrue() ? -1 : 0;
+      for (int j = 0; j < charsPerStep; j += 3) {
+        final int word = values[j]
+            + Base45.MODUL * (values[j + 1] + Base45.MODUL * values[j + 2]);
+        check |= word;
+        dst[outIndex++] = (byte) (word >> 8);
+        dst[outIndex++] = (byte) word;
+      } // end for (j...)
+
+      // Note 2: At this point check is a non-negative number less than 0x1_0000 iff
+      //         all characters are valid and all words are in range.
+      if (0 != (check >>> 16)) {
+        // ... invalid input
+        //     => let the reference implementation throw an appropriate exception
+        for (int j = index; j < index + charsPerStep; j += 3) {
+          Base45.decode(
+              (char) (src[j] & 0xff),
+              (char) (src[j + 1] & 0xff),
+              (char) (src[j + 2] & 0xff)
+          );
+        } // end for (j...)
+      } // end if
+
+      index += charsPerStep;
+    } // end for (i...)
+
+    return noSteps * charsPerStep;
+  } // end method */
+
+  /**
+   * Encode a prefix of a range of octets into ASCII characters.
+   *
+   * @param src    octets to be encoded
+   * @param off    index of first octet in {@code src} to be encoded
+   * @param len    number of octets available for encoding
+   * @param dst    buffer receiving the ASCII characters
+   * @param dstOff index of first character in {@code dst} to be written
+   *
+   * @return number of octets encoded, always a multiple of two
+   */
+  /* package */ static int encode(
+      final byte[] src,
+      final int off,
+      final int len,
+      final byte[] dst,
+      final int dstOff
+  ) {
+    final int lanes = INTS.length();
+    final int octetsPerStep = 2 * lanes;
+    final int charsPerStep = 3 * lanes;
+    final int noSteps = len / octetsPerStep;
+    final int[] digits = ENCODE_SCRATCH.get();
+
+    int index = off;
+    int outIndex = dstOff;
+    for (int i = noSteps; i-- > 0;) { // NOPMD assignment in operand
+      // Note 1: Reinterpretation of lanes is little-endian by definition, thus the
+      //         octets in each word are swapped afterwards.
+      final IntVector raw = (IntVector) ByteVector.fromArray(OCTETS, src, index)
+          .reinterpretAsShorts()
+          .convertShape(VectorOperators.S2I, INTS, 0);
+      final IntVector word = raw.and(0xff).lanewise(VectorOperators.LSHL, 8)
+          .or(raw.lanewise(VectorOperators.LSHR, 8).and(0xff));
+
+      final IntVector quotient = div45(word);
+      final IntVector digitE = div45(quotient);
+      final IntVector digitC = word.sub(quotient.mul(Base45.MODUL));
+      final IntVector digitD = quotient.sub(digitE.mul(Base45.MODUL));
+
+      digitC.intoArray(digits, 0);
+      digitD.intoArray(digits, lanes);
+      digitE.intoArray(digits, 2 * lanes);
+
+      // Note 2: Digits are mapped to characters while interleaving. Mapping them
+      //         lane-wise needs so many nodes that C2 stops inlining the vector
+      //         operations in this method, which then box each intermediate vector.
+      for (int j = 0; j < lanes; j++) {
+        dst[outIndex + 3 * j] = (byte) Base45.CHARS[digits[j]];
+        dst[outIndex + 3 * j + 1] = (byte) Base45.CHARS[digits[lanes + j]];
+        dst[outIndex + 3 * j + 2] = (byte) Base45.CHARS[digits[2 * lanes + j]];
+      } // end for (j...)
+
+      index += octetsPerStep;
+      outIndex += charsPerStep;
+    } // end for (i...)
+
+    return noSteps * octetsPerStep;
+  } // end method */
+
+  /**
+   * Divides by 45.
+   *
+   * @param value lanes in range [0, 65535]
+   *
+   * @return {@code value / 45}
+   */
+  private static IntVector div45(
+      final IntVector value
+  ) {
+    return value.mul(DIV_MULTIPLIER).lanewise(VectorOperators.LSHR, DIV_SHIFT);
+  } // end method */
+
+  /**
+   * Maps ASCII characters to their values.
+   *
+   * @param chars lanes with characters
+   *
+   * @return values in range [0, 44], or {@code -1} for characters not in
+   *         {@link Base45#ALPHABET}
+   */
+  /* package */ static ByteVector values(
+      final ByteVector chars
+  ) {
+    // Note: Octets with the most significant bit set are negative and thus neither
+    //       in range ['0', '9'] nor ['A', 'Z'] nor equal to any other character.
+    final VectorMask<Byte> digits = chars.compare(VectorOperators.GE, (byte) '0')
+        .and(chars.compare(VectorOperators.LE, (byte) '9'));
+    final VectorMask<Byte> letters = chars.compare(VectorOperators.GE, (byte) 'A')
+        .and(chars.compare(VectorOperators.LE, (byte) 'Z'));
+
+    ByteVector result = ByteVector.broadcast(chars.species(), (byte) -1)
+        .blend(chars.sub((byte) '0'), digits)
+        .blend(chars.sub((byte) ('A' - 10)), letters);
+    for (int value = 36; value < Base45.MODUL; value++) {
+      result = result.blend(
+          (byte) value,
+          chars.compare(VectorOperators.EQ, (byte) Base45.CHARS[value])
+      );
+    } // end for (value...)
+
+    return result;
+  } // end method */
+} // end class
@@ -2,10 +2,14 @@ package com.base45; // NOPMD too many static imports
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Random;
@@ -108,6 +112,88 @@ final class TestBase45 {
     // intentionally empty
   } // end method */
 
+  /**
+   * Test method for {@link Base45.Decoder}.
+   */
+  @Test
+  void test_Decoder() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. decode(byte[], int, int, byte[], int)-method works as expected
+
+    // Test strategy:
+    // --- a. getDecoder() always returns the same instance
+    // --- b. decode(byte[]), decode(String), decode(byte[], byte[])
+    // --- c. decode(ByteBuffer) for heap, direct and read-only buffers
+    // --- d. decode(ByteBuffer, ByteBuffer) for heap, direct and read-only buffers
+    // --- e. ERROR: invalid input leaves positions unchanged
+    // --- f. ERROR: output buffer too small
+    final Base45.Decoder dut = Base45.getDecoder();
+
+    // --- a. getDecoder() always returns the same instance
+    assertSame(dut, Base45.getDecoder());
+
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+      final byte[] ascii = encoded.getBytes(StandardCharsets.US_ASCII);
+
+      // --- b. decode(byte[]), decode(String), decode(byte[], byte[])
+      assertArrayEquals(octets, dut.decode(ascii));
+      assertArrayEquals(octets, dut.decode(encoded));
+      final byte[] dst = new byte[octets.length + 1];
+      assertEquals(octets.length, dut.decode(ascii, dst));
+      assertArrayEquals(octets, Arrays.copyOf(dst, octets.length));
+
+      for (final ByteBuffer src : buffers(ascii)) {
+        // --- c. decode(ByteBuffer) for heap, direct and read-only buffers
+        final int position = src.position();
+        final ByteBuffer result = dut.decode(src);
+        assertEquals(src.limit(), src.position());
+        assertEquals(0, result.position());
+        assertEquals(octets.length, result.remaining());
+        assertEquals(ByteBuffer.wrap(octets), result);
+
+        // --- d. decode(ByteBuffer, ByteBuffer) for heap, direct and read-only buffers
+        src.position(position);
+        for (final ByteBuffer out : new ByteBuffer[]{
+            ByteBuffer.allocate(octets.length + 4),
+            ByteBuffer.allocateDirect(octets.length + 4),
+        }) {
+          out.position(2);
+          assertEquals(octets.length, dut.decode(src, out));
+          assertEquals(src.limit(), src.position());
+          assertEquals(2 + octets.length, out.position());
+          out.flip().position(2);
+          assertEquals(ByteBuffer.wrap(octets), out);
+          src.position(position);
+        } // end for (out...)
+      } // end for (src...)
+    }); // end forEach(i -> ...)
+
+    // --- e. ERROR: invalid input leaves positions unchanged
+    for (final ByteBuffer src : buffers("00:::".getBytes(StandardCharsets.US_ASCII))) {
+      final int position = src.position();
+      final ByteBuffer out = ByteBuffer.allocateDirect(10);
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> dut.decode(src, out)
+      );
+      assertEquals("invalid code", throwable.getMessage());
+      assertEquals(position, src.position());
+      assertEquals(0, out.position());
+    } // end for (src...)
+
+    // --- f. ERROR: output buffer too small
+    {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> dut.decode(ByteBuffer.wrap(new byte[]{'0', '0'}), ByteBuffer.allocate(0))
+      );
+      assertEquals("output buffer too small", throwable.getMessage());
+    }
+  } // end method */
+
   /**
    * Test method for {@link Base45#decode(CharSequence)}.
    */
@@ -253,6 +339,372 @@ final class TestBase45 {
     }
   } // end method */
 
+  /**
+   * Test method for {@link Base45#decode(CharSequence, int, int, byte[], int)}.
+   */
+  @Test
+  void test_decode__CharSequence_int_int_byteA_int() { // NOPMD '_' character in name
+    // Assertions:
+    // ... a. decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random ranges within random input, random output offset
+    // --- b. ERROR: range not within input
+    // --- c. ERROR: output buffer too small
+    // --- d. ERROR: invalid number of input characters
+
+    // --- a. random ranges within random input, random output offset
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final String prefix = Base45.encode(new byte[RNG.nextInt(5)]);
+      final String input = prefix + Base45.encode(octets) + "::";
+      final int dstOff = RNG.nextInt(5);
+      final byte[] dst = new byte[dstOff + octets.length + RNG.nextInt(5)];
+
+      assertEquals(
+          octets.length,
+          Base45.decode(input, prefix.length(), input.length() - prefix.length() - 2, dst, dstOff)
+      );
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, dstOff, dstOff + octets.length));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: range not within input
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.decode("000", -1, 3, new byte[2], 0)
+    );
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.decode("000", 1, 3, new byte[2], 0)
+    );
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.decode("000", 0, 3, new byte[2], 3)
+    );
+
+    // --- c. ERROR: output buffer too small
+    {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.decode("00000", 0, 5, new byte[4], 2)
+      );
+      assertEquals("output buffer too small", throwable.getMessage());
+    }
+
+    // --- d. ERROR: invalid number of input characters
+    {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.decode("0000", 0, 4, new byte[2], 0)
+      );
+      assertEquals("invalid number of input character", throwable.getMessage());
+      assertNotNull(throwable.getCause());
+    }
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#decode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_decode__byteA_int_int_byteA_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random ranges within random input, random output offset
+    // --- b. ERROR: invalid characters, also non-ASCII
+    // --- c. ERROR: invalid number of input characters
+
+    // --- a. random ranges within random input, random output offset
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final byte[] input = ("0" + Base45.encode(octets)).getBytes(StandardCharsets.US_ASCII);
+      final int dstOff = RNG.nextInt(5);
+      final byte[] dst = new byte[dstOff + octets.length];
+
+      assertEquals(octets.length, Base45.decode(input, 1, input.length - 1, dst, dstOff));
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, dstOff, dst.length));
+      assertArrayEquals(octets, Base45.decode(new String(input, 1, input.length - 1,
+          StandardCharsets.US_ASCII)));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: invalid characters, also non-ASCII
+    Arrays.stream(new byte[][]{
+        {'_', 'a'},
+        {'1', '2', (byte) 0xb0},
+        {'1', '2', '3', (byte) 0xc1, '5'},
+    }).forEach(input -> {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.decode(input, 0, input.length, new byte[4], 0)
+      );
+      assertEquals("invalid character(s)", throwable.getMessage());
+    }); // end forEach(input -> ...)
+
+    // --- c. ERROR: invalid number of input characters
+    {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.decode(new byte[]{'0'}, 0, 1, new byte[0], 0)
+      );
+      assertEquals("invalid number of input character", throwable.getMessage());
+    }
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#decodedLength(int)}.
+   */
+  @Test
+  void test_decodedLength__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. smoke test with valid input
+    // --- b. ERROR: invalid input
+
+    // --- a. smoke test with valid input
+    for (int i = 0; i < 1000; i++) {
+      if (1 != i % 3) { // NOPMD literal in conditional statement
+        assertEquals(i, Base45.encodedLength(Base45.decodedLength(i)));
+      } // end if
+    } // end for (i...)
+
+    // --- b. ERROR: invalid input
+    for (final int noChars : new int[]{-3, -1, 1, 4, 3001}) {
+      assertThrows(IllegalArgumentException.class, () -> Base45.decodedLength(noChars));
+    } // end for (noChars...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#isValid(CharSequence)}.
+   */
+  @Test
+  void test_isValid__CharSequence() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. valid input
+    // --- b. invalid input
+    // --- a. valid input
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+
+      assertTrue(Base45.isValid(Base45.encode(octets)));
+    }); // end forEach(i -> ...)
+
+    // --- b. invalid input
+    for (final String input : new String[]{"0", "0000", "a00", "GGW", "00a", "Z6", "0a"}) {
+      assertFalse(Base45.isValid(input), input);
+    } // end for (input...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#tryDecode(CharSequence, int, int, byte[], int)}.
+   */
+  @Test
+  void test_tryDecode__CharSequence_int_int_byteA_int() { // NOPMD '_' character in name
+    // Test strategy:
+    // --- a. valid input
+    // --- b. invalid input leaves output unchanged
+    // --- c. ERROR: invalid range or output buffer too small
+
+    // --- a. valid input
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final String encoded = "::" + Base45.encode(octets);
+      final byte[] dst = new byte[octets.length + 1];
+
+      assertEquals(
+          octets.length,
+          Base45.tryDecode(encoded, 2, encoded.length() - 2, dst, 1)
+      );
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 1, dst.length));
+    }); // end forEach(i -> ...)
+
+    // --- b. invalid input leaves output unchanged
+    final byte[] dst = new byte[10];
+    assertEquals(-Base45.ERROR_CHARACTER, Base45.tryDecode("000a00", 0, 6, dst, 0));
+    assertEquals(-Base45.ERROR_LENGTH, Base45.tryDecode("0000", 0, 4, dst, 0));
+    assertEquals(-Base45.ERROR_CODE, Base45.tryDecode("000GGW", 0, 6, dst, 0));
+    assertEquals(-Base45.ERROR_CODE, Base45.tryDecode("000Z6", 0, 5, dst, 0));
+    assertArrayEquals(new byte[10], dst);
+
+    // --- c. ERROR: invalid range or output buffer too small
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.tryDecode("000", 1, 3, dst, 0)
+    );
+    assertEquals(
+        "output buffer too small",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45.tryDecode("000", 0, 3, dst, 9)
+        ).getMessage()
+    );
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#validate(CharSequence, int, int)}.
+   */
+  @Test
+  void test_validate__CharSequence_int_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. manually chosen input
+    // --- b. random input compared to decode(CharSequence)
+    // --- c. ERROR: invalid range
+
+    // --- a. manually chosen input
+    assertEquals(Base45.VALID, Base45.validate(""));
+    assertEquals(Base45.VALID, Base45.validate("FGW"));
+    assertEquals(Base45.VALID, Base45.validate("U5"));
+    for (final Object[] vector : new Object[][]{
+        {"a00", Base45.ERROR_CHARACTER, 0},
+        {"0a0", Base45.ERROR_CHARACTER, 1},
+        {"00a", Base45.ERROR_CHARACTER, 2},
+        {"000a", Base45.ERROR_LENGTH, 4},
+        {"0000", Base45.ERROR_LENGTH, 4},
+        {"0000a", Base45.ERROR_CHARACTER, 4},
+        {"0000\u0130", Base45.ERROR_CHARACTER, 4},
+        {"GGW0", Base45.ERROR_CODE, 0},
+        {"a000a00", Base45.ERROR_CHARACTER, 0},
+        {"00000a", Base45.ERROR_CHARACTER, 5},
+        {"000V5", Base45.ERROR_CODE, 3},
+        {"0:0a", Base45.ERROR_LENGTH, 4},
+        {"::", Base45.ERROR_CODE, 0},
+    }) {
+      final String input = (String) vector[0];
+      final long status = Base45.validate(input);
+
+      assertEquals(vector[1], Base45.errorKind(status), input);
+      assertEquals(vector[2], Base45.errorOffset(status), input);
+    } // end for (vector...)
+
+    // --- b. random input compared to decode(CharSequence)
+    final String alphabet = Base45.ALPHABET + "a";
+    IntStream.rangeClosed(0, 10_000).forEach(i -> {
+      final char[] chars = new char[RNG.nextInt(20)];
+      for (int j = chars.length; j-- > 0;) { // NOPMD assignment in operand
+        chars[j] = alphabet.charAt(RNG.nextInt(alphabet.length()));
+      } // end for (j...)
+      final String input = ":" + new String(chars);
+      final long status = Base45.validate(input, 1, chars.length);
+
+      String message = null; // NOPMD redundant initializer
+      try {
+        Base45.decode(input.substring(1));
+        if (Base45.VALID != status) {
+          // ... decode(CharSequence) accepts final pairs with a value above 255
+          assertEquals(Base45.ERROR_CODE, Base45.errorKind(status));
+          assertEquals(2, chars.length % 3);
+          assertEquals(chars.length - 2 + 1, Base45.errorOffset(status));
+        } // end if
+        return;
+      } catch (IllegalArgumentException e) {
+        message = e.getMessage();
+      } // end catch (IllegalArgumentException)
+      assertEquals(
+          message,
+          new String[]{"", "invalid character(s)", "invalid number of input character",
+              "invalid code"}[Base45.errorKind(status)]
+      );
+    }); // end forEach(i -> ...)
+
+    // --- c. ERROR: invalid range
+    assertThrows(IndexOutOfBoundsException.class, () -> Base45.validate("000", 1, 3));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#decodeStatus(CharSequence, int, int, byte[], int)}.
+   */
+  @Test
+  void test_decodeStatus__CharSequence_int_int_byteA_int() { // NOPMD '_' in name of method
+    // Assertions:
+    // ... a. decode(CharSequence)-method works as expected
+    // ... b. validate(CharSequence, int, int)-method works as expected
+
+    // Test strategy:
+    // --- a. manually chosen input
+    // --- b. random input compared to decode(CharSequence) and validate(...)
+    // --- c. valid input long enough for the bulk kernels
+    // --- d. long input with an error at a random position
+
+    // --- a. manually chosen input
+    final byte[] dst = new byte[4];
+    for (final Object[] vector : new Object[][]{
+        {"", Base45.VALID, 0},
+        {"FGW", Base45.VALID, 0},
+        {"::", Base45.VALID, 0}, // accepted as by decode(CharSequence)
+        {"000V5", Base45.VALID, 0},
+        {"0a0", Base45.ERROR_CHARACTER, 1},
+        {"0000", Base45.ERROR_LENGTH, 4},
+        {"GGW0", Base45.ERROR_CODE, 0},
+        {"00000a", Base45.ERROR_CHARACTER, 5},
+        {"0:0a", Base45.ERROR_LENGTH, 4},
+    }) {
+      final String input = (String) vector[0];
+      final long status = Base45.decodeStatus(input, 0, input.length(), dst, 0);
+
+      assertEquals(((Number) vector[1]).intValue(), Base45.errorKind(status), input);
+      assertEquals(vector[2], Base45.errorOffset(status), input);
+    } // end for (vector...)
+
+    // --- b. random input compared to decode(CharSequence) and validate(...)
+    final String alphabet = Base45.ALPHABET + "a";
+    IntStream.rangeClosed(0, 10_000).forEach(i -> {
+      final char[] chars = new char[RNG.nextInt(20)];
+      for (int j = chars.length; j-- > 0;) { // NOPMD assignment in operand
+        chars[j] = alphabet.charAt(RNG.nextInt(alphabet.length()));
+      } // end for (j...)
+      final String input = ":" + new String(chars);
+      final byte[] buffer = new byte[chars.length + 1];
+      final long status = Base45.decodeStatus(input, 1, chars.length, buffer, 1);
+
+      try {
+        final byte[] expected = Base45.decode(input.substring(1));
+
+        assertEquals(Base45.VALID, status, input);
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer, 1, 1 + expected.length));
+      } catch (IllegalArgumentException e) {
+        assertEquals(e.getMessage(), Base45.errorMessage(Base45.errorKind(status)));
+        assertEquals(Base45.validate(input, 1, chars.length), status, input);
+      } // end catch (IllegalArgumentException)
+    }); // end forEach(i -> ...)
+
+    // --- c. valid input long enough for the bulk kernels
+    IntStream.rangeClosed(0, 100).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(2000)];
+      RNG.nextBytes(octets);
+      final String input = ":" + Base45.encode(octets);
+      final byte[] buffer = new byte[octets.length + 1];
+      final long status = Base45.decodeStatus(input, 1, input.length() - 1, buffer, 1);
+
+      assertEquals(Base45.VALID, status);
+      assertArrayEquals(octets, Arrays.copyOfRange(buffer, 1, buffer.length));
+    }); // end forEach(i -> ...)
+
+    // --- d. long input with an error at a random position
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final char[] chars = (Base45.encode(octets) + "0").toCharArray();
+      chars[RNG.nextInt(chars.length)] = "aGW:0".charAt(RNG.nextInt(5));
+      final String input = new String(chars, 0, chars.length - RNG.nextInt(2));
+      final long status = Base45.decodeStatus(input, 0, input.length(), new byte[100], 0);
+
+      try {
+        Base45.decode(input);
+
+        assertEquals(Base45.VALID, status, input);
+      } catch (IllegalArgumentException e) {
+        assertEquals(e.getMessage(), Base45.errorMessage(Base45.errorKind(status)), input);
+        assertEquals(Base45.validate(input), status, input);
+      } // end catch (IllegalArgumentException)
+    }); // end forEach(i -> ...)
+  } // end method */
+
   /**
    * Test method for {@link Base45#decode(char, char, char)}.
    */
@@ -313,6 +765,77 @@ final class TestBase45 {
     } // end for (i...)
   } // end method */
 
+  /**
+   * Test method for {@link Base45.Encoder}.
+   */
+  @Test
+  void test_Encoder() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. getEncoder() always returns the same instance
+    // --- b. encode(byte[]), encodeToString(byte[]), encode(byte[], byte[])
+    // --- c. encode(ByteBuffer) for heap, direct and read-only buffers
+    // --- d. encode(ByteBuffer, ByteBuffer) for heap, direct and read-only buffers
+    // --- e. ERROR: output buffer too small leaves positions unchanged
+    final Base45.Encoder dut = Base45.getEncoder();
+
+    // --- a. getEncoder() always returns the same instance
+    assertSame(dut, Base45.getEncoder());
+
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final String expected = Base45.encode(octets);
+      final byte[] ascii = expected.getBytes(StandardCharsets.US_ASCII);
+
+      // --- b. encode(byte[]), encodeToString(byte[]), encode(byte[], byte[])
+      assertArrayEquals(ascii, dut.encode(octets));
+      assertEquals(expected, dut.encodeToString(octets));
+      final byte[] dst = new byte[ascii.length + 1];
+      assertEquals(ascii.length, dut.encode(octets, dst));
+      assertArrayEquals(ascii, Arrays.copyOf(dst, ascii.length));
+
+      for (final ByteBuffer src : buffers(octets)) {
+        // --- c. encode(ByteBuffer) for heap, direct and read-only buffers
+        final int position = src.position();
+        final ByteBuffer result = dut.encode(src);
+        assertEquals(src.limit(), src.position());
+        assertEquals(0, result.position());
+        assertEquals(ByteBuffer.wrap(ascii), result);
+
+        // --- d. encode(ByteBuffer, ByteBuffer) for heap, direct and read-only buffers
+        src.position(position);
+        for (final ByteBuffer out : new ByteBuffer[]{
+            ByteBuffer.allocate(ascii.length + 4),
+            ByteBuffer.allocateDirect(ascii.length + 4),
+        }) {
+          out.position(3);
+          assertEquals(ascii.length, dut.encode(src, out));
+          assertEquals(src.limit(), src.position());
+          assertEquals(3 + ascii.length, out.position());
+          out.flip().position(3);
+          assertEquals(ByteBuffer.wrap(ascii), out);
+          src.position(position);
+        } // end for (out...)
+      } // end for (src...)
+    }); // end forEach(i -> ...)
+
+    // --- e. ERROR: output buffer too small leaves positions unchanged
+    {
+      final ByteBuffer src = ByteBuffer.allocateDirect(3);
+      final ByteBuffer out = ByteBuffer.allocateDirect(4);
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> dut.encode(src, out)
+      );
+      assertEquals("output buffer too small", throwable.getMessage());
+      assertEquals(0, src.position());
+      assertEquals(0, out.position());
+    }
+  } // end method */
+
   /**
    * Test method for {@link Base45#encode(byte[])}.
    */
@@ -433,6 +956,102 @@ final class TestBase45 {
         });
   } // end method */
 
+  /**
+   * Test method for {@link Base45#encode(byte[], int, int, char[], int)}.
+   */
+  @Test
+  void test_encode__byteA_int_int_charA_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random ranges within random input, random output offset
+    // --- b. ERROR: range not within input
+    // --- c. ERROR: output buffer too small
+
+    // --- a. random ranges within random input, random output offset
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] input = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(input);
+      final int off = RNG.nextInt(input.length + 1);
+      final int len = RNG.nextInt(input.length - off + 1);
+      final String expected = Base45.encode(Arrays.copyOfRange(input, off, off + len));
+      final int dstOff = RNG.nextInt(5);
+      final char[] dst = new char[dstOff + expected.length() + RNG.nextInt(5)];
+
+      assertEquals(expected.length(), Base45.encode(input, off, len, dst, dstOff));
+      assertEquals(expected, new String(dst, dstOff, expected.length()));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: range not within input
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.encode(new byte[2], 1, 2, new char[3], 0)
+    );
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45.encode(new byte[2], 0, -1, new char[3], 0)
+    );
+
+    // --- c. ERROR: output buffer too small
+    {
+      final Throwable throwable = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.encode(new byte[3], 0, 3, new char[5], 1)
+      );
+      assertEquals("output buffer too small", throwable.getMessage());
+    }
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#encode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_encode__byteA_int_int_byteA_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random ranges within random input, random output offset
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] input = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(input);
+      final int off = RNG.nextInt(input.length + 1);
+      final int len = RNG.nextInt(input.length - off + 1);
+      final String expected = Base45.encode(Arrays.copyOfRange(input, off, off + len));
+      final int dstOff = RNG.nextInt(5);
+      final byte[] dst = new byte[dstOff + expected.length()];
+
+      assertEquals(expected.length(), Base45.encode(input, off, len, dst, dstOff));
+      assertEquals(
+          expected,
+          new String(dst, dstOff, expected.length(), StandardCharsets.US_ASCII)
+      );
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#encodedLength(int)}.
+   */
+  @Test
+  void test_encodedLength__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. manually chosen corner cases
+    // --- b. ERROR: invalid input
+
+    // --- a. manually chosen corner cases
+    assertEquals(0, Base45.encodedLength(0));
+    assertEquals(2, Base45.encodedLength(1));
+    assertEquals(3, Base45.encodedLength(2));
+    assertEquals(5, Base45.encodedLength(3));
+    assertEquals(Integer.MAX_VALUE - 1, Base45.encodedLength(1_431_655_764));
+
+    // --- b. ERROR: invalid input
+    for (final int noOctets : new int[]{-1, 1_431_655_765, Integer.MAX_VALUE}) {
+      assertThrows(IllegalArgumentException.class, () -> Base45.encodedLength(noOctets));
+    } // end for (noOctets...)
+  } // end method */
+
   /**
    * Test method for {@link Base45#encode(int[], char)}.
    */
@@ -453,4 +1072,39 @@ final class TestBase45 {
       assertEquals(intE, encoded[2]);
     }); // end forEach(i -> ...)
   } // end method */
+
+  /**
+   * Test method for {@link Base45#value(char)}.
+   */
+  @Test
+  void test_value__char() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. loop over all possible input values
+    for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+      final char character = (char) i;
+      assertEquals(Base45.ALPHABET.indexOf(character), Base45.value(character));
+    } // end for (i...)
+  } // end method */
+
+  /**
+   * Returns buffers containing given octets in their remaining part.
+   *
+   * @param octets content of buffers
+   *
+   * @return heap buffer, direct buffer and read-only buffer, each with a position
+   *         greater than zero
+   */
+  private static ByteBuffer[] buffers(
+      final byte[] octets
+  ) {
+    final ByteBuffer heap = ByteBuffer.allocate(octets.length + 2);
+    heap.position(1);
+    heap.put(octets).flip().position(1);
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(octets.length + 3);
+    direct.position(3);
+    direct.put(octets).flip().position(3);
+
+    return new ByteBuffer[]{heap, direct, heap.asReadOnlyBuffer()};
+  } // end method */
 } // end class
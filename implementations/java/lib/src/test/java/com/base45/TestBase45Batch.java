@@ -0,0 +1,170 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Batch}.
+ */
+final class TestBase45Batch {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Batch#decode(List, boolean)}.
+   */
+  @Test
+  void test_decode__List_boolean() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. empty batch
+    // --- b. random batches, sequential and parallel, some items invalid
+    for (final boolean parallel : new boolean[]{false, true}) {
+      // --- a. empty batch
+      final Base45Batch empty = Base45Batch.decode(Collections.<String>emptyList(), parallel);
+      assertEquals(0, empty.size());
+      assertEquals(0, empty.getBuffer().length);
+      assertArrayEquals(new int[1], empty.getOffsets());
+      assertEquals(0, empty.getErrorCount());
+
+      // --- b. random batches, sequential and parallel, some items invalid
+      IntStream.rangeClosed(0, 100).forEach(i -> {
+        final List<String> items = new ArrayList<>();
+        final List<byte[]> expected = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        for (int j = RNG.nextInt(300); j-- > 0;) { // NOPMD assignment in operand
+          final byte[] octets = new byte[RNG.nextInt(700)];
+          RNG.nextBytes(octets);
+          String encoded = Base45.encode(octets);
+          switch (RNG.nextInt(10)) {
+            case 0:
+              encoded += "0";
+              break;
+
+            case 1:
+              encoded = "a" + encoded;
+              break;
+
+            case 2:
+              encoded = "GGW" + encoded;
+              break;
+
+            case 3:
+              // ... final character-pair exceeding 255, accepted by decode(CharSequence)
+              encoded = (0 == encoded.length() % 3) ? encoded + "::" : encoded;
+              break;
+
+            default:
+              break;
+          } // end switch
+          String error = null; // NOPMD redundant initializer
+          byte[] decoded = new byte[0];
+          try {
+            decoded = Base45.decode(encoded);
+          } catch (IllegalArgumentException e) {
+            error = e.getMessage();
+          } // end catch (IllegalArgumentException)
+          items.add(encoded);
+          expected.add(decoded);
+          errors.add(error);
+        } // end for (j...)
+
+        final Base45Batch dut = Base45Batch.decode(items, parallel);
+
+        assertEquals(items.size(), dut.size());
+        assertEquals(dut.getBuffer().length, dut.getOffset(dut.size()));
+        int errorCount = 0;
+        for (int j = 0; j < items.size(); j++) {
+          assertArrayEquals(expected.get(j), dut.get(j));
+          assertEquals(expected.get(j).length, dut.getLength(j));
+          assertArrayEquals(
+              expected.get(j),
+              Arrays.copyOfRange(dut.getBuffer(), dut.getOffset(j), dut.getOffset(j + 1))
+          );
+          assertEquals(errors.get(j), dut.getError(j));
+          if (null == errors.get(j)) {
+            assertEquals(0, dut.getErrorKind(j));
+          } else {
+            assertEquals(errors.get(j), Base45.errorMessage(dut.getErrorKind(j)));
+            errorCount++;
+          } // end else
+        } // end for (j...)
+        assertEquals(errorCount, dut.getErrorCount());
+      }); // end forEach(i -> ...)
+    } // end for (parallel...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Batch#encode(byte[][], boolean)}.
+   */
+  @Test
+  void test_encode__byteAA_boolean() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. random batches, sequential and parallel
+    for (final boolean parallel : new boolean[]{false, true}) {
+      IntStream.rangeClosed(0, 100).forEach(i -> {
+        final byte[][] items = new byte[RNG.nextInt(300)][];
+        for (int j = items.length; j-- > 0;) { // NOPMD assignment in operand
+          items[j] = new byte[RNG.nextInt(700)];
+          RNG.nextBytes(items[j]);
+        } // end for (j...)
+
+        final Base45Batch dut = Base45Batch.encode(items, parallel);
+
+        assertEquals(items.length, dut.size());
+        assertEquals(0, dut.getErrorCount());
+        for (int j = 0; j < items.length; j++) {
+          assertEquals(Base45.encode(items[j]), dut.getString(j));
+          assertNull(dut.getError(j));
+        } // end for (j...)
+      }); // end forEach(i -> ...)
+    } // end for (parallel...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Batch#getOffset(int)}.
+   */
+  @Test
+  void test_getOffset__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. smoke test with Base45 entry points
+    // --- b. ERROR: index out of range
+    final Base45Batch dut = Base45.encodeAll(new byte[][]{{1}, {}, {1, 2, 3}});
+    assertEquals(0, dut.getOffset(0));
+    assertEquals(2, dut.getOffset(1));
+    assertEquals(2, dut.getOffset(2));
+    assertEquals(7, dut.getOffset(3));
+    assertEquals("10", dut.getString(0));
+    assertEquals("", dut.getString(1));
+    assertEquals("X5030", dut.getString(2));
+    assertArrayEquals(
+        new byte[]{1, 2, 3},
+        Base45.decodeAllParallel(Collections.singletonList("X5030")).get(0)
+    );
+    assertEquals(
+        Base45.encodeAllParallel(new byte[][]{{4}}).getString(0),
+        Base45.encodeAll(new byte[][]{{4}}).getString(0)
+    );
+    assertEquals(
+        "invalid code",
+        Base45.decodeAll(Collections.singletonList("GGW")).getError(0)
+    );
+
+    // --- b. ERROR: index out of range
+    assertThrows(ArrayIndexOutOfBoundsException.class, () -> dut.getOffset(4));
+  } // end method */
+} // end class
@@ -0,0 +1,127 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class performing white-box tests on {@link Base45Cli}.
+ */
+final class TestBase45Cli {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Temporary directory for input and output files.
+   */
+  @TempDir
+  /* package */ Path insTempDir; // NOPMD field is not private */
+
+  /**
+   * Test method for {@link Base45Cli#run(PrintStream, PrintStream, String...)}.
+   */
+  @Test
+  void test_run__PrintStream_PrintStream_StringA() // NOPMD '_' character in name
+      throws IOException {
+    // Test strategy:
+    // --- a. round trip with one and several threads, more than one chunk
+    // --- b. ERROR: invalid command line
+    // --- c. ERROR: invalid input
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    final PrintStream psOut = new PrintStream(out, true, "UTF-8");
+    final PrintStream psErr = new PrintStream(err, true, "UTF-8");
+    final Path plain = insTempDir.resolve("plain");
+    final Path encoded = insTempDir.resolve("encoded");
+    final Path decoded = insTempDir.resolve("decoded");
+
+    // --- a. round trip with one and several threads, more than one chunk
+    for (final int size : new int[]{0, 1, 1000, 2 * Base45Cli.CHUNK + 1}) {
+      final byte[] octets = new byte[size];
+      RNG.nextBytes(octets);
+      Files.write(plain, octets);
+
+      for (final String threads : new String[]{"1", "3"}) {
+        assertEquals(
+            0,
+            Base45Cli.run(psOut, psErr, "-t", threads, "-e", plain.toString(), encoded.toString())
+        );
+        assertEquals(
+            Base45.encodedLength(size),
+            Files.size(encoded)
+        );
+        if (size < Base45Cli.CHUNK) {
+          assertEquals(
+              Base45.encode(octets),
+              new String(Files.readAllBytes(encoded), StandardCharsets.US_ASCII)
+          );
+        } // end if
+
+        assertEquals(
+            0,
+            Base45Cli.run(psOut, psErr, "-d", "-t", threads, encoded.toString(), decoded.toString())
+        );
+        assertArrayEquals(octets, Files.readAllBytes(decoded));
+      } // end for (threads...)
+    } // end for (size...)
+    assertTrue(new String(out.toByteArray(), "UTF-8").contains(" MB/s"));
+
+    // --- b. ERROR: invalid command line
+    for (final String[] args : new String[][]{
+        {},
+        {"-e", "in"},
+        {"in", "out"},
+        {"-e", "-t", "0", "in", "out"},
+        {"-e", "-t", "x", "in", "out"},
+        {"-e", "in", "out", "-t"},
+    }) {
+      assertEquals(2, Base45Cli.run(psOut, psErr, args));
+    } // end for (args...)
+
+    // --- c. ERROR: invalid input
+    // Note: An existing output file is left untouched and no partial output remains.
+    final byte[] previous = "previous".getBytes(StandardCharsets.US_ASCII);
+    err.reset();
+    Files.write(encoded, "0000".getBytes(StandardCharsets.US_ASCII));
+    Files.write(decoded, previous);
+    assertEquals(1, Base45Cli.run(psOut, psErr, "-d", encoded.toString(), decoded.toString()));
+    assertTrue(
+        new String(err.toByteArray(), "UTF-8").contains("invalid number of input character")
+    );
+    assertArrayEquals(previous, Files.readAllBytes(decoded));
+    err.reset();
+    Files.write(encoded, "000a00".getBytes(StandardCharsets.US_ASCII));
+    assertEquals(1, Base45Cli.run(psOut, psErr, "-d", encoded.toString(), decoded.toString()));
+    assertTrue(new String(err.toByteArray(), "UTF-8").contains("invalid character(s)"));
+    assertArrayEquals(previous, Files.readAllBytes(decoded));
+    Files.delete(decoded);
+    assertEquals(1, Base45Cli.run(psOut, psErr, "-d", encoded.toString(), decoded.toString()));
+    assertFalse(Files.exists(decoded));
+    try (Stream<Path> files = Files.list(insTempDir)) {
+      assertEquals(2, files.count()); // plain and encoded, no temporary file
+    } // end try-with-resources
+    assertEquals(
+        1,
+        Base45Cli.run(psOut, psErr, "-e", insTempDir.resolve("missing").toString(), "out")
+    );
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Base45Cli.decodedSize(4)
+    );
+  } // end method */
+} // end class
@@ -0,0 +1,123 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45ConstantTime}.
+ */
+final class TestBase45ConstantTime {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45ConstantTime#value(int)}.
+   */
+  @Test
+  void test_value__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. compare with lookup table for all characters
+    for (int character = 0; character <= 0xffff; character++) {
+      assertEquals(Base45.value((char) character), Base45ConstantTime.value(character));
+    } // end for (character...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45ConstantTime#decode(CharSequence)}.
+   */
+  @Test
+  void test_decode__CharSequence() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random valid input, CharSequence and ASCII
+    // --- b. ERROR: one corrupted character gives the same message as the reference
+    // --- c. ERROR: invalid characters take precedence over invalid codes
+    // --- d. ERROR: output is erased
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(1000)];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+
+      // --- a. random valid input, CharSequence and ASCII
+      assertArrayEquals(octets, Base45ConstantTime.decode(encoded));
+      final byte[] ascii = encoded.getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[octets.length];
+      assertEquals(octets.length, Base45ConstantTime.decode(ascii, 0, ascii.length, dst, 0));
+      assertArrayEquals(octets, dst);
+
+      // --- b. ERROR: one corrupted character gives the same message as the reference
+      if (encoded.length() > 0) {
+        final char[] chars = encoded.toCharArray();
+        chars[RNG.nextInt(chars.length)] = (char) RNG.nextInt(0x100);
+        final String corrupted = new String(chars);
+        byte[] reference = null; // NOPMD redundant initializer
+        String expected = null; // NOPMD redundant initializer
+        try {
+          reference = Base45.decode(corrupted);
+        } catch (IllegalArgumentException e) {
+          expected = e.getMessage();
+        } // end catch (IllegalArgumentException)
+
+        if (null == expected) {
+          // ... corrupted character is still valid
+          assertArrayEquals(reference, Base45ConstantTime.decode(corrupted));
+
+          return;
+        } // end if
+
+        final String message = expected;
+        assertEquals(message, message(() -> Base45ConstantTime.decode(corrupted)));
+        assertEquals(
+            message,
+            message(() -> Base45ConstantTime.decode(
+                corrupted.getBytes(StandardCharsets.ISO_8859_1), 0, chars.length,
+                new byte[octets.length], 0
+            ))
+        );
+      } // end if
+    }); // end forEach(i -> ...)
+
+    // --- c. ERROR: invalid characters take precedence over invalid codes
+    assertEquals("invalid code", message(() -> Base45ConstantTime.decode("GGW000")));
+    assertEquals("invalid character(s)", message(() -> Base45ConstantTime.decode("GGW0a0")));
+    assertEquals("invalid character(s)", message(() -> Base45ConstantTime.decode("0a00")));
+    assertEquals(
+        "invalid number of input character",
+        message(() -> Base45ConstantTime.decode("0000"))
+    );
+
+    // --- d. ERROR: output is erased
+    final byte[] dst = new byte[6];
+    for (final String input : new String[]{"Q3SQ3S:::", "Q3SQ3S0", "Q3SQ3S0a"}) {
+      dst[0] = 1;
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45ConstantTime.decode(input, 0, input.length(), dst, 0)
+      );
+      assertArrayEquals(new byte[6], dst);
+    } // end for (input...)
+  } // end method */
+
+  /**
+   * Returns the message of an {@link IllegalArgumentException}.
+   *
+   * @param runnable expected to throw
+   *
+   * @return message of exception
+   */
+  private static String message(
+      final Runnable runnable
+  ) {
+    return assertThrows(IllegalArgumentException.class, runnable::run).getMessage();
+  } // end method */
+} // end class
@@ -0,0 +1,180 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45DecodeCache}.
+ */
+final class TestBase45DecodeCache {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45DecodeCache#noStripes(int)}.
+   */
+  @Test
+  void test_noStripes__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. small caches have one stripe
+    // --- b. stripes hold at least MIN_STRIPE_ENTRIES
+    // --- c. upper bound
+    // --- a. small caches have one stripe
+    assertEquals(1, Base45DecodeCache.noStripes(1));
+    assertEquals(1, Base45DecodeCache.noStripes(31));
+
+    // --- b. stripes hold at least MIN_STRIPE_ENTRIES
+    assertEquals(2, Base45DecodeCache.noStripes(32));
+    assertEquals(4, Base45DecodeCache.noStripes(100));
+
+    // --- c. upper bound
+    assertEquals(Base45DecodeCache.MAX_STRIPES, Base45DecodeCache.noStripes(1 << 20));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45DecodeCache#decode(CharSequence)}.
+   */
+  @Test
+  void test_decode__CharSequence() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. miss, then hit
+    // --- b. defensive copies
+    // --- c. ERROR: invalid input is not cached
+    // --- d. ERROR: invalid bounds
+    final Base45DecodeCache dut = new Base45DecodeCache(100, 10_000);
+
+    // --- a. miss, then hit
+    assertArrayEquals("ietf!".getBytes(), dut.decode("QED8WEX0"));
+    assertEquals(0, dut.getHits());
+    assertEquals(1, dut.getMisses());
+    assertArrayEquals("ietf!".getBytes(), dut.decode(new StringBuilder("QED8WEX0")));
+    assertEquals(1, dut.getHits());
+    assertEquals(1, dut.size());
+    assertEquals(8 + 5, dut.getWeight());
+
+    // --- b. defensive copies
+    final byte[] first = dut.decode("QED8WEX0");
+    first[0] = 0;
+    assertArrayEquals("ietf!".getBytes(), dut.decode("QED8WEX0"));
+    final ByteBuffer view = dut.decodeReadOnly("QED8WEX0");
+    assertTrue(view.isReadOnly());
+    assertEquals(5, view.remaining());
+    assertEquals('i', view.get(0));
+    assertThrows(ReadOnlyBufferException.class, () -> view.put(0, (byte) 0));
+    assertEquals(4, dut.getHits());
+
+    // --- c. ERROR: invalid input is not cached
+    for (int i = 2; i-- > 0;) { // NOPMD assignment in operand
+      assertThrows(IllegalArgumentException.class, () -> dut.decode("GGW"));
+    } // end for (i...)
+    assertEquals(3, dut.getMisses());
+    assertEquals(1, dut.size());
+
+    // --- d. ERROR: invalid bounds
+    assertThrows(IllegalArgumentException.class, () -> new Base45DecodeCache(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new Base45DecodeCache(1, 0));
+  } // end method */
+
+  /**
+   * Test method for eviction in {@link Base45DecodeCache#decode(CharSequence)}.
+   */
+  @Test
+  void test_eviction() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. least recently used entry is evicted by number of entries
+    // --- b. evicted by weight
+    // --- c. entries heavier than a stripe are not cached
+    // --- d. clear
+    final Base45DecodeCache dut = new Base45DecodeCache(2, 1_000, 1);
+    final String a = Base45.encode(new byte[]{1});
+    final String b = Base45.encode(new byte[]{2});
+    final String c = Base45.encode(new byte[]{3});
+
+    // --- a. least recently used entry is evicted by number of entries
+    dut.decode(a);
+    dut.decode(b);
+    dut.decode(a); // a is now more recently used than b
+    dut.decode(c); // evicts b
+    assertEquals(2, dut.size());
+    assertEquals(1, dut.getEvictions());
+    dut.decode(a);
+    assertEquals(2, dut.getHits());
+    dut.decode(b);
+    assertEquals(4, dut.getMisses());
+
+    // --- b. evicted by weight
+    final Base45DecodeCache light = new Base45DecodeCache(100, 20, 1);
+    final String large = Base45.encode(new byte[8]); // weight 12 + 8 = 20
+    light.decode(a);
+    light.decode(large);
+    assertEquals(1, light.size());
+    assertEquals(20, light.getWeight());
+    assertEquals(1, light.getEvictions());
+
+    // --- c. entries heavier than a stripe are not cached
+    light.decode(Base45.encode(new byte[9]));
+    assertEquals(1, light.size());
+    assertEquals(1, light.getEvictions());
+
+    // --- d. clear
+    dut.clear();
+    assertEquals(0, dut.size());
+    assertEquals(0, dut.getWeight());
+    assertEquals(2, dut.getHits());
+  } // end method */
+
+  /**
+   * Test method for concurrent use of {@link Base45DecodeCache#decode(CharSequence)}.
+   */
+  @Test
+  void test_concurrent() throws Exception { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. several threads decode random keys from a small set
+    final String[] keys = IntStream.rangeClosed(0, 63).mapToObj(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+
+      return Base45.encode(octets);
+    }).toArray(String[]::new);
+    final Base45DecodeCache dut = new Base45DecodeCache(48, 100_000);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Future<?>[] futures = new Future<?>[4];
+      for (int t = futures.length; t-- > 0;) { // NOPMD assignment in operand
+        futures[t] = executor.submit(() -> {
+          final Random random = new Random(RNG.nextLong());
+          for (int i = 10_000; i-- > 0;) { // NOPMD assignment in operand
+            final String key = keys[random.nextInt(keys.length)];
+            assertArrayEquals(Base45.decode(key), dut.decode(key));
+          } // end for (i...)
+        });
+      } // end for (t...)
+
+      for (final Future<?> future : futures) {
+        future.get();
+      } // end for (future...)
+    } finally {
+      executor.shutdown();
+    } // end finally
+
+    assertEquals(40_000, dut.getHits() + dut.getMisses());
+    assertTrue(dut.size() <= 48);
+    assertTrue(dut.getHits() > 0);
+  } // end method */
+} // end class
@@ -0,0 +1,111 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Digest}.
+ */
+final class TestBase45Digest {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Digest#digest(CharSequence, MessageDigest)} and
+   * {@link Base45Digest#decode(CharSequence, MessageDigest)}.
+   */
+  @Test
+  void test_digest__CharSequence_MessageDigest() throws NoSuchAlgorithmException { // NOPMD '_'
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random input of sizes around chunk boundaries
+    // --- b. ERROR: invalid characters and length, also in a later chunk
+    final MessageDigest md = MessageDigest.getInstance("SHA-256");
+
+    // --- a. random input of sizes around chunk boundaries
+    IntStream.rangeClosed(0, 500).forEach(i -> {
+      final byte[] octets = new byte[(i < 400) ? i : RNG.nextInt(5 * Base45Digest.CHUNK)];
+      RNG.nextBytes(octets);
+      final byte[] expected = md.digest(octets);
+      final String chars = Base45.encode(octets);
+      final byte[] ascii = chars.getBytes(StandardCharsets.US_ASCII);
+
+      md.update((byte) 42); // pending state is reset
+      assertArrayEquals(expected, Base45Digest.digest(chars, md));
+      assertArrayEquals(expected, Base45Digest.digest(ascii, 0, ascii.length, md));
+      assertArrayEquals(octets, Base45Digest.decode(chars, md));
+      assertArrayEquals(expected, md.digest());
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: invalid characters and length, also in a later chunk
+    final char[] chars = Base45.encode(new byte[3 * Base45Digest.CHUNK]).toCharArray();
+    chars[chars.length - 2] = 'a';
+    final String invalid = new String(chars);
+    assertEquals(
+        "invalid character(s)",
+        assertThrows(IllegalArgumentException.class, () -> Base45Digest.digest(invalid, md))
+            .getMessage()
+    );
+    assertEquals(
+        "invalid number of input character",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Digest.decode(Base45.encode(new byte[2 * Base45Digest.CHUNK]) + "0", md)
+        ).getMessage()
+    );
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Digest#decode(byte[], int, int, Base45Digest.Sink)}
+   * and {@link Base45Digest#decode(CharSequence, int, int, Base45Digest.Sink)}.
+   */
+  @Test
+  void test_decode__byteA_int_int_Sink() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. ranges of random input, chunks are not larger than CHUNK
+    // --- b. ERROR: range outside input
+    // --- a. ranges of random input, chunks are not larger than CHUNK
+    IntStream.rangeClosed(0, 100).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(4 * Base45Digest.CHUNK)];
+      RNG.nextBytes(octets);
+      final String chars = "xy" + Base45.encode(octets) + "z";
+      final byte[] ascii = chars.getBytes(StandardCharsets.US_ASCII);
+      final int len = chars.length() - 3;
+
+      final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+      assertEquals(
+          octets.length,
+          Base45Digest.decode(ascii, 2, len, (buffer, off, length) -> {
+            assertEquals(0, off);
+            assertTrue(length <= Base45Digest.CHUNK / 3 * 2);
+            sink.write(buffer, off, length);
+          })
+      );
+      assertArrayEquals(octets, sink.toByteArray());
+
+      sink.reset();
+      assertEquals(octets.length, Base45Digest.decode(chars, 2, len, sink::write));
+      assertArrayEquals(octets, sink.toByteArray());
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: range outside input
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45Digest.decode(new byte[3], 1, 3, (buffer, off, len) -> { })
+    );
+  } // end method */
+} // end class
@@ -0,0 +1,206 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Engines}.
+ *
+ * <p>File "META-INF/services/com.base45.Base45Engine" in the test resources provides
+ * {@link Delegating}, {@link Broken} and a class which does not exist.
+ */
+final class TestBase45Engines {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Engines#available()}.
+   */
+  @Test
+  void test_available() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. built-in engines first, then providers, missing provider ignored
+    // --- b. vector engine only if vector instructions are available
+    final List<String> names = Base45Engines.available().stream()
+        .map(Base45Engine::name)
+        .collect(Collectors.toList());
+
+    // --- a. built-in engines first, then providers, missing provider ignored
+    final int noVector = Base45Vector.isAvailable() ? 1 : 0;
+    assertEquals(6 + noVector, names.size(), names::toString);
+    assertEquals("reference", names.get(0));
+    assertEquals("swar", names.get(1));
+    assertEquals("table", names.get(2));
+    assertEquals("constant-time", names.get(3 + noVector));
+    assertTrue(names.contains("delegating"));
+    assertTrue(names.contains("broken"));
+    assertSame(Base45Engines.reference(), Base45Engines.available().get(0));
+
+    // --- b. vector engine only if vector instructions are available
+    assertEquals(Base45Vector.isAvailable(), names.contains("vector"));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Engines#verify(Base45Engine)}.
+   */
+  @Test
+  void test_verify__Base45Engine() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. all engines except the broken one pass
+    // --- b. reference engine agrees with Base45 for all kernels
+    for (final Base45Engine engine : Base45Engines.available()) {
+      assertEquals(!"broken".equals(engine.name()), Base45Engines.verify(engine));
+    } // end for (engine...)
+
+    // --- b. reference engine agrees with Base45 for all kernels
+    final Base45Engine reference = Base45Engines.reference();
+    for (final int size : new int[]{0, 1, 2, 7, 100, 384, 1001, 3072}) {
+      final byte[] octets = new byte[size];
+      RNG.nextBytes(octets);
+      final byte[] chars = Base45.encode(octets).getBytes(StandardCharsets.US_ASCII);
+      final byte[] encoded = new byte[chars.length];
+      final byte[] decoded = new byte[size];
+      assertEquals(chars.length, reference.encode(octets, 0, size, encoded, 0));
+      assertArrayEquals(chars, encoded);
+      assertEquals(size, reference.decode(chars, 0, chars.length, decoded, 0));
+      assertArrayEquals(octets, decoded);
+    } // end for (size...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Engines#select(String, List)}.
+   */
+  @Test
+  void test_select__String_List() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. select by name, case-insensitive
+    // --- b. unknown or broken engine gives reference
+    // --- c. calibration never selects broken engine
+    // --- d. constant-time engine only by name
+    final List<Base45Engine> candidates = Base45Engines.available();
+
+    // --- a. select by name, case-insensitive
+    Base45Engines.Selection selection = Base45Engines.select("TABLE", candidates);
+    assertEquals("table", selection.insEngine.name());
+    assertEquals("table (system property com.base45.engine)", selection.insDescription);
+
+    // --- b. unknown or broken engine gives reference
+    selection = Base45Engines.select("unknown", candidates);
+    assertSame(Base45Engines.reference(), selection.insEngine);
+    assertEquals("reference (engine 'unknown' not found)", selection.insDescription);
+    selection = Base45Engines.select("broken", candidates);
+    assertSame(Base45Engines.reference(), selection.insEngine);
+    assertEquals(
+        "reference (engine 'broken' failed differential check)",
+        selection.insDescription
+    );
+
+    // --- c. calibration never selects broken engine
+    selection = Base45Engines.select(null, candidates);
+    assertFalse("broken".equals(selection.insEngine.name()));
+    assertTrue(
+        selection.insDescription.startsWith(selection.insEngine.name() + " (calibrated: "),
+        selection.insDescription
+    );
+    assertTrue(selection.insDescription.contains("broken=failed"), selection.insDescription);
+
+    // --- d. constant-time engine only by name
+    assertFalse(selection.insDescription.contains("constant-time"), selection.insDescription);
+    selection = Base45Engines.select("constant-time", candidates);
+    assertEquals("constant-time", selection.insEngine.name());
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Engines#get()} and {@link Base45Engines#getSelection()}.
+   */
+  @Test
+  void test_get() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. selected engine is verified and reported
+    final Base45Engine engine = Base45Engines.get();
+
+    assertSame(engine, Base45Engines.get());
+    assertTrue(Base45Engines.verify(engine));
+    assertTrue(Base45Engines.getSelection().startsWith(engine.name() + " ("));
+  } // end method */
+
+  /**
+   * Engine delegating to the reference engine.
+   */
+  public static final class Delegating implements Base45Engine {
+    @Override
+    public String name() {
+      return "delegating";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      return Base45.encode(src, off, len, dst, dstOff);
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      return Base45.decode(src, off, len, dst, dstOff);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Engine producing wrong results for long input.
+   */
+  public static final class Broken implements Base45Engine {
+    @Override
+    public String name() {
+      return "broken";
+    } // end method */
+
+    @Override
+    public int encode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      return Base45.encode(src, off, len, dst, dstOff);
+    } // end method */
+
+    @Override
+    public int decode(
+        final byte[] src,
+        final int off,
+        final int len,
+        final byte[] dst,
+        final int dstOff
+    ) {
+      final int result = Base45.decode(src, off, len, dst, dstOff);
+      if (result > 100) { // NOPMD literal in conditional statement
+        dst[dstOff] ^= 1;
+      } // end if
+
+      return result;
+    } // end method */
+  } // end inner class
+} // end class
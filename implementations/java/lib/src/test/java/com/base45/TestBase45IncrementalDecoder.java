@@ -0,0 +1,160 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45IncrementalDecoder}.
+ */
+final class TestBase45IncrementalDecoder {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45IncrementalDecoder#update(CharSequence)} and
+   * related update-methods.
+   */
+  @Test
+  void test_update__CharSequence() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random input in random pieces, all kinds of update-methods
+    // --- b. decoder is reusable after finish()
+    final Base45IncrementalDecoder dut = new Base45IncrementalDecoder();
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(3000)];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+      for (int offset = 0; offset < encoded.length();) {
+        final int length = Math.min(encoded.length() - offset, RNG.nextInt(20) * RNG.nextInt(40));
+        final String piece = encoded.substring(offset, offset + length);
+        final int expected = dut.getUpdateSize(length);
+        offset += length;
+
+        final byte[] out;
+        switch (RNG.nextInt(4)) {
+          case 0:
+            out = dut.update(piece);
+            break;
+
+          case 1:
+            final char[] chars = ("x" + piece + "yz").toCharArray();
+            out = dut.update(chars, 1, length);
+            break;
+
+          case 2:
+            final byte[] dst = new byte[expected + 2];
+            assertEquals(expected, dut.update("ab" + piece, 2, length, dst, 1));
+            out = new byte[expected];
+            System.arraycopy(dst, 1, out, 0, expected);
+            break;
+
+          default:
+            final byte[] ascii = piece.getBytes(StandardCharsets.US_ASCII);
+            final ByteBuffer src = RNG.nextBoolean()
+                ? ByteBuffer.wrap(ascii)
+                : (ByteBuffer) ByteBuffer.allocateDirect(length).put(ascii).flip();
+            final ByteBuffer buffer = RNG.nextBoolean()
+                ? ByteBuffer.allocate(expected)
+                : ByteBuffer.allocateDirect(expected);
+            assertEquals(expected, dut.update(src, buffer));
+            assertEquals(0, src.remaining());
+            assertEquals(0, buffer.remaining());
+            buffer.flip();
+            out = new byte[expected];
+            buffer.get(out);
+            break;
+        } // end switch
+
+        assertEquals(expected, out.length);
+        assertTrue(dut.getPendingCount() <= 2);
+        assertEquals(offset % 3, dut.getPendingCount());
+        baos.write(out, 0, out.length);
+      } // end for (offset...)
+
+      final byte[] last = dut.finish();
+      baos.write(last, 0, last.length);
+
+      // --- b. decoder is reusable after finish()
+      assertEquals(0, dut.getPendingCount());
+      assertArrayEquals(octets, baos.toByteArray());
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45IncrementalDecoder#finish(byte[], int)}.
+   */
+  @Test
+  void test_finish__byteA_int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. final pair split across updates
+    // --- b. ERROR: invalid number of characters
+    // --- c. ERROR: invalid characters, detected as soon as a triple is complete
+    // --- d. ERROR: output buffer too small
+    final Base45IncrementalDecoder dut = new Base45IncrementalDecoder();
+
+    // --- a. final pair split across updates
+    assertEquals(0, dut.update("K").length);
+    assertEquals(0, dut.update("1").length);
+    final byte[] dst = new byte[3];
+    assertEquals(1, dut.finish(dst, 2));
+    assertEquals('A', dst[2]);
+    assertEquals(0, dut.finish(dst, 3));
+
+    // --- b. ERROR: invalid number of characters
+    dut.update("0000");
+    assertEquals(
+        "invalid number of input character",
+        assertThrows(IllegalArgumentException.class, dut::finish).getMessage()
+    );
+    assertEquals(0, dut.getPendingCount());
+
+    // --- c. ERROR: invalid characters, detected as soon as a triple is complete
+    assertEquals(0, dut.update("0a").length);
+    assertEquals(
+        "invalid character(s)",
+        assertThrows(IllegalArgumentException.class, () -> dut.update("0")).getMessage()
+    );
+    assertEquals(0, dut.getPendingCount());
+    dut.update("0a");
+    assertEquals(
+        "invalid character(s)",
+        assertThrows(IllegalArgumentException.class, dut::finish).getMessage()
+    );
+    assertEquals(
+        "invalid code",
+        assertThrows(IllegalArgumentException.class, () -> dut.update("GGW")).getMessage()
+    );
+
+    // --- d. ERROR: output buffer too small
+    dut.update("00");
+    assertEquals(
+        "output buffer too small",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> dut.update("0", 0, 1, new byte[1], 0)
+        ).getMessage()
+    );
+    assertEquals(2, dut.getPendingCount());
+    assertEquals(
+        "output buffer too small",
+        assertThrows(IllegalArgumentException.class, () -> dut.finish(new byte[1], 1))
+            .getMessage()
+    );
+  } // end method */
+} // end class
@@ -0,0 +1,156 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45InputStream}.
+ */
+final class TestBase45InputStream {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45InputStream.Ascii}.
+   */
+  @Test
+  void test_Ascii() throws IOException { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random input read in random portions, also single octets
+    // --- b. source delivering one character at a time
+    // --- c. ERROR: invalid characters
+    // --- d. ERROR: invalid number of input characters
+    // --- e. ERROR: read after close
+
+    // --- a. random input read in random portions, also single octets
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(3 * Base45InputStream.CHUNK)];
+      RNG.nextBytes(octets);
+      final byte[] encoded = Base45.getEncoder().encode(octets);
+
+      try (InputStream dut = Base45.getDecoder().wrap(new ByteArrayInputStream(encoded))) {
+        assertArrayEquals(octets, read(dut));
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      } // end catch (IOException)
+    }); // end forEach(i -> ...)
+
+    // --- b. source delivering one character at a time
+    {
+      final byte[] encoded = "%69 VD92EX0".getBytes(StandardCharsets.US_ASCII);
+      final InputStream source = new ByteArrayInputStream(encoded) {
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) {
+          return super.read(b, off, Math.min(1, len));
+        } // end method */
+      };
+      assertArrayEquals(
+          "Hello!!".getBytes(StandardCharsets.US_ASCII),
+          read(Base45.getDecoder().wrap(source))
+      );
+    }
+
+    // --- c. ERROR: invalid characters
+    // --- d. ERROR: invalid number of input characters
+    for (final String[] i : new String[][]{
+        {"00_00", "invalid character(s)"},
+        {"00:::", "invalid code"},
+        {"0000", "invalid number of input character"},
+    }) {
+      final InputStream dut = Base45.getDecoder().wrap(
+          new ByteArrayInputStream(i[0].getBytes(StandardCharsets.US_ASCII))
+      );
+      final Throwable throwable = assertThrows(IOException.class, () -> read(dut));
+      assertEquals(i[1], throwable.getMessage());
+      assertEquals(IllegalArgumentException.class, throwable.getCause().getClass());
+    } // end for (i...)
+
+    // --- e. ERROR: read after close
+    {
+      final InputStream dut = Base45.getDecoder().wrap(new ByteArrayInputStream(new byte[0]));
+      assertEquals(-1, dut.read());
+      dut.close();
+      assertThrows(IOException.class, dut::read);
+    }
+  } // end method */
+
+  /**
+   * Test method for {@link Base45InputStream.Chars}.
+   */
+  @Test
+  void test_Chars() throws IOException { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random input read in random portions, also single octets
+    // --- b. ERROR: non-ASCII characters
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(3 * Base45InputStream.CHUNK)];
+      RNG.nextBytes(octets);
+
+      try (InputStream dut = Base45.getDecoder().wrap(new StringReader(Base45.encode(octets)))) {
+        assertArrayEquals(octets, read(dut));
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      } // end catch (IOException)
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: non-ASCII characters
+    // Note: 'İ' would be mapped to '0' by a plain cast to byte.
+    {
+      final InputStream dut = Base45.getDecoder().wrap(new StringReader("00İ"));
+      final Throwable throwable = assertThrows(IOException.class, () -> read(dut));
+      assertEquals("invalid character(s)", throwable.getMessage());
+    }
+  } // end method */
+
+  /**
+   * Reads all octets from given stream in random portions.
+   *
+   * @param in stream to read from
+   *
+   * @return octets read
+   *
+   * @throws IOException if underlying methods do so
+   */
+  private static byte[] read(
+      final InputStream in
+  ) throws IOException {
+    final ByteArrayOutputStream result = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[5000];
+    for (;;) {
+      if (RNG.nextBoolean()) {
+        final int octet = in.read();
+        if (octet < 0) {
+          break;
+        } // end if
+        result.write(octet);
+      } else {
+        final int len = in.read(buffer, 0, RNG.nextInt(buffer.length));
+        if (len < 0) {
+          break;
+        } // end if
+        result.write(buffer, 0, len);
+      } // end else
+    } // end for (;;)
+
+    return result.toByteArray();
+  } // end method */
+} // end class
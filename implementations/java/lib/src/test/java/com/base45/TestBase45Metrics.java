@@ -0,0 +1,170 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Class performing white-box tests on {@link Base45Metrics}.
+ *
+ * <p>Tests run without system property {@code com.base45.metrics}, thus counters
+ * change only by calling {@link Base45Metrics#record(int, long, Object, int)}
+ * directly.
+ */
+final class TestBase45Metrics {
+  /**
+   * Test method for {@link Base45Metrics#record(int, long, Object, int)}.
+   */
+  @Test
+  void test_record__int_long_Object_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. getters work as expected
+
+    // Test strategy:
+    // --- a. counters start at zero after reset
+    // --- b. successful operations
+    // --- c. failed operations
+    // --- d. reset
+    // --- a. counters start at zero after reset
+    Base45Metrics.reset();
+    assertEquals(0, Base45Metrics.getEncodeOperations());
+    assertEquals(0, Base45Metrics.getDecodeOperations());
+    assertEquals(0, Base45Metrics.getErrors());
+
+    // --- b. successful operations
+    Base45Metrics.record(Base45Metrics.ENCODE, 10, null, -1);
+    Base45Metrics.record(Base45Metrics.ENCODE, 5, null, -1);
+    Base45Metrics.record(Base45Metrics.DECODE, 9, null, -1);
+    assertEquals(2, Base45Metrics.getEncodeOperations());
+    assertEquals(15, Base45Metrics.getEncodedOctets());
+    assertEquals(1, Base45Metrics.getDecodeOperations());
+    assertEquals(9, Base45Metrics.getDecodedCharacters());
+    assertEquals(0, Base45Metrics.getErrors());
+
+    // --- c. failed operations
+    Base45Metrics.record(Base45Metrics.DECODE, 4, null, Base45.ERROR_LENGTH);
+    Base45Metrics.record(Base45Metrics.DECODE, 3, null, Base45.ERROR_CHARACTER);
+    Base45Metrics.record(Base45Metrics.DECODE, 3, null, Base45.ERROR_CHARACTER);
+    Base45Metrics.record(Base45Metrics.ENCODE, 2, null, 0);
+    assertEquals(3, Base45Metrics.getEncodeOperations());
+    assertEquals(4, Base45Metrics.getDecodeOperations());
+    assertEquals(19, Base45Metrics.getDecodedCharacters());
+    assertEquals(4, Base45Metrics.getErrors());
+    assertEquals(1, Base45Metrics.getErrors(0));
+    assertEquals(2, Base45Metrics.getErrors(Base45.ERROR_CHARACTER));
+    assertEquals(1, Base45Metrics.getErrors(Base45.ERROR_LENGTH));
+    assertEquals(0, Base45Metrics.getErrors(Base45.ERROR_CODE));
+
+    // --- d. reset
+    Base45Metrics.reset();
+    assertEquals(0, Base45Metrics.getEncodeOperations());
+    assertEquals(0, Base45Metrics.getEncodedOctets());
+    assertEquals(0, Base45Metrics.getErrors());
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Metrics#errorKind(IllegalArgumentException)}.
+   */
+  @Test
+  void test_errorKind__IllegalArgumentException() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. kinds attached by Base45 decoding
+    // --- b. kinds attached by other decoders
+    // --- c. other exceptions, regardless of their message
+    // --- a. kinds attached by Base45 decoding
+    for (final String[] input : new String[][]{
+        {"GGW", "3"},
+        {"0a0", "1"},
+        {"0000", "2"},
+    }) {
+      final IllegalArgumentException e = decodeFailure(input[0]);
+      assertEquals(Integer.parseInt(input[1]), Base45Metrics.errorKind(e), input[0]);
+    } // end for (input...)
+    final ByteBuffer direct = ByteBuffer.allocateDirect(3);
+    direct.put("0a0".getBytes(StandardCharsets.US_ASCII)).flip();
+    assertEquals(
+        Base45.ERROR_CHARACTER,
+        kind(() -> Base45.getDecoder().decode(direct, ByteBuffer.allocate(2)))
+    );
+
+    // --- b. kinds attached by other decoders
+    assertEquals(Base45.ERROR_CODE, kind(() -> Base45ConstantTime.decode("GGW")));
+    assertEquals(Base45.ERROR_LENGTH, kind(() -> Base45ConstantTime.decode("0000")));
+    assertEquals(Base45.ERROR_CHARACTER, kind(() -> Base45UrlDecoder.PERCENT.decode("0%G0")));
+    assertEquals(Base45.ERROR_CODE, kind(() -> Base45UrlDecoder.FORM.decode("GGW")));
+    // segment of QR code version 1 with two characters and pair value 2047
+    final byte[] segment = {0x20, 0x17, (byte) 0xff};
+    assertEquals(Base45.ERROR_CHARACTER, kind(() -> Base45Qr.decode(segment, 0, 1)));
+
+    // --- c. other exceptions, regardless of their message
+    assertEquals(0, Base45Metrics.errorKind(new IllegalArgumentException()));
+    assertEquals(0, Base45Metrics.errorKind(new IllegalArgumentException("invalid code")));
+    assertEquals(0, kind(() -> Base45.decode("000", 0, 3, new byte[1], 0)));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Metrics#begin()},
+   * {@link Base45Metrics#success(int, long, Object, int)} and
+   * {@link Base45Metrics#failure(int, long, Object, IllegalArgumentException)}.
+   */
+  @Test
+  void test_hooks() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. disabled hooks pass their arguments through and count nothing
+    // --- b. instrumented methods still behave as before
+    Base45Metrics.reset();
+
+    // --- a. disabled hooks pass their arguments through and count nothing
+    final IllegalArgumentException e = new IllegalArgumentException("invalid code");
+    assertEquals(Boolean.getBoolean("com.base45.metrics"), Base45Metrics.isEnabled());
+    assertNull(Base45Metrics.begin());
+    assertEquals(42, Base45Metrics.success(Base45Metrics.DECODE, 63, null, 42));
+    assertSame(e, Base45Metrics.failure(Base45Metrics.DECODE, 3, null, e));
+    assertEquals(0, Base45Metrics.getDecodeOperations());
+    assertEquals(0, Base45Metrics.getErrors());
+
+    // --- b. instrumented methods still behave as before
+    assertEquals("QED8WEX0", Base45.encode("ietf!".getBytes()));
+    assertEquals("ietf!", new String(Base45.decode("QED8WEX0")));
+    assertEquals("invalid code", decodeFailure("GGW").getMessage());
+  } // end method */
+
+  /**
+   * Returns the exception thrown when decoding invalid input.
+   *
+   * @param input to be decoded
+   *
+   * @return exception thrown by {@link Base45#decode(CharSequence)}
+   */
+  private static IllegalArgumentException decodeFailure(
+      final String input
+  ) {
+    try {
+      Base45.decode(input);
+    } catch (IllegalArgumentException e) {
+      return e;
+    } // end catch (IllegalArgumentException)
+
+    throw new AssertionError("no exception for " + input);
+  } // end method */
+
+  /**
+   * Returns the kind of error of the exception thrown by an operation.
+   *
+   * @param operation expected to throw an {@link IllegalArgumentException}
+   *
+   * @return kind of error according to
+   *         {@link Base45Metrics#errorKind(IllegalArgumentException)}
+   */
+  private static int kind(
+      final Executable operation
+  ) {
+    return Base45Metrics.errorKind(assertThrows(IllegalArgumentException.class, operation));
+  } // end method */
+} // end class
@@ -0,0 +1,120 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45OutputStream}.
+ */
+final class TestBase45OutputStream {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45OutputStream.Ascii}.
+   */
+  @Test
+  void test_Ascii() throws IOException { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random input written in random portions, also single octets
+    // --- b. flush keeps a pending octet
+    // --- c. ERROR: write after close
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(3 * Base45OutputStream.CHUNK)];
+      RNG.nextBytes(octets);
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+      try (OutputStream dut = Base45.getEncoder().wrap(baos)) {
+        write(dut, octets);
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      } // end catch (IOException)
+
+      assertEquals(Base45.encode(octets), new String(baos.toByteArray(),
+          StandardCharsets.US_ASCII));
+    }); // end forEach(i -> ...)
+
+    // --- b. flush keeps a pending octet
+    {
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      final OutputStream dut = Base45.getEncoder().wrap(baos);
+      dut.write(new byte[]{'A', 'B', 'C'});
+      dut.flush();
+      assertArrayEquals("BB8".getBytes(StandardCharsets.US_ASCII), baos.toByteArray());
+      dut.write('D');
+      dut.flush();
+      dut.write('E');
+      dut.close();
+      dut.close(); // closing twice has no effect
+      assertEquals(Base45.encode("ABCDE".getBytes(StandardCharsets.US_ASCII)),
+          new String(baos.toByteArray(), StandardCharsets.US_ASCII));
+
+      // --- c. ERROR: write after close
+      assertThrows(IOException.class, () -> dut.write(0));
+    }
+  } // end method */
+
+  /**
+   * Test method for {@link Base45OutputStream.Chars}.
+   */
+  @Test
+  void test_Chars() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random input written in random portions, also single octets
+    IntStream.rangeClosed(0, 200).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(3 * Base45OutputStream.CHUNK)];
+      RNG.nextBytes(octets);
+      final StringWriter writer = new StringWriter();
+
+      try (OutputStream dut = Base45.getEncoder().wrap(writer)) {
+        write(dut, octets);
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      } // end catch (IOException)
+
+      assertEquals(Base45.encode(octets), writer.toString());
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Writes given octets in random portions to given stream.
+   *
+   * @param out    stream to write to
+   * @param octets to be written
+   *
+   * @throws IOException if underlying methods do so
+   */
+  private static void write(
+      final OutputStream out,
+      final byte[] octets
+  ) throws IOException {
+    int index = 0;
+    while (index < octets.length) {
+      if (RNG.nextBoolean()) {
+        out.write(octets[index++]);
+      } else {
+        final int len = Math.min(RNG.nextInt(5000), octets.length - index);
+        out.write(octets, index, len);
+        index += len;
+      } // end else
+    } // end while (...)
+  } // end method */
+} // end class
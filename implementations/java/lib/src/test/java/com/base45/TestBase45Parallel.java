@@ -0,0 +1,102 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Parallel}.
+ */
+final class TestBase45Parallel {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Parallel#decode(CharSequence, int)}.
+   */
+  @Test
+  void test_decode__CharSequence_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(CharSequence)-method works as expected
+
+    // Test strategy:
+    // --- a. random input with random thresholds, also odd number of octets
+    // --- b. ERROR: invalid number of input characters
+    // --- c. ERROR: several errors, the first one in input is reported
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(4000)];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+
+      assertArrayEquals(octets, Base45Parallel.decode(encoded, RNG.nextInt(300)));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: invalid number of input characters
+    final String valid = Base45.encode(new byte[1000]);
+    assertEquals(
+        "invalid number of input character",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Parallel.decode(valid + "0", 10)
+        ).getMessage()
+    );
+
+    // --- c. ERROR: several errors, the first one in input is reported
+    IntStream.rangeClosed(0, 100).forEach(i -> {
+      final StringBuilder input = new StringBuilder(valid);
+      final int posCode = 3 * RNG.nextInt(valid.length() / 3);
+      final int posChar = 3 * RNG.nextInt(valid.length() / 3) + RNG.nextInt(3);
+      input.replace(posCode, posCode + 3, "ZZZ").setCharAt(posChar, 'a');
+      input.append('0');
+      final String expected = assertThrows(
+          IllegalArgumentException.class,
+          () -> Base45.decode(input)
+      ).getMessage();
+
+      assertEquals(
+          expected,
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> Base45Parallel.decode(input, 3 + RNG.nextInt(30))
+          ).getMessage()
+      );
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Parallel#encode(byte[], int)}.
+   */
+  @Test
+  void test_encode__byteA_int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. random input with random thresholds, also odd number of octets
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(4000)];
+      RNG.nextBytes(octets);
+
+      assertEquals(Base45.encode(octets), Base45Parallel.encode(octets, RNG.nextInt(300)));
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45#decodeParallel(CharSequence)} and
+   * {@link Base45#encodeParallel(byte[])}.
+   */
+  @Test
+  void test_threshold() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. round trip with input above threshold
+    final byte[] octets = new byte[2 * Base45Parallel.THRESHOLD + 1];
+    RNG.nextBytes(octets);
+    final String encoded = Base45.encodeParallel(octets);
+
+    assertEquals(Base45.encode(octets), encoded);
+    assertArrayEquals(octets, Base45.decodeParallel(encoded));
+  } // end method */
+} // end class
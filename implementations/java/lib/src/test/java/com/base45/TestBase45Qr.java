@@ -0,0 +1,235 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Qr}.
+ */
+final class TestBase45Qr {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Qr#countBits(int)}.
+   */
+  @Test
+  void test_countBits__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. boundaries of version ranges
+    // --- b. ERROR: invalid version
+    assertEquals(9, Base45Qr.countBits(1));
+    assertEquals(9, Base45Qr.countBits(9));
+    assertEquals(11, Base45Qr.countBits(10));
+    assertEquals(11, Base45Qr.countBits(26));
+    assertEquals(13, Base45Qr.countBits(27));
+    assertEquals(13, Base45Qr.countBits(40));
+
+    for (final int version : new int[]{0, 41}) {
+      assertThrows(IllegalArgumentException.class, () -> Base45Qr.countBits(version));
+    } // end for (version...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Qr#encode(byte[], int, int, int, byte[], int)}.
+   */
+  @Test
+  void test_encode__byteA_int_int_int_byteA_int() { // NOPMD '_' character in name
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. compare with bits derived from encoded characters, arbitrary bit offset
+    // --- b. bits before the segment are kept
+    // --- c. ERROR: too many characters for version
+    // --- d. ERROR: output buffer too small
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(200)];
+      RNG.nextBytes(octets);
+      final int version = 10 + RNG.nextInt(31);
+      final int bitOff = RNG.nextInt(20);
+      final String expected = bits(Base45.encode(octets), version);
+
+      final byte[] dst = new byte[(bitOff + expected.length() + 7) >> 3];
+      Arrays.fill(dst, (byte) -1);
+      assertEquals(
+          bitOff + expected.length(),
+          Base45Qr.encode(octets, 0, octets.length, version, dst, bitOff)
+      );
+
+      final String present = toBits(dst);
+      // --- b. bits before the segment are kept
+      assertEquals(-1, present.substring(0, bitOff).indexOf('0'));
+      assertEquals(expected, present.substring(bitOff, bitOff + expected.length()));
+      assertEquals(-1, present.indexOf('1', bitOff + expected.length()));
+
+      assertArrayEquals(
+          Arrays.copyOf(toBytes(expected), (expected.length() + 7) >> 3),
+          Base45Qr.encode(octets, version)
+      );
+    }); // end forEach(i -> ...)
+
+    // --- c. ERROR: too many characters for version
+    assertEquals(
+        (Base45Qr.segmentBits(510, 1) + 7) >> 3,
+        Base45Qr.encode(new byte[340], 1).length
+    );
+    assertEquals(
+        "too many characters for version 1",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Qr.encode(new byte[341], 1)
+        ).getMessage()
+    );
+
+    // --- d. ERROR: output buffer too small
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Base45Qr.encode(new byte[2], 0, 2, 1, new byte[3], 0)
+    );
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45Qr.encode(new byte[2], 0, 2, 1, new byte[3], -1)
+    );
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Qr#decode(byte[], int, int)}.
+   */
+  @Test
+  void test_decode__byteA_int_int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. round trip, arbitrary bit offset
+    // --- b. example from ISO/IEC 18004, valid QR segment but invalid base 45
+    // --- c. ERROR: invalid mode, truncated segment, invalid values, invalid length
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(200)];
+      RNG.nextBytes(octets);
+      final int bitOff = RNG.nextInt(20);
+      final byte[] dst = new byte[(bitOff + Base45Qr.segmentBits(400, 40) + 7) >> 3];
+      Base45Qr.encode(octets, 0, octets.length, 40, dst, bitOff);
+
+      assertArrayEquals(octets, Base45Qr.decode(dst, bitOff, 40));
+    }); // end forEach(i -> ...)
+
+    // --- b. example from ISO/IEC 18004, valid QR segment but invalid base 45
+    final byte[] example = toBytes("0010" + "000000101" + "00111001110" + "11100111001" + "000010");
+    assertEquals(
+        "invalid code",
+        assertThrows(IllegalArgumentException.class, () -> Base45Qr.decode(example, 0, 1))
+            .getMessage()
+    );
+
+    // --- c. ERROR: invalid mode, truncated segment, invalid values, invalid length
+    for (final String[] vector : new String[][]{
+        {"0100" + "000000011" + "00000000000" + "000000", "invalid mode indicator"},
+        {"0010" + "0000", "truncated segment"},
+        {"0010" + "000000011" + "00000000000", "truncated segment"},
+        {"0010" + "000000011" + "11111101001" + "000000", "invalid character(s)"},
+        {"0010" + "000000011" + "00000000000" + "101101", "invalid character(s)"},
+        {"0010" + "000000100" + "0000000000000000000000", "invalid number of input character"},
+    }) {
+      final byte[] input = toBytes(vector[0]);
+      assertEquals(
+          vector[1],
+          assertThrows(IllegalArgumentException.class, () -> Base45Qr.decode(input, 0, 1))
+              .getMessage()
+      );
+    } // end for (vector...)
+  } // end method */
+
+  /**
+   * Converts characters into an alphanumeric segment according to ISO/IEC 18004.
+   *
+   * @param chars   characters from {@link Base45#ALPHABET}
+   * @param version of QR code
+   *
+   * @return segment as string of '0' and '1'
+   */
+  private static String bits(
+      final String chars,
+      final int version
+  ) {
+    final StringBuilder result = new StringBuilder("0010");
+    append(result, chars.length(), Base45Qr.countBits(version));
+
+    int index = 0;
+    for (; index + 1 < chars.length(); index += 2) {
+      append(
+          result,
+          45 * Base45.ALPHABET.indexOf(chars.charAt(index))
+              + Base45.ALPHABET.indexOf(chars.charAt(index + 1)),
+          11
+      );
+    } // end for (index...)
+
+    if (index < chars.length()) {
+      append(result, Base45.ALPHABET.indexOf(chars.charAt(index)), 6);
+    } // end if
+
+    return result.toString();
+  } // end method */
+
+  /**
+   * Appends a bit field.
+   *
+   * @param bits   receiving the bit field
+   * @param value  bit field
+   * @param noBits number of bits
+   */
+  private static void append(
+      final StringBuilder bits,
+      final int value,
+      final int noBits
+  ) {
+    for (int i = noBits; i-- > 0;) { // NOPMD assignment in operand
+      bits.append((char) ('0' + ((value >> i) & 1)));
+    } // end for (i...)
+  } // end method */
+
+  /**
+   * Converts octets into a string of '0' and '1'.
+   *
+   * @param octets to be converted
+   *
+   * @return bits, most significant first
+   */
+  private static String toBits(
+      final byte[] octets
+  ) {
+    final StringBuilder result = new StringBuilder();
+    for (final byte octet : octets) {
+      append(result, octet & 0xff, 8);
+    } // end for (octet...)
+
+    return result.toString();
+  } // end method */
+
+  /**
+   * Converts a string of '0' and '1' into octets, padded with zero bits.
+   *
+   * @param bits to be converted
+   *
+   * @return octets
+   */
+  private static byte[] toBytes(
+      final String bits
+  ) {
+    final byte[] result = new byte[(bits.length() + 7) >> 3];
+    for (int i = bits.length(); i-- > 0;) { // NOPMD assignment in operand
+      if ('1' == bits.charAt(i)) {
+        result[i >> 3] |= (byte) (0x80 >> (i & 7));
+      } // end if
+    } // end for (i...)
+
+    return result;
+  } // end method */
+} // end class
@@ -0,0 +1,157 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Swar}.
+ */
+final class TestBase45Swar {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Swar#div45(int)}.
+   */
+  @Test
+  void test_div45__int() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. loop over all possible input values
+    for (int value = 0; value < 0x1_0000; value++) {
+      assertEquals(value / 45, Base45Swar.div45(value));
+    } // end for (value...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Swar#decode(CharSequence, int, int, byte[], int)} and
+   * {@link Base45Swar#decode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_decode__range() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. random input
+    // --- b. ERROR: invalid character, non-ASCII character, invalid code at any position
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[Base45Swar.OCTETS_PER_STEP * RNG.nextInt(50)];
+      RNG.nextBytes(octets);
+      final String encoded = "0" + reference(octets);
+      final byte[] ascii = encoded.getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[octets.length + 2];
+
+      Base45Swar.decode(encoded, 1, encoded.length() - 1, dst, 2);
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 2, dst.length));
+
+      Arrays.fill(dst, (byte) 0);
+      Base45Swar.decode(ascii, 1, ascii.length - 1, dst, 2);
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 2, dst.length));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: invalid character, non-ASCII character, invalid code at any position
+    for (int position = 0; position < 2 * Base45Swar.CHARS_PER_STEP; position++) {
+      for (final String[] i : new String[][]{
+          {"a", "invalid character(s)"},
+          {"İ", "invalid character(s)"},
+          {":::", "invalid code"},
+      }) {
+        final char[] chars = new char[2 * Base45Swar.CHARS_PER_STEP];
+        Arrays.fill(chars, '0');
+        final int start = Math.min(position, chars.length - i[0].length());
+        i[0].getChars(0, i[0].length(), chars, start);
+        final String input = new String(chars);
+        // Note: Cast to byte maps 'İ' to '0', thus use 0xb0 for byte[] input.
+        final byte[] ascii = input.replace('İ', '°')
+            .getBytes(StandardCharsets.ISO_8859_1);
+
+        assertEquals(
+            i[1],
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Base45Swar.decode(input, 0, chars.length, new byte[12], 0)
+            ).getMessage()
+        );
+        assertEquals(
+            i[1],
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Base45Swar.decode(ascii, 0, chars.length, new byte[12], 0)
+            ).getMessage()
+        );
+      } // end for (i...)
+    } // end for (position...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Swar#encode(byte[], int, int, char[], int)} and
+   * {@link Base45Swar#encode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_encode__range() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. all 16-bit words at each position within a step
+    // --- b. random input
+    for (int word = 0; word < 0x1_0000; word++) {
+      final byte[] octets = new byte[Base45Swar.OCTETS_PER_STEP];
+      final int position = 2 * (word % 3);
+      octets[position] = (byte) (word >> 8);
+      octets[position + 1] = (byte) word;
+      check(octets);
+    } // end for (word...)
+
+    // --- b. random input
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[Base45Swar.OCTETS_PER_STEP * RNG.nextInt(50)];
+      RNG.nextBytes(octets);
+      check(octets);
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Checks that both encode-methods produce the same result as the reference.
+   *
+   * @param octets to be encoded, length is a multiple of six
+   */
+  private static void check(
+      final byte[] octets
+  ) {
+    final String expected = reference(octets);
+    final char[] chars = new char[expected.length() + 1];
+    final byte[] ascii = new byte[expected.length() + 1];
+
+    Base45Swar.encode(octets, 0, octets.length, chars, 1);
+    assertEquals(expected, new String(chars, 1, expected.length()));
+    Base45Swar.encode(octets, 0, octets.length, ascii, 1);
+    assertEquals(expected, new String(ascii, 1, expected.length(), StandardCharsets.US_ASCII));
+  } // end method */
+
+  /**
+   * Encodes given octets by {@link Base45#encode(int[], char)}.
+   *
+   * @param octets to be encoded, length is even
+   *
+   * @return encoded octets
+   */
+  private static String reference(
+      final byte[] octets
+  ) {
+    final StringBuilder result = new StringBuilder();
+    final int[] cde = new int[3];
+    for (int i = 0; i < octets.length; i += 2) {
+      Base45.encode(cde, (char) (((octets[i] & 0xff) << 8) | (octets[i + 1] & 0xff)));
+      result
+          .append(Base45.CHARS[cde[0]])
+          .append(Base45.CHARS[cde[1]])
+          .append(Base45.CHARS[cde[2]]);
+    } // end for (i...)
+
+    return result.toString();
+  } // end method */
+} // end class
@@ -0,0 +1,143 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Table}.
+ */
+final class TestBase45Table {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Table#decode(char, char, char)}.
+   */
+  @Test
+  void test_decode__char3() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.decode(char, char, char)-method works as expected
+
+    // Test strategy:
+    // --- a. loop over all triples of characters from ALPHABET and some invalid ones
+    // Note: 'İ' = 0x130 would be '0' when cast to byte, 0x80 is out of range of tables.
+    final char[] chars = (Base45.ALPHABET + "\u0000!#a\u007f\u0080\u0130\uffff").toCharArray();
+
+    for (final char charC : chars) {
+      for (final char charD : chars) {
+        for (final char charE : chars) {
+          int expected;
+          try {
+            expected = Base45.decode(charC, charD, charE);
+          } catch (IllegalArgumentException e) {
+            final Throwable throwable = assertThrows(
+                IllegalArgumentException.class,
+                () -> Base45Table.decode(charC, charD, charE)
+            );
+            assertEquals(e.getMessage(), throwable.getMessage());
+            continue;
+          } // end catch (IllegalArgumentException)
+          assertEquals(expected, Base45Table.decode(charC, charD, charE));
+        } // end for (charE...)
+      } // end for (charD...)
+    } // end for (charC...)
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Table#decode(CharSequence, int, int, byte[], int)}
+   * and {@link Base45Table#decode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_decode__range() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. random input, also odd number of octets
+    // --- b. ERROR: invalid number of input characters
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(Math.min(Base45Table.THRESHOLD, 2000))];
+      RNG.nextBytes(octets);
+      final String encoded = "::" + Base45.encode(octets);
+      final byte[] ascii = encoded.getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[octets.length + 1];
+
+      Base45Table.decode(encoded, 2, encoded.length() - 2, dst, 1);
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 1, dst.length));
+
+      Arrays.fill(dst, (byte) 0);
+      Base45Table.decode(ascii, 2, ascii.length - 2, dst, 1);
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 1, dst.length));
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: invalid number of input characters
+    assertEquals(
+        "invalid number of input character",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Table.decode("0000", 0, 4, new byte[3], 0)
+        ).getMessage()
+    );
+    assertEquals(
+        "invalid number of input character",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Table.decode(
+                "0000".getBytes(StandardCharsets.US_ASCII), 0, 4, new byte[3], 0
+            )
+        ).getMessage()
+    );
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Table#encode(byte[], int, int, char[], int)} and
+   * {@link Base45Table#encode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_encode__range() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. content of encoding table
+    // --- b. random input, also odd number of octets
+    final int[] cde = new int[3];
+    for (int word = 0; word < 0x1_0000; word++) {
+      Base45.encode(cde, (char) word);
+      assertEquals(Base45.CHARS[cde[0]], Base45Table.TRIPLES[3 * word]);
+      assertEquals(Base45.CHARS[cde[1]], Base45Table.TRIPLES[3 * word + 1]);
+      assertEquals(Base45.CHARS[cde[2]], Base45Table.TRIPLES[3 * word + 2]);
+    } // end for (word...)
+
+    // --- b. random input, also odd number of octets
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(Math.min(Base45Table.THRESHOLD, 2000))];
+      RNG.nextBytes(octets);
+      final String expected = Base45.encode(octets);
+      final char[] chars = new char[expected.length() + 1];
+      final byte[] ascii = new byte[expected.length() + 2];
+
+      Base45Table.encode(octets, 0, octets.length, chars, 1);
+      assertEquals(expected, new String(chars, 1, expected.length()));
+      Base45Table.encode(octets, 0, octets.length, ascii, 2);
+      assertEquals(expected, new String(ascii, 2, expected.length(), StandardCharsets.US_ASCII));
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test {@link Base45} uses this implementation for long input.
+   */
+  @Test
+  void test_threshold() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. round trip with input above threshold
+    assertTrue(Base45Table.THRESHOLD > 0);
+    final byte[] octets = new byte[Base45Table.THRESHOLD + 1];
+    RNG.nextBytes(octets);
+    assertArrayEquals(octets, Base45.decode(Base45.encode(octets)));
+  } // end method */
+} // end class
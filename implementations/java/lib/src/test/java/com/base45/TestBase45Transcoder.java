@@ -0,0 +1,203 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Transcoder}.
+ */
+final class TestBase45Transcoder {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Transcoder#fromBase64(CharSequence, boolean)} and
+   * {@link Base45Transcoder#toBase64(CharSequence, boolean)}.
+   */
+  @Test
+  void test_fromBase64__CharSequence_boolean() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random input, both alphabets, with and without padding
+    // --- b. strings, arrays and streams give the same result
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt((i < 900) ? 100 : 4 * Base45Transcoder.CHUNK)];
+      RNG.nextBytes(octets);
+      final boolean urlSafe = RNG.nextBoolean();
+      final Base64.Encoder encoder = urlSafe ? Base64.getUrlEncoder() : Base64.getEncoder();
+      final String base64 = encoder.encodeToString(octets);
+      final String base45 = Base45.encode(octets);
+
+      // --- a. random input, both alphabets, with and without padding
+      assertEquals(base45, Base45Transcoder.fromBase64(base64, urlSafe));
+      assertEquals(
+          base45,
+          Base45Transcoder.fromBase64(encoder.withoutPadding().encodeToString(octets), urlSafe)
+      );
+      assertEquals(base64, Base45Transcoder.toBase64(base45, urlSafe));
+
+      // --- b. strings, arrays and streams give the same result
+      final byte[] in64 = base64.getBytes(StandardCharsets.US_ASCII);
+      final byte[] in45 = base45.getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[in45.length + 3];
+      assertEquals(
+          in45.length,
+          Base45Transcoder.fromBase64(in64, 0, in64.length, dst, 3, urlSafe)
+      );
+      assertEquals(base45, new String(dst, 3, in45.length, StandardCharsets.US_ASCII));
+      final byte[] dst64 = new byte[in64.length];
+      assertEquals(
+          in64.length,
+          Base45Transcoder.toBase64(in45, 0, in45.length, dst64, 0, urlSafe)
+      );
+      assertEquals(base64, new String(dst64, StandardCharsets.US_ASCII));
+
+      try {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        assertEquals(
+            in45.length,
+            Base45Transcoder.fromBase64(new Trickle(in64), baos, urlSafe)
+        );
+        assertEquals(base45, baos.toString("US-ASCII"));
+        baos.reset();
+        assertEquals(
+            in64.length,
+            Base45Transcoder.toBase64(new Trickle(in45), baos, urlSafe)
+        );
+        assertEquals(base64, baos.toString("US-ASCII"));
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      } // end catch (IOException)
+    }); // end forEach(i -> ...)
+  } // end method */
+
+  /**
+   * Test method for errors in {@link Base45Transcoder#fromBase64(CharSequence, boolean)}.
+   */
+  @Test
+  void test_fromBase64__CharSequence_boolean_errors() { // NOPMD '_' in name of method
+    // Test strategy:
+    // --- a. ERROR: invalid characters, including the other alphabet
+    // --- b. ERROR: invalid length and padding
+    // --- a. ERROR: invalid characters, including the other alphabet
+    for (final String input : new String[]{
+        "QUJD*EVG", "QUJDREVGR0g-", "QUJDREVŁ", "QU=DREVG",
+    }) {
+      assertEquals(
+          "invalid base64 character(s)",
+          message(() -> Base45Transcoder.fromBase64(input, false)),
+          input
+      );
+    } // end for (input...)
+    assertEquals(
+        "invalid base64 character(s)",
+        message(() -> Base45Transcoder.fromBase64("QUJDREVGR0g/", true))
+    );
+
+    // --- b. ERROR: invalid length and padding
+    for (final String input : new String[]{"Q", "QUJDR", "QUJDREVGR", "QUIx", "QQ==", "===="}) {
+      assertEquals(
+          "invalid base64 length",
+          message(() -> Base45Transcoder.fromBase64(input + "=", false)),
+          input
+      );
+    } // end for (input...)
+    assertEquals("invalid base64 length", message(() -> Base45Transcoder.fromBase64("Q", false)));
+  } // end method */
+
+  /**
+   * Test method for errors in {@link Base45Transcoder#toBase64(CharSequence, boolean)}.
+   */
+  @Test
+  void test_toBase64__CharSequence_boolean_errors() { // NOPMD '_' in name of method
+    // Test strategy:
+    // --- a. ERROR: same message as Base45.decode(CharSequence)
+    // --- b. ERROR: output buffer too small
+    // --- a. ERROR: same message as Base45.decode(CharSequence)
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final char[] chars = Base45.encode(new byte[RNG.nextInt(100) + 1]).toCharArray();
+      chars[RNG.nextInt(chars.length)] = (char) RNG.nextInt(0x100);
+      final String input = (0 == i % 10) ? new String(chars) + "0" : new String(chars);
+      String expected = null; // NOPMD redundant initializer
+      try {
+        Base45.decode(input);
+      } catch (IllegalArgumentException e) {
+        expected = e.getMessage();
+      } // end catch (IllegalArgumentException)
+
+      if (null != expected) {
+        assertEquals(expected, message(() -> Base45Transcoder.toBase64(input, false)), input);
+      } // end if
+    }); // end forEach(i -> ...)
+
+    // --- b. ERROR: output buffer too small
+    final byte[] src = "QED8WEX0".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(
+        "output buffer too small",
+        message(() -> Base45Transcoder.toBase64(src, 0, src.length, new byte[8], 1, false))
+    );
+  } // end method */
+
+  /**
+   * Returns the message of an {@link IllegalArgumentException}.
+   *
+   * @param runnable expected to throw
+   *
+   * @return message of exception
+   */
+  private static String message(
+      final Runnable runnable
+  ) {
+    return assertThrows(IllegalArgumentException.class, runnable::run).getMessage();
+  } // end method */
+
+  /**
+   * Input stream returning random small portions of its content.
+   */
+  private static final class Trickle extends InputStream {
+    /**
+     * Underlying stream.
+     */
+    private final ByteArrayInputStream insDelegate; // */
+
+    /**
+     * Constructor.
+     *
+     * @param content of stream
+     */
+    private Trickle(
+        final byte[] content
+    ) {
+      super();
+      insDelegate = new ByteArrayInputStream(content);
+    } // end constructor */
+
+    @Override
+    public int read() {
+      return insDelegate.read();
+    } // end method */
+
+    @Override
+    public int read(
+        final byte[] buffer,
+        final int off,
+        final int len
+    ) {
+      return insDelegate.read(buffer, off, Math.min(len, 1 + RNG.nextInt(20)));
+    } // end method */
+  } // end inner class
+} // end class
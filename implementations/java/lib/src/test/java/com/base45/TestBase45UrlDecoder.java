@@ -0,0 +1,192 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45UrlDecoder}.
+ */
+final class TestBase45UrlDecoder {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45UrlDecoder#decode(CharSequence)}.
+   */
+  @Test
+  void test_decode__CharSequence() throws UnsupportedEncodingException { // NOPMD '_' in name
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+    // ... b. URLEncoder and URLDecoder work as expected
+
+    // Test strategy:
+    // --- a. smoke test with test vectors
+    // --- b. random input, form-encoded by URLEncoder
+    // --- c. random input, each character escaped or not
+    // --- d. lenient: lowercase letters and line breaks
+    // --- a. smoke test with test vectors
+    assertEquals("ietf!", ascii(Base45UrlDecoder.PERCENT.decode("QED8WEX0")));
+    assertEquals("Hello!!", ascii(Base45UrlDecoder.PERCENT.decode("%2569%20VD92EX0")));
+    assertEquals("Hello!!", ascii(Base45UrlDecoder.FORM.decode("%2569+VD92EX0")));
+    assertEquals("Hello!!", ascii(Base45UrlDecoder.PERCENT.decode("%2569%20VD92E%580")));
+    assertEquals("base-45", ascii(Base45UrlDecoder.PERCENT.decode("UJCLQE7W581")));
+
+    // --- b. random input, form-encoded by URLEncoder
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(100)];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+      final String form;
+      try {
+        form = URLEncoder.encode(encoded, "UTF-8");
+        assertEquals(encoded, URLDecoder.decode(form, "UTF-8"));
+      } catch (UnsupportedEncodingException e) {
+        throw new AssertionError(e);
+      } // end catch (UnsupportedEncodingException)
+
+      assertArrayEquals(octets, Base45UrlDecoder.FORM.decode(form), form);
+      assertArrayEquals(octets, Base45UrlDecoder.LENIENT.decode(form), form);
+      assertArrayEquals(
+          octets, Base45UrlDecoder.PERCENT.decode(encoded.replace("%", "%25")), encoded
+      );
+
+      // --- c. random input, each character escaped or not
+      final StringBuilder escaped = new StringBuilder();
+      for (final char character : encoded.toCharArray()) {
+        if (RNG.nextBoolean() || ('%' == character)) {
+          final String hex = String.format("%%%02X", (int) character);
+          escaped.append(RNG.nextBoolean() ? hex : hex.toLowerCase(Locale.ROOT));
+        } else {
+          escaped.append(character);
+        } // end else
+      } // end for (character...)
+      final byte[] ascii = ("xy" + escaped).getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[octets.length + 1];
+      assertEquals(
+          octets.length,
+          Base45UrlDecoder.PERCENT.decode(ascii, 2, ascii.length - 2, dst, 1)
+      );
+      assertArrayEquals(octets, Arrays.copyOfRange(dst, 1, dst.length));
+      assertArrayEquals(octets, Base45UrlDecoder.PERCENT.decode(ascii, 2, ascii.length - 2));
+    }); // end forEach(i -> ...)
+
+    // --- d. lenient: lowercase letters and line breaks
+    assertEquals("ietf!", ascii(Base45UrlDecoder.LENIENT.decode("qed8\r\nwex0\n")));
+    assertEquals("ietf!", ascii(Base45UrlDecoder.LENIENT.decode("QeD8%0A%77Ex0")));
+    assertEquals("Hello!!", ascii(Base45UrlDecoder.LENIENT.decode("%25\t69+vd92ex0")));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45UrlDecoder#decode(CharSequence)} with invalid input.
+   */
+  @Test
+  void test_decode__CharSequence_errors() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. ERROR: invalid characters, depending on mode
+    // --- b. ERROR: malformed escape sequences
+    // --- c. ERROR: invalid length and code
+    // --- d. ERROR: output buffer too small
+    // --- e. ERROR: single character left over, same error as Base45.decode(...)
+    // --- a. ERROR: invalid characters, depending on mode
+    for (final String input : new String[]{"qed8wex0", "QED8\nWEX0", "QED8WEXŁ"}) {
+      assertEquals("invalid character(s)", message(Base45UrlDecoder.PERCENT, input));
+      assertEquals("invalid character(s)", message(Base45UrlDecoder.FORM, input));
+    } // end for (input...)
+    assertEquals("invalid character(s)", message(Base45UrlDecoder.LENIENT, "QED8WEXŁ"));
+    assertEquals("invalid character(s)", message(Base45UrlDecoder.LENIENT, "QED8WEX_"));
+
+    // --- b. ERROR: malformed escape sequences
+    for (final String input : new String[]{"QED8WEX%", "QED8WEX%3", "QED8W%G30", "%%25"}) {
+      assertEquals("invalid character(s)", message(Base45UrlDecoder.LENIENT, input), input);
+    } // end for (input...)
+
+    // --- c. ERROR: invalid length and code
+    final IllegalArgumentException length = assertThrows(
+        IllegalArgumentException.class,
+        () -> Base45UrlDecoder.PERCENT.decode("QED8WEX0%30%30")
+    );
+    assertEquals("invalid number of input character", length.getMessage());
+    assertEquals("index 10, length 10", length.getCause().getMessage()); // un-escaped
+    assertEquals("invalid code", message(Base45UrlDecoder.FORM, "GGW"));
+
+    // --- d. ERROR: output buffer too small
+    final byte[] src = "QED8%57EX0".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(5, Base45UrlDecoder.PERCENT.decode(src, 0, src.length, new byte[5], 0));
+    assertEquals(
+        "output buffer too small",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45UrlDecoder.PERCENT.decode(src, 0, src.length, new byte[5], 1)
+        ).getMessage()
+    );
+
+    // --- e. ERROR: single character left over, same error as Base45.decode(...)
+    final String last = Base45.ALPHABET + "!a_\u0141";
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(50) * 2];
+      RNG.nextBytes(octets);
+      final String encoded = Base45.encode(octets);
+      final char character = last.charAt(RNG.nextInt(last.length()));
+      final IllegalArgumentException expected = assertThrows(
+          IllegalArgumentException.class, () -> Base45.decode(encoded + character)
+      );
+      final String input = encoded.replace("%", "%25").replace("+", "%2B") + character;
+
+      for (final Base45UrlDecoder dut : new Base45UrlDecoder[]{
+          Base45UrlDecoder.PERCENT, Base45UrlDecoder.FORM
+      }) {
+        final IllegalArgumentException actual = assertThrows(
+            IllegalArgumentException.class, () -> dut.decode(input)
+        );
+
+        assertEquals(expected.getMessage(), actual.getMessage(), input);
+        assertEquals(
+            expected.getCause().getMessage(), actual.getCause().getMessage(), input
+        );
+      } // end for (dut...)
+    }); // end forEach(i -> ...)
+    assertEquals("invalid number of input character", message(Base45UrlDecoder.PERCENT, "%"));
+    assertEquals("invalid character(s)", message(Base45UrlDecoder.PERCENT, "!0"));
+  } // end method */
+
+  /**
+   * Converts octets to a string.
+   *
+   * @param octets ASCII characters
+   *
+   * @return corresponding string
+   */
+  private static String ascii(
+      final byte[] octets
+  ) {
+    return new String(octets, StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Returns the message of the exception thrown while decoding.
+   *
+   * @param dut   decoder under test
+   * @param input characters to be decoded
+   *
+   * @return message of exception
+   */
+  private static String message(
+      final Base45UrlDecoder dut,
+      final String input
+  ) {
+    return assertThrows(IllegalArgumentException.class, () -> dut.decode(input)).getMessage();
+  } // end method */
+} // end class
@@ -0,0 +1,141 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Vector}.
+ *
+ * <p>Depending on the runtime either the baseline or the variant from the multi-release
+ * layer is tested. In the latter case vector instructions are used only if the JVM is
+ * started with {@code --add-modules jdk.incubator.vector}.
+ */
+final class TestBase45Vector {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Vector#decode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_decode__byteA_int_int_byteA_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45Table works as expected
+
+    // Test strategy:
+    // --- a. random input, check prefix processed
+    // --- b. all two byte inputs
+    // --- c. ERROR: invalid character, non-ASCII character, invalid code
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(4 * Base45Vector.THRESHOLD)];
+      RNG.nextBytes(octets);
+      final byte[] ascii = ("00" + Base45.encode(octets)).getBytes(StandardCharsets.US_ASCII);
+      final byte[] dst = new byte[octets.length + 1];
+
+      final int noChars = Base45Vector.decode(ascii, 2, ascii.length - 2, dst, 1);
+      assertEquals(0, noChars % 3);
+      assertTrue(noChars <= ascii.length - 2);
+      if (!Base45Vector.isAvailable() || (ascii.length - 2 < Base45Vector.THRESHOLD)) {
+        assertEquals(0, noChars);
+      } // end if
+      final int noOctets = noChars / 3 * 2;
+      assertArrayEquals(
+          Arrays.copyOf(octets, noOctets),
+          Arrays.copyOfRange(dst, 1, 1 + noOctets)
+      );
+    }); // end forEach(i -> ...)
+
+    // --- b. all two byte inputs
+    {
+      final byte[] octets = new byte[2 * 0x1_0000];
+      for (int word = 0; word < 0x1_0000; word++) {
+        octets[2 * word] = (byte) (word >> 8);
+        octets[2 * word + 1] = (byte) word;
+      } // end for (word...)
+      final byte[] ascii = Base45.getEncoder().encode(octets);
+      final byte[] dst = new byte[octets.length];
+      final int noChars = Base45Vector.decode(ascii, 0, ascii.length, dst, 0);
+      Base45.decode(ascii, noChars, ascii.length - noChars, dst, noChars / 3 * 2);
+      assertArrayEquals(octets, dst);
+    }
+
+    // --- c. ERROR: invalid character, non-ASCII character, invalid code
+    if (Base45Vector.isAvailable()) {
+      for (final byte[] invalid : new byte[][]{
+          {'a'}, {'#'}, {(byte) 0xb0}, {':', ':', ':'},
+      }) {
+        final byte[] ascii = new byte[3 * Base45Vector.THRESHOLD];
+        Arrays.fill(ascii, (byte) '0');
+        final int position = 3 * RNG.nextInt(Base45Vector.THRESHOLD);
+        System.arraycopy(invalid, 0, ascii, position, invalid.length);
+
+        final Throwable throwable = assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Vector.decode(ascii, 0, ascii.length, new byte[ascii.length], 0)
+        );
+        assertEquals(
+            (3 == invalid.length) ? "invalid code" : "invalid character(s)",
+            throwable.getMessage()
+        );
+      } // end for (invalid...)
+    } // end if
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Vector#encode(byte[], int, int, byte[], int)}.
+   */
+  @Test
+  void test_encode__byteA_int_int_byteA_int() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45Table works as expected
+
+    // Test strategy:
+    // --- a. all two byte inputs
+    // --- b. random input, check prefix processed
+    {
+      final byte[] octets = new byte[2 * 0x1_0000];
+      for (int word = 0; word < 0x1_0000; word++) {
+        octets[2 * word] = (byte) (word >> 8);
+        octets[2 * word + 1] = (byte) word;
+      } // end for (word...)
+      final byte[] expected = new byte[3 * 0x1_0000];
+      Base45Table.encode(octets, 0, octets.length, expected, 0);
+      final byte[] dst = new byte[expected.length];
+      final int noOctets = Base45Vector.encode(octets, 0, octets.length, dst, 0);
+      assertArrayEquals(
+          Arrays.copyOf(expected, noOctets / 2 * 3),
+          Arrays.copyOf(dst, noOctets / 2 * 3)
+      );
+    }
+
+    // --- b. random input, check prefix processed
+    IntStream.rangeClosed(0, 1000).forEach(i -> {
+      final byte[] octets = new byte[RNG.nextInt(4 * Base45Vector.THRESHOLD)];
+      RNG.nextBytes(octets);
+      final String expected = Base45.encode(octets);
+      final byte[] dst = new byte[expected.length() + 3];
+
+      final int noOctets = Base45Vector.encode(octets, 0, octets.length, dst, 3);
+      assertEquals(0, noOctets % 2);
+      assertTrue(noOctets <= octets.length);
+      if (!Base45Vector.isAvailable() || (octets.length < Base45Vector.THRESHOLD)) {
+        assertEquals(0, noOctets);
+      } // end if
+      final int noChars = noOctets / 2 * 3;
+      assertEquals(
+          expected.substring(0, noChars),
+          new String(dst, 3, noChars, StandardCharsets.US_ASCII)
+      );
+    }); // end forEach(i -> ...)
+  } // end method */
+} // end class
@@ -0,0 +1,174 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Zlib}.
+ */
+final class TestBase45Zlib {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Test method for {@link Base45Zlib#deflate(byte[], String)}.
+   */
+  @Test
+  void test_deflate__byteA_String() throws Exception { // NOPMD '_' character in name
+    // Test strategy:
+    // --- a. compare with DeflaterOutputStream and Base45.encode(byte[])
+    // --- b. random input, also compressed data longer than one chunk
+    // --- c. ERROR: invalid range
+    final byte[] message = "Hello, Base45!".getBytes("UTF-8");
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (DeflaterOutputStream dos = new DeflaterOutputStream(
+        baos, new Deflater(Deflater.BEST_COMPRESSION)
+    )) {
+      dos.write(message);
+    } // end try-with-resources
+    assertEquals(
+        Base45Zlib.HC1 + Base45.encode(baos.toByteArray()),
+        Base45Zlib.deflate(message, Base45Zlib.HC1)
+    );
+
+    // --- b. random input, also compressed data longer than one chunk
+    IntStream.rangeClosed(0, 100).forEach(i -> {
+      final byte[] octets = octets(RNG.nextInt(10_000));
+      final String encoded = Base45Zlib.deflate(octets, "");
+      final byte[] dst = new byte[octets.length];
+
+      assertEquals(octets.length, Base45Zlib.inflate(encoded, "", dst, 0, dst.length));
+      assertArrayEquals(octets, dst);
+    }); // end forEach(i -> ...)
+
+    // --- c. ERROR: invalid range
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45Zlib.deflate(new byte[2], 1, 2, 9, new StringBuilder())
+    );
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Zlib#inflate(CharSequence, String, byte[], int, int)}.
+   */
+  @Test
+  void test_inflate__CharSequence_String_byteA_int_int() { // NOPMD '_' character in name
+    // Test strategy:
+    // --- a. round trip, output exactly fits
+    // --- b. ERROR: missing prefix
+    // --- c. ERROR: invalid base 45
+    // --- d. ERROR: invalid, truncated or trailing zlib data
+    // --- e. ERROR: inflated data exceed limit
+    // --- f. ERROR: invalid range
+
+    // --- a. round trip, output exactly fits
+    final byte[] octets = octets(100_000);
+    final String encoded = Base45Zlib.deflate(octets, Base45Zlib.HC1);
+    final byte[] dst = new byte[octets.length + 2];
+    assertEquals(
+        octets.length,
+        Base45Zlib.inflate(encoded, Base45Zlib.HC1, dst, 1, octets.length)
+    );
+    assertArrayEquals(octets, Arrays.copyOfRange(dst, 1, octets.length + 1));
+
+    // --- b. ERROR: missing prefix
+    for (final String input : new String[]{"", "HC", "HC2:00", "hc1:00"}) {
+      assertEquals(
+          "missing prefix",
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> Base45Zlib.inflate(input, Base45Zlib.HC1, dst, 0, dst.length)
+          ).getMessage()
+      );
+    } // end for (input...)
+
+    // --- c. ERROR: invalid base 45
+    assertEquals(
+        "invalid character(s)",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate("HC1:a00", Base45Zlib.HC1, dst, 0, dst.length)
+        ).getMessage()
+    );
+
+    // --- d. ERROR: invalid, truncated or trailing zlib data
+    assertEquals(
+        "invalid zlib data",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate(Base45.encode(new byte[]{0x78, 0, 1}), "", dst, 0, 9)
+        ).getMessage()
+    );
+    assertEquals(
+        "truncated zlib data",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate(
+                encoded.substring(0, 4 + (encoded.length() - 4) / 6 * 3), Base45Zlib.HC1,
+                dst, 0, dst.length
+            )
+        ).getMessage()
+    );
+    final byte[] zlib = Base45.decode(Base45Zlib.deflate(octets(10), ""));
+    final String trailing = Base45.encode(Arrays.copyOf(zlib, zlib.length + 2));
+    assertEquals(
+        "trailing data after zlib data",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate(trailing, "", dst, 0, dst.length)
+        ).getMessage()
+    );
+
+    // --- e. ERROR: inflated data exceed limit
+    final String bomb = Base45Zlib.deflate(new byte[1_000_000], "");
+    assertEquals(
+        "inflated data exceed limit",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate(bomb, "", dst, 0, dst.length)
+        ).getMessage()
+    );
+    assertEquals(
+        "inflated data exceed limit",
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Base45Zlib.inflate(encoded, Base45Zlib.HC1, dst, 0, octets.length - 1)
+        ).getMessage()
+    );
+
+    // --- f. ERROR: invalid range
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Base45Zlib.inflate(encoded, Base45Zlib.HC1, dst, 1, dst.length)
+    );
+  } // end method */
+
+  /**
+   * Creates compressible random octets.
+   *
+   * @param length number of octets
+   *
+   * @return octets from a small alphabet
+   */
+  private static byte[] octets(
+      final int length
+  ) {
+    final byte[] result = new byte[length];
+    for (int i = length; i-- > 0;) { // NOPMD assignment in operand
+      result[i] = (byte) ('a' + RNG.nextInt(8));
+    } // end for (i...)
+
+    return result;
+  } // end method */
+} // end class
@@ -0,0 +1,91 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class performing white-box tests on the Java 11 variant of {@link Base45Events}.
+ */
+final class TestBase45Events {
+  /**
+   * Temporary directory for recordings.
+   */
+  @TempDir
+  /* package */ Path insTempDir; // NOPMD field is not private */
+
+  /**
+   * Test method for {@link Base45Events#begin()} and
+   * {@link Base45Events#commit(Object, int, long, int)}.
+   */
+  @Test
+  void test_commit__Object_int_long_int() throws Exception { // NOPMD '_' in name of method
+    // Test strategy:
+    // --- a. without recording nothing fails
+    // --- b. events recorded with threshold zero
+    // --- c. default threshold drops fast operations
+    // --- a. without recording nothing fails
+    Base45Events.commit(Base45Events.begin(), Base45Metrics.ENCODE, 1, -1);
+    Base45Events.commit(null, Base45Metrics.ENCODE, 1, -1);
+
+    // --- b. events recorded with threshold zero
+    List<RecordedEvent> events = record(Duration.ZERO);
+    assertEquals(2, events.size());
+    assertEquals("encode", events.get(0).getString("operation"));
+    assertEquals(10, events.get(0).getLong("size"));
+    assertTrue(events.get(0).getBoolean("success"));
+    assertEquals(0, events.get(0).getInt("errorKind"));
+    assertEquals("decode", events.get(1).getString("operation"));
+    assertEquals(4, events.get(1).getLong("size"));
+    assertFalse(events.get(1).getBoolean("success"));
+    assertEquals(Base45.ERROR_LENGTH, events.get(1).getInt("errorKind"));
+
+    // --- c. default threshold drops fast operations
+    events = record(null);
+    assertEquals(0, events.size());
+  } // end method */
+
+  /**
+   * Records one successful encode and one failed decode operation.
+   *
+   * @param threshold of recording, {@code null} for the default threshold
+   *
+   * @return recorded events of type {@code com.base45.Operation}
+   *
+   * @throws Exception if recording fails
+   */
+  private List<RecordedEvent> record(
+      final Duration threshold
+  ) throws Exception {
+    final Path file = Path.of(insTempDir.toString(), "recording.jfr");
+    try (Recording recording = new Recording()) {
+      if (null == threshold) {
+        recording.enable("com.base45.Operation");
+      } else {
+        recording.enable("com.base45.Operation").withThreshold(threshold);
+      } // end else
+
+      recording.start();
+      Base45Events.commit(Base45Events.begin(), Base45Metrics.ENCODE, 10, -1);
+      Base45Events.commit(
+          Base45Events.begin(), Base45Metrics.DECODE, 4, Base45.ERROR_LENGTH
+      );
+      recording.stop();
+      recording.dump(file);
+    } // end try-with-resources
+
+    return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> "com.base45.Operation".equals(event.getEventType().getName()))
+        .collect(Collectors.toList());
+  } // end method */
+} // end class
@@ -0,0 +1,43 @@
+/*
+ * Memory segments for the Java implementation of base45.
+ *
+ * The Foreign Function & Memory API is final since Java 22, whereas the library "lib"
+ * targets Java 8. Public classes must not exist in a versioned layer of a multi-release
+ * JAR only, thus Base45Segments is shipped by this subproject.
+ *
+ * This subproject needs a Java 22 toolchain, thus it is included only on request, see
+ * "settings.gradle.kts":
+ *     ./gradlew -Pbase45.java22 :segments:test
+ */
+
+// section for loading plugins . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+plugins {
+    id("java-library")
+} // end plugins ___________________________________________________________________________________
+
+// set JavaVersion . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(22))
+    }
+} // end JavaVersion _______________________________________________________________________________
+
+// configure dependencies  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+dependencies {
+    api(project(":lib"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter-api:_")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
+} // end dependencies ______________________________________________________________________________
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+tasks.test {
+    useJUnitPlatform()
+
+    testLogging {
+        events("PASSED", "FAILED", "SKIPPED")
+    }
+}
@@ -0,0 +1,324 @@
+package com.base45;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Encoding and decoding between {@link MemorySegment}s with {@code long} offsets.
+ *
+ * <p>In contrast to {@link Base45}, which is indexed by {@code int}, this class
+ * handles payloads beyond 2 GiB, e.g. native segments allocated by an {@link Arena}
+ * or files mapped by {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)}.
+ * Encoded characters are ASCII, i.e. each character occupies one octet.
+ *
+ * <p>Segments are processed in chunks of {@link #CHUNK} octets, because
+ * {@link ByteBuffer}s are indexed by {@code int}. Each chunk of input and output is
+ * viewed by {@link MemorySegment#asByteBuffer()} and converted by
+ * {@link Base45.Encoder#encode(ByteBuffer, ByteBuffer)} (or
+ * {@link Base45.Decoder#decode(ByteBuffer, ByteBuffer)}) in place. Because
+ * {@link #CHUNK} is a multiple of six, chunks are independent of each other. Thus the
+ * payload of native or mapped segments is never copied to the Java heap.
+ *
+ * <p>Errors are reported as by {@link Base45#decode(byte[], int, int, byte[], int)}.
+ * In case of an error some octets are possibly already written to the output.
+ *
+ * <p>This class needs Java 22 or later, thus it is shipped by subproject "segments"
+ * rather than by the Java 8 library.
+ */
+public final class Base45Segments { // NOPMD utility class
+  /**
+   * Number of input octets or characters processed at once, a multiple of six.
+   */
+  /* package */ static final int CHUNK = 48 << 10; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45Segments() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns number of characters after encoding.
+   *
+   * @param noOctets number of octets to be encoded
+   *
+   * @return number of ASCII characters after encoding
+   *
+   * @throws IllegalArgumentException if {@code noOctets} is negative or the result
+   *                                  exceeds {@link Long#MAX_VALUE}
+   */
+  public static long encodedLength(
+      final long noOctets
+  ) {
+    if ((noOctets < 0) || (noOctets > Long.MAX_VALUE / 3 * 2)) {
+      throw new IllegalArgumentException("invalid number of octets: " + noOctets);
+    } // end if
+
+    return 3 * (noOctets >> 1) + 2 * (noOctets & 1);
+  } // end method */
+
+  /**
+   * Returns number of octets after decoding.
+   *
+   * @param noChars number of characters to be decoded
+   *
+   * @return number of octets after decoding
+   *
+   * @throws IllegalArgumentException if {@code noChars} is neither {@code 3*i} nor
+   *                                  {@code 3*i + 2} with {@code i} as a non negative
+   *                                  integer
+   */
+  public static long decodedLength(
+      final long noChars
+  ) {
+    if ((noChars < 0) || (1 == noChars % 3)) { // NOPMD literal in conditional statement
+      throw new IllegalArgumentException("invalid number of input character");
+    } // end if
+
+    return outputLength(noChars);
+  } // end method */
+
+  /**
+   * Encodes all octets of a segment into a new segment.
+   *
+   * @param src   octets to be encoded
+   * @param arena allocating the output
+   *
+   * @return segment with ASCII characters, allocated by {@code arena}
+   */
+  public static MemorySegment encode(
+      final MemorySegment src,
+      final Arena arena
+  ) {
+    final MemorySegment result = arena.allocate(encodedLength(src.byteSize()));
+    encode(src, 0, src.byteSize(), result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes all ASCII characters of a segment into a new segment.
+   *
+   * @param src   ASCII characters to be decoded
+   * @param arena allocating the output
+   *
+   * @return segment with decoded octets, allocated by {@code arena}
+   *
+   * @throws IllegalArgumentException if the characters are invalid, see
+   *                                  {@link Base45#decode(CharSequence)}
+   */
+  public static MemorySegment decode(
+      final MemorySegment src,
+      final Arena arena
+  ) {
+    final MemorySegment result = arena.allocate(outputLength(src.byteSize()));
+    decode(src, 0, src.byteSize(), result, 0);
+
+    return result;
+  } // end method */
+
+  /**
+   * Encodes a range of octets into a caller-supplied segment.
+   *
+   * @param src    octets to be encoded
+   * @param off    offset of first octet in {@code src}
+   * @param len    number of octets to be encoded
+   * @param dst    segment receiving the ASCII characters
+   * @param dstOff offset of first character in {@code dst}
+   *
+   * @return number of characters written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an offset within {@code dst}
+   * @throws IllegalArgumentException  if {@code dst} is too small for all characters
+   */
+  public static long encode(
+      final MemorySegment src,
+      final long off,
+      final long len,
+      final MemorySegment dst,
+      final long dstOff
+  ) {
+    checkRange(src.byteSize(), off, len);
+    final long noChars = encodedLength(len);
+    checkOutput(dst.byteSize(), dstOff, noChars);
+
+    final Base45.Encoder encoder = Base45.getEncoder();
+    long outOff = dstOff;
+    for (long index = 0; index < len; index += CHUNK) {
+      final long length = Math.min(len - index, CHUNK);
+      final long outLength = encodedLength(length);
+      encoder.encode(
+          src.asSlice(off + index, length).asByteBuffer(),
+          dst.asSlice(outOff, outLength).asByteBuffer()
+      );
+      outOff += outLength;
+    } // end for (index...)
+
+    return noChars;
+  } // end method */
+
+  /**
+   * Decodes a range of ASCII characters into a caller-supplied segment.
+   *
+   * @param src    ASCII characters to be decoded
+   * @param off    offset of first character in {@code src}
+   * @param len    number of characters to be decoded
+   * @param dst    segment receiving the decoded octets
+   * @param dstOff offset of first octet in {@code dst}
+   *
+   * @return number of octets written to {@code dst}
+   *
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} do not denote a
+   *                                   range within {@code src}, or {@code dstOff} is
+   *                                   not an offset within {@code dst}
+   * @throws IllegalArgumentException  if
+   *                                   <ol>
+   *                                     <li>{@code dst} is too small for all octets
+   *                                     <li>the characters are invalid, see
+   *                                         {@link Base45#decode(CharSequence)}
+   *                                   </ol>
+   */
+  public static long decode(
+      final MemorySegment src,
+      final long off,
+      final long len,
+      final MemorySegment dst,
+      final long dstOff
+  ) {
+    // Note: An invalid number of characters affects only the last chunk. Thus, as in
+    //       Base45, invalid characters in all complete triples take precedence.
+    checkRange(src.byteSize(), off, len);
+    final long noOctets = outputLength(len);
+    checkOutput(dst.byteSize(), dstOff, noOctets);
+
+    final Base45.Decoder decoder = Base45.getDecoder();
+    long outOff = dstOff;
+    for (long index = 0; index < len; index += CHUNK) {
+      final long length = Math.min(len - index, CHUNK);
+      final long outLength = outputLength(length);
+      decoder.decode(
+          src.asSlice(off + index, length).asByteBuffer(),
+          dst.asSlice(outOff, outLength).asByteBuffer()
+      );
+      outOff += outLength;
+    } // end for (index...)
+
+    return noOctets;
+  } // end method */
+
+  /**
+   * Encodes or decodes a file by mapping input and output into memory.
+   *
+   * <p>The size of the output is checked before the output file is opened. Thus an
+   * input of invalid length leaves an existing output file untouched. Otherwise the
+   * output file is created or truncated and set to its final size beforehand. Both
+   * mappings are released when this method returns.
+   *
+   * @param encode {@code TRUE} for encoding, {@code FALSE} for decoding
+   * @param input  file to be read
+   * @param output file to be written
+   *
+   * @return size of output file
+   *
+   * @throws IOException              if reading or writing fails
+   * @throws IllegalArgumentException if input cannot be decoded
+   */
+  public static long transcode(
+      final boolean encode,
+      final Path input,
+      final Path output
+  ) throws IOException {
+    try (
+        Arena arena = Arena.ofConfined();
+        FileChannel src = FileChannel.open(input, StandardOpenOption.READ)
+    ) {
+      // Note: The output size is computed, i.e. the input length is checked, before
+      //       the output file is opened and possibly truncated.
+      final long inSize = src.size();
+      final long outSize = encode ? encodedLength(inSize) : decodedLength(inSize);
+      try (FileChannel dst = FileChannel.open(
+          output,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE
+      )) {
+        final MemorySegment in = src.map(FileChannel.MapMode.READ_ONLY, 0, inSize, arena);
+        final MemorySegment out = dst.map(FileChannel.MapMode.READ_WRITE, 0, outSize, arena);
+        if (encode) {
+          encode(in, 0, inSize, out, 0);
+        } else {
+          decode(in, 0, inSize, out, 0);
+        } // end else
+
+        return outSize;
+      } // end try-with-resources
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Returns number of octets written by decoding, for any number of characters.
+   *
+   * @param noChars number of characters
+   *
+   * @return number of octets
+   */
+  /* package */ static long outputLength(
+      final long noChars
+  ) {
+    final long noTriples = noChars / 3;
+
+    return 2 * noTriples + ((noChars - 3 * noTriples) >> 1);
+  } // end method */
+
+  /**
+   * Checks whether a range lies within a segment.
+   *
+   * @param size of segment
+   * @param off  offset of range
+   * @param len  length of range
+   *
+   * @throws IndexOutOfBoundsException if the range is not within the segment
+   */
+  private static void checkRange(
+      final long size,
+      final long off,
+      final long len
+  ) {
+    if ((off < 0) || (len < 0) || (len > size - off)) {
+      throw new IndexOutOfBoundsException("off=" + off + ", len=" + len + ", size=" + size);
+    } // end if
+  } // end method */
+
+  /**
+   * Checks whether an output segment is large enough.
+   *
+   * @param size     of segment
+   * @param off      offset of first element to be written
+   * @param required number of elements to be written
+   *
+   * @throws IndexOutOfBoundsException if {@code off} is not within the segment
+   * @throws IllegalArgumentException  if the segment is too small
+   */
+  private static void checkOutput(
+      final long size,
+      final long off,
+      final long required
+  ) {
+    if ((off < 0) || (off > size)) {
+      throw new IndexOutOfBoundsException("off=" + off + ", size=" + size);
+    } // end if
+
+    if (required > size - off) {
+      throw new IllegalArgumentException("output buffer too small");
+    } // end if
+  } // end method */
+} // end class
@@ -0,0 +1,209 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.RandomAccessFile;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class performing white-box tests on {@link Base45Segments}.
+ */
+final class TestBase45Segments {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Temporary directory for mapped files.
+   */
+  @TempDir
+  /* package */ Path insTempDir; // NOPMD field is not private */
+
+  /**
+   * Test method for {@link Base45Segments#encode(MemorySegment, Arena)} and
+   * {@link Base45Segments#decode(MemorySegment, Arena)}.
+   */
+  @Test
+  void test_encode__MemorySegment_Arena() { // NOPMD '_' character in name of method
+    // Assertions:
+    // ... a. Base45.encode(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. random input, small and spanning several chunks, native and heap segments
+    // --- b. ERROR: invalid characters take precedence over invalid length
+    try (Arena arena = Arena.ofConfined()) {
+      // --- a. random input, small and spanning several chunks, native and heap segments
+      IntStream.rangeClosed(0, 100).forEach(i -> {
+        final byte[] octets = new byte[RNG.nextInt((i < 90) ? 1000 : 4 * Base45Segments.CHUNK)];
+        RNG.nextBytes(octets);
+        final MemorySegment src = arena.allocate(octets.length);
+        MemorySegment.copy(octets, 0, src, ValueLayout.JAVA_BYTE, 0, octets.length);
+
+        final MemorySegment encoded = Base45Segments.encode(src, arena);
+        assertArrayEquals(
+            Base45.encode(octets).getBytes(StandardCharsets.US_ASCII),
+            encoded.toArray(ValueLayout.JAVA_BYTE)
+        );
+        assertArrayEquals(
+            octets,
+            Base45Segments.decode(encoded, arena).toArray(ValueLayout.JAVA_BYTE)
+        );
+        final MemorySegment heap = MemorySegment.ofArray(new byte[(int) encoded.byteSize()]);
+        Base45Segments.encode(MemorySegment.ofArray(octets), 0, octets.length, heap, 0);
+        assertEquals(Base45.encode(octets), new String(
+            heap.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.US_ASCII
+        ));
+      }); // end forEach(i -> ...)
+
+      // --- b. ERROR: invalid characters take precedence over invalid length
+      final byte[] ascii = Base45.encode(new byte[2 * Base45Segments.CHUNK])
+          .concat("0").getBytes(StandardCharsets.US_ASCII);
+      final MemorySegment src = arena.allocate(ascii.length);
+      MemorySegment.copy(ascii, 0, src, ValueLayout.JAVA_BYTE, 0, ascii.length);
+      assertEquals(
+          "invalid number of input character",
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> Base45Segments.decode(src, arena)
+          ).getMessage()
+      );
+      src.set(ValueLayout.JAVA_BYTE, Base45Segments.CHUNK + 1, (byte) 'a');
+      assertEquals(
+          "invalid character(s)",
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> Base45Segments.decode(src, arena)
+          ).getMessage()
+      );
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Test method for
+   * {@link Base45Segments#encode(MemorySegment, long, long, MemorySegment, long)} and
+   * {@link Base45Segments#decode(MemorySegment, long, long, MemorySegment, long)}.
+   */
+  @Test
+  void test_encode__MemorySegment_long_long_MemorySegment_long() throws Exception { // NOPMD _
+    // Test strategy:
+    // --- a. offsets beyond 2 GiB in a sparse mapped file
+    // --- b. ERROR: ranges and output size
+    final Path file = insTempDir.resolve("sparse");
+    final long offset = (1L << 31) + 5;
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.setLength(offset + 16);
+      raf.seek(offset);
+      raf.write("QED8WEX0".getBytes(StandardCharsets.US_ASCII));
+    } // end try-with-resources
+
+    try (
+        Arena arena = Arena.ofConfined();
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)
+    ) {
+      // --- a. offsets beyond 2 GiB in a sparse mapped file
+      final MemorySegment src = channel.map(
+          FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena
+      );
+      final MemorySegment dst = arena.allocate(10);
+      assertEquals(5, Base45Segments.decode(src, offset, 8, dst, 2));
+      assertArrayEquals(
+          "ietf!".getBytes(StandardCharsets.US_ASCII),
+          dst.asSlice(2, 5).toArray(ValueLayout.JAVA_BYTE)
+      );
+      final MemorySegment encoded = arena.allocate(8);
+      assertEquals(6, Base45Segments.encode(src, offset - 4, 4, encoded, 2));
+      assertEquals(
+          "000000",
+          new String(encoded.asSlice(2).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.US_ASCII)
+      );
+
+      // --- b. ERROR: ranges and output size
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () -> Base45Segments.decode(src, channel.size() - 2, 3, dst, 0)
+      );
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () -> Base45Segments.decode(src, offset, 8, dst, 11)
+      );
+      assertEquals(
+          "output buffer too small",
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> Base45Segments.decode(src, offset, 8, dst, 6)
+          ).getMessage()
+      );
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Segments#transcode(boolean, Path, Path)}.
+   */
+  @Test
+  void test_transcode__boolean_Path_Path() throws Exception { // NOPMD '_' in name of method
+    // Test strategy:
+    // --- a. round trip through mapped files
+    // --- b. ERROR: invalid length
+    final byte[] octets = new byte[3 * Base45Segments.CHUNK + 1];
+    RNG.nextBytes(octets);
+    final Path plain = Files.write(insTempDir.resolve("plain"), octets);
+    final Path encoded = insTempDir.resolve("encoded");
+    final Path decoded = insTempDir.resolve("decoded");
+
+    // --- a. round trip through mapped files
+    assertEquals(
+        Base45.encodedLength(octets.length),
+        Base45Segments.transcode(true, plain, encoded)
+    );
+    assertEquals(Base45.encode(octets), Files.readString(encoded, StandardCharsets.US_ASCII));
+    assertEquals(octets.length, Base45Segments.transcode(false, encoded, decoded));
+    assertArrayEquals(octets, Files.readAllBytes(decoded));
+
+    // --- b. ERROR: invalid length, existing output is left untouched
+    Files.write(encoded, "0000".getBytes(StandardCharsets.US_ASCII));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Base45Segments.transcode(false, encoded, decoded)
+    );
+    assertArrayEquals(octets, Files.readAllBytes(decoded));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Segments#encodedLength(long)} and
+   * {@link Base45Segments#decodedLength(long)}.
+   */
+  @Test
+  void test_encodedLength__long() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. lengths beyond Integer.MAX_VALUE
+    // --- b. ERROR: invalid lengths
+    // --- a. lengths beyond Integer.MAX_VALUE
+    assertEquals(3L << 31, Base45Segments.encodedLength(2L << 31));
+    assertEquals(3L << 31 | 2, Base45Segments.encodedLength(2L << 31 | 1));
+    assertEquals(2L << 31, Base45Segments.decodedLength(3L << 31));
+    assertEquals(2L << 31 | 1, Base45Segments.decodedLength(3L << 31 | 2));
+
+    // --- b. ERROR: invalid lengths
+    assertThrows(IllegalArgumentException.class, () -> Base45Segments.encodedLength(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Base45Segments.encodedLength(Long.MAX_VALUE)
+    );
+    assertThrows(IllegalArgumentException.class, () -> Base45Segments.decodedLength(4));
+    assertThrows(IllegalArgumentException.class, () -> Base45Segments.decodedLength(-3));
+  } // end method */
+} // end class
@@ -0,0 +1,59 @@
+/*
+ * HTTP service and load generator for the Java implementation of base45.
+ *
+ * The service is started by
+ *     ./gradlew :server:run
+ * and measured by
+ *     ./gradlew :server:loadTest
+ * which starts an embedded server on localhost and reports p50/p99 latency and requests/s.
+ */
+
+// section for loading plugins . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+plugins {
+    id("application")
+    id("java")
+} // end plugins ___________________________________________________________________________________
+
+// set JavaVersion . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+// Note: The service runs each exchange on a virtual thread, available since Java 21.
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+} // end JavaVersion _______________________________________________________________________________
+
+// configure dependencies  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
+dependencies {
+    implementation(project(":lib"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter-api:_")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
+} // end dependencies ______________________________________________________________________________
+
+application {
+    mainClass.set("com.base45.Base45Server")
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+tasks.test {
+    useJUnitPlatform()
+
+    testLogging {
+        events("PASSED", "FAILED", "SKIPPED")
+    }
+}
+
+// Note: Arguments are passed by property "loadTest.args", e.g.
+//       ./gradlew :server:loadTest -PloadTest.args="-c 64 -n 100000 -s 2048"
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the load generator against an embedded server."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.base45.Base45LoadGenerator")
+    if (project.hasProperty("loadTest.args")) {
+        args(project.property("loadTest.args").toString().split(" "))
+    }
+}
@@ -0,0 +1,321 @@
+package com.base45;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for {@link Base45Server}, reporting latency percentiles and
+ * throughput.
+ *
+ * <p>Usage:
+ * <pre>
+ *   java -cp ... com.base45.Base45LoadGenerator [-c clients] [-n requests] [-s size]
+ *                                               [-e endpoint] [url]
+ * </pre>
+ *
+ * <p>{@code clients} virtual threads (default 16) send {@code requests} requests
+ * (default 10000) in total to {@code endpoint} ({@code encode}, the default, or
+ * {@code decode}), each with a random payload of {@code size} octets (default 512)
+ * before encoding. Without {@code url} a server is started on an ephemeral port of the
+ * loopback interface for the duration of the run. The first {@link #WARMUP} requests
+ * of each client are not measured.
+ */
+public final class Base45LoadGenerator { // NOPMD utility class
+  /**
+   * Number of requests per client excluded from measurement.
+   */
+  /* package */ static final int WARMUP = 100; // */
+
+  /**
+   * Default constructor.
+   */
+  private Base45LoadGenerator() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Entry point.
+   *
+   * @param args command line arguments, see class description
+   */
+  public static void main(
+      final String... args
+  ) {
+    System.exit(run(System.out, System.err, args)); // NOPMD call to System.exit()
+  } // end method */
+
+  /**
+   * Runs the load generator.
+   *
+   * @param out  receiving the report
+   * @param err  receiving usage and error messages
+   * @param args command line arguments, see class description
+   *
+   * @return exit status, zero on success
+   */
+  /* package */ static int run(
+      final PrintStream out,
+      final PrintStream err,
+      final String... args
+  ) {
+    // --- parse command line
+    int noClients = 16;
+    int noRequests = 10_000;
+    int size = 512;
+    String endpoint = "encode";
+    String url = null; // NOPMD redundant initializer
+    boolean valid = true;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        final String arg = args[i];
+        if ("-c".equals(arg)) {
+          noClients = Integer.parseInt(args[++i]); // NOPMD assignment in operand
+        } else if ("-n".equals(arg)) {
+          noRequests = Integer.parseInt(args[++i]); // NOPMD assignment in operand
+        } else if ("-s".equals(arg)) {
+          size = Integer.parseInt(args[++i]); // NOPMD assignment in operand
+        } else if ("-e".equals(arg)) {
+          endpoint = args[++i]; // NOPMD assignment in operand
+        } else if (null == url) {
+          url = arg;
+        } else {
+          valid = false;
+        } // end else
+      } // end for (i...)
+    } catch (IndexOutOfBoundsException | NumberFormatException e) {
+      valid = false;
+    } // end catch (...)
+
+    if (!valid || (noClients < 1) || (noRequests < 1) || (size < 0)
+        || !("encode".equals(endpoint) || "decode".equals(endpoint))) {
+      err.println(
+          "usage: [-c clients] [-n requests] [-s size] [-e (encode | decode)] [url]"
+      );
+
+      return 2;
+    } // end if
+
+    // --- run
+    try {
+      if (null == url) {
+        try (Base45Server server = new Base45Server(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+        )) {
+          out.println(report(
+              measure("http://" + server.getAddress(), endpoint, noClients, noRequests, size)
+          ));
+        } // end try-with-resources
+      } else {
+        out.println(report(measure(url, endpoint, noClients, noRequests, size)));
+      } // end else
+
+      return 0;
+    } catch (IOException e) {
+      err.println("error: " + e.getMessage());
+
+      return 1;
+    } // end catch (IOException)
+  } // end method */
+
+  /**
+   * Sends requests and measures their latency.
+   *
+   * @param url        base URL of server
+   * @param endpoint   {@code encode} or {@code decode}
+   * @param noClients  number of concurrent clients
+   * @param noRequests total number of measured requests
+   * @param size       number of octets per payload before encoding
+   *
+   * @return result
+   *
+   * @throws IOException if a request fails or gives an unexpected status
+   */
+  /* package */ static Result measure(
+      final String url,
+      final String endpoint,
+      final int noClients,
+      final int noRequests,
+      final int size
+  ) throws IOException {
+    final byte[] octets = new byte[size];
+    new Random(size).nextBytes(octets);
+    final byte[] payload = "encode".equals(endpoint)
+        ? octets
+        : Base45.encode(octets).getBytes(StandardCharsets.US_ASCII);
+    final HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/" + endpoint))
+        .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+        .build();
+    final long[] latencies = new long[noRequests];
+    final AtomicInteger next = new AtomicInteger();
+
+    try (
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder().executor(executor).build()
+    ) {
+      // --- warm up, then measure
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = noClients; i-- > 0;) { // NOPMD assignment in operand
+        futures.add(executor.submit(() -> {
+          for (int j = WARMUP; j-- > 0;) { // NOPMD assignment in operand
+            send(client, request);
+          } // end for (j...)
+
+          return null;
+        }));
+      } // end for (i...)
+      await(futures);
+
+      futures.clear();
+      final long start = System.nanoTime();
+      for (int i = noClients; i-- > 0;) { // NOPMD assignment in operand
+        futures.add(executor.submit(() -> {
+          for (int index = next.getAndIncrement(); index < noRequests;
+              index = next.getAndIncrement()) {
+            final long begin = System.nanoTime();
+            send(client, request);
+            latencies[index] = System.nanoTime() - begin;
+          } // end for (index...)
+
+          return null;
+        }));
+      } // end for (i...)
+      await(futures);
+
+      return new Result(latencies, System.nanoTime() - start);
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Sends one request and checks its status.
+   *
+   * @param client  HTTP client
+   * @param request to be sent
+   *
+   * @throws IOException          if the request fails or its status is not 200
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private static void send(
+      final HttpClient client,
+      final HttpRequest request
+  ) throws IOException, InterruptedException {
+    final HttpResponse<byte[]> response = client.send(
+        request, HttpResponse.BodyHandlers.ofByteArray()
+    );
+    if (200 != response.statusCode()) { // NOPMD literal in conditional statement
+      throw new IOException("unexpected status " + response.statusCode());
+    } // end if
+  } // end method */
+
+  /**
+   * Waits for all clients.
+   *
+   * @param futures of clients
+   *
+   * @throws IOException if a client failed or waiting was interrupted
+   */
+  private static void await(
+      final List<Future<Void>> futures
+  ) throws IOException {
+    try {
+      for (final Future<Void> future : futures) {
+        future.get();
+      } // end for (future...)
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } // end if
+
+      throw new IOException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new IOException(e);
+    } // end catch (...)
+  } // end method */
+
+  /**
+   * Formats a result.
+   *
+   * @param result of a run
+   *
+   * @return one line with number of requests, throughput and latency percentiles
+   */
+  /* package */ static String report(
+      final Result result
+  ) {
+    return String.format(
+        Locale.ROOT,
+        "%d requests in %.3f s, %.1f req/s, p50 %.1f us, p99 %.1f us, max %.1f us",
+        result.insLatencies.length,
+        result.insDuration * 1e-9,
+        result.insLatencies.length / (result.insDuration * 1e-9),
+        result.percentile(50) * 1e-3,
+        result.percentile(99) * 1e-3,
+        result.percentile(100) * 1e-3
+    );
+  } // end method */
+
+  /**
+   * Latencies and duration of a run.
+   */
+  /* package */ static final class Result {
+    /**
+     * Latencies of all requests in nanoseconds, sorted ascending.
+     */
+    /* package */ final long[] insLatencies; // NOPMD field is not private */
+
+    /**
+     * Wall-clock duration of run in nanoseconds.
+     */
+    /* package */ final long insDuration; // NOPMD field is not private */
+
+    /**
+     * Constructor.
+     *
+     * @param latencies of all requests in nanoseconds, sorted by this constructor
+     * @param duration  of run in nanoseconds
+     */
+    /* package */ Result(
+        final long[] latencies,
+        final long duration
+    ) {
+      Arrays.sort(latencies);
+      insLatencies = latencies;
+      insDuration = Math.max(1, duration);
+    } // end constructor */
+
+    /**
+     * Returns a percentile of latencies by the nearest-rank method.
+     *
+     * @param percent in range (0, 100]
+     *
+     * @return latency in nanoseconds, which is not exceeded by {@code percent} of all
+     *         requests
+     */
+    /* package */ long percentile(
+        final double percent
+    ) {
+      final int rank = (int) Math.ceil(percent / 100 * insLatencies.length);
+
+      return insLatencies[Math.max(rank, 1) - 1];
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,518 @@
+package com.base45;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP service encoding and decoding according to
+ * <a href="https://github.com/patrikhson/base45">base 45</a>, for clients not running
+ * on a JVM.
+ *
+ * <p>Usage:
+ * <pre>
+ *   java -cp ... com.base45.Base45Server [port]
+ * </pre>
+ *
+ * <p>The service listens on the loopback interface, by default on port
+ * {@link #DEFAULT_PORT}. It is based on {@link HttpServer} and handles each exchange
+ * on its own virtual thread. All endpoints expect method {@code POST}:
+ * <ol>
+ *   <li>{@code /encode}: request body octets, response body ASCII characters,
+ *   <li>{@code /decode}: request body ASCII characters, response body octets,
+ *   <li>{@code /validate}: request body ASCII characters, response body JSON, e.g.
+ *       <pre>
+ *         {"valid":true,"characters":12}
+ *         {"valid":false,"kind":1,"offset":3,"error":"invalid character(s)"}
+ *       </pre>
+ *       with kind and offset as in {@link Base45#validate(CharSequence, int, int)},
+ *   <li>{@code /batch/encode}: one item per line, octets in hexadecimal, response one
+ *       line with ASCII characters per item,
+ *   <li>{@code /batch/decode}: one item per line, ASCII characters, response one line
+ *       with octets in hexadecimal per item, or {@code "!"} followed by the error
+ *       message for invalid items.
+ * </ol>
+ *
+ * <p>Request bodies of {@code /encode}, {@code /decode} and {@code /validate} are
+ * streamed in chunks of {@link #CHUNK} octets. Because {@link #CHUNK} is a multiple
+ * of six, each chunk is processed independently. If a request body fits into one
+ * chunk, the response has a {@code Content-Length}. Otherwise the response is chunked
+ * and started before the whole request body is read. Errors detected in the first
+ * chunk give status 400 with the error message as body. For an error in a later chunk
+ * the connection is closed without terminating the response, such that clients see an
+ * incomplete response rather than a truncated one.
+ *
+ * <p>Batch bodies are read line by line and processed in groups of {@link #BATCH}
+ * items by {@link Base45#encodeAll(byte[][])} and {@link Base45#decodeAll(List)}.
+ *
+ * <p>Input and output buffers are taken from a pool of at most {@link #POOL_SIZE}
+ * entries, such that a steady load does not allocate buffers per request.
+ */
+public final class Base45Server implements AutoCloseable {
+  /**
+   * Default port.
+   */
+  public static final int DEFAULT_PORT = 4545; // */
+
+  /**
+   * Number of input octets or characters processed at once, a multiple of six.
+   */
+  /* package */ static final int CHUNK = 48 << 10; // */
+
+  /**
+   * Number of items of a batch processed at once.
+   */
+  /* package */ static final int BATCH = 1024; // */
+
+  /**
+   * Maximum number of buffers kept in pool.
+   */
+  /* package */ static final int POOL_SIZE = 64; // */
+
+  /**
+   * Hexadecimal format used by batch endpoints.
+   */
+  private static final HexFormat HEX = HexFormat.of(); // */
+
+  /**
+   * Underlying server.
+   */
+  private final HttpServer insServer; // */
+
+  /**
+   * Executor starting one virtual thread per exchange.
+   */
+  private final ExecutorService insExecutor; // */
+
+  /**
+   * Pool of buffers.
+   */
+  private final Queue<Buffers> insPool = new ArrayBlockingQueue<>(POOL_SIZE); // */
+
+  static {
+    // Note: Without TCP_NODELAY small responses wait for a delayed acknowledgement of
+    //       the client, which adds about 40 ms per request on Linux. The property is
+    //       read when the first HttpServer is created, unless set on the command line.
+    System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+  }
+
+  /**
+   * Creates and starts a server.
+   *
+   * @param address socket address to bind to, port zero for an ephemeral port
+   *
+   * @throws IOException if binding fails
+   */
+  public Base45Server(
+      final InetSocketAddress address
+  ) throws IOException {
+    insServer = HttpServer.create(address, 0);
+    insServer.createContext("/encode", post(exchange -> stream(exchange, true)));
+    insServer.createContext("/decode", post(exchange -> stream(exchange, false)));
+    insServer.createContext("/validate", post(this::validate));
+    insServer.createContext("/batch/encode", post(exchange -> batch(exchange, true)));
+    insServer.createContext("/batch/decode", post(exchange -> batch(exchange, false)));
+    insExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    insServer.setExecutor(insExecutor);
+    insServer.start();
+  } // end constructor */
+
+  /**
+   * Entry point.
+   *
+   * @param args optional port, see class description
+   *
+   * @throws IOException if binding fails
+   */
+  public static void main(
+      final String... args
+  ) throws IOException {
+    final int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    final Base45Server server = new Base45Server(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+    );
+    System.out.println("listening on http://" + server.getAddress()); // NOPMD System.out
+  } // end method */
+
+  /**
+   * Returns the address this server is bound to.
+   *
+   * @return host and port
+   */
+  public String getAddress() {
+    final InetSocketAddress address = insServer.getAddress();
+
+    return address.getHostString() + ":" + address.getPort();
+  } // end method */
+
+  /**
+   * Stops this server, exchanges in progress are given one second to complete.
+   */
+  @Override
+  public void close() {
+    insServer.stop(1);
+    insExecutor.close();
+  } // end method */
+
+  /**
+   * Wraps a handler such that methods other than {@code POST} are rejected.
+   *
+   * @param handler for {@code POST} requests
+   *
+   * @return handler for all requests
+   */
+  private static HttpHandler post(
+      final HttpHandler handler
+  ) {
+    return exchange -> {
+      if ("POST".equals(exchange.getRequestMethod())) {
+        handler.handle(exchange);
+      } else {
+        exchange.getResponseHeaders().set("Allow", "POST");
+        respond(exchange, 405, "method not allowed");
+      } // end else
+    };
+  } // end method */
+
+  /**
+   * Encodes or decodes a request body chunk by chunk.
+   *
+   * @param exchange HTTP exchange
+   * @param encode   {@code TRUE} for encoding, {@code FALSE} for decoding
+   *
+   * @throws IOException if reading or writing fails
+   */
+  private void stream(
+      final HttpExchange exchange,
+      final boolean encode
+  ) throws IOException {
+    final Buffers buffers = take();
+    try {
+      final InputStream body = exchange.getRequestBody();
+      int length = body.readNBytes(buffers.insInput, 0, CHUNK);
+      final int outLength;
+      try {
+        outLength = process(encode, buffers, length);
+      } catch (IllegalArgumentException e) {
+        respond(exchange, 400, e.getMessage());
+
+        return;
+      } // end catch (IllegalArgumentException)
+
+      // Note: A chunk which is not full indicates the end of the request body.
+      final boolean single = length < CHUNK;
+      exchange.getResponseHeaders().set(
+          "Content-Type",
+          encode ? "text/plain; charset=US-ASCII" : "application/octet-stream"
+      );
+      exchange.sendResponseHeaders(200, single ? fixedLength(outLength) : 0);
+      final OutputStream out = exchange.getResponseBody();
+      out.write(buffers.insOutput, 0, outLength);
+      while (CHUNK == length) {
+        length = body.readNBytes(buffers.insInput, 0, CHUNK);
+
+        // Note: An IllegalArgumentException here propagates to the server, which then
+        //       closes the connection without terminating the chunked response.
+        out.write(buffers.insOutput, 0, process(encode, buffers, length));
+      } // end while (...)
+
+      exchange.close();
+    } finally {
+      release(buffers);
+    } // end finally
+  } // end method */
+
+  /**
+   * Validates a request body chunk by chunk.
+   *
+   * @param exchange HTTP exchange
+   *
+   * @throws IOException if reading or writing fails
+   */
+  private void validate(
+      final HttpExchange exchange
+  ) throws IOException {
+    final Buffers buffers = take();
+    try {
+      final InputStream body = exchange.getRequestBody();
+      long offset = 0;
+      int length;
+      do {
+        length = body.readNBytes(buffers.insInput, 0, CHUNK);
+        for (int i = length; i-- > 0;) { // NOPMD assignment in operand
+          buffers.insChars[i] = (char) (buffers.insInput[i] & 0xff);
+        } // end for (i...)
+
+        final long status = Base45.validate(CharBuffer.wrap(buffers.insChars), 0, length);
+        if (Base45.VALID != status) {
+          final int kind = Base45.errorKind(status);
+          respondJson(exchange, String.format(
+              "{\"valid\":false,\"kind\":%d,\"offset\":%d,\"error\":\"%s\"}",
+              kind,
+              offset + Base45.errorOffset(status),
+              Base45.errorMessage(kind)
+          ));
+
+          return;
+        } // end if
+
+        offset += length;
+      } while (CHUNK == length);
+
+      respondJson(exchange, "{\"valid\":true,\"characters\":" + offset + "}");
+    } finally {
+      release(buffers);
+    } // end finally
+  } // end method */
+
+  /**
+   * Encodes or decodes a request body line by line.
+   *
+   * @param exchange HTTP exchange
+   * @param encode   {@code TRUE} for encoding, {@code FALSE} for decoding
+   *
+   * @throws IOException if reading or writing fails
+   */
+  private static void batch(
+      final HttpExchange exchange,
+      final boolean encode
+  ) throws IOException {
+    final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(exchange.getRequestBody(), StandardCharsets.US_ASCII)
+    );
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=US-ASCII");
+    exchange.sendResponseHeaders(200, 0);
+    final OutputStream out = exchange.getResponseBody();
+    final List<String> lines = new ArrayList<>(BATCH);
+    for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+      lines.add(line);
+      if (BATCH == lines.size()) {
+        out.write(encode ? encodeBatch(lines) : decodeBatch(lines));
+        lines.clear();
+      } // end if
+    } // end for (line...)
+
+    if (!lines.isEmpty()) {
+      out.write(encode ? encodeBatch(lines) : decodeBatch(lines));
+    } // end if
+
+    exchange.close();
+  } // end method */
+
+  /**
+   * Encodes a group of lines from {@code /batch/encode}.
+   *
+   * @param lines octets in hexadecimal
+   *
+   * @return response lines
+   */
+  /* package */ static byte[] encodeBatch(
+      final List<String> lines
+  ) {
+    final byte[][] items = new byte[lines.size()][];
+    for (int i = items.length; i-- > 0;) { // NOPMD assignment in operand
+      try {
+        items[i] = HEX.parseHex(lines.get(i).strip());
+      } catch (IllegalArgumentException e) {
+        items[i] = null; // NOPMD assigning null
+      } // end catch (IllegalArgumentException)
+    } // end for (i...)
+
+    // --- encode valid items as one batch
+    int noValid = 0;
+    for (final byte[] item : items) {
+      noValid += (null == item) ? 0 : 1;
+    } // end for (item...)
+
+    final byte[][] valid = new byte[noValid][];
+    int index = 0;
+    for (final byte[] item : items) {
+      if (null != item) {
+        valid[index++] = item;
+      } // end if
+    } // end for (item...)
+
+    final Base45Batch encoded = Base45.encodeAll(valid);
+    final StringBuilder result = new StringBuilder();
+    index = 0;
+    for (final byte[] item : items) {
+      if (null == item) {
+        result.append("!invalid hexadecimal\n");
+      } else {
+        result.append(encoded.getString(index++)).append('\n');
+      } // end else
+    } // end for (item...)
+
+    return result.toString().getBytes(StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Decodes a group of lines from {@code /batch/decode}.
+   *
+   * @param lines ASCII characters
+   *
+   * @return response lines
+   */
+  /* package */ static byte[] decodeBatch(
+      final List<String> lines
+  ) {
+    final Base45Batch decoded = Base45.decodeAll(lines);
+    final byte[] buffer = decoded.getBuffer();
+    final StringBuilder result = new StringBuilder();
+    for (int i = 0; i < decoded.size(); i++) {
+      final String error = decoded.getError(i);
+      if (null == error) {
+        result.append(HEX.formatHex(buffer, decoded.getOffset(i), decoded.getOffset(i + 1)));
+      } else {
+        result.append('!').append(error);
+      } // end else
+
+      result.append('\n');
+    } // end for (i...)
+
+    return result.toString().getBytes(StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Encodes or decodes one chunk.
+   *
+   * @param encode  {@code TRUE} for encoding, {@code FALSE} for decoding
+   * @param buffers with input
+   * @param length  number of octets in input buffer
+   *
+   * @return number of octets in output buffer
+   *
+   * @throws IllegalArgumentException if decoding fails
+   */
+  private static int process(
+      final boolean encode,
+      final Buffers buffers,
+      final int length
+  ) {
+    return encode
+        ? Base45.encode(buffers.insInput, 0, length, buffers.insOutput, 0)
+        : Base45.decode(buffers.insInput, 0, length, buffers.insOutput, 0);
+  } // end method */
+
+  /**
+   * Converts a response length for {@link HttpExchange#sendResponseHeaders(int, long)}.
+   *
+   * @param length number of octets in response body
+   *
+   * @return {@code length}, or -1 for an empty body
+   */
+  private static long fixedLength(
+      final int length
+  ) {
+    return (0 == length) ? -1 : length;
+  } // end method */
+
+  /**
+   * Sends a complete response with a text body.
+   *
+   * @param exchange HTTP exchange
+   * @param status   HTTP status code
+   * @param text     response body
+   *
+   * @throws IOException if writing fails
+   */
+  private static void respond(
+      final HttpExchange exchange,
+      final int status,
+      final String text
+  ) throws IOException {
+    final byte[] body = String.valueOf(text).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+    exchange.sendResponseHeaders(status, fixedLength(body.length));
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Sends a complete response with a JSON body.
+   *
+   * @param exchange HTTP exchange
+   * @param json     response body
+   *
+   * @throws IOException if writing fails
+   */
+  private static void respondJson(
+      final HttpExchange exchange,
+      final String json
+  ) throws IOException {
+    final byte[] body = json.getBytes(StandardCharsets.US_ASCII);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    } // end try-with-resources
+  } // end method */
+
+  /**
+   * Takes buffers from the pool or allocates new ones.
+   *
+   * @return buffers
+   */
+  private Buffers take() {
+    final Buffers result = insPool.poll();
+
+    return (null == result) ? new Buffers() : result;
+  } // end method */
+
+  /**
+   * Returns buffers to the pool, they are dropped if the pool is full.
+   *
+   * @param buffers no longer used by the caller
+   */
+  private void release(
+      final Buffers buffers
+  ) {
+    insPool.offer(buffers);
+  } // end method */
+
+  /**
+   * Returns number of buffers currently kept in the pool.
+   *
+   * @return number of pooled buffers
+   */
+  /* package */ int getPooledCount() {
+    return insPool.size();
+  } // end method */
+
+  /**
+   * Buffers used by one exchange.
+   */
+  private static final class Buffers {
+    /**
+     * Input chunk.
+     */
+    private final byte[] insInput = new byte[CHUNK]; // */
+
+    /**
+     * Input chunk as characters, used for validation.
+     */
+    private final char[] insChars = new char[CHUNK]; // */
+
+    /**
+     * Output chunk, large enough for encoding a full input chunk.
+     */
+    private final byte[] insOutput = new byte[CHUNK / 2 * 3]; // */
+  } // end inner class
+} // end class
@@ -0,0 +1,61 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45LoadGenerator}.
+ */
+final class TestBase45LoadGenerator {
+  /**
+   * Test method for {@link Base45LoadGenerator.Result#percentile(double)}.
+   */
+  @Test
+  void test_percentile__double() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. nearest-rank on unsorted input
+    final long[] latencies = new long[100];
+    for (int i = latencies.length; i-- > 0;) { // NOPMD assignment in operand
+      latencies[i] = 100 - i;
+    } // end for (i...)
+    final Base45LoadGenerator.Result dut = new Base45LoadGenerator.Result(latencies, 1);
+
+    assertEquals(1, dut.percentile(1));
+    assertEquals(50, dut.percentile(50));
+    assertEquals(99, dut.percentile(99));
+    assertEquals(100, dut.percentile(100));
+    assertEquals(1, dut.percentile(0));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45LoadGenerator#run(PrintStream, PrintStream, String...)}.
+   */
+  @Test
+  void test_run__PrintStream_PrintStream_StringA() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. short run against an embedded server
+    // --- b. ERROR: invalid arguments
+    final ByteArrayOutputStream baosOut = new ByteArrayOutputStream();
+    final ByteArrayOutputStream baosErr = new ByteArrayOutputStream();
+    final PrintStream out = new PrintStream(baosOut, true, StandardCharsets.UTF_8);
+    final PrintStream err = new PrintStream(baosErr, true, StandardCharsets.UTF_8);
+
+    // --- a. short run against an embedded server
+    assertEquals(0, Base45LoadGenerator.run(out, err, "-c", "2", "-n", "50", "-e", "decode"));
+    final String report = baosOut.toString(StandardCharsets.UTF_8);
+    assertTrue(report.startsWith("50 requests in "), report);
+    assertTrue(report.contains(" req/s, p50 "), report);
+    assertTrue(report.contains(", p99 "), report);
+
+    // --- b. ERROR: invalid arguments
+    assertEquals(2, Base45LoadGenerator.run(out, err, "-c", "0"));
+    assertEquals(2, Base45LoadGenerator.run(out, err, "-e", "validate"));
+    assertEquals(2, Base45LoadGenerator.run(out, err, "-n"));
+    assertTrue(baosErr.toString(StandardCharsets.UTF_8).startsWith("usage: "));
+  } // end method */
+} // end class
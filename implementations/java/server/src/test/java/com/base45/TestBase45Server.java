@@ -0,0 +1,265 @@
+package com.base45;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link Base45Server}.
+ */
+final class TestBase45Server {
+  /**
+   * Pseudo random number generator, used for random test vectors.
+   */
+  private static final Random RNG = new Random(System.nanoTime()); // */
+
+  /**
+   * Client used by all tests.
+   */
+  private static final HttpClient CLIENT = HttpClient.newHttpClient(); // */
+
+  /**
+   * Server under test.
+   */
+  private static Base45Server dut; // NOPMD mutable static state */
+
+  /**
+   * Starts server on an ephemeral port.
+   *
+   * @throws IOException if binding fails
+   */
+  @BeforeAll
+  static void setUpBeforeClass() throws IOException {
+    dut = new Base45Server(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+  } // end method */
+
+  /**
+   * Stops server.
+   */
+  @AfterAll
+  static void tearDownAfterClass() {
+    dut.close();
+  } // end method */
+
+  /**
+   * Test method for endpoints {@code /encode} and {@code /decode}.
+   */
+  @Test
+  void test_stream() throws Exception { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. round trip, empty, one chunk and several chunks
+    // --- b. ERROR: invalid input in first chunk gives status 400
+    // --- c. ERROR: invalid input in a later chunk aborts the response
+    // --- d. ERROR: method other than POST
+    // --- e. buffers are returned to the pool
+    // --- a. round trip, empty, one chunk and several chunks
+    for (final int size : new int[]{0, 1, 5, Base45Server.CHUNK / 3, 100_000}) {
+      final byte[] octets = new byte[size];
+      RNG.nextBytes(octets);
+      final HttpResponse<byte[]> encoded = post("/encode", octets);
+      assertEquals(200, encoded.statusCode());
+      assertEquals(Base45.encode(octets), new String(encoded.body(), StandardCharsets.US_ASCII));
+      final HttpResponse<byte[]> decoded = post("/decode", encoded.body());
+      assertEquals(200, decoded.statusCode());
+      assertArrayEquals(octets, decoded.body());
+    } // end for (size...)
+
+    // --- b. ERROR: invalid input in first chunk gives status 400
+    HttpResponse<byte[]> response = post("/decode", "GGW".getBytes(StandardCharsets.US_ASCII));
+    assertEquals(400, response.statusCode());
+    assertEquals("invalid code", new String(response.body(), StandardCharsets.UTF_8));
+    response = post("/decode", "0000".getBytes(StandardCharsets.US_ASCII));
+    assertEquals(400, response.statusCode());
+
+    // --- c. ERROR: invalid input in a later chunk aborts the response
+    final byte[] input = Base45.encode(new byte[100_000]).getBytes(StandardCharsets.US_ASCII);
+    input[input.length - 1] = 'a';
+    assertThrows(IOException.class, () -> post("/decode", input));
+
+    // --- d. ERROR: method other than POST
+    response = CLIENT.send(
+        HttpRequest.newBuilder(uri("/encode")).GET().build(),
+        HttpResponse.BodyHandlers.ofByteArray()
+    );
+    assertEquals(405, response.statusCode());
+    assertEquals("POST", response.headers().firstValue("Allow").orElse(""));
+
+    // --- e. buffers are returned to the pool
+    assertTrue(dut.getPooledCount() > 0);
+    assertTrue(dut.getPooledCount() <= Base45Server.POOL_SIZE);
+  } // end method */
+
+  /**
+   * Test method for endpoint {@code /validate}.
+   */
+  @Test
+  void test_validate() throws Exception { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. valid input
+    // --- b. invalid character in a later chunk, offset relative to whole input
+    // --- c. invalid length
+    // --- a. valid input
+    final String encoded = Base45.encode(new byte[100_000]);
+    assertEquals("{\"valid\":true,\"characters\":150000}", validate(encoded));
+
+    // --- b. invalid character in a later chunk, offset relative to whole input
+    final char[] chars = encoded.toCharArray();
+    chars[Base45Server.CHUNK + 7] = 'a';
+    assertEquals(
+        "{\"valid\":false,\"kind\":1,\"offset\":" + (Base45Server.CHUNK + 7)
+            + ",\"error\":\"invalid character(s)\"}",
+        validate(new String(chars))
+    );
+
+    // --- c. invalid length
+    assertEquals(
+        "{\"valid\":false,\"kind\":2,\"offset\":4,\"error\":\"invalid number of input character\"}",
+        validate("0000")
+    );
+  } // end method */
+
+  /**
+   * Test method for endpoints {@code /batch/encode} and {@code /batch/decode}.
+   */
+  @Test
+  void test_batch() throws Exception { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. small batch with errors
+    // --- b. batch larger than BATCH
+    // --- a. small batch with errors
+    assertEquals(
+        "QED8WEX0\n!invalid hexadecimal\n\n",
+        batch("/batch/encode", "6965746621\nxyz\n\n")
+    );
+    assertEquals(
+        "6965746621\n!invalid code\n\n",
+        batch("/batch/decode", "QED8WEX0\nGGW\n\n")
+    );
+
+    // --- b. batch larger than BATCH
+    final StringBuilder request = new StringBuilder();
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 3 * Base45Server.BATCH; i++) {
+      final String line = Integer.toHexString(0x100 + i % 0xf00);
+      request.append(line.length() % 2 == 0 ? line : "0" + line).append('\n');
+    } // end for (i...)
+    for (final String line : request.toString().split("\n")) {
+      expected.append(Base45.encode(HexFormat.of().parseHex(line))).append('\n');
+    } // end for (line...)
+    assertEquals(expected.toString(), batch("/batch/encode", request.toString()));
+    assertEquals(request.toString(), batch("/batch/decode", expected.toString()));
+  } // end method */
+
+  /**
+   * Test method for {@link Base45Server#encodeBatch(List)} and
+   * {@link Base45Server#decodeBatch(List)}.
+   */
+  @Test
+  void test_encodeBatch__List() { // NOPMD '_' character in name of method
+    // Test strategy:
+    // --- a. surrounding whitespace is ignored for hexadecimal input
+    // --- b. ERROR: error message of invalid item
+    // --- a. surrounding whitespace is ignored for hexadecimal input
+    assertEquals(
+        "QED8WEX0\n",
+        new String(Base45Server.encodeBatch(List.of(" 6965746621\r")), StandardCharsets.US_ASCII)
+    );
+
+    // --- b. ERROR: error message of invalid item
+    assertEquals(
+        "!invalid number of input character\n",
+        new String(Base45Server.decodeBatch(List.of("0000")), StandardCharsets.US_ASCII)
+    );
+  } // end method */
+
+  /**
+   * Sends a request.
+   *
+   * @param path of endpoint
+   * @param body of request
+   *
+   * @return response
+   *
+   * @throws Exception if sending fails
+   */
+  private static HttpResponse<byte[]> post(
+      final String path,
+      final byte[] body
+  ) throws Exception {
+    return CLIENT.send(
+        HttpRequest.newBuilder(uri(path))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build(),
+        HttpResponse.BodyHandlers.ofByteArray()
+    );
+  } // end method */
+
+  /**
+   * Sends a request to {@code /validate}.
+   *
+   * @param chars to be validated
+   *
+   * @return response body
+   *
+   * @throws Exception if sending fails
+   */
+  private static String validate(
+      final String chars
+  ) throws Exception {
+    final HttpResponse<byte[]> response = post(
+        "/validate", chars.getBytes(StandardCharsets.US_ASCII)
+    );
+    assertEquals(200, response.statusCode());
+
+    return new String(response.body(), StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Sends a request to a batch endpoint.
+   *
+   * @param path  of endpoint
+   * @param lines request body
+   *
+   * @return response body
+   *
+   * @throws Exception if sending fails
+   */
+  private static String batch(
+      final String path,
+      final String lines
+  ) throws Exception {
+    final HttpResponse<byte[]> response = post(path, lines.getBytes(StandardCharsets.US_ASCII));
+    assertEquals(200, response.statusCode());
+
+    return new String(response.body(), StandardCharsets.US_ASCII);
+  } // end method */
+
+  /**
+   * Returns URI of an endpoint.
+   *
+   * @param path of endpoint
+   *
+   * @return URI
+   */
+  private static URI uri(
+      final String path
+  ) {
+    return URI.create("http://" + dut.getAddress() + path);
+  } // end method */
+} // end class
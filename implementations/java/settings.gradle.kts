@@ -16,6 +16,7 @@ import de.fayard.refreshVersions.bootstrapRefreshVersions
 pluginManagement { //  . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . . .
     plugins {
         id("com.github.spotbugs") // spotbugs plugin
+        id("me.champeau.jmh")     // JMH benchmarks
     } // end plugins
 
     resolutionStrategy {
@@ -52,3 +53,13 @@ bootstrapRefreshVersions()
 
 rootProject.name = "base45"
 include("lib")
+include("flow")
+include("jmh")
+include("server")
+
+// Note 3: Subproject "segments" needs a Java 22 toolchain. It is included only on request,
+//         such that the default build works without one, e.g.
+//         ./gradlew -Pbase45.java22 :segments:test
+if (gradle.startParameter.projectProperties.containsKey("base45.java22")) {
+    include("segments")
+}